@@ -0,0 +1,231 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.bench
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.bench;
+
+import de.ryanthara.ja.rycon.converter.caplan.CSV2K;
+import de.ryanthara.ja.rycon.converter.gsi.Caplan2GSI;
+import de.ryanthara.ja.rycon.converter.text.BaseToolsTXT;
+import de.ryanthara.ja.rycon.converter.text.CSV2TXT;
+import de.ryanthara.ja.rycon.converter.zeiss.CSV2Zeiss;
+import de.ryanthara.ja.rycon.converter.zeiss.ZeissDialect;
+import de.ryanthara.ja.rycon.data.PreferenceKeys;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
+import de.ryanthara.ja.rycon.elements.RyPoint;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Instances of this class provides the input data for the benchmarks.
+ * <p>
+ * All files are derived from the same reproducible set of random points in a local coordinate system, which
+ * fits into GSI8 and GSI16 blocks. The Caplan K, Zeiss REC, GSI and text files are written with the converters
+ * of RyCON itself, so that the benchmarks read the same formats as the users do.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+public class BenchmarkData {
+
+    private static final long SEED = 42L;
+
+    /**
+     * Every n-th point is a duplicate of the previous one with the same number within one centimeter.
+     */
+    private static final int DUPLICATE_EVERY = 10;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns a context with the default settings of RyCON.
+     *
+     * @return context with the default settings
+     */
+    public static ProcessingContext createDefaultContext() {
+        return new ProcessingContext(new EnumMap<>(PreferenceKeys.class));
+    }
+
+    /**
+     * Returns a Cadwork node file with three headlines, a comment line and the given number of points.
+     *
+     * @param lines number of points
+     *
+     * @return Cadwork file lines
+     */
+    public static ArrayList<String> createCadworkLines(int lines) {
+        ArrayList<String> result = new ArrayList<>(lines + 4);
+
+        result.add("3D-Export Version 1.0");
+        result.add("Project: RyCON benchmark");
+        result.add("Unit: m");
+        result.add("No\tX\tY\tZ\tCode\tName");
+
+        for (String[] point : createCSVPoints(lines)) {
+            result.add(point[0] + "\t" + point[2] + "\t" + point[3] + "\t" + point[4] + "\t" + point[1] + "\tnode");
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a coordinate file in Caplan K format without comment lines.
+     *
+     * @param lines number of points
+     *
+     * @return Caplan K file lines
+     */
+    public static ArrayList<String> createCaplanLines(int lines) {
+        return new CSV2K(createCSVPoints(lines)).convertCSV2K(false, false, true);
+    }
+
+    /**
+     * Returns a CSV file from the geodata server Basel Stadt with a comment line and the given number of points.
+     *
+     * @param lines number of points
+     *
+     * @return CSV lines as {@code String[]}
+     */
+    public static List<String[]> createCSVBaselStadtLines(int lines) {
+        List<String[]> result = new ArrayList<>(lines + 1);
+
+        result.add(new String[]{"Punktnummer", "Punktart", "Y", "X", "Z", "Lagegenauigkeit", "Vermarkung"});
+
+        for (String[] point : createCSVPoints(lines)) {
+            result.add(new String[]{point[0], "HFP3", point[2], point[3], point[4], "0.020", "Bolzen"});
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the reproducible random points as CSV lines with number, code, easting, northing and height.
+     *
+     * @param lines number of points
+     *
+     * @return CSV lines as {@code String[]}
+     */
+    public static List<String[]> createCSVPoints(int lines) {
+        List<String[]> result = new ArrayList<>(lines);
+
+        for (RyPoint point : createPoints(lines)) {
+            result.add(new String[]{point.getNumber(), Integer.toString(10 * (result.size() % 7 + 1)),
+                    format(point.getX()), format(point.getY()), format(point.getZ())});
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a GSI8 or GSI16 coordinate file with point number, code and coordinates in every line.
+     *
+     * @param lines   number of points
+     * @param isGSI16 true for GSI16, false for GSI8
+     *
+     * @return GSI file lines
+     */
+    public static ArrayList<String> createGSILines(int lines, boolean isGSI16) {
+        return new Caplan2GSI(createCaplanLines(lines), createDefaultContext()).convertK2GSI(isGSI16, true);
+    }
+
+    /**
+     * Returns the reproducible random points. Every tenth point is a duplicate of the previous one with the
+     * same number within one centimeter, which is eliminated by the LTOP converters.
+     *
+     * @param lines number of points
+     *
+     * @return points
+     */
+    public static ArrayList<RyPoint> createPoints(int lines) {
+        final Random random = new Random(SEED);
+        final ArrayList<RyPoint> result = new ArrayList<>(lines);
+
+        double x = 0, y = 0, z = 0;
+        String number = "";
+
+        for (int i = 0; i < lines; i++) {
+            // a duplicate has the number of the previous point
+            if (i % DUPLICATE_EVERY == DUPLICATE_EVERY - 1) {
+                x += (random.nextDouble() - 0.5) / 100d;
+                y += (random.nextDouble() - 0.5) / 100d;
+            } else {
+                // GSI8 blocks hold eight digits in tenth of millimeters
+                x = 1000d + random.nextDouble() * 8000d;
+                y = 1000d + random.nextDouble() * 8000d;
+                z = 200d + random.nextDouble() * 800d;
+                number = Integer.toString(10000 + i);
+            }
+
+            result.add(new RyPoint(number, x, y, z, number + " " + format(x) + " " + format(y) + " " + format(z)));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a text file from the geodata server Basel Landschaft (LFP file) with a comment line and
+     * the given number of points.
+     *
+     * @param lines number of points
+     *
+     * @return text file lines
+     */
+    public static ArrayList<String> createTXTBaselLandschaftLines(int lines) {
+        ArrayList<String> result = new ArrayList<>(lines + 1);
+
+        result.add("Art\tNummer\tVArt\tX\tY\tZ");
+
+        for (String[] point : createCSVPoints(lines)) {
+            result.add("LFP3\t" + point[0] + "\t1\t" + point[2] + "\t" + point[3] + "\t" + point[4]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a space separated text file with number, code, easting, northing and height.
+     *
+     * @param lines number of points
+     *
+     * @return text file lines
+     */
+    public static ArrayList<String> createTXTLines(int lines) {
+        return new CSV2TXT(createCSVPoints(lines)).convertCSV2TXT(BaseToolsTXT.SEPARATOR_SPACE);
+    }
+
+    /**
+     * Returns a coordinate file in Zeiss REC format in the given dialect.
+     *
+     * @param lines   number of points
+     * @param dialect Zeiss dialect
+     *
+     * @return Zeiss REC file lines
+     */
+    public static ArrayList<String> createZeissLines(int lines, ZeissDialect dialect) {
+        return new CSV2Zeiss(createCSVPoints(lines)).convertCSV2REC(dialect);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ENGLISH, "%.3f", value);
+    }
+
+} // end of BenchmarkData
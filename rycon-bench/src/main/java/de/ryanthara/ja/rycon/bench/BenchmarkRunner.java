@@ -0,0 +1,61 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.bench
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This is the main class of the benchmark jar.
+ * <p>
+ * It accepts the same command line options as the JMH runner (e.g. a regular expression for the benchmarks
+ * or '-p lines=1000' for the input size) and adds the GC profiler, so that every result contains the
+ * throughput and the allocation rate.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+public class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command line options
+     *
+     * @throws CommandLineOptionException if the options are invalid
+     * @throws RunnerException            if a benchmark failed
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+
+} // end of BenchmarkRunner
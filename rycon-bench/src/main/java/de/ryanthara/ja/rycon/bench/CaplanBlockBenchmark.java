@@ -0,0 +1,61 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.bench
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.bench;
+
+import de.ryanthara.ja.rycon.elements.CaplanBlock;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instances of this class measure the parsing of Caplan K lines into {@link CaplanBlock}s.
+ * <p>
+ * One operation parses the whole file.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CaplanBlockBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int lines;
+
+    private ArrayList<String> caplanLines;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        caplanLines = BenchmarkData.createCaplanLines(lines);
+    }
+
+    @Benchmark
+    public void parseCaplanBlock(Blackhole blackhole) {
+        for (String line : caplanLines) {
+            blackhole.consume(new CaplanBlock(line));
+        }
+    }
+
+} // end of CaplanBlockBenchmark
@@ -0,0 +1,149 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.bench
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.bench;
+
+import de.ryanthara.ja.rycon.converter.excel.*;
+import de.ryanthara.ja.rycon.converter.zeiss.ZeissDialect;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instances of this class measure all converters, which write Microsoft Excel workbooks (XLS and XLSX).
+ * <p>
+ * One operation converts the whole file into a workbook. The input is copied for every operation, because
+ * some converters remove their headlines from the input. The temporary files of the XLSX workbook are
+ * deleted after every operation.
+ *
+ * @author sebastian
+ * @version 2
+ * @since 25
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ExcelWriterBenchmark {
+
+    private static final String SHEET_NAME = "benchmark";
+
+    /**
+     * The comment row is a single row and needs the resource bundles of the user interface for some formats.
+     */
+    private static final boolean WRITE_COMMENT_ROW = false;
+
+    @Param({"1000", "100000", "1000000"})
+    public int lines;
+
+    @Param({"XLS", "XLSX"})
+    public String format;
+
+    private List<String[]> csvBaselStadtLines;
+    private List<String[]> csvLines;
+    private ArrayList<String> cadworkLines;
+    private ArrayList<String> caplanLines;
+    private ArrayList<String> gsiLines;
+    private ArrayList<String> txtBaselLandschaftLines;
+    private ArrayList<String> txtLines;
+    private ArrayList<String> zeissLines;
+    private boolean isXLS;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        isXLS = format.equals("XLS");
+
+        csvBaselStadtLines = BenchmarkData.createCSVBaselStadtLines(lines);
+        csvLines = BenchmarkData.createCSVPoints(lines);
+        cadworkLines = BenchmarkData.createCadworkLines(lines);
+        caplanLines = BenchmarkData.createCaplanLines(lines);
+        gsiLines = BenchmarkData.createGSILines(lines, true);
+        txtBaselLandschaftLines = BenchmarkData.createTXTBaselLandschaftLines(lines);
+        txtLines = BenchmarkData.createTXTLines(lines);
+        zeissLines = BenchmarkData.createZeissLines(lines, ZeissDialect.M5);
+    }
+
+    @Benchmark
+    public boolean cadwork2Excel() {
+        Cadwork2Excel cadwork2Excel = new Cadwork2Excel(new ArrayList<>(cadworkLines));
+
+        return release(cadwork2Excel.convertCadwork2Excel(isXLS, SHEET_NAME, WRITE_COMMENT_ROW), cadwork2Excel.getWorkbook());
+    }
+
+    @Benchmark
+    public boolean caplan2Excel() {
+        Caplan2Excel caplan2Excel = new Caplan2Excel(new ArrayList<>(caplanLines));
+
+        return release(caplan2Excel.convertCaplan2Excel(isXLS, SHEET_NAME, WRITE_COMMENT_ROW), caplan2Excel.getWorkbook());
+    }
+
+    @Benchmark
+    public boolean csv2Excel() {
+        CSV2Excel csv2Excel = new CSV2Excel(new ArrayList<>(csvLines));
+
+        return release(csv2Excel.convertCSV2Excel(isXLS, SHEET_NAME), csv2Excel.getWorkbook());
+    }
+
+    @Benchmark
+    public boolean csvBaselStadt2Excel() {
+        CSVBaselStadt2Excel csvBaselStadt2Excel = new CSVBaselStadt2Excel(new ArrayList<>(csvBaselStadtLines));
+
+        return release(csvBaselStadt2Excel.convertCSVBaselStadt2Excel(isXLS, SHEET_NAME, WRITE_COMMENT_ROW),
+                csvBaselStadt2Excel.getWorkbook());
+    }
+
+    @Benchmark
+    public boolean gsi2Excel() {
+        GSI2Excel gsi2Excel = new GSI2Excel(new ArrayList<>(gsiLines));
+
+        return release(gsi2Excel.convertGSI2Excel(isXLS, SHEET_NAME, WRITE_COMMENT_ROW), gsi2Excel.getWorkbook());
+    }
+
+    @Benchmark
+    public boolean txt2Excel() {
+        TXT2Excel txt2Excel = new TXT2Excel(new ArrayList<>(txtLines));
+
+        return release(txt2Excel.convertTXT2Excel(isXLS, SHEET_NAME), txt2Excel.getWorkbook());
+    }
+
+    @Benchmark
+    public boolean txtBaselLandschaft2Excel() {
+        TXTBaselLandschaft2Excel txtBaselLandschaft2Excel = new TXTBaselLandschaft2Excel(new ArrayList<>(txtBaselLandschaftLines));
+
+        return release(txtBaselLandschaft2Excel.convertTXTBaselLand2Excel(isXLS, SHEET_NAME, WRITE_COMMENT_ROW),
+                txtBaselLandschaft2Excel.getWorkbook());
+    }
+
+    @Benchmark
+    public boolean zeiss2Excel() {
+        Zeiss2Excel zeiss2Excel = new Zeiss2Excel(new ArrayList<>(zeissLines));
+
+        return release(zeiss2Excel.convertZeiss2Excel(isXLS, SHEET_NAME, WRITE_COMMENT_ROW), zeiss2Excel.getWorkbook());
+    }
+
+    private boolean release(boolean success, Workbook workbook) {
+        BaseToolsExcel.closeWorkbook(workbook);
+
+        return success;
+    }
+
+} // end of ExcelWriterBenchmark
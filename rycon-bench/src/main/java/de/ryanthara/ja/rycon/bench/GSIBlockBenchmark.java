@@ -0,0 +1,97 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.bench
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.bench;
+
+import de.ryanthara.ja.rycon.converter.gsi.BaseToolsGSI;
+import de.ryanthara.ja.rycon.converter.gsi.GSI8vsGSI16;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
+import de.ryanthara.ja.rycon.elements.GSIBlock;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instances of this class measure the encoding of GSI lines into {@link GSIBlock}s, the writing of
+ * encoded blocks back into GSI lines and the formatting of blocks for text files.
+ * <p>
+ * One operation processes the whole file.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class GSIBlockBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int lines;
+
+    @Param({"GSI8", "GSI16"})
+    public String format;
+
+    private ArrayList<GSIBlock> blocks;
+    private ProcessingContext context;
+    private ArrayList<String> gsiLines;
+    private boolean isGSI16;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        isGSI16 = format.equals("GSI16");
+        gsiLines = BenchmarkData.createGSILines(lines, isGSI16);
+        context = BenchmarkData.createDefaultContext();
+
+        blocks = new ArrayList<>();
+
+        for (String line : gsiLines) {
+            blocks.addAll(BaseToolsGSI.encodeLine(line));
+        }
+    }
+
+    @Benchmark
+    public void encodeLine(Blackhole blackhole) {
+        for (String line : gsiLines) {
+            blackhole.consume(BaseToolsGSI.encodeLine(line));
+        }
+    }
+
+    /**
+     * Encodes the lines and writes them in the other GSI format with the line transformation of
+     * {@link BaseToolsGSI}.
+     *
+     * @return converted lines
+     */
+    @Benchmark
+    public ArrayList<String> lineTransformation() {
+        return new GSI8vsGSI16(gsiLines, context).convertGSI8vsGSI16(!isGSI16);
+    }
+
+    @Benchmark
+    public void toPrintFormatTXT(Blackhole blackhole) {
+        for (GSIBlock block : blocks) {
+            blackhole.consume(block.toPrintFormatTXT());
+        }
+    }
+
+} // end of GSIBlockBenchmark
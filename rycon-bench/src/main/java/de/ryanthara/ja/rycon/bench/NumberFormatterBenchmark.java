@@ -0,0 +1,86 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.bench
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.bench;
+
+import de.ryanthara.ja.rycon.tools.NumberFormatter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instances of this class measure {@link NumberFormatter#fillDecimalPlace(String, int)} and
+ * {@link NumberFormatter#fillDecimalPlace(double, int)} with the coordinates of the benchmark points.
+ * <p>
+ * One operation formats all coordinates.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class NumberFormatterBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int lines;
+
+    @Param({"3", "4", "5"})
+    public int decimalPlaces;
+
+    private String[] valuesAsString;
+    private double[] values;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final List<String[]> points = BenchmarkData.createCSVPoints(lines);
+
+        valuesAsString = new String[points.size() * 3];
+        values = new double[valuesAsString.length];
+
+        int i = 0;
+
+        for (String[] point : points) {
+            for (int column = 2; column < 5; column++) {
+                valuesAsString[i] = point[column];
+                values[i] = Double.parseDouble(point[column]);
+                i++;
+            }
+        }
+    }
+
+    @Benchmark
+    public void fillDecimalPlaceDouble(Blackhole blackhole) {
+        for (double value : values) {
+            blackhole.consume(NumberFormatter.fillDecimalPlace(value, decimalPlaces));
+        }
+    }
+
+    @Benchmark
+    public void fillDecimalPlaceString(Blackhole blackhole) {
+        for (String value : valuesAsString) {
+            blackhole.consume(NumberFormatter.fillDecimalPlace(value, decimalPlaces));
+        }
+    }
+
+} // end of NumberFormatterBenchmark
@@ -0,0 +1,146 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.bench
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.bench;
+
+import de.ryanthara.ja.rycon.converter.odf.*;
+import de.ryanthara.ja.rycon.converter.zeiss.ZeissDialect;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instances of this class measure all converters, which write Open Document Format spreadsheets.
+ * <p>
+ * One operation converts the whole file into a spreadsheet. The input is copied for every operation, because
+ * some converters remove their headlines from the input. The temporary spreadsheet file is deleted after
+ * every operation.
+ *
+ * @author sebastian
+ * @version 2
+ * @since 25
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ODFWriterBenchmark {
+
+    // the temporary files of the spreadsheets are created in the directory of the input file
+    private static final Path SHEET_NAME = Paths.get(System.getProperty("java.io.tmpdir"), "benchmark");
+
+    /**
+     * The comment row is a single row and needs the resource bundles of the user interface for some formats.
+     */
+    private static final boolean WRITE_COMMENT_ROW = false;
+
+    @Param({"1000", "100000", "1000000"})
+    public int lines;
+
+    private List<String[]> csvBaselStadtLines;
+    private List<String[]> csvLines;
+    private ArrayList<String> cadworkLines;
+    private ArrayList<String> caplanLines;
+    private ArrayList<String> gsiLines;
+    private ArrayList<String> txtBaselLandschaftLines;
+    private ArrayList<String> txtLines;
+    private ArrayList<String> zeissLines;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        csvBaselStadtLines = BenchmarkData.createCSVBaselStadtLines(lines);
+        csvLines = BenchmarkData.createCSVPoints(lines);
+        cadworkLines = BenchmarkData.createCadworkLines(lines);
+        caplanLines = BenchmarkData.createCaplanLines(lines);
+        gsiLines = BenchmarkData.createGSILines(lines, true);
+        txtBaselLandschaftLines = BenchmarkData.createTXTBaselLandschaftLines(lines);
+        txtLines = BenchmarkData.createTXTLines(lines);
+        zeissLines = BenchmarkData.createZeissLines(lines, ZeissDialect.M5);
+    }
+
+    @Benchmark
+    public boolean cadwork2ODF() {
+        Cadwork2ODF cadwork2ODF = new Cadwork2ODF(new ArrayList<>(cadworkLines));
+
+        return release(cadwork2ODF.convertCadwork2ODS(SHEET_NAME, WRITE_COMMENT_ROW), cadwork2ODF.getODSWriter());
+    }
+
+    @Benchmark
+    public boolean caplan2ODF() {
+        Caplan2ODF caplan2ODF = new Caplan2ODF(new ArrayList<>(caplanLines));
+
+        return release(caplan2ODF.convertCaplan2ODS(SHEET_NAME, WRITE_COMMENT_ROW), caplan2ODF.getODSWriter());
+    }
+
+    @Benchmark
+    public boolean csv2ODF() {
+        CSV2ODF csv2ODF = new CSV2ODF(new ArrayList<>(csvLines));
+
+        return release(csv2ODF.convertCSV2ODS(SHEET_NAME), csv2ODF.getODSWriter());
+    }
+
+    @Benchmark
+    public boolean csvBaselStadt2ODF() {
+        CSVBaselStadt2ODF csvBaselStadt2ODF = new CSVBaselStadt2ODF(new ArrayList<>(csvBaselStadtLines));
+
+        return release(csvBaselStadt2ODF.convertCSVBaselStadt2ODS(SHEET_NAME, WRITE_COMMENT_ROW), csvBaselStadt2ODF.getODSWriter());
+    }
+
+    @Benchmark
+    public boolean gsi2ODF() {
+        GSI2ODF gsi2ODF = new GSI2ODF(new ArrayList<>(gsiLines));
+
+        return release(gsi2ODF.convertGSI2ODS(SHEET_NAME, WRITE_COMMENT_ROW), gsi2ODF.getODSWriter());
+    }
+
+    @Benchmark
+    public boolean txt2ODF() {
+        TXT2ODF txt2ODF = new TXT2ODF(new ArrayList<>(txtLines));
+
+        return release(txt2ODF.convertTXT2ODS(SHEET_NAME), txt2ODF.getODSWriter());
+    }
+
+    @Benchmark
+    public boolean txtBaselLandschaft2ODF() {
+        TXTBaselLandschaft2ODF txtBaselLandschaft2ODF = new TXTBaselLandschaft2ODF(new ArrayList<>(txtBaselLandschaftLines));
+
+        return release(txtBaselLandschaft2ODF.convertTXTBaselLandschaft2ODS(SHEET_NAME, WRITE_COMMENT_ROW),
+                txtBaselLandschaft2ODF.getODSWriter());
+    }
+
+    @Benchmark
+    public boolean zeiss2ODF() {
+        Zeiss2ODF zeiss2ODF = new Zeiss2ODF(new ArrayList<>(zeissLines));
+
+        return release(zeiss2ODF.convertZeiss2ODS(SHEET_NAME), zeiss2ODF.getODSWriter());
+    }
+
+    private boolean release(boolean success, ODSWriter odsWriter) {
+        if (odsWriter != null) {
+            odsWriter.close();
+        }
+
+        return success;
+    }
+
+} // end of ODFWriterBenchmark
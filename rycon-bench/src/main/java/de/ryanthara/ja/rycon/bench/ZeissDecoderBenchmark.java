@@ -0,0 +1,70 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.bench
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.bench;
+
+import de.ryanthara.ja.rycon.converter.zeiss.ZeissDecoder;
+import de.ryanthara.ja.rycon.converter.zeiss.ZeissDialect;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instances of this class measure {@link ZeissDecoder#decodeRecLine(String)} with coordinate lines in
+ * different dialects of the Zeiss REC format.
+ * <p>
+ * The dialect R5 is not measured, because the line number written by RyCON can't be decoded at the
+ * moment. One operation decodes the whole file with a decoder per line, as the converters do.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ZeissDecoderBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int lines;
+
+    @Param({"R4", "REC500", "M5"})
+    public String dialect;
+
+    private ArrayList<String> recLines;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        recLines = BenchmarkData.createZeissLines(lines, ZeissDialect.valueOf(dialect));
+    }
+
+    @Benchmark
+    public void decodeRecLine(Blackhole blackhole) {
+        for (String line : recLines) {
+            ZeissDecoder decoder = new ZeissDecoder();
+
+            blackhole.consume(decoder.decodeRecLine(line));
+            blackhole.consume(decoder.getZeissBlocks());
+        }
+    }
+
+} // end of ZeissDecoderBenchmark
@@ -0,0 +1,63 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.ltop
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.ltop;
+
+import de.ryanthara.ja.rycon.bench.BenchmarkData;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
+import de.ryanthara.ja.rycon.elements.RyPoint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instances of this class measure {@link BaseToolsLTOP#eliminateDuplicatePoints(ArrayList, ProcessingContext)}
+ * with points, where every tenth point is a duplicate within one centimeter.
+ * <p>
+ * The benchmark lives in the package of {@link BaseToolsLTOP}, because the method is package private.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EliminateDuplicatePointsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int lines;
+
+    private ProcessingContext context;
+    private ArrayList<RyPoint> points;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkData.createDefaultContext();
+        points = BenchmarkData.createPoints(lines);
+    }
+
+    @Benchmark
+    public ArrayList<String> eliminateDuplicatePoints() {
+        return BaseToolsLTOP.eliminateDuplicatePoints(points, context);
+    }
+
+} // end of EliminateDuplicatePointsBenchmark
@@ -17,6 +17,7 @@
  */
 package de.ryanthara.ja.rycon;
 
+import de.ryanthara.ja.rycon.cli.BatchConverter;
 import de.ryanthara.ja.rycon.cli.CmdLineInterfaceException;
 import de.ryanthara.ja.rycon.cli.CmdLineInterfaceParser;
 import de.ryanthara.ja.rycon.data.DefaultKeys;
@@ -53,7 +54,7 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.*;
  * java written editor for OpenStreetMap data.
  *
  * @author sebastian
- * @version 10
+ * @version 12
  * @since 2
  */
 public abstract class Main {
@@ -78,10 +79,6 @@ public abstract class Main {
      * The reference to the logging level for <tt>RyCON</tt>.
      */
     public static Level loggingLevel;
-    /**
-     * Contains a value for application wide count of processed file operations.
-     */
-    public static int countFileOps = -1;
     /**
      * The reference to the global application preferences handler.
      */
@@ -97,6 +94,7 @@ public abstract class Main {
     private static int cliSourceBtnNumber;
     private static int cliTargetBtnNumber;
     private static String cliInputFile;
+    private static CmdLineInterfaceParser cliConvertParser;
     private static boolean isSettingsWidgetOpenStatus = false;
     private static boolean isSubShellOpenStatus = false;
 
@@ -115,6 +113,7 @@ public abstract class Main {
      * --help               shows the help and the valid cli arguments
      * --locale=[LOCALE]    [LOCALE] in ISO 639 alpha-2 or alpha-3 language code (e.g. de for GERMAN, en for ENGLISH)
      * --file=[input file]  [input file] input file with path which is used in the source text field
+     * --convert            converts files headless (see {@link BatchConverter})
      *
      * @param args command line interface arguments
      *
@@ -149,6 +148,10 @@ public abstract class Main {
         if (parser.getTargetBtnNumber() > -1) {
             cliTargetBtnNumber = parser.getTargetBtnNumber();
         }
+
+        if (parser.isConvertMode()) {
+            cliConvertParser = parser;
+        }
     }
 
     /**
@@ -332,6 +335,41 @@ public abstract class Main {
         Main.pref = new PreferenceHandler();
     }
 
+    /**
+     * Returns true if a headless conversion is requested with the '--convert' argument.
+     *
+     * @return true if a headless conversion is requested
+     *
+     * @since 25
+     */
+    protected static boolean isHeadlessConversion() {
+        return cliConvertParser != null;
+    }
+
+    /**
+     * Runs the headless conversion without the graphical user interface and returns the exit code.
+     *
+     * @return exit code (0 if all files were converted)
+     *
+     * @since 25
+     */
+    protected static int runHeadlessConversion() {
+        initApplicationPreferences();
+
+        BatchConverter batchConverter;
+
+        try {
+            batchConverter = BatchConverter.fromParser(cliConvertParser);
+        } catch (CmdLineInterfaceException e) {
+            System.err.println(e.getMessage());
+            logger.log(Level.SEVERE, "can not start headless conversion", e);
+
+            return 1;
+        }
+
+        return batchConverter.convert() ? 0 : 1;
+    }
+
     /**
      * Returns the status to indicate an open settings widgets.
      *
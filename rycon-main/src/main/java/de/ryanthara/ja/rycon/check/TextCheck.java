@@ -42,7 +42,7 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.WARNINGS;
  * It is used by all main widgets of RyCON.
  *
  * @author sebastian
- * @version 2
+ * @version 3
  * @since 12
  */
 public class TextCheck {
@@ -148,4 +148,27 @@ public class TextCheck {
         return PathCheck.isFile(textField.getText());
     }
 
+    /**
+     * Checks the content of a {@link Text} field if it is a valid integer value.
+     *
+     * @param textField text to be checked
+     *
+     * @return success of the check
+     *
+     * @since 25
+     */
+    public static boolean isIntegerValue(Text textField) {
+        boolean isIntegerValue;
+
+        try {
+            Integer.valueOf(textField.getText());
+            isIntegerValue = true;
+        } catch (NumberFormatException ex) {
+            System.err.println("Text field contains a value that can't be parsed into an integer value!");
+            isIntegerValue = false;
+        }
+
+        return isIntegerValue;
+    }
+
 } // end of TextCheck
@@ -0,0 +1,389 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.cli
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.cli;
+
+import de.ryanthara.ja.rycon.Main;
+import de.ryanthara.ja.rycon.converter.csv.BaseToolsCSV;
+import de.ryanthara.ja.rycon.converter.text.BaseToolsTXT;
+import de.ryanthara.ja.rycon.converter.zeiss.ZeissDialect;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
+import de.ryanthara.ja.rycon.gui.widgets.convert.ReadWriteFactory;
+import de.ryanthara.ja.rycon.gui.widgets.convert.SourceButton;
+import de.ryanthara.ja.rycon.gui.widgets.convert.TargetButton;
+import de.ryanthara.ja.rycon.gui.widgets.convert.read.ReadFile;
+import de.ryanthara.ja.rycon.gui.widgets.convert.write.WriteParameter;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Instances of this class converts files headless without the graphical user interface of <tt>RyCON</tt>.
+ * <p>
+ * The same {@link ReadFile} and {@link de.ryanthara.ja.rycon.gui.widgets.convert.write.WriteFile}
+ * implementations as in the {@link de.ryanthara.ja.rycon.gui.widgets.ConverterWidget} are used. Every file
+ * is converted by its own reader and writer on a fixed thread pool. The options of the converter widget
+ * are used with their default values.
+ * <p>
+ * The relative paths of the input files below their common parent directory are mirrored in the output
+ * directory, so files with the same name in different directories of a recursive glob pattern do not
+ * overwrite each other. Input files which would be written to the same output file are refused before
+ * the conversion starts.
+ * <p>
+ * Errors are printed to the error stream instead of showing a message box. Existing output files are
+ * only overwritten with the argument '--overwrite'. At the end a throughput summary is printed.
+ *
+ * @author sebastian
+ * @version 4
+ * @since 25
+ */
+public class BatchConverter {
+
+    private final static Logger logger = Logger.getLogger(BatchConverter.class.getName());
+
+    private final SourceButton sourceButton;
+    private final TargetButton targetButton;
+    private final List<Path> files2read;
+    private final Path outputDir;
+    private final int workers;
+    private final boolean isOverwriteExisting;
+
+    /**
+     * Constructs a new instance of this class with the parameters of the headless conversion.
+     *
+     * @param sourceButton source format
+     * @param targetButton target format
+     * @param files2read   files to be converted
+     * @param outputDir    output directory
+     * @param workers             number of parallel workers
+     * @param isOverwriteExisting true if existing output files are overwritten
+     */
+    public BatchConverter(SourceButton sourceButton, TargetButton targetButton, List<Path> files2read, Path outputDir,
+                          int workers, boolean isOverwriteExisting) {
+        this.sourceButton = sourceButton;
+        this.targetButton = targetButton;
+        this.files2read = files2read;
+        this.outputDir = outputDir;
+        this.workers = Math.max(1, workers);
+        this.isOverwriteExisting = isOverwriteExisting;
+    }
+
+    /**
+     * Creates a batch converter from the parsed command line interface arguments.
+     *
+     * @param parser parser with the parsed arguments
+     *
+     * @return batch converter
+     *
+     * @throws CmdLineInterfaceException if an argument is missing or invalid
+     */
+    public static BatchConverter fromParser(CmdLineInterfaceParser parser) throws CmdLineInterfaceException {
+        if (parser.getSourceFormat() == null || parser.getTargetFormat() == null) {
+            throw new CmdLineInterfaceException("source and target format are needed for the headless conversion");
+        }
+
+        if (parser.getOutputDir() == null) {
+            throw new CmdLineInterfaceException("an output directory is needed for the headless conversion");
+        }
+
+        SourceButton sourceButton;
+        TargetButton targetButton;
+
+        try {
+            sourceButton = SourceButton.valueOf(parser.getSourceFormat());
+            targetButton = TargetButton.valueOf(parser.getTargetFormat());
+        } catch (IllegalArgumentException e) {
+            throw new CmdLineInterfaceException("unknown source or target format: " + parser.getSourceFormat() +
+                    " -> " + parser.getTargetFormat(), e);
+        }
+
+        List<Path> files2read;
+
+        try {
+            files2read = resolveInputFiles(parser.getInputFiles());
+        } catch (IOException e) {
+            throw new CmdLineInterfaceException("can not resolve the input files " + parser.getInputFiles(), e);
+        }
+
+        return new BatchConverter(sourceButton, targetButton, files2read, Paths.get(parser.getOutputDir()),
+                parser.getWorkers(), parser.isOverwriteExisting());
+    }
+
+    /**
+     * Resolves a list of input files and glob patterns (e.g. 'data/*.gsi' or 'data/**&#47;*.gsi') into
+     * a sorted list of existing files without duplicates.
+     *
+     * @param inputFiles input files and glob patterns
+     *
+     * @return resolved files
+     *
+     * @throws IOException if a directory could not be read
+     */
+    public static List<Path> resolveInputFiles(List<String> inputFiles) throws IOException {
+        TreeSet<Path> files = new TreeSet<>();
+
+        for (String input : inputFiles) {
+            if (!containsGlobCharacter(input)) {
+                files.add(Paths.get(input).normalize());
+                continue;
+            }
+
+            // walk from the last directory without glob characters
+            Path pattern = Paths.get(input);
+            Path baseDir = pattern.getRoot();
+
+            for (Path name : pattern) {
+                if (containsGlobCharacter(name.toString())) {
+                    break;
+                }
+
+                baseDir = baseDir == null ? name : baseDir.resolve(name);
+            }
+
+            if (baseDir == null) {
+                baseDir = Paths.get("");
+            }
+
+            final PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + input);
+            final Path start = baseDir.toString().isEmpty() ? Paths.get(".") : baseDir;
+            final boolean isRelativeToCurrentDir = baseDir.toString().isEmpty();
+
+            if (Files.isDirectory(start)) {
+                try (Stream<Path> stream = Files.walk(start)) {
+                    stream.filter(Files::isRegularFile)
+                            .map(path -> isRelativeToCurrentDir ? start.relativize(path) : path)
+                            .filter(matcher::matches)
+                            .map(Path::normalize)
+                            .forEach(files::add);
+                }
+            }
+        }
+
+        return new ArrayList<>(files);
+    }
+
+    /**
+     * Converts all files and prints a throughput summary.
+     *
+     * @return true if all files were converted
+     */
+    public boolean convert() {
+        final long startTime = System.nanoTime();
+
+        if (!Files.isDirectory(outputDir)) {
+            try {
+                Files.createDirectories(outputDir);
+            } catch (IOException e) {
+                System.err.println("Output directory " + outputDir + " could not be created.");
+                logger.log(Level.SEVERE, "can not create output directory " + outputDir, e);
+
+                return false;
+            }
+        }
+
+        final List<Path> outputPaths = prepareOutputPaths();
+
+        if (outputPaths == null) {
+            return false;
+        }
+
+        final ProcessingContext context = ProcessingContext.fromPreferences(Main.pref);
+        final WriteParameter parameter = prepareWriteParameter(context);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(workers, Math.max(1, files2read.size())));
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < files2read.size(); i++) {
+            final Path file2read = files2read.get(i);
+            final Path outputPath = outputPaths.get(i);
+
+            results.add(executor.submit(() -> convertFile(file2read, outputPath, parameter)));
+        }
+
+        executor.shutdown();
+
+        int counter = 0;
+        long countBytes = 0;
+        List<Path> failedFiles = new ArrayList<>();
+
+        for (int i = 0; i < results.size(); i++) {
+            boolean success;
+
+            try {
+                success = results.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                success = false;
+            } catch (ExecutionException e) {
+                logger.log(Level.SEVERE, "can not convert file " + files2read.get(i), e.getCause());
+                System.err.println("File " + files2read.get(i) + " could not be converted: " + e.getCause());
+                success = false;
+            }
+
+            if (success) {
+                counter = counter + 1;
+
+                try {
+                    countBytes = countBytes + Files.size(files2read.get(i));
+                } catch (IOException e) {
+                    logger.log(Level.FINE, "can not read size of file " + files2read.get(i), e);
+                }
+            } else {
+                failedFiles.add(files2read.get(i));
+            }
+        }
+
+        printSummary(counter, failedFiles, countBytes, System.nanoTime() - startTime);
+
+        // the warnings of all files are printed once after the conversion
+        for (String warning : context.getWarnings()) {
+            System.err.println("Warning: " + warning);
+        }
+
+        return !files2read.isEmpty() && failedFiles.isEmpty();
+    }
+
+    private static boolean containsGlobCharacter(String s) {
+        return s.contains("*") || s.contains("?") || s.contains("[") || s.contains("{");
+    }
+
+    private static Path commonParentDir(List<Path> files) {
+        Path commonDir = null;
+
+        for (Path file : files) {
+            Path parentDir = file.toAbsolutePath().normalize().getParent();
+
+            if (commonDir == null) {
+                commonDir = parentDir;
+            } else {
+                while (commonDir != null && !parentDir.startsWith(commonDir)) {
+                    commonDir = commonDir.getParent();
+                }
+            }
+        }
+
+        return commonDir;
+    }
+
+    private boolean convertFile(Path file2read, Path outputPath, WriteParameter parameter) {
+        ReadFile readFile = ReadWriteFactory.createReadFile(sourceButton, parameter.getContext(), false);
+
+        if (!Files.isRegularFile(file2read) || !readFile.readFile(file2read)) {
+            System.err.println("File " + file2read + " could not be read.");
+
+            return false;
+        }
+
+        return ReadWriteFactory.write(ReadWriteFactory.createWriteFile(targetButton, outputPath,
+                readFile.getReadStringLines(), readFile.getReadCSVFile(), parameter));
+    }
+
+    private WriteParameter prepareWriteParameter(ProcessingContext context) {
+        final boolean isGSI16 = sourceButton == SourceButton.GSI8 ? Main.getGSI8() : Main.getGSI16();
+
+        final ZeissDialect dialect = context.getSettings().getZeissDialect();
+
+        // default values of the check boxes of the converter widget
+        WriteParameter parameter = new WriteParameter(sourceButton.ordinal(), isGSI16,
+                false, true, true, true, false, false, false,
+                BaseToolsCSV.SEPARATOR_COMMA, BaseToolsTXT.SEPARATOR_TAB, dialect, context);
+        parameter.setOverwriteExistingFiles(isOverwriteExisting);
+
+        return parameter;
+    }
+
+    /*
+     * Mirrors the relative path of every input file below the common parent directory into the output
+     * directory and creates the needed subdirectories. Returns null if two input files would be written
+     * to the same output file or a subdirectory could not be created.
+     */
+    private List<Path> prepareOutputPaths() {
+        final Path commonDir = commonParentDir(files2read);
+        final List<Path> outputPaths = new ArrayList<>(files2read.size());
+        final Map<String, Path> outputNames = new HashMap<>();
+        boolean isCollision = false;
+
+        for (Path file2read : files2read) {
+            Path absolutePath = file2read.toAbsolutePath().normalize();
+            Path outputPath = commonDir == null ? outputDir.resolve(file2read.getFileName()) :
+                    outputDir.resolve(commonDir.relativize(absolutePath).toString());
+
+            // the writers replace the last four characters (the suffix) of this path by the new file suffix
+            String outputPathString = outputPath.toString();
+            String outputName = outputPathString.substring(0, Math.max(0, outputPathString.length() - 4));
+            Path otherFile = outputNames.putIfAbsent(outputName, file2read);
+
+            if (otherFile != null) {
+                System.err.println("Files " + otherFile + " and " + file2read + " would be written to the same output file.");
+                isCollision = true;
+            }
+
+            outputPaths.add(outputPath);
+        }
+
+        if (isCollision) {
+            return null;
+        }
+
+        for (Path outputPath : outputPaths) {
+            try {
+                Files.createDirectories(outputPath.getParent());
+            } catch (IOException e) {
+                System.err.println("Output directory " + outputPath.getParent() + " could not be created.");
+                logger.log(Level.SEVERE, "can not create output directory " + outputPath.getParent(), e);
+
+                return null;
+            }
+        }
+
+        return outputPaths;
+    }
+
+    private void printSummary(int counter, List<Path> failedFiles, long countBytes, long nanoTime) {
+        final double seconds = Math.max(nanoTime / 1e9, 1e-9);
+
+        System.out.println();
+        System.out.println("RyCON headless conversion " + sourceButton + " -> " + targetButton + " with " + workers + " worker(s)");
+        System.out.println(String.format("  converted files: %d of %d", counter, files2read.size()));
+        System.out.println(String.format("  elapsed time:    %.3f s", seconds));
+        System.out.println(String.format("  throughput:      %.1f files/s, %.2f MB/s", counter / seconds,
+                countBytes / seconds / (1024 * 1024)));
+
+        for (Path failedFile : failedFiles) {
+            System.out.println("  failed:          " + failedFile);
+        }
+
+        System.out.println();
+    }
+
+} // end of BatchConverter
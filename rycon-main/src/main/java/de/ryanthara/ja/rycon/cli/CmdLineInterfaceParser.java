@@ -18,6 +18,8 @@
 package de.ryanthara.ja.rycon.cli;
 
 import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,6 +35,13 @@ import java.util.logging.Logger;
  * --file=[input file]         sets the value of input file into the source text field
  * --sourceBtnNumber=[number]  selects the source button by a given number
  * --targetBtnNumber=[number]  selects the target button by a given number
+ * --convert                   converts files headless without the graphical user interface
+ * --source=[format]           source format of the headless conversion (e.g. GSI8, TXT or CSV)
+ * --target=[format]           target format of the headless conversion (e.g. GSI16, LTOP_KOO or EXCEL_XLSX)
+ * --input=[files]             comma separated list of input files or glob patterns (e.g. data/*.gsi)
+ * --output=[directory]        output directory of the headless conversion
+ * --workers=[number]          number of parallel workers of the headless conversion
+ * --overwrite                 overwrites existing output files of the headless conversion
  * </code>
  * <p>
  * The language of <tt>RyCON</tt> is set by ISO 639 alpha-2 or alpha-3 language code values.
@@ -41,17 +50,22 @@ import java.util.logging.Logger;
  * Due to some reasons in the development cycle of <tt>RyCON</tt>, the function to parse one file name into
  * the source text field, and the possibility to select radio buttons was implemented. This functionality
  * is available for the {@link de.ryanthara.ja.rycon.gui.widgets.ConverterWidget}.
+ * <p>
+ * With the argument '--convert' the files are converted by the {@link BatchConverter} without any SWT
+ * widget, e.g. on a build server.
  *
  * @author sebastian
- * @version 5
+ * @version 7
  * @since 6
  */
 public class CmdLineInterfaceParser {
 
     private final static Logger logger = Logger.getLogger(CmdLineInterfaceParser.class.getName());
-    private int sourceBtnNumber, targetBtnNumber;
-    private String alphaLanguageCode, inputFile;
+    private int sourceBtnNumber, targetBtnNumber, workers;
+    private String alphaLanguageCode, inputFile, sourceFormat, targetFormat, outputDir;
     private Level loggingLevel;
+    private boolean isConvertMode, isOverwriteExisting;
+    private List<String> inputFiles;
 
     /**
      * Constructs a new instance of this class.
@@ -61,6 +75,22 @@ public class CmdLineInterfaceParser {
         targetBtnNumber = -1;
         alphaLanguageCode = null;
         inputFile = null;
+        isConvertMode = false;
+        isOverwriteExisting = false;
+        sourceFormat = null;
+        targetFormat = null;
+        outputDir = null;
+        inputFiles = new ArrayList<>();
+        workers = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns the parsed input files and glob patterns of the headless conversion.
+     *
+     * @return input files and glob patterns
+     */
+    public List<String> getInputFiles() {
+        return inputFiles;
     }
 
     /**
@@ -81,6 +111,15 @@ public class CmdLineInterfaceParser {
         return loggingLevel;
     }
 
+    /**
+     * Returns the parsed output directory of the headless conversion.
+     *
+     * @return the output directory
+     */
+    public String getOutputDir() {
+        return outputDir;
+    }
+
     /**
      * Returns the parsed alpha-2 or alpha-3 language code as string.
      *
@@ -90,6 +129,15 @@ public class CmdLineInterfaceParser {
         return alphaLanguageCode;
     }
 
+    /**
+     * Returns the parsed source format of the headless conversion.
+     *
+     * @return the source format
+     */
+    public String getSourceFormat() {
+        return sourceFormat;
+    }
+
     /**
      * Returns the parsed number of the source button that have to be selected.
      *
@@ -108,6 +156,45 @@ public class CmdLineInterfaceParser {
         return targetBtnNumber;
     }
 
+    /**
+     * Returns the parsed target format of the headless conversion.
+     *
+     * @return the target format
+     */
+    public String getTargetFormat() {
+        return targetFormat;
+    }
+
+    /**
+     * Returns the parsed number of parallel workers of the headless conversion.
+     *
+     * @return number of workers
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Returns true if the headless conversion was requested with the argument '--convert'.
+     *
+     * @return true for the headless conversion
+     */
+    public boolean isConvertMode() {
+        return isConvertMode;
+    }
+
+    /**
+     * Returns true if existing output files of the headless conversion are overwritten, which was requested
+     * with the argument '--overwrite'.
+     *
+     * @return true if existing output files are overwritten
+     *
+     * @since 25
+     */
+    public boolean isOverwriteExisting() {
+        return isOverwriteExisting;
+    }
+
     /**
      * Parses the command line interface arguments of RyCON.
      * <p>
@@ -132,6 +219,28 @@ public class CmdLineInterfaceParser {
                     sourceBtnNumber = Integer.parseInt(s.substring(18, s.length()));
                 } else if (s.contains("--targetBtnNumber=")) {
                     targetBtnNumber = Integer.parseInt(s.substring(18, s.length()));
+                } else if (s.toLowerCase().equals("--convert")) {
+                    isConvertMode = true;
+                } else if (s.toLowerCase().equals("--overwrite")) {
+                    isOverwriteExisting = true;
+                } else if (s.toLowerCase().startsWith("--source=")) {
+                    sourceFormat = s.substring(9, s.length()).toUpperCase();
+                } else if (s.toLowerCase().startsWith("--target=")) {
+                    targetFormat = s.substring(9, s.length()).toUpperCase();
+                } else if (s.toLowerCase().startsWith("--input=")) {
+                    for (String file : s.substring(8, s.length()).split(",")) {
+                        if (!file.trim().isEmpty()) {
+                            inputFiles.add(file.trim());
+                        }
+                    }
+                } else if (s.toLowerCase().startsWith("--output=")) {
+                    outputDir = s.substring(9, s.length());
+                } else if (s.toLowerCase().startsWith("--workers=")) {
+                    try {
+                        workers = Math.max(1, Integer.parseInt(s.substring(10, s.length())));
+                    } catch (NumberFormatException e) {
+                        throw new CmdLineInterfaceException("invalid number of workers: " + s);
+                    }
                 } else {
                     System.err.println("incorrect or illegal command line interface input:");
                     System.err.println(s);
@@ -170,6 +279,15 @@ public class CmdLineInterfaceParser {
         System.out.println(" --sourceBtnNumber=[number] selects the source button by a given number");
         System.out.println(" --targetBtnNumber=[number] selects the target button by a given number");
         System.out.println();
+        System.out.println("headless conversion: java -jar RyCON_[version].jar --convert --source=[format] --target=[format]");
+        System.out.println("                     --input=[files or glob patterns] --output=[directory] --workers=[number] --overwrite");
+        System.out.println(" --source=[format]          GSI8, GSI16, TXT, CSV, CAPLAN_K, ZEISS_REC, CADWORK, BASEL_STADT, BASEL_LANDSCHAFT");
+        System.out.println(" --target=[format]          GSI8, GSI16, TXT, CSV, CAPLAN_K, ZEISS_REC, LTOP_KOO, LTOP_MES, EXCEL_XLSX, EXCEL_XLS, ODF_ODS");
+        System.out.println(" --input=[files]            comma separated list of input files or glob patterns (e.g. data/**/*.gsi)");
+        System.out.println(" --output=[directory]       output directory, the relative paths of the input files are mirrored");
+        System.out.println(" --workers=[number]         number of parallel workers (default: number of processors)");
+        System.out.println(" --overwrite                overwrites existing output files (default: existing files are kept)");
+        System.out.println();
     }
 
     private void printUsageAdvice() {
@@ -18,7 +18,7 @@
 package de.ryanthara.ja.rycon.converter.csv;
 
 import de.ryanthara.ja.rycon.converter.gsi.BaseToolsGSI;
-import de.ryanthara.ja.rycon.elements.GSIBlock;
+import de.ryanthara.ja.rycon.converter.gsi.GSIDataSet;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
 import de.ryanthara.ja.rycon.i18n.WordIndices;
 
@@ -33,7 +33,7 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.WORDINDICES;
  * into a comma separated values (csv) file.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class GSI2CSV {
@@ -82,30 +82,29 @@ public class GSI2CSV {
             result.add(0, builder.toString());
         }
 
-        for (ArrayList<GSIBlock> blocksInLine : baseToolsGSI.getEncodedLinesOfGSIBlocks()) {
-            String newLine = "";
+        // one reused builder for all lines, the blocks are appended without intermediate strings
+        StringBuilder newLine = new StringBuilder(foundWordIndices.size() * 16);
+
+        GSIDataSet dataSet = baseToolsGSI.getDataSet();
+
+        for (int line = 0; line < dataSet.getLineCount(); line++) {
+            newLine.setLength(0);
 
             Iterator<Integer> it = foundWordIndices.iterator();
 
             for (int i = 0; i < foundWordIndices.size(); i++) {
-                Integer wordIndex = it.next();
-                String intern = "";
-
-                for (GSIBlock block : blocksInLine) {
-                    // check the WI and fill in an empty block of spaces if WI doesn't match to 'column'
-                    if (wordIndex == block.getWordIndex()) {
-                        intern = block.toPrintFormatCSV();
-                        break; // important if else statement will be added!!!
-                    }
-                }
+                int blockIndex = dataSet.getBlockIndex(line, it.next());
 
-                newLine = newLine.concat(intern);
+                // leave the 'column' empty if WI doesn't match
+                if (blockIndex >= 0) {
+                    dataSet.appendPrintFormatCSV(blockIndex, newLine);
+                }
 
                 if (i < foundWordIndices.size() - 1) {
-                    newLine = newLine.concat(separator);
+                    newLine.append(separator);
                 }
             }
-            result.add(newLine);
+            result.add(newLine.toString());
         }
 
         return result;
@@ -17,15 +17,29 @@
  */
 package de.ryanthara.ja.rycon.converter.excel;
 
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+
 /**
  * This class provides static access to members to distinguish between XLS (true) and XLSX (false) output files.
+ * <p>
+ * XLSX files are written as streamed workbook. Only a window of rows is held in memory and older rows are
+ * flushed into a compressed temporary file, so that the memory usage is independent of the number of rows.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class BaseToolsExcel {
 
+    /**
+     * Number of rows of a streamed XLSX workbook, which are held in memory.
+     */
+    public static final int ROW_ACCESS_WINDOW_SIZE = 500;
+
     /**
      * Member which helps distinguish between XLS and XLSX file format.
      * <p>
@@ -40,4 +54,52 @@ public class BaseToolsExcel {
      */
     public static final boolean isXLSX = false;
 
+    /**
+     * Creates a new workbook for XLS or XLSX files.
+     * <p>
+     * XLSX workbooks are streamed with a window of {@value #ROW_ACCESS_WINDOW_SIZE} rows and compressed
+     * temporary files. Every created workbook has to be closed with {@link #closeWorkbook(Workbook)}, also
+     * if it is not written, so that the temporary files are deleted.
+     *
+     * @param isXLS selector to distinguish between XLS and XLSX file extension
+     *
+     * @return new workbook
+     *
+     * @since 25
+     */
+    public static Workbook createWorkbook(boolean isXLS) {
+        if (isXLS) {
+            return new HSSFWorkbook();
+        } else {
+            SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+            workbook.setCompressTempFiles(true);
+
+            return workbook;
+        }
+    }
+
+    /**
+     * Closes a workbook and deletes the temporary files of a streamed XLSX workbook. Nothing is done for null.
+     *
+     * @param workbook workbook to be closed or null
+     *
+     * @since 25
+     */
+    public static void closeWorkbook(Workbook workbook) {
+        if (workbook == null) {
+            return;
+        }
+
+        if (workbook instanceof SXSSFWorkbook) {
+            ((SXSSFWorkbook) workbook).dispose();
+        }
+
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            System.err.println("Error while closing the workbook.");
+            e.printStackTrace();
+        }
+    }
+
 } // end of BaseToolsExcel
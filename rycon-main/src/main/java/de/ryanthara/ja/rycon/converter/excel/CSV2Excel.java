@@ -17,19 +17,19 @@
  */
 package de.ryanthara.ja.rycon.converter.excel;
 
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.util.WorkbookUtil;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.util.List;
 
 /**
  * This class provides functions to convert coordinate files from CSV format into Microsoft Excel files
  * in XLS or XLSX format.
+ *
+ * @author sebastian
+ * @version 3
+ * @since 12
  */
 public class CSV2Excel {
 
@@ -55,44 +55,30 @@ public class CSV2Excel {
      */
     public boolean convertCSV2Excel(boolean isXLS, String sheetName) {
         // general preparation of the workbook
-        if (isXLS) {
-            workbook = new HSSFWorkbook();
-        } else {
-            workbook = new XSSFWorkbook();
-        }
+        workbook = BaseToolsExcel.createWorkbook(isXLS);
 
-        String safeName = WorkbookUtil.createSafeSheetName(sheetName);
-        Sheet sheet = workbook.createSheet(safeName);
+        SheetWriter sheetWriter = new SheetWriter(workbook, sheetName);
         Row row;
         Cell cell;
 
-        short rowNumber = 0;
         short cellNumber;
-        short countColumns = 0;
 
         for (String[] csvLine : readCSVLines) {
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+            row = sheetWriter.createRow();
 
             cellNumber = 0;
 
             for (String element : csvLine) {
                 cell = row.createCell(cellNumber);
                 cellNumber++;
-                cell.setCellValue(element);
-            }
-
-            if (cellNumber > countColumns) {
-                countColumns = cellNumber;
+                sheetWriter.setCellValue(cell, element);
             }
         }
 
         // adjust column width to fit the content
-        for (int i = 0; i < countColumns; i++) {
-            sheet.autoSizeColumn((short) i);
-        }
+        sheetWriter.adjustColumnWidths();
 
-        return rowNumber > 1;
+        return sheetWriter.getRowCount() > 1;
     }
 
     /**
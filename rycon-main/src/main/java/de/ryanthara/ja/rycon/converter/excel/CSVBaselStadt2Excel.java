@@ -17,10 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.excel;
 
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.util.WorkbookUtil;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.util.List;
 
@@ -29,7 +26,7 @@ import java.util.List;
  * into Microsoft Excel (XLS and XLSX) files.
  *
  * @author sebastian
- * @version 1
+ * @version 4
  * @since 12
  */
 public class CSVBaselStadt2Excel {
@@ -58,33 +55,23 @@ public class CSVBaselStadt2Excel {
      */
     public boolean convertCSVBaselStadt2Excel(boolean isXLS, String sheetName, boolean writeCommentRow) {
         // general preparation of the workbook
-        if (isXLS) {
-            workbook = new HSSFWorkbook();
-        } else {
-            workbook = new XSSFWorkbook();
-        }
+        workbook = BaseToolsExcel.createWorkbook(isXLS);
 
-        String safeName = WorkbookUtil.createSafeSheetName(sheetName);
-        Sheet sheet = workbook.createSheet(safeName);
+        SheetWriter sheetWriter = new SheetWriter(workbook, sheetName);
         Row row;
         Cell cell;
-        CellStyle cellStyle;
-
-        DataFormat format = workbook.createDataFormat();
 
-        short rowNumber = 0;
         short cellNumber = 0;
 
         if (writeCommentRow) {
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+            row = sheetWriter.createRow();
 
             String[] commentLine = readCSVLines.get(0);
 
             for (String description : commentLine) {
                 cell = row.createCell(cellNumber);
                 cellNumber++;
-                cell.setCellValue(description);
+                sheetWriter.setCellValue(cell, description);
             }
         }
 
@@ -92,8 +79,7 @@ public class CSVBaselStadt2Excel {
         readCSVLines.remove(0);
 
         for (String[] csvLine : readCSVLines) {
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+            row = sheetWriter.createRow();
 
             cellNumber = 0;
 
@@ -104,20 +90,16 @@ public class CSVBaselStadt2Excel {
                 switch (i) {
                     case 0:
                     case 1:
-                        cell.setCellValue(csvLine[i]);
+                        sheetWriter.setCellValue(cell, csvLine[i]);
                         break;
                     case 2:
                     case 3:
                     case 4:
                     case 5:
                         if (csvLine[i].equalsIgnoreCase("")) {
-                            cell.setCellValue(csvLine[i]);
+                            sheetWriter.setCellValue(cell, csvLine[i]);
                         } else {
-                            cell.setCellValue(Double.parseDouble(csvLine[i]));
-                            cellStyle = workbook.createCellStyle();
-                            cellStyle.setDataFormat(format.getFormat("#,##0.000"));
-                            cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                            cell.setCellStyle(cellStyle);
+                            sheetWriter.setCellValue(cell, Double.parseDouble(csvLine[i]), "#,##0.000");
                         }
                         break;
                     case 6:
@@ -125,7 +107,7 @@ public class CSVBaselStadt2Excel {
                     case 8:
                     case 9:
                     case 10:
-                        cell.setCellValue(csvLine[i]);
+                        sheetWriter.setCellValue(cell, csvLine[i]);
                         break;
 
                     default:
@@ -135,11 +117,9 @@ public class CSVBaselStadt2Excel {
         }
 
         // adjust column width to fit the content
-        for (int i = 0; i < readCSVLines.get(0).length; i++) {
-            sheet.autoSizeColumn((short) i);
-        }
+        sheetWriter.adjustColumnWidths();
 
-        return rowNumber > 1;
+        return sheetWriter.getRowCount() > 1;
     }
 
     /**
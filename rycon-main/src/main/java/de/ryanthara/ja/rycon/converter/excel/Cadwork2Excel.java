@@ -17,13 +17,9 @@
  */
 package de.ryanthara.ja.rycon.converter.excel;
 
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.util.WorkbookUtil;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.util.ArrayList;
 
@@ -32,7 +28,7 @@ import java.util.ArrayList;
  * in XLS or XLSX format.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class Cadwork2Excel {
@@ -59,19 +55,13 @@ public class Cadwork2Excel {
      */
     public boolean convertCadwork2Excel(boolean isXLS, String sheetName, boolean writeCommentRow) {
         // general preparation of the workbook
-        if (isXLS) {
-            workbook = new HSSFWorkbook();
-        } else {
-            workbook = new XSSFWorkbook();
-        }
+        workbook = BaseToolsExcel.createWorkbook(isXLS);
 
-        String safeName = WorkbookUtil.createSafeSheetName(sheetName);
         String[] lineSplit;
-        Sheet sheet = workbook.createSheet(safeName);
+        SheetWriter sheetWriter = new SheetWriter(workbook, sheetName);
         Row row;
         Cell cell;
 
-        short rowNumber = 0;
         short cellNumber = 0;
 
         // remove not needed headlines
@@ -80,15 +70,14 @@ public class Cadwork2Excel {
         }
 
         if (writeCommentRow) {
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+            row = sheetWriter.createRow();
 
             lineSplit = readStringLines.get(0).trim().split("\\s+", -1);
 
             for (String description : lineSplit) {
                 cell = row.createCell(cellNumber);
                 cellNumber++;
-                cell.setCellValue(description);
+                sheetWriter.setCellValue(cell, description);
             }
         }
 
@@ -96,43 +85,40 @@ public class Cadwork2Excel {
         readStringLines.remove(0);
 
         for (String line : readStringLines) {
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+            row = sheetWriter.createRow();
 
             cellNumber = 0;
 
             lineSplit = line.trim().split("\\t", -1);
 
             cell = row.createCell(cellNumber);      // No
-            cell.setCellValue(lineSplit[0]);
+            sheetWriter.setCellValue(cell, lineSplit[0]);
             cellNumber++;
 
             cell = row.createCell(cellNumber);      // X
-            cell.setCellValue(lineSplit[1]);
+            sheetWriter.setCellValue(cell, lineSplit[1]);
             cellNumber++;
 
             cell = row.createCell(cellNumber);      // Y
-            cell.setCellValue(lineSplit[2]);
+            sheetWriter.setCellValue(cell, lineSplit[2]);
             cellNumber++;
 
             cell = row.createCell(cellNumber);      // Z
-            cell.setCellValue(lineSplit[3]);
+            sheetWriter.setCellValue(cell, lineSplit[3]);
             cellNumber++;
 
             cell = row.createCell(cellNumber);      // Code
-            cell.setCellValue(lineSplit[4]);
+            sheetWriter.setCellValue(cell, lineSplit[4]);
             cellNumber++;
 
             cell = row.createCell(cellNumber);      // Name
-            cell.setCellValue(lineSplit[5]);
+            sheetWriter.setCellValue(cell, lineSplit[5]);
         }
 
         // adjust column width to fit the content
-        for (int i = 0; i < 5; i++) {
-            sheet.autoSizeColumn((short) i);
-        }
+        sheetWriter.adjustColumnWidths();
 
-        return rowNumber > 1;
+        return sheetWriter.getRowCount() > 1;
     }
 
     /**
@@ -20,10 +20,7 @@ package de.ryanthara.ja.rycon.converter.excel;
 import de.ryanthara.ja.rycon.elements.CaplanBlock;
 import de.ryanthara.ja.rycon.i18n.Columns;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.util.WorkbookUtil;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.util.ArrayList;
 
@@ -34,7 +31,7 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.COLUMNS;
  * into a Microsoft Excel file.
  *
  * @author sebastian
- * @version 1
+ * @version 4
  * @since 12
  */
 public class Caplan2Excel {
@@ -62,57 +59,45 @@ public class Caplan2Excel {
      */
     public boolean convertCaplan2Excel(boolean isXLS, String sheetName, boolean writeCommentRow) {
         // general preparation of the workbook
-        if (isXLS) {
-            workbook = new HSSFWorkbook();
-        } else {
-            workbook = new XSSFWorkbook();
-        }
+        workbook = BaseToolsExcel.createWorkbook(isXLS);
 
-        String safeName = WorkbookUtil.createSafeSheetName(sheetName);
-        Sheet sheet = workbook.createSheet(safeName);
+        SheetWriter sheetWriter = new SheetWriter(workbook, sheetName);
         Row row;
         Cell cell;
-        CellStyle cellStyle;
-
-        DataFormat format = workbook.createDataFormat();
 
-        short rowNumber = 0;
         short cellNumber = 0;
-        short countColumns = 0;
 
         if (writeCommentRow) {
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+            row = sheetWriter.createRow();
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.pointNumber));
+            sheetWriter.setCellValue(cell, ResourceBundleUtils.getLangString(COLUMNS, Columns.pointNumber));
             cellNumber++;
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.easting));
+            sheetWriter.setCellValue(cell, ResourceBundleUtils.getLangString(COLUMNS, Columns.easting));
             cellNumber++;
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.northing));
+            sheetWriter.setCellValue(cell, ResourceBundleUtils.getLangString(COLUMNS, Columns.northing));
             cellNumber++;
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.height));
+            sheetWriter.setCellValue(cell, ResourceBundleUtils.getLangString(COLUMNS, Columns.height));
             cellNumber++;
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.object));
+            sheetWriter.setCellValue(cell, ResourceBundleUtils.getLangString(COLUMNS, Columns.object));
             cellNumber++;
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.attribute));
+            sheetWriter.setCellValue(cell, ResourceBundleUtils.getLangString(COLUMNS, Columns.attribute));
         }
 
         for (String line : readStringLines) {
             // skip empty lines directly after reading
             if (!line.trim().isEmpty()) {
-                row = sheet.createRow(rowNumber);
-                rowNumber++;
+                row = sheetWriter.createRow();
 
                 cellNumber = 0;
 
@@ -120,7 +105,7 @@ public class Caplan2Excel {
 
                 if (caplanBlock.getNumber() != null) {
                     cell = row.createCell(cellNumber);
-                    cell.setCellValue(caplanBlock.getNumber());
+                    sheetWriter.setCellValue(cell, caplanBlock.getNumber());
                     cellNumber++;
                 }
 
@@ -128,13 +113,9 @@ public class Caplan2Excel {
                     cell = row.createCell(cellNumber);
 
                     if (!caplanBlock.getEasting().equals("")) {
-                        cell.setCellValue(Double.parseDouble(caplanBlock.getEasting()));
-                        cellStyle = workbook.createCellStyle();
-                        cellStyle.setDataFormat(format.getFormat("#,##0.0000"));
-                        cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                        cell.setCellStyle(cellStyle);
+                        sheetWriter.setCellValue(cell, Double.parseDouble(caplanBlock.getEasting()), "#,##0.0000");
                     } else {
-                        cell.setCellValue("");
+                        sheetWriter.setCellValue(cell, "");
                     }
 
                     cellNumber++;
@@ -144,13 +125,9 @@ public class Caplan2Excel {
                     cell = row.createCell(cellNumber);
 
                     if (!caplanBlock.getNorthing().equals("")) {
-                        cell.setCellValue(Double.parseDouble(caplanBlock.getNorthing()));
-                        cellStyle = workbook.createCellStyle();
-                        cellStyle.setDataFormat(format.getFormat("#,##0.0000"));
-                        cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                        cell.setCellStyle(cellStyle);
+                        sheetWriter.setCellValue(cell, Double.parseDouble(caplanBlock.getNorthing()), "#,##0.0000");
                     } else {
-                        cell.setCellValue("");
+                        sheetWriter.setCellValue(cell, "");
                     }
 
                     cellNumber++;
@@ -160,13 +137,9 @@ public class Caplan2Excel {
                     cell = row.createCell(cellNumber);
 
                     if (!caplanBlock.getHeight().equals("")) {
-                        cell.setCellValue(Double.parseDouble(caplanBlock.getHeight()));
-                        cellStyle = workbook.createCellStyle();
-                        cellStyle.setDataFormat(format.getFormat("#,##0.0000"));
-                        cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                        cell.setCellStyle(cellStyle);
+                        sheetWriter.setCellValue(cell, Double.parseDouble(caplanBlock.getHeight()), "#,##0.0000");
                     } else {
-                        cell.setCellValue("");
+                        sheetWriter.setCellValue(cell, "");
                     }
 
                     cellNumber++;
@@ -174,30 +147,24 @@ public class Caplan2Excel {
 
                 if (caplanBlock.getCode() != null) {
                     cell = row.createCell(cellNumber);
-                    cell.setCellValue(caplanBlock.getCode());
+                    sheetWriter.setCellValue(cell, caplanBlock.getCode());
                     cellNumber++;
 
                     if (caplanBlock.getAttributes().size() > 0) {
                         for (String attribute : caplanBlock.getAttributes()) {
                             cell = row.createCell(cellNumber);
-                            cell.setCellValue(attribute);
+                            sheetWriter.setCellValue(cell, attribute);
                             cellNumber++;
                         }
                     }
                 }
-
-                if (cellNumber > countColumns) {
-                    countColumns = cellNumber;
-                }
             }
         }
 
         // adjust column width to fit the content
-        for (int i = 0; i < countColumns; i++) {
-            sheet.autoSizeColumn((short) i);
-        }
+        sheetWriter.adjustColumnWidths();
 
-        return rowNumber > 1;
+        return sheetWriter.getRowCount() > 1;
     }
 
     /**
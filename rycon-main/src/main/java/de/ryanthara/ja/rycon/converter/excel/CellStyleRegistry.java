@@ -0,0 +1,72 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.excel
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.excel;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Instances of this class creates the cell styles of a {@link Workbook} and reuses them for every cell.
+ * <p>
+ * A workbook can hold only a limited number of cell styles (4,000 for XLS and 64,000 for XLSX files).
+ * Therefore every distinct number format is created only once per workbook.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+class CellStyleRegistry {
+
+    private final Workbook workbook;
+    private final DataFormat dataFormat;
+    private final Map<String, CellStyle> numberStyles = new HashMap<>();
+
+    /**
+     * Constructs a new instance of this class for a workbook.
+     *
+     * @param workbook workbook to create the cell styles in
+     */
+    CellStyleRegistry(Workbook workbook) {
+        this.workbook = workbook;
+        this.dataFormat = workbook.createDataFormat();
+    }
+
+    /**
+     * Returns the right aligned cell style for a number format (e.g. '#,##0.000'). The cell style
+     * is created with the first call.
+     *
+     * @param format number format
+     *
+     * @return cell style for the number format
+     */
+    CellStyle getNumberStyle(String format) {
+        return numberStyles.computeIfAbsent(format, key -> {
+            CellStyle cellStyle = workbook.createCellStyle();
+            cellStyle.setDataFormat(dataFormat.getFormat(key));
+            cellStyle.setAlignment(HorizontalAlignment.RIGHT);
+
+            return cellStyle;
+        });
+    }
+
+} // end of CellStyleRegistry
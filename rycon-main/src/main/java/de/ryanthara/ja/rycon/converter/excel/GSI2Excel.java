@@ -18,13 +18,10 @@
 package de.ryanthara.ja.rycon.converter.excel;
 
 import de.ryanthara.ja.rycon.converter.gsi.BaseToolsGSI;
-import de.ryanthara.ja.rycon.elements.GSIBlock;
+import de.ryanthara.ja.rycon.converter.gsi.GSIDataSet;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
 import de.ryanthara.ja.rycon.i18n.WordIndices;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.util.WorkbookUtil;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.util.ArrayList;
 
@@ -35,7 +32,7 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.WORDINDICES;
  * into Microsoft Excel (XLS and XLSX) files.
  *
  * @author sebastian
- * @version 1
+ * @version 6
  * @since 12
  */
 public class GSI2Excel {
@@ -62,68 +59,59 @@ public class GSI2Excel {
      */
     public boolean convertGSI2Excel(boolean isXLS, String sheetName, boolean writeCommentRow) {
         // general preparation of the workbook
-        if (isXLS) {
-            workbook = new HSSFWorkbook();
-        } else {
-            workbook = new XSSFWorkbook();
-        }
+        workbook = BaseToolsExcel.createWorkbook(isXLS);
 
-        String safeName = WorkbookUtil.createSafeSheetName(sheetName);
-        Sheet sheet = workbook.createSheet(safeName);
+        SheetWriter sheetWriter = new SheetWriter(workbook, sheetName);
         Row row;
         Cell cell;
-        CellStyle cellStyle;
-
-        DataFormat format = workbook.createDataFormat();
 
-        short rowNumber = 0;
         short cellNumber = 0;
 
         if (writeCommentRow) {
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+            row = sheetWriter.createRow();
 
             for (int wordIndex : baseToolsGSI.getFoundAllWordIndices()) {
                 cell = row.createCell(cellNumber);
                 cellNumber++;
 
-                cell.setCellValue(ResourceBundleUtils.getLangString(WORDINDICES, WordIndices.valueOf("WI"+wordIndex)));
+                sheetWriter.setCellValue(cell, ResourceBundleUtils.getLangString(WORDINDICES, WordIndices.valueOf("WI"+wordIndex)));
             }
         }
 
         // fill gsi content into rows and cells
-        for (ArrayList<GSIBlock> blocksInLine : baseToolsGSI.getEncodedLinesOfGSIBlocks()) {
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+        GSIDataSet dataSet = baseToolsGSI.getDataSet();
+
+        for (int line = 0; line < dataSet.getLineCount(); line++) {
+            row = sheetWriter.createRow();
 
             cellNumber = 0;
 
-            for (GSIBlock block : blocksInLine) {
+            for (int blockIndex = dataSet.getLineStart(line); blockIndex < dataSet.getLineEnd(line); blockIndex++) {
                 cell = row.createCell(cellNumber);
                 cellNumber++;
 
-                switch (block.getWordIndex()) {
+                switch (dataSet.getWordIndex(blockIndex)) {
                     // GENERAL
                     case 11:    // Point number (includes block number)
                     case 12:    // Instrument serial no
                     case 13:    // Instrument type
                     case 18:    // Time format 1: pos. 8-9 year, 10-11 sec, 12-14 msec
                     case 19:    // Time format 2 : pos, 8-9 month 10-11 day, 12-13 hour, 14-15 min
-                        cell.setCellValue(block.toPrintFormatCSV());
+                        sheetWriter.setCellValue(cell, dataSet.toPrintFormatCSV(blockIndex));
                         break;
 
                     // ANGLES
                     case 21:    // Horizontal Circle (Hz)
                     case 22:    // Vertical Angle (V)
                     case 25:    // Horizontal circle difference (Hz0-Hz)
-                        cell.setCellValue(Double.parseDouble(block.toPrintFormatCSV()));
+                        sheetWriter.setCellValue(cell, Double.parseDouble(dataSet.toPrintFormatCSV(blockIndex)));
                         break;
 
                     // DISTANCE
                     case 31:    // Slope Distance
                     case 32:    // Horizontal Distance
                     case 33:    // Height Difference
-                        cell.setCellValue(Double.parseDouble(block.toPrintFormatCSV()));
+                        sheetWriter.setCellValue(cell, Double.parseDouble(dataSet.toPrintFormatCSV(blockIndex)));
                         break;
 
                     // CODE BLOCK
@@ -136,7 +124,7 @@ public class GSI2Excel {
                     case 47:    // Information 6
                     case 48:    // Information 7
                     case 49:    // Information 8
-                        cell.setCellValue(block.toPrintFormatCSV());
+                        sheetWriter.setCellValue(cell, dataSet.toPrintFormatCSV(blockIndex));
                         break;
 
                     // DISTANCE (additional information)
@@ -145,7 +133,7 @@ public class GSI2Excel {
                     case 53:    // Deviation
                     case 58:    // Signal strength
                     case 59:    // Reflector constant (1/10 mm)ppm
-                        cell.setCellValue(block.toPrintFormatCSV());
+                        sheetWriter.setCellValue(cell, dataSet.toPrintFormatCSV(blockIndex));
                         break;
 
                     // POINT CODING
@@ -158,7 +146,7 @@ public class GSI2Excel {
                     case 77:    // Attribute 6
                     case 78:    // Attribute 7
                     case 79:    // Attribute 8
-                        cell.setCellValue(block.toPrintFormatCSV());
+                        sheetWriter.setCellValue(cell, dataSet.toPrintFormatCSV(blockIndex));
                         break;
 
                     // COORDINATES
@@ -168,35 +156,25 @@ public class GSI2Excel {
                     case 84:    // Station Easting (E0)
                     case 85:    // Station Northing (N0)
                     case 86:    // Station Elevation (H0)
-                        cell.setCellValue(Double.parseDouble(block.toPrintFormatCSV()));
-                        cellStyle = workbook.createCellStyle();
-                        cellStyle.setDataFormat(format.getFormat("#,##0.0000"));
-                        cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                        cell.setCellStyle(cellStyle);
+                        sheetWriter.setCellValue(cell, Double.parseDouble(dataSet.toPrintFormatCSV(blockIndex)), "#,##0.0000");
                         break;
 
                     case 87:    // Reflector height (above ground)
                     case 88:    // Instrument height (above ground)
-                        cell.setCellValue(Double.parseDouble(block.toPrintFormatCSV()));
-                        cellStyle = workbook.createCellStyle();
-                        cellStyle.setDataFormat(format.getFormat("#,##0.000"));
-                        cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                        cell.setCellStyle(cellStyle);
+                        sheetWriter.setCellValue(cell, Double.parseDouble(dataSet.toPrintFormatCSV(blockIndex)), "#,##0.000");
                         break;
 
                     default:
-                        System.err.println("GSI2Excel.convertGSI2Excel() : line contains unknown word index " + block.toPrintFormatCSV());
+                        System.err.println("GSI2Excel.convertGSI2Excel() : line contains unknown word index " + dataSet.toPrintFormatCSV(blockIndex));
                 }
             }
         }
 
         // adjust column width to fit the content
-        for (int i = 0; i < baseToolsGSI.getEncodedLinesOfGSIBlocks().size(); i++) {
-            sheet.autoSizeColumn((short) i);
-        }
+        sheetWriter.adjustColumnWidths();
 
         // check number of written lines
-        return rowNumber > 1;
+        return sheetWriter.getRowCount() > 1;
     }
 
     /**
@@ -0,0 +1,187 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.excel
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.ss.util.WorkbookUtil;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Instances of this class creates the rows of a converted file in a {@link Workbook}.
+ * <p>
+ * When a sheet reaches the maximum number of rows of the spreadsheet version (65,536 rows for XLS files),
+ * the following rows are written into an additional sheet automatically. The additional sheets get the name
+ * of the first sheet with a running number.
+ * <p>
+ * The values are set with this class, which tracks the maximum number of rendered characters of every
+ * column. The column widths are calculated from these numbers at the end, because the rows of a streamed
+ * XLSX workbook are already flushed to disk and can not be measured later on.
+ *
+ * @author sebastian
+ * @version 2
+ * @since 25
+ */
+class SheetWriter {
+
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+    private static final int MAX_COLUMN_WIDTH = 255 * 256;
+    private static final int PADDING_CHARACTERS = 2;
+
+    private final Workbook workbook;
+    private final String sheetName;
+    private final int maxRows;
+    private final List<Sheet> sheets = new ArrayList<>();
+    private final CellStyleRegistry cellStyles;
+    private final Map<String, DecimalFormat> numberFormats = new HashMap<>();
+    private int[] columnWidths = new int[16];
+    private Sheet sheet;
+    private int rowNumber;
+    private int countRows = 0;
+
+    /**
+     * Constructs a new instance of this class and creates the first sheet.
+     *
+     * @param workbook  workbook to write in
+     * @param sheetName name of the sheet (file name from input file)
+     */
+    SheetWriter(Workbook workbook, String sheetName) {
+        this.workbook = workbook;
+        this.sheetName = WorkbookUtil.createSafeSheetName(sheetName);
+        this.maxRows = workbook.getSpreadsheetVersion().getMaxRows();
+        this.cellStyles = new CellStyleRegistry(workbook);
+
+        createSheet();
+    }
+
+    /**
+     * Adjusts the width of all written columns of all sheets to fit the content.
+     * <p>
+     * The widths are calculated from the maximum number of rendered characters and a small padding.
+     */
+    void adjustColumnWidths() {
+        for (Sheet sheet : sheets) {
+            for (int column = 0; column < columnWidths.length; column++) {
+                if (columnWidths[column] > 0) {
+                    sheet.setColumnWidth(column,
+                            Math.min(MAX_COLUMN_WIDTH, (columnWidths[column] + PADDING_CHARACTERS) * 256));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the next row and rolls over to an additional sheet, if the current sheet is full.
+     *
+     * @return created row
+     */
+    Row createRow() {
+        if (rowNumber == maxRows) {
+            createSheet();
+        }
+
+        countRows = countRows + 1;
+
+        return sheet.createRow(rowNumber++);
+    }
+
+    /**
+     * Sets a string value into a cell.
+     *
+     * @param cell  cell to write in
+     * @param value string value
+     */
+    void setCellValue(Cell cell, String value) {
+        cell.setCellValue(value);
+        trackWidth(cell.getColumnIndex(), value.length());
+    }
+
+    /**
+     * Sets a double value with the general number format into a cell.
+     *
+     * @param cell  cell to write in
+     * @param value double value
+     */
+    void setCellValue(Cell cell, double value) {
+        cell.setCellValue(value);
+        trackWidth(cell.getColumnIndex(), NumberToTextConverter.toText(value).length());
+    }
+
+    /**
+     * Sets a double value with a number format (e.g. '#,##0.000') into a cell. The right aligned
+     * cell style of the number format is shared by all cells of the workbook.
+     *
+     * @param cell   cell to write in
+     * @param value  double value
+     * @param format number format
+     */
+    void setCellValue(Cell cell, double value, String format) {
+        cell.setCellValue(value);
+        cell.setCellStyle(cellStyles.getNumberStyle(format));
+
+        DecimalFormat decimalFormat = numberFormats.computeIfAbsent(format,
+                key -> new DecimalFormat(key, DecimalFormatSymbols.getInstance(Locale.ENGLISH)));
+
+        trackWidth(cell.getColumnIndex(), decimalFormat.format(value).length());
+    }
+
+    /**
+     * Returns the number of created rows of all sheets.
+     *
+     * @return number of created rows
+     */
+    int getRowCount() {
+        return countRows;
+    }
+
+    private void createSheet() {
+        String name = sheetName;
+
+        if (!sheets.isEmpty()) {
+            String suffix = " (" + (sheets.size() + 1) + ")";
+            name = sheetName.substring(0, Math.min(sheetName.length(), MAX_SHEET_NAME_LENGTH - suffix.length())) + suffix;
+        }
+
+        sheet = workbook.createSheet(name);
+        rowNumber = 0;
+
+        sheets.add(sheet);
+    }
+
+    private void trackWidth(int column, int countCharacters) {
+        if (column >= columnWidths.length) {
+            columnWidths = Arrays.copyOf(columnWidths, Math.max(column + 1, columnWidths.length * 2));
+        }
+
+        if (countCharacters > columnWidths[column]) {
+            columnWidths[column] = countCharacters;
+        }
+    }
+
+} // end of SheetWriter
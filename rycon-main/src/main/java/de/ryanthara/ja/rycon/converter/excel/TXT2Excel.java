@@ -17,13 +17,9 @@
  */
 package de.ryanthara.ja.rycon.converter.excel;
 
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.util.WorkbookUtil;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.util.ArrayList;
 
@@ -32,7 +28,7 @@ import java.util.ArrayList;
  * into Microsoft Excel (XLS and XLSX) files.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class TXT2Excel {
@@ -59,46 +55,32 @@ public class TXT2Excel {
      */
     public boolean convertTXT2Excel(boolean isXLS, String sheetName) {
         // general preparation of the workbook
-        if (isXLS) {
-            workbook = new HSSFWorkbook();
-        } else {
-            workbook = new XSSFWorkbook();
-        }
+        workbook = BaseToolsExcel.createWorkbook(isXLS);
 
-        String safeName = WorkbookUtil.createSafeSheetName(sheetName);
-        Sheet sheet = workbook.createSheet(safeName);
+        SheetWriter sheetWriter = new SheetWriter(workbook, sheetName);
         Row row;
         Cell cell;
 
-        short rowNumber = 0;
         short cellNumber;
-        short countColumns = 0;
 
         for (String line : readStringLines) {
             String[] lineSplit = line.trim().split("\\s+");
 
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+            row = sheetWriter.createRow();
 
             cellNumber = 0;
 
             for (String element : lineSplit) {
                 cell = row.createCell(cellNumber);
                 cellNumber++;
-                cell.setCellValue(element);
-                if (cellNumber > countColumns) {
-                    countColumns = cellNumber;
-                }
-
+                sheetWriter.setCellValue(cell, element);
             }
         }
 
         // adjust column width to fit the content
-        for (int i = 0; i < countColumns; i++) {
-            sheet.autoSizeColumn((short) i);
-        }
+        sheetWriter.adjustColumnWidths();
 
-        return rowNumber > 1;
+        return sheetWriter.getRowCount() > 1;
     }
 
     /**
@@ -17,10 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.excel;
 
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.util.WorkbookUtil;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.util.ArrayList;
 
@@ -29,7 +26,7 @@ import java.util.ArrayList;
  * into Microsoft Excel (XLS and XLSX) files.
  *
  * @author sebastian
- * @version 1
+ * @version 4
  * @since 12
  */
 public class TXTBaselLandschaft2Excel {
@@ -57,34 +54,23 @@ public class TXTBaselLandschaft2Excel {
      */
     public boolean convertTXTBaselLand2Excel(boolean isXLS, String sheetName, boolean writeCommentRow) {
         // general preparation of the workbook
-        if (isXLS) {
-            workbook = new HSSFWorkbook();
-        } else {
-            workbook = new XSSFWorkbook();
-        }
+        workbook = BaseToolsExcel.createWorkbook(isXLS);
 
-        String safeName = WorkbookUtil.createSafeSheetName(sheetName);
-        Sheet sheet = workbook.createSheet(safeName);
+        SheetWriter sheetWriter = new SheetWriter(workbook, sheetName);
         Row row;
         Cell cell;
-        CellStyle cellStyle;
-
-        DataFormat format = workbook.createDataFormat();
 
-        short rowNumber = 0;
         short cellNumber = 0;
-        short countColumns = 0;
 
         if (writeCommentRow) {
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+            row = sheetWriter.createRow();
 
             String[] lineSplit = readStringLines.get(0).trim().split("\\t", -1);
 
             for (String description : lineSplit) {
                 cell = row.createCell(cellNumber);
                 cellNumber++;
-                cell.setCellValue(description);
+                sheetWriter.setCellValue(cell, description);
             }
         }
 
@@ -92,8 +78,7 @@ public class TXTBaselLandschaft2Excel {
         readStringLines.remove(0);
 
         for (String line : readStringLines) {
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+            row = sheetWriter.createRow();
 
             String[] lineSplit = line.trim().split("\\t", -1);
 
@@ -102,84 +87,56 @@ public class TXTBaselLandschaft2Excel {
             switch (lineSplit.length) {
                 case 5:     // HFP file
                     cell = row.createCell(cellNumber);      // Art
-                    cell.setCellValue(lineSplit[0]);
+                    sheetWriter.setCellValue(cell, lineSplit[0]);
                     cellNumber++;
 
                     cell = row.createCell(cellNumber);      // Number
-                    cell.setCellValue(lineSplit[1]);
+                    sheetWriter.setCellValue(cell, lineSplit[1]);
                     cellNumber++;
 
                     cell = row.createCell(cellNumber);      // X
-                    cell.setCellValue(Double.parseDouble(lineSplit[2]));
-                    cellStyle = workbook.createCellStyle();
-                    cellStyle.setDataFormat(format.getFormat("#,##0.000"));
-                    cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                    cell.setCellStyle(cellStyle);
+                    sheetWriter.setCellValue(cell, Double.parseDouble(lineSplit[2]), "#,##0.000");
                     cellNumber++;
 
                     cell = row.createCell(cellNumber);      // Y
-                    cell.setCellValue(Double.parseDouble(lineSplit[3]));
-                    cellStyle = workbook.createCellStyle();
-                    cellStyle.setDataFormat(format.getFormat("#,##0.000"));
-                    cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                    cell.setCellStyle(cellStyle);
+                    sheetWriter.setCellValue(cell, Double.parseDouble(lineSplit[3]), "#,##0.000");
                     cellNumber++;
 
                     cell = row.createCell(cellNumber);      // Z
                     if (lineSplit[4].equalsIgnoreCase("NULL")) {
-                        cell.setCellValue("NULL");
+                        sheetWriter.setCellValue(cell, "NULL");
                     } else {
-                        cell.setCellValue(Double.parseDouble(lineSplit[4]));
-                        cellStyle = workbook.createCellStyle();
-                        cellStyle.setDataFormat(format.getFormat("#,##0.000"));
-                        cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                        cell.setCellStyle(cellStyle);
+                        sheetWriter.setCellValue(cell, Double.parseDouble(lineSplit[4]), "#,##0.000");
                     }
-
-                    countColumns = 5;
                     break;
 
                 case 6:     // LFP file
                     cell = row.createCell(cellNumber);      // Art
-                    cell.setCellValue(lineSplit[0]);
+                    sheetWriter.setCellValue(cell, lineSplit[0]);
                     cellNumber++;
 
                     cell = row.createCell(cellNumber);      // Number
-                    cell.setCellValue(lineSplit[1]);
+                    sheetWriter.setCellValue(cell, lineSplit[1]);
                     cellNumber++;
 
                     cell = row.createCell(cellNumber);      // VArt
-                    cell.setCellValue(lineSplit[2]);
+                    sheetWriter.setCellValue(cell, lineSplit[2]);
                     cellNumber++;
 
                     cell = row.createCell(cellNumber);      // X
-                    cell.setCellValue(Double.parseDouble(lineSplit[3]));
-                    cellStyle = workbook.createCellStyle();
-                    cellStyle.setDataFormat(format.getFormat("#,##0.000"));
-                    cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                    cell.setCellStyle(cellStyle);
+                    sheetWriter.setCellValue(cell, Double.parseDouble(lineSplit[3]), "#,##0.000");
                     cellNumber++;
 
                     cell = row.createCell(cellNumber);      // Y
-                    cell.setCellValue(Double.parseDouble(lineSplit[4]));
-                    cellStyle = workbook.createCellStyle();
-                    cellStyle.setDataFormat(format.getFormat("#,##0.000"));
-                    cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                    cell.setCellStyle(cellStyle);
+                    sheetWriter.setCellValue(cell, Double.parseDouble(lineSplit[4]), "#,##0.000");
                     cellNumber++;
 
                     cell = row.createCell(cellNumber);      // Z
                     if (lineSplit[5].equalsIgnoreCase("NULL")) {
-                        cell.setCellValue("NULL");
+                        sheetWriter.setCellValue(cell, "NULL");
                     } else {
-                        cell.setCellValue(Double.parseDouble(lineSplit[5]));
-                        cellStyle = workbook.createCellStyle();
-                        cellStyle.setDataFormat(format.getFormat("#,##0.000"));
-                        cellStyle.setVerticalAlignment(CellStyle.ALIGN_RIGHT);
-                        cell.setCellStyle(cellStyle);
+                        sheetWriter.setCellValue(cell, Double.parseDouble(lineSplit[5]), "#,##0.000");
                     }
-
-                    countColumns = 6;
                     break;
 
                 default:
@@ -188,11 +145,9 @@ public class TXTBaselLandschaft2Excel {
         }
 
         // adjust column width to fit the content
-        for (int i = 0; i < countColumns; i++) {
-            sheet.autoSizeColumn((short) i);
-        }
+        sheetWriter.adjustColumnWidths();
 
-        return rowNumber > 1;
+        return sheetWriter.getRowCount() > 1;
     }
 
     /**
@@ -19,13 +19,9 @@ package de.ryanthara.ja.rycon.converter.excel;
 
 import de.ryanthara.ja.rycon.converter.zeiss.ZeissDecoder;
 import de.ryanthara.ja.rycon.elements.ZeissBlock;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.util.WorkbookUtil;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.util.ArrayList;
 
@@ -34,7 +30,7 @@ import java.util.ArrayList;
  * and it's dialects (R4, R5, REC500 and M5) into Microsoft Excel (XLS and XLSX) files.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class Zeiss2Excel {
@@ -62,53 +58,45 @@ public class Zeiss2Excel {
      */
     public boolean convertZeiss2Excel(boolean isXLS, String sheetName, boolean writeCommentRow) {
         // general preparation of the workbook
-        if (isXLS) {
-            workbook = new HSSFWorkbook();
-        } else {
-            workbook = new XSSFWorkbook();
-        }
+        workbook = BaseToolsExcel.createWorkbook(isXLS);
 
-        String safeName = WorkbookUtil.createSafeSheetName(sheetName);
-        Sheet sheet = workbook.createSheet(safeName);
+        SheetWriter sheetWriter = new SheetWriter(workbook, sheetName);
         Row row;
         Cell cell;
 //        CellStyle cellStyle;
 
 //        DataFormat format = workbook.createDataFormat();
 
-        short rowNumber = 0;
         short cellNumber = 0;
-        short countColumns = 0;
 
         // TODO implement comment row and multi line stored values
 
         /*
         if (writeCommentRow) {
-            row = sheet.createRow(rowNumber);
-            rowNumber++;
+            row = sheetWriter.createRow();
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(I18N.getCaplanColumnTyp("pointNumber"));
+            sheetWriter.setCellValue(cell, I18N.getCaplanColumnTyp("pointNumber"));
             cellNumber++;
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(I18N.getCaplanColumnTyp("easting"));
+            sheetWriter.setCellValue(cell, I18N.getCaplanColumnTyp("easting"));
             cellNumber++;
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(I18N.getCaplanColumnTyp("northing"));
+            sheetWriter.setCellValue(cell, I18N.getCaplanColumnTyp("northing"));
             cellNumber++;
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(I18N.getCaplanColumnTyp("height"));
+            sheetWriter.setCellValue(cell, I18N.getCaplanColumnTyp("height"));
             cellNumber++;
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(I18N.getCaplanColumnTyp("object"));
+            sheetWriter.setCellValue(cell, I18N.getCaplanColumnTyp("object"));
             cellNumber++;
 
             cell = row.createCell(cellNumber);
-            cell.setCellValue(I18N.getCaplanColumnTyp("attribute"));
+            sheetWriter.setCellValue(cell, I18N.getCaplanColumnTyp("attribute"));
         }
         */
 
@@ -116,8 +104,7 @@ public class Zeiss2Excel {
 
             // skip empty lines directly after reading
             if (!line.trim().isEmpty()) {
-                row = sheet.createRow(rowNumber);
-                rowNumber++;
+                row = sheetWriter.createRow();
 
                 cellNumber = 0;
 
@@ -125,23 +112,16 @@ public class Zeiss2Excel {
 
                 for (ZeissBlock zeissBlock : decoder.getZeissBlocks()) {
                     cell = row.createCell(cellNumber);
-                    cell.setCellValue(zeissBlock.getValue());
+                    sheetWriter.setCellValue(cell, zeissBlock.getValue());
                     cellNumber++;
-                    countColumns++;
-                }
-
-                if (cellNumber > countColumns) {
-                    countColumns = cellNumber;
                 }
             }
         }
 
         // adjust column width to fit the content
-        for (int i = 0; i < countColumns; i++) {
-            sheet.autoSizeColumn((short) i);
-        }
+        sheetWriter.adjustColumnWidths();
 
-        return rowNumber > 1;
+        return sheetWriter.getRowCount() > 1;
     }
 
     /**
@@ -17,14 +17,13 @@
  */
 package de.ryanthara.ja.rycon.converter.gsi;
 
-import de.ryanthara.ja.rycon.Main;
-import de.ryanthara.ja.rycon.data.PreferenceKeys;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.GSIBlock;
-import de.ryanthara.ja.rycon.tools.SortHelper;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Instances of this class implements several basic operations on Leica GSI files.
@@ -36,13 +35,18 @@ import java.util.TreeSet;
  * The GSI interface is composed in a sequence of blocks, ending with a
  * terminator (CR or CR/LF). The later introduced enhanced GSI16 format
  * starts every line with a <code>*</code> sign.
+ * <p>
+ * The encoded blocks are held in a columnar {@link GSIDataSet}.
  *
  * @author sebastian
- * @version 2
+ * @version 11
  * @since 12
  */
 public class BaseToolsGSI {
 
+    private static final int PARALLEL_ENCODING_THRESHOLD = 10000;
+
+    private GSIDataSet dataSet;
     private ArrayList<ArrayList<GSIBlock>> encodedBlocks;
     private ArrayList<String> readStringLines;
     private TreeSet<Integer> foundAllWordIndices;
@@ -54,8 +58,28 @@ public class BaseToolsGSI {
      */
     public BaseToolsGSI(ArrayList<String> readStringLines) {
         this.readStringLines = readStringLines;
-        this.foundAllWordIndices = new TreeSet<>();
-        this.encodedBlocks = blockEncoder(readStringLines);
+
+        // lines of a fan-out conversion are encoded only once for all target formats
+        if (readStringLines instanceof SharedGSILines) {
+            this.dataSet = ((SharedGSILines) readStringLines).getDataSet();
+        } else {
+            this.dataSet = blockEncoder(readStringLines);
+        }
+    }
+
+    /**
+     * Encodes one read GSI string line into GSIBlocks, which are sorted by word index (WI).
+     * <p>
+     * This method is used for processing big files line by line without encoding the whole file.
+     *
+     * @param line Leica GSI formatted line
+     *
+     * @return encoded GSIBlocks of the line
+     *
+     * @since 25
+     */
+    public static ArrayList<GSIBlock> encodeLine(String line) {
+        return GSIBlockEncoder.encodeLine(line);
     }
 
     /**
@@ -97,11 +121,7 @@ public class BaseToolsGSI {
      * @return true if line is a target line
      */
     public static boolean isTargetLine(String line) {
-        if (line.startsWith("*")) {
-            return (line.split("0000000000000000").length - 1) == 3;
-        } else {
-            return (line.split("00000000").length - 1) == 3;
-        }
+        return countZeroFields(line, line.startsWith("*") ? 16 : 8) == 3;
     }
 
     /**
@@ -110,12 +130,16 @@ public class BaseToolsGSI {
      *
      * @param isGSI16          distinguish between GSI8 or GSI16 output format
      * @param encodedGSIBlocks ArrayList<ArrayList<GSIBlock>> of encoded GSIBlocks
+     * @param context          processing context with the line ending setting
      *
      * @return transformed string line with GSI content
      */
-    static ArrayList<String> lineTransformation(boolean isGSI16, ArrayList<ArrayList<GSIBlock>> encodedGSIBlocks) {
+    static ArrayList<String> lineTransformation(boolean isGSI16, ArrayList<ArrayList<GSIBlock>> encodedGSIBlocks,
+                                                ProcessingContext context) {
         ArrayList<String> result = new ArrayList<>();
 
+        final boolean concatBlankAtLineEnding = context.getSettings().isLineEndingWithBlank();
+
         for (ArrayList<GSIBlock> blocksInLines : encodedGSIBlocks) {
             String newLine = "";
 
@@ -135,7 +159,7 @@ public class BaseToolsGSI {
                 counter = counter + 1;
             }
 
-            newLine = prepareLineEnding(newLine);
+            newLine = prepareLineEnding(newLine, concatBlankAtLineEnding);
 
             result.add(newLine);
         }
@@ -144,18 +168,19 @@ public class BaseToolsGSI {
     }
 
     /**
-     * Prepares the line ending with an additional white space character.
+     * Prepares the line ending with an additional white space character, if it is wanted.
      * <p>
      * For some reasons (e.g. self written Autocad VBA tools) it is necessary to add an additional white space
      * at the end of a line. This is done with this helper.
      *
-     * @param stringToPrepare string to prepare with line ending
+     * @param stringToPrepare         string to prepare with line ending
+     * @param concatBlankAtLineEnding true if a white space is added at the line ending
      *
      * @return prepared string
+     *
+     * @since 25
      */
-    public static String prepareLineEnding(String stringToPrepare) {
-        boolean concatBlankAtLineEnding = Boolean.parseBoolean(Main.pref.getUserPreference(PreferenceKeys.GSI_SETTING_LINE_ENDING_WITH_BLANK));
-
+    public static String prepareLineEnding(String stringToPrepare, boolean concatBlankAtLineEnding) {
         if (concatBlankAtLineEnding) {
             if (!stringToPrepare.endsWith(" ")) {
                 stringToPrepare = stringToPrepare.concat(" ");
@@ -165,18 +190,45 @@ public class BaseToolsGSI {
         return stringToPrepare;
     }
 
+    /**
+     * Prepares the line ending with an additional white space character, if it is wanted by the settings
+     * of the processing context.
+     *
+     * @param stringToPrepare string to prepare with line ending
+     * @param context         processing context with the line ending setting
+     *
+     * @return prepared string
+     *
+     * @since 25
+     */
+    public static String prepareLineEnding(String stringToPrepare, ProcessingContext context) {
+        return prepareLineEnding(stringToPrepare, context.getSettings().isLineEndingWithBlank());
+    }
+
+    /**
+     * Returns the encoded blocks of the read lines as columnar {@link GSIDataSet}.
+     *
+     * @return encoded GSIBlocks as data set
+     */
+    public GSIDataSet getDataSet() {
+        return dataSet;
+    }
+
     /**
      * Encodes a read string line that contains gsi data into an encapsulated <code>ArrayList</code> of
      * <code>GSIBlock</code>s.
+     * <p>
+     * The nested lists are created from the {@link GSIDataSet} on the first call. Column based converters
+     * should use {@link #getDataSet()} instead.
      *
      * @return encoded GSIBlocks
      */
     public ArrayList<ArrayList<GSIBlock>> getEncodedLinesOfGSIBlocks() {
-        if (readStringLines != null && readStringLines.size() > 0) {
-            return encodedBlocks;
-        } else {
-            return new ArrayList<>();
+        if (encodedBlocks == null) {
+            encodedBlocks = dataSet.toEncodedLinesOfGSIBlocks();
         }
+
+        return encodedBlocks;
     }
 
     /**
@@ -186,50 +238,80 @@ public class BaseToolsGSI {
      * @return all found word indices as {@code TreeSet<Integer>}
      */
     public TreeSet<Integer> getFoundAllWordIndices() {
+        if (foundAllWordIndices == null) {
+            foundAllWordIndices = dataSet.getFoundAllWordIndices();
+        }
+
         return foundAllWordIndices;
     }
 
     /**
-     * Encodes a read GSI string line into an ArrayList of GSIBlocks.
+     * Encodes a read GSI string line into a columnar data set of GSIBlocks.
+     * <p>
+     * Big files are encoded in parallel chunks by the {@link GSIBlockEncoder}. Below the threshold of
+     * {@value #PARALLEL_ENCODING_THRESHOLD} lines the lines are encoded one after another, so small
+     * files don't pay the overhead.
      *
      * @param lines read string lines with GSI content
      *
-     * @return encoded ArrayList of GSIBlocks
+     * @return encoded GSIBlocks as data set
      */
-    private ArrayList<ArrayList<GSIBlock>> blockEncoder(ArrayList<String> lines) {
-        ArrayList<GSIBlock> blocks;
-        ArrayList<ArrayList<GSIBlock>> blocksInLines = new ArrayList<>();
+    static GSIDataSet blockEncoder(List<String> lines) {
+        if (lines.size() < PARALLEL_ENCODING_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            return GSIBlockEncoder.encodeLines(lines, 0, lines.size());
+        } else {
+            return GSIBlockEncoder.encodeParallel(lines);
+        }
+    }
 
-        for (String line : lines) {
-            blocks = new ArrayList<>();
+    /**
+     * Counts the fields of zeros in a line like {@code line.split(zeros).length - 1} without a regular expression.
+     * <p>
+     * The line is separated at every run of zeros with the field length (from left to right, not overlapping).
+     * Like {@link String#split(String)} empty parts at the end of the line are not counted.
+     *
+     * @param line        line to be checked
+     * @param fieldLength number of zeros of a field
+     *
+     * @return number of zero fields
+     */
+    private static int countZeroFields(String line, int fieldLength) {
+        final int length = line.length();
+
+        int matches = 0;
+        int emptyParts = 0;
+        int partStart = 0;
+        int zeros = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (line.charAt(i) != '0') {
+                zeros = 0;
+                continue;
+            }
 
-            int size = BaseToolsGSI.getBlockSize(line);
+            zeros = zeros + 1;
 
-            if (size == 24) {
-                line = line.substring(1, line.length());
-            }
+            if (zeros == fieldLength) {
+                int matchStart = i + 1 - fieldLength;
 
-            // split read line into separate Strings
-            List<String> lineSplit = new ArrayList<>((line.length() + size - 1) / size);
-            for (int i = 0; i < line.length(); i += size) {
-                lineSplit.add(line.substring(i, Math.min(line.length(), i + size)));
-            }
+                // consecutive empty parts in front of this match
+                emptyParts = matchStart == partStart ? emptyParts + 1 : 0;
 
-            // used instead of 'deprecated' StringTokenizer here
-            for (String blockAsString : lineSplit) {
-                GSIBlock block = new GSIBlock(blockAsString);
-                blocks.add(block);
-                foundAllWordIndices.add(block.getWordIndex());
+                matches = matches + 1;
+                partStart = i + 1;
+                zeros = 0;
             }
+        }
 
-            // sort every 'line' of GSI blocks by word index (WI)
-            SortHelper.sortByWordIndex(blocks);
-
-            // fill in the sorted 'line' of blocks into an array
-            blocksInLines.add(blocks);
+        if (matches == 0) {
+            return 0;
         }
 
-        return blocksInLines;
+        // remove the empty parts at the end like String.split()
+        int parts = matches + 1;
+        int trailingEmptyParts = partStart == length ? emptyParts + 1 : 0;
+
+        return parts - trailingEmptyParts - 1;
     }
 
 } // end of BaseToolsGSI
@@ -17,6 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.gsi;
 
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.GSIBlock;
 
 import java.util.ArrayList;
@@ -25,11 +26,12 @@ import java.util.ArrayList;
  * Instances of this class provides functions to convert coordinate files from Cadwork CAD program into Leica GSI files.
  *
  * @author sebastian
- * @version 2
+ * @version 3
  * @since 12
  */
 public class Cadwork2GSI {
 
+    private final ProcessingContext context;
     private ArrayList<String> readStringLines;
 
     /**
@@ -37,8 +39,10 @@ public class Cadwork2GSI {
      * text files from Cadwork CAD program (node.dat).
      *
      * @param readStringLines ArrayList<String> with read lines from node.dat file
+     * @param context         processing context with the settings and the warning sink
      */
-    public Cadwork2GSI(ArrayList<String> readStringLines) {
+    public Cadwork2GSI(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         this.readStringLines = readStringLines;
     }
 
@@ -97,7 +101,7 @@ public class Cadwork2GSI {
             }
         }
 
-        return BaseToolsGSI.lineTransformation(isGSI16, blocksInLines);
+        return BaseToolsGSI.lineTransformation(isGSI16, blocksInLines, context);
     }
 
 } // end of Cadwork2GSI
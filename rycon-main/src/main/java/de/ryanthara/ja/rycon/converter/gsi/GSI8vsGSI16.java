@@ -17,25 +17,30 @@
  */
 package de.ryanthara.ja.rycon.converter.gsi;
 
+import de.ryanthara.ja.rycon.data.ProcessingContext;
+
 import java.util.ArrayList;
 
 /**
  * Instances of this class provides functions to convert between Leica GSI8 and GSI16 vice versa.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @since 12
  */
 public class GSI8vsGSI16 {
 
+    private final ProcessingContext context;
     private ArrayList<String> readStringLines;
 
     /**
      * Constructs a new instance of this class with a parameter for the read line based GSI formatted files.
      *
      * @param readStringLines {@code ArrayList<String>} with lines as {@code String}
+     * @param context         processing context with the settings and the warning sink
      */
-    public GSI8vsGSI16(ArrayList<String> readStringLines) {
+    public GSI8vsGSI16(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         this.readStringLines = readStringLines;
     }
 
@@ -48,7 +53,7 @@ public class GSI8vsGSI16 {
      */
     public ArrayList<String> convertGSI8vsGSI16(boolean isGSI16) {
         BaseToolsGSI baseToolsGSI = new BaseToolsGSI(readStringLines);
-        return BaseToolsGSI.lineTransformation(isGSI16, baseToolsGSI.getEncodedLinesOfGSIBlocks());
+        return BaseToolsGSI.lineTransformation(isGSI16, baseToolsGSI.getEncodedLinesOfGSIBlocks(), context);
     }
 
 } // end of GSI8vsGSI16
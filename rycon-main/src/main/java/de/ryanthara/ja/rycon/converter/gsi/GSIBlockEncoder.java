@@ -0,0 +1,291 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.gsi
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.gsi;
+
+import de.ryanthara.ja.rycon.elements.GSIBlock;
+import de.ryanthara.ja.rycon.tools.SortHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Instances of this class encodes a chunk of read Leica GSI lines into a {@link GSIDataSet}.
+ * <p>
+ * GSI blocks have a fixed width of 16 (GSI8) or 24 (GSI16) characters. Therefore the word index, the information,
+ * the sign and the data of a block are read directly out of the line by their offsets and are stored in the
+ * columns of the data set without creating substrings or {@link GSIBlock} objects. Only blocks with an unusual
+ * or invalid content are parsed by {@link GSIBlock#GSIBlock(String)}, so they are handled like before.
+ * <p>
+ * GSI lines are independent from each other. Therefore big files are split into chunks of lines, which
+ * are encoded in parallel by the common fork/join pool. The encoded chunks are merged in the original
+ * line order afterwards.
+ *
+ * @author sebastian
+ * @version 4
+ * @since 25
+ */
+class GSIBlockEncoder extends RecursiveTask<GSIDataSet> {
+
+    private static final long serialVersionUID = 1L;
+    private static final int MIN_CHUNK_SIZE = 2048;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final List<String> lines;
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructs a new instance of this class for a chunk of lines.
+     *
+     * @param lines read string lines with GSI content
+     * @param from  index of the first line of the chunk (inclusive)
+     * @param to    index of the last line of the chunk (exclusive)
+     */
+    GSIBlockEncoder(List<String> lines, int from, int to) {
+        this.lines = lines;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Encodes the lines in chunks with the common fork/join pool and merges the encoded chunks
+     * in the original line order.
+     *
+     * @param lines read string lines with GSI content
+     *
+     * @return encoded GSIBlocks as data set
+     */
+    static GSIDataSet encodeParallel(List<String> lines) {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final int chunkSize = Math.max(MIN_CHUNK_SIZE, lines.size() / (pool.getParallelism() * CHUNKS_PER_THREAD) + 1);
+
+        List<GSIBlockEncoder> chunks = new ArrayList<>();
+
+        for (int from = 0; from < lines.size(); from += chunkSize) {
+            GSIBlockEncoder chunk = new GSIBlockEncoder(lines, from, Math.min(lines.size(), from + chunkSize));
+            pool.execute(chunk);
+            chunks.add(chunk);
+        }
+
+        // merge in line order while the following chunks are still encoded
+        GSIDataSet dataSet = new GSIDataSet();
+
+        for (GSIBlockEncoder chunk : chunks) {
+            dataSet.addDataSet(chunk.join());
+        }
+
+        return dataSet;
+    }
+
+    /**
+     * Encodes the lines from index 'from' to index 'to' one after another.
+     *
+     * @param lines read string lines with GSI content
+     * @param from  index of the first line (inclusive)
+     * @param to    index of the last line (exclusive)
+     *
+     * @return encoded GSIBlocks as data set
+     */
+    static GSIDataSet encodeLines(List<String> lines, int from, int to) {
+        GSIDataSet blocksInLines = new GSIDataSet();
+        LineBlocks lineBlocks = new LineBlocks();
+
+        for (String line : lines.subList(from, to)) {
+            // fill in the sorted 'line' of blocks into the data set
+            lineBlocks.encode(line, blocksInLines);
+        }
+
+        return blocksInLines;
+    }
+
+    /**
+     * Encodes one line into GSIBlocks, which are sorted by word index (WI).
+     *
+     * @param line read string line with GSI content
+     *
+     * @return encoded GSIBlocks of the line
+     */
+    static ArrayList<GSIBlock> encodeLine(String line) {
+        int size = BaseToolsGSI.getBlockSize(line);
+
+        if (size == 24) {
+            line = line.substring(1, line.length());
+        }
+
+        // split read line into separate Strings
+        List<String> lineSplit = new ArrayList<>((line.length() + size - 1) / size);
+        for (int i = 0; i < line.length(); i += size) {
+            lineSplit.add(line.substring(i, Math.min(line.length(), i + size)));
+        }
+
+        ArrayList<GSIBlock> blocks = new ArrayList<>(lineSplit.size());
+
+        // used instead of 'deprecated' StringTokenizer here
+        for (String blockAsString : lineSplit) {
+            GSIBlock block = new GSIBlock(blockAsString);
+            blocks.add(block);
+        }
+
+        // sort every 'line' of GSI blocks by word index (WI)
+        SortHelper.sortByWordIndex(blocks);
+
+        return blocks;
+    }
+
+    /**
+     * Encodes the chunk of lines.
+     *
+     * @return encoded chunk as data set
+     */
+    @Override
+    protected GSIDataSet compute() {
+        return encodeLines(lines, from, to);
+    }
+
+    /*
+     * Offsets of the blocks of one line, which are reused for all lines of a chunk.
+     */
+    private static class LineBlocks {
+
+        private final ArrayList<Integer> order = new ArrayList<>();
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private int[] wordIndices = new int[16];
+        private GSIBlock[] parsedBlocks = new GSIBlock[16];
+        private int count;
+
+        /*
+         * Splits the line into blocks, sorts them by word index (WI) like SortHelper.sortByWordIndex()
+         * and adds them as a new line to the data set.
+         */
+        void encode(String line, GSIDataSet dataSet) {
+            final int size = BaseToolsGSI.getBlockSize(line);
+
+            boolean isSorted = true;
+            count = 0;
+
+            for (int i = size == 24 ? 1 : 0; i < line.length(); i += size) {
+                split(line, i, Math.min(line.length(), i + size));
+
+                if (count > 1 && wordIndices[count - 1] <= wordIndices[count - 2]) {
+                    isSorted = false;
+                }
+            }
+
+            if (isSorted) {
+                for (int i = 0; i < count; i++) {
+                    add(line, i, dataSet);
+                }
+            } else {
+                order.clear();
+
+                for (int i = 0; i < count; i++) {
+                    order.add(i);
+                }
+
+                // same comparator as SortHelper.sortByWordIndex() to get the identical order
+                order.sort((o1, o2) -> wordIndices[o1] > wordIndices[o2] ? 1 : -1);
+
+                for (int i : order) {
+                    add(line, i, dataSet);
+                }
+            }
+
+            for (int i = 0; i < count; i++) {
+                parsedBlocks[i] = null;
+            }
+
+            dataSet.endLine();
+        }
+
+        private void add(String line, int i, GSIDataSet dataSet) {
+            if (parsedBlocks[i] != null) {
+                dataSet.addBlock(parsedBlocks[i]);
+            } else {
+                final int start = starts[i];
+                int packedInformation = 0;
+
+                for (int j = start + 2; j < start + 6; j++) {
+                    packedInformation = (packedInformation << 8) | line.charAt(j);
+                }
+
+                dataSet.addBlock(wordIndices[i], packedInformation, line.charAt(start + 6) == '-',
+                        ends[i] - start == 23, line, start + 7, ends[i]);
+            }
+        }
+
+        private boolean isUsualBlock(String line, int start, int end) {
+            if (end - start < 7 || !isDigit(line.charAt(start)) || !isDigit(line.charAt(start + 1))) {
+                return false;
+            }
+
+            for (int j = start + 2; j < start + 6; j++) {
+                if (line.charAt(j) > 0xFF) {
+                    return false;
+                }
+            }
+
+            char sign = line.charAt(start + 6);
+
+            return sign == '+' || sign == '-';
+        }
+
+        private boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        private void split(String line, int blockStart, int blockEnd) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+                wordIndices = Arrays.copyOf(wordIndices, count * 2);
+                parsedBlocks = Arrays.copyOf(parsedBlocks, count * 2);
+            }
+
+            int start = blockStart;
+            int end = blockEnd;
+
+            // trim the block like String.trim() in GSIBlock
+            while (start < end && line.charAt(start) <= ' ') {
+                start = start + 1;
+            }
+            while (end > start && line.charAt(end - 1) <= ' ') {
+                end = end - 1;
+            }
+
+            if (isUsualBlock(line, start, end)) {
+                starts[count] = start;
+                ends[count] = end;
+                wordIndices[count] = (line.charAt(start) - '0') * 10 + (line.charAt(start + 1) - '0');
+            } else {
+                // unusual or invalid blocks are handled (or refused) like before
+                GSIBlock block = new GSIBlock(line.substring(blockStart, blockEnd));
+
+                parsedBlocks[count] = block;
+                wordIndices[count] = block.getWordIndex();
+            }
+
+            count = count + 1;
+        }
+
+    }
+
+} // end of GSIBlockEncoder
@@ -0,0 +1,676 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.gsi
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.gsi;
+
+import de.ryanthara.ja.rycon.elements.GSIBlock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Instances of this class holds the encoded blocks of a Leica GSI file in a columnar (struct of arrays) form.
+ * <p>
+ * Instead of a nested {@code ArrayList<ArrayList<GSIBlock>>} all blocks of all lines are stored one after
+ * another in primitive arrays. The blocks of a line are sorted by word index (WI) and are addressed by
+ * the line offsets. For every word index a bitmap shows in which lines it is present.
+ * <p>
+ * Numeric data is stored as signed long value together with its number of digits. Alphanumeric data
+ * (e.g. point numbers or codes) is stored in one shared character pool and is addressed by the data offsets.
+ * Only blocks with an unusual information or sign, which can't be described by the columns, are kept as
+ * {@link GSIBlock} objects. All other blocks are built on demand by {@link #getBlock(int)}.
+ * <p>
+ * This makes it possible to pull whole columns (e.g. all 81, 82 and 83 coordinates) out of the data set
+ * and to look up the block of a line and word index without walking through the object graph.
+ *
+ * @author sebastian
+ * @version 4
+ * @since 25
+ */
+public class GSIDataSet {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_NUMERIC_DATA_LENGTH = 18;
+    private static final int NUMBER_OF_WORD_INDICES = 100;
+
+    private final BitSet[] presence;
+    private final BitSet numericBlocks;
+    private final BitSet negativeBlocks;
+    private final BitSet gsi16Blocks;
+    private final Map<Integer, GSIBlock> unusualBlocks;
+    private int[] lineOffsets;
+    private byte[] wordIndices;
+    private long[] values;
+    private byte[] numericLengths;
+    private int[] information;
+    private int[] dataOffsets;
+    private char[] dataPool;
+    private int countLines;
+    private int countBlocks;
+    private int countDataChars;
+
+    /**
+     * Constructs a new and empty instance of this class.
+     * <p>
+     * The data set is filled line by line by {@link BaseToolsGSI}.
+     */
+    GSIDataSet() {
+        presence = new BitSet[NUMBER_OF_WORD_INDICES];
+        numericBlocks = new BitSet();
+        negativeBlocks = new BitSet();
+        gsi16Blocks = new BitSet();
+        unusualBlocks = new HashMap<>();
+        lineOffsets = new int[INITIAL_CAPACITY + 1];
+        wordIndices = new byte[INITIAL_CAPACITY];
+        values = new long[INITIAL_CAPACITY];
+        numericLengths = new byte[INITIAL_CAPACITY];
+        information = new int[INITIAL_CAPACITY];
+        dataOffsets = new int[INITIAL_CAPACITY + 1];
+        dataPool = new char[INITIAL_CAPACITY * 8];
+        countLines = 0;
+        countBlocks = 0;
+        countDataChars = 0;
+    }
+
+    /**
+     * Appends the block with the given block index in csv format without separation sign to the given
+     * {@link StringBuilder}.
+     *
+     * @param blockIndex    index of the block in the data set
+     * @param stringBuilder string builder to append to
+     *
+     * @see GSIBlock#appendPrintFormatCSV(StringBuilder)
+     */
+    public void appendPrintFormatCSV(int blockIndex, StringBuilder stringBuilder) {
+        getBlock(blockIndex).appendPrintFormatCSV(stringBuilder);
+    }
+
+    /**
+     * Appends the block with the given block index in a printable format filled up with invisible spaces
+     * to the given {@link StringBuilder}.
+     *
+     * @param blockIndex    index of the block in the data set
+     * @param stringBuilder string builder to append to
+     *
+     * @see GSIBlock#appendPrintFormatTXT(StringBuilder)
+     */
+    public void appendPrintFormatTXT(int blockIndex, StringBuilder stringBuilder) {
+        getBlock(blockIndex).appendPrintFormatTXT(stringBuilder);
+    }
+
+    /**
+     * Returns true if the word index (WI) is present in at least one line of the data set.
+     *
+     * @param wordIndex word index to check
+     *
+     * @return true if word index is present
+     */
+    public boolean containsWordIndex(int wordIndex) {
+        return isValidWordIndex(wordIndex) && presence[wordIndex] != null;
+    }
+
+    /**
+     * Returns the {@link GSIBlock} with the given block index.
+     * <p>
+     * The block is built out of the columns on every call. Converters, which only need the values or the
+     * print formats, should use the column based methods instead.
+     *
+     * @param blockIndex index of the block in the data set
+     *
+     * @return GSI block
+     */
+    public GSIBlock getBlock(int blockIndex) {
+        GSIBlock block = unusualBlocks.isEmpty() ? null : unusualBlocks.get(blockIndex);
+
+        if (block != null) {
+            return block;
+        }
+
+        final boolean isGSI16 = gsi16Blocks.get(blockIndex);
+        final boolean isNegative = negativeBlocks.get(blockIndex);
+
+        if (numericBlocks.get(blockIndex)) {
+            long value = isNegative ? -values[blockIndex] : values[blockIndex];
+
+            return new GSIBlock(isGSI16, wordIndices[blockIndex], information[blockIndex], isNegative, value,
+                    numericLengths[blockIndex]);
+        } else {
+            return new GSIBlock(isGSI16, wordIndices[blockIndex], information[blockIndex], isNegative, dataPool,
+                    dataOffsets[blockIndex], dataOffsets[blockIndex + 1] - dataOffsets[blockIndex]);
+        }
+    }
+
+    /**
+     * Returns the {@link GSIBlock} of a line with the given word index (WI).
+     * <p>
+     * The block is built out of the columns on every call.
+     *
+     * @param line      line number (0 based)
+     * @param wordIndex word index to look for
+     *
+     * @return GSI block or null if the line doesn't contain the word index
+     */
+    public GSIBlock getBlock(int line, int wordIndex) {
+        int blockIndex = getBlockIndex(line, wordIndex);
+
+        return blockIndex < 0 ? null : getBlock(blockIndex);
+    }
+
+    /**
+     * Returns the number of blocks in all lines.
+     *
+     * @return number of blocks
+     */
+    public int getBlockCount() {
+        return countBlocks;
+    }
+
+    /**
+     * Returns the block index of a line with the given word index (WI).
+     * <p>
+     * The presence bitmap is checked first, so missing word indices are found without scanning the line.
+     *
+     * @param line      line number (0 based)
+     * @param wordIndex word index to look for
+     *
+     * @return block index or -1 if the line doesn't contain the word index
+     */
+    public int getBlockIndex(int line, int wordIndex) {
+        if (!hasWordIndex(line, wordIndex)) {
+            return -1;
+        }
+
+        for (int i = lineOffsets[line]; i < lineOffsets[line + 1]; i++) {
+            if (wordIndices[i] == wordIndex) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the signed values of a word index (WI) column with one value per line.
+     * <p>
+     * Lines without the word index or with alphanumeric data have the value 0. Use
+     * {@link #getPresence(int)} and {@link #isNumeric(int)} to distinguish them.
+     *
+     * @param wordIndex word index of the column (e.g. 81 for the easting)
+     *
+     * @return values of the column
+     */
+    public long[] getColumn(int wordIndex) {
+        long[] column = new long[countLines];
+
+        if (containsWordIndex(wordIndex)) {
+            BitSet lines = presence[wordIndex];
+
+            for (int line = lines.nextSetBit(0); line >= 0; line = lines.nextSetBit(line + 1)) {
+                int blockIndex = getBlockIndex(line, wordIndex);
+
+                if (blockIndex >= 0) {
+                    column[line] = values[blockIndex];
+                }
+            }
+        }
+
+        return column;
+    }
+
+    /**
+     * Returns the data (pos 8-15 or pos 8-23) of a block as string with the leading zeros.
+     *
+     * @param blockIndex index of the block in the data set
+     *
+     * @return data of the block
+     *
+     * @see GSIBlock#getDataGSI()
+     */
+    public String getData(int blockIndex) {
+        GSIBlock block = unusualBlocks.isEmpty() ? null : unusualBlocks.get(blockIndex);
+
+        if (block != null) {
+            return block.getDataGSI();
+        } else if (numericBlocks.get(blockIndex)) {
+            char[] digits = new char[numericLengths[blockIndex]];
+            long value = Math.abs(values[blockIndex]);
+
+            for (int i = digits.length - 1; i >= 0; i--) {
+                digits[i] = (char) ('0' + value % 10);
+                value = value / 10;
+            }
+
+            return new String(digits);
+        } else {
+            return new String(dataPool, dataOffsets[blockIndex], dataOffsets[blockIndex + 1] - dataOffsets[blockIndex]);
+        }
+    }
+
+    /**
+     * Returns all found word indices (WI) of the data set as one {@code TreeSet<Integer>} without duplicates.
+     *
+     * @return all found word indices as {@code TreeSet<Integer>}
+     */
+    public TreeSet<Integer> getFoundAllWordIndices() {
+        TreeSet<Integer> result = new TreeSet<>();
+
+        for (int i = 0; i < NUMBER_OF_WORD_INDICES; i++) {
+            if (presence[i] != null) {
+                result.add(i);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the information related to the data (pos 3-6) of a block packed into an integer value
+     * with one character per byte.
+     *
+     * @param blockIndex index of the block in the data set
+     *
+     * @return packed information
+     *
+     * @see GSIBlock#getPackedInformation()
+     */
+    public int getInformation(int blockIndex) {
+        return information[blockIndex];
+    }
+
+    /**
+     * Returns one character of the information related to the data (pos 3-6) of a block.
+     *
+     * @param blockIndex index of the block in the data set
+     * @param position   position inside the information (0-3)
+     *
+     * @return information character
+     */
+    public char getInformationChar(int blockIndex, int position) {
+        return (char) ((information[blockIndex] >>> (24 - 8 * position)) & 0xFF);
+    }
+
+    /**
+     * Returns the number of lines of the data set.
+     *
+     * @return number of lines
+     */
+    public int getLineCount() {
+        return countLines;
+    }
+
+    /**
+     * Returns the index of the first block behind the given line.
+     *
+     * @param line line number (0 based)
+     *
+     * @return end index (exclusive)
+     */
+    public int getLineEnd(int line) {
+        return lineOffsets[line + 1];
+    }
+
+    /**
+     * Returns the index of the first block of the given line.
+     *
+     * @param line line number (0 based)
+     *
+     * @return start index (inclusive)
+     */
+    public int getLineStart(int line) {
+        return lineOffsets[line];
+    }
+
+    /**
+     * Returns a copy of the presence bitmap of a word index (WI). Every set bit is a line
+     * which contains the word index.
+     *
+     * @param wordIndex word index to look for
+     *
+     * @return presence bitmap
+     */
+    public BitSet getPresence(int wordIndex) {
+        return containsWordIndex(wordIndex) ? (BitSet) presence[wordIndex].clone() : new BitSet();
+    }
+
+    /**
+     * Returns the signed numeric value of a block. The decimal places are defined by the unit
+     * information of the block.
+     *
+     * @param blockIndex index of the block in the data set
+     *
+     * @return signed value or 0 for alphanumeric data
+     */
+    public long getValue(int blockIndex) {
+        return values[blockIndex];
+    }
+
+    /**
+     * Returns the word index (WI) of a block.
+     *
+     * @param blockIndex index of the block in the data set
+     *
+     * @return word index
+     */
+    public int getWordIndex(int blockIndex) {
+        return wordIndices[blockIndex];
+    }
+
+    /**
+     * Returns true if the line contains a block with the given word index (WI).
+     *
+     * @param line      line number (0 based)
+     * @param wordIndex word index to look for
+     *
+     * @return true if the line contains the word index
+     */
+    public boolean hasWordIndex(int line, int wordIndex) {
+        return containsWordIndex(wordIndex) && presence[wordIndex].get(line);
+    }
+
+    /**
+     * Returns true if the block was read in GSI16 format.
+     *
+     * @param blockIndex index of the block in the data set
+     *
+     * @return true if the block is in GSI16 format
+     */
+    public boolean isGSI16(int blockIndex) {
+        return gsi16Blocks.get(blockIndex);
+    }
+
+    /**
+     * Returns true if the sign (pos 7) of the block is '-'.
+     *
+     * @param blockIndex index of the block in the data set
+     *
+     * @return true for negative values
+     */
+    public boolean isNegative(int blockIndex) {
+        return negativeBlocks.get(blockIndex);
+    }
+
+    /**
+     * Returns true if the data of the block contains only digits.
+     *
+     * @param blockIndex index of the block in the data set
+     *
+     * @return true if the data is numeric
+     */
+    public boolean isNumeric(int blockIndex) {
+        return numericBlocks.get(blockIndex);
+    }
+
+    /**
+     * Returns the block with the given block index in csv format without separation sign.
+     *
+     * @param blockIndex index of the block in the data set
+     *
+     * @return formatted {@code String} for CSV output
+     *
+     * @see GSIBlock#toPrintFormatCSV()
+     */
+    public String toPrintFormatCSV(int blockIndex) {
+        return getBlock(blockIndex).toPrintFormatCSV();
+    }
+
+    /**
+     * Returns the data set as encapsulated {@code ArrayList} of {@code GSIBlock}s for the converters
+     * which are working line by line.
+     * <p>
+     * The blocks are built out of the columns on every call.
+     *
+     * @return encoded GSIBlocks
+     */
+    public ArrayList<ArrayList<GSIBlock>> toEncodedLinesOfGSIBlocks() {
+        ArrayList<ArrayList<GSIBlock>> blocksInLines = new ArrayList<>(countLines);
+
+        for (int line = 0; line < countLines; line++) {
+            ArrayList<GSIBlock> blocksInLine = new ArrayList<>(lineOffsets[line + 1] - lineOffsets[line]);
+
+            for (int blockIndex = lineOffsets[line]; blockIndex < lineOffsets[line + 1]; blockIndex++) {
+                blocksInLine.add(getBlock(blockIndex));
+            }
+
+            blocksInLines.add(blocksInLine);
+        }
+
+        return blocksInLines;
+    }
+
+    /**
+     * Adds a block to the current line of the data set. The line is finished with {@link #endLine()}.
+     * <p>
+     * The values of the block are stored in the columns. A block with an unusual information or sign is kept
+     * additionally as object to get the identical output.
+     *
+     * @param block block to add
+     */
+    void addBlock(GSIBlock block) {
+        final boolean isNumeric = block.isNumericData();
+        final String dataGSI = isNumeric ? null : block.getDataGSI();
+
+        ensureCapacity(countBlocks + 1);
+
+        wordIndices[countBlocks] = (byte) block.getWordIndex();
+        information[countBlocks] = block.getPackedInformation();
+        gsi16Blocks.set(countBlocks, block.isGSI16());
+        negativeBlocks.set(countBlocks, block.isNegative());
+
+        if (isNumeric) {
+            numericBlocks.set(countBlocks);
+            numericLengths[countBlocks] = (byte) block.getDataLength();
+            values[countBlocks] = block.isNegative() ? -block.getDataAsLong() : block.getDataAsLong();
+        } else {
+            values[countBlocks] = 0;
+
+            if (dataGSI != null) {
+                ensurePoolCapacity(countDataChars + dataGSI.length());
+                dataGSI.getChars(0, dataGSI.length(), dataPool, countDataChars);
+                countDataChars = countDataChars + dataGSI.length();
+            }
+        }
+
+        if (!block.hasPackedInformation() || (!isNumeric && dataGSI == null)) {
+            unusualBlocks.put(countBlocks, block);
+        }
+
+        finishBlock(block.getWordIndex());
+    }
+
+    /**
+     * Adds a block to the current line of the data set, which is read directly out of a string line by
+     * the offsets of its data. The line is finished with {@link #endLine()}.
+     * <p>
+     * Data with up to 18 digits is stored as numeric value, all other data is copied into the character pool.
+     *
+     * @param wordIndex         word index (pos 1-2)
+     * @param packedInformation information related to data (pos 3-6) with one ISO-8859-1 character per byte
+     * @param isNegative        true if the sign (pos 7) is '-'
+     * @param isGSI16           true for a block in GSI16 format
+     * @param line              read string line
+     * @param dataStart         index of the first data character in the line (inclusive)
+     * @param dataEnd           index of the last data character in the line (exclusive)
+     */
+    void addBlock(int wordIndex, int packedInformation, boolean isNegative, boolean isGSI16, String line,
+                  int dataStart, int dataEnd) {
+        final int length = dataEnd - dataStart;
+
+        ensureCapacity(countBlocks + 1);
+
+        wordIndices[countBlocks] = (byte) wordIndex;
+        information[countBlocks] = packedInformation;
+        gsi16Blocks.set(countBlocks, isGSI16);
+        negativeBlocks.set(countBlocks, isNegative);
+
+        boolean isNumeric = length > 0 && length <= MAX_NUMERIC_DATA_LENGTH;
+        long value = 0;
+
+        for (int i = dataStart; isNumeric && i < dataEnd; i++) {
+            char c = line.charAt(i);
+
+            if (c < '0' || c > '9') {
+                isNumeric = false;
+            } else {
+                value = value * 10 + (c - '0');
+            }
+        }
+
+        if (isNumeric) {
+            numericBlocks.set(countBlocks);
+            numericLengths[countBlocks] = (byte) length;
+            values[countBlocks] = isNegative ? -value : value;
+        } else {
+            values[countBlocks] = 0;
+
+            ensurePoolCapacity(countDataChars + length);
+            line.getChars(dataStart, dataEnd, dataPool, countDataChars);
+            countDataChars = countDataChars + length;
+        }
+
+        finishBlock(wordIndex);
+    }
+
+    /**
+     * Appends all lines of another data set (e.g. an encoded chunk of lines) behind the lines of this data set.
+     * <p>
+     * The arrays and the character pool are copied in one go and the bitmaps are merged.
+     *
+     * @param dataSet data set to append
+     */
+    void addDataSet(GSIDataSet dataSet) {
+        final int lineShift = countLines;
+        final int blockShift = countBlocks;
+        final int charShift = countDataChars;
+
+        ensureCapacity(countBlocks + dataSet.countBlocks);
+        ensurePoolCapacity(countDataChars + dataSet.countDataChars);
+
+        System.arraycopy(dataSet.wordIndices, 0, wordIndices, blockShift, dataSet.countBlocks);
+        System.arraycopy(dataSet.values, 0, values, blockShift, dataSet.countBlocks);
+        System.arraycopy(dataSet.numericLengths, 0, numericLengths, blockShift, dataSet.countBlocks);
+        System.arraycopy(dataSet.information, 0, information, blockShift, dataSet.countBlocks);
+        System.arraycopy(dataSet.dataPool, 0, dataPool, charShift, dataSet.countDataChars);
+
+        for (int i = 1; i <= dataSet.countBlocks; i++) {
+            dataOffsets[blockShift + i] = charShift + dataSet.dataOffsets[i];
+        }
+
+        shiftBits(dataSet.numericBlocks, numericBlocks, blockShift);
+        shiftBits(dataSet.negativeBlocks, negativeBlocks, blockShift);
+        shiftBits(dataSet.gsi16Blocks, gsi16Blocks, blockShift);
+
+        for (Map.Entry<Integer, GSIBlock> entry : dataSet.unusualBlocks.entrySet()) {
+            unusualBlocks.put(blockShift + entry.getKey(), entry.getValue());
+        }
+
+        for (int wordIndex = 0; wordIndex < NUMBER_OF_WORD_INDICES; wordIndex++) {
+            BitSet lines = dataSet.presence[wordIndex];
+
+            if (lines != null) {
+                if (presence[wordIndex] == null) {
+                    presence[wordIndex] = new BitSet();
+                }
+
+                shiftBits(lines, presence[wordIndex], lineShift);
+            }
+        }
+
+        if (countLines + dataSet.countLines + 1 > lineOffsets.length) {
+            lineOffsets = Arrays.copyOf(lineOffsets, Math.max(countLines + dataSet.countLines + 1, lineOffsets.length * 2));
+        }
+
+        for (int line = 1; line <= dataSet.countLines; line++) {
+            lineOffsets[lineShift + line] = blockShift + dataSet.lineOffsets[line];
+        }
+
+        countLines = countLines + dataSet.countLines;
+        countBlocks = countBlocks + dataSet.countBlocks;
+        countDataChars = countDataChars + dataSet.countDataChars;
+    }
+
+    /**
+     * Adds a line of blocks, which is already sorted by word index (WI), to the data set.
+     *
+     * @param blocksInLine sorted blocks of the line
+     */
+    void addLine(List<GSIBlock> blocksInLine) {
+        for (GSIBlock block : blocksInLine) {
+            addBlock(block);
+        }
+
+        endLine();
+    }
+
+    /**
+     * Finishes the current line. The following blocks are added to the next line.
+     */
+    void endLine() {
+        if (countLines + 2 > lineOffsets.length) {
+            lineOffsets = Arrays.copyOf(lineOffsets, lineOffsets.length * 2);
+        }
+
+        countLines = countLines + 1;
+        lineOffsets[countLines] = countBlocks;
+    }
+
+    private static void shiftBits(BitSet source, BitSet target, int shift) {
+        for (int i = source.nextSetBit(0); i >= 0; i = source.nextSetBit(i + 1)) {
+            target.set(shift + i);
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > wordIndices.length) {
+            int newCapacity = Math.max(minCapacity, wordIndices.length * 2);
+
+            wordIndices = Arrays.copyOf(wordIndices, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+            numericLengths = Arrays.copyOf(numericLengths, newCapacity);
+            information = Arrays.copyOf(information, newCapacity);
+            dataOffsets = Arrays.copyOf(dataOffsets, newCapacity + 1);
+        }
+    }
+
+    private void ensurePoolCapacity(int minCapacity) {
+        if (minCapacity > dataPool.length) {
+            dataPool = Arrays.copyOf(dataPool, Math.max(minCapacity, dataPool.length * 2));
+        }
+    }
+
+    private void finishBlock(int wordIndex) {
+        if (isValidWordIndex(wordIndex)) {
+            if (presence[wordIndex] == null) {
+                presence[wordIndex] = new BitSet();
+            }
+
+            presence[wordIndex].set(countLines);
+        }
+
+        countBlocks = countBlocks + 1;
+        dataOffsets[countBlocks] = countDataChars;
+    }
+
+    private boolean isValidWordIndex(int wordIndex) {
+        return wordIndex >= 0 && wordIndex < NUMBER_OF_WORD_INDICES;
+    }
+
+} // end of GSIDataSet
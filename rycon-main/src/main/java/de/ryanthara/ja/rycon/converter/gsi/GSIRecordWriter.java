@@ -0,0 +1,100 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.gsi
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.gsi;
+
+import de.ryanthara.ja.rycon.converter.model.PointRecord;
+import de.ryanthara.ja.rycon.converter.model.RecordWriter;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
+import de.ryanthara.ja.rycon.elements.GSIBlock;
+
+import java.util.ArrayList;
+
+/**
+ * Instances of this class encodes point records into Leica GSI8 or GSI16 formatted lines.
+ * <p>
+ * Every point record is encoded into one line with the word indices 11 (point number), 71 (code),
+ * 81 (easting), 82 (northing) and 83 (height) of the existing values.
+ *
+ * @author sebastian
+ * @version 2
+ * @since 25
+ */
+public class GSIRecordWriter implements RecordWriter {
+
+    private final ProcessingContext context;
+    private final boolean isGSI16;
+    private final ArrayList<ArrayList<GSIBlock>> blocksInLines = new ArrayList<>();
+    private int lineCounter = 1;
+
+    /**
+     * Constructs a new instance of this class with the GSI format to be written.
+     *
+     * @param isGSI16 decision which GSI format is used
+     * @param context processing context with the settings and the warning sink
+     */
+    public GSIRecordWriter(boolean isGSI16, ProcessingContext context) {
+        this.context = context;
+        this.isGSI16 = isGSI16;
+    }
+
+    /**
+     * Returns the GSI formatted lines of all handled point records.
+     *
+     * @return converted {@code ArrayList<String>} with lines of GSI format
+     */
+    @Override
+    public ArrayList<String> getResult() {
+        return BaseToolsGSI.lineTransformation(isGSI16, blocksInLines, context);
+    }
+
+    /**
+     * Encodes one point record into a line of GSI blocks.
+     *
+     * @param record point record
+     *
+     * @return true
+     */
+    @Override
+    public boolean handleRecord(PointRecord record) {
+        ArrayList<GSIBlock> blocks = new ArrayList<>();
+
+        blocks.add(new GSIBlock(isGSI16, 11, lineCounter, record.getNumber()));
+
+        if (record.getCode() != null) {
+            blocks.add(new GSIBlock(isGSI16, 71, record.getCode()));
+        }
+
+        if (record.getEasting() != null) {
+            blocks.add(new GSIBlock(isGSI16, 81, record.getEasting()));
+        }
+
+        if (record.getNorthing() != null) {
+            blocks.add(new GSIBlock(isGSI16, 82, record.getNorthing()));
+        }
+
+        if (record.getHeight() != null) {
+            blocks.add(new GSIBlock(isGSI16, 83, record.getHeight()));
+        }
+
+        lineCounter = lineCounter + 1;
+        blocksInLines.add(blocks);
+
+        return true;
+    }
+
+} // end of GSIRecordWriter
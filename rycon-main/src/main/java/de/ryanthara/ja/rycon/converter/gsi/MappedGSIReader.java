@@ -0,0 +1,232 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.gsi
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.gsi;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Instances of this class implements a reader for Leica GSI8 and GSI16 files, which reads the lines out of
+ * the memory mapped file.
+ * <p>
+ * The file is mapped into memory with {@link FileChannel#map} region by region, so files bigger than 2 GB
+ * can be read. The lines are found by their offsets in the mapped bytes and are decoded in parallel without
+ * a {@code Reader} in between. ASCII lines, which are the usual content of GSI files, are copied directly
+ * into their string.
+ * <p>
+ * The read lines are returned as {@link SharedGSILines}. Their GSI blocks are encoded only once by the
+ * {@link GSIBlockEncoder}, which reads the fields of the fixed width blocks by their offsets, and the
+ * encoded data set is shared between the {@link BaseToolsGSI} of all converters.
+ * <p>
+ * Like the {@link de.ryanthara.ja.rycon.io.LineReader} the lines are separated by CR, LF or CR LF, decoded
+ * as UTF-8 with replacement of malformed input and empty lines are skipped.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+public class MappedGSIReader {
+
+    private static final long MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+    private final Path path;
+    private SharedGSILines lines = null;
+
+    /**
+     * Constructs a new instance of this class with a parameter for the Leica GSI8 or GSI16 file to be read.
+     *
+     * @param path file to read as path object
+     */
+    public MappedGSIReader(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Returns the read lines or null if the file could not be read.
+     *
+     * @return read lines
+     */
+    public SharedGSILines getLines() {
+        return lines;
+    }
+
+    /**
+     * Maps the file region by region into memory, reads the lines and returns the read success.
+     *
+     * @return success of file reading
+     */
+    public boolean readFile() {
+        lines = null;
+
+        // check path for a couple of things
+        if (path == null || !Files.exists(path) || !Files.isRegularFile(path) || !Files.isReadable(path)) {
+            return false;
+        }
+
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+             FileLock ignored = fileChannel.lock(0, Long.MAX_VALUE, true)) {
+            final long fileSize = fileChannel.size();
+            final ArrayList<String> readLines = new ArrayList<>();
+
+            long regionStart = 0;
+
+            while (regionStart < fileSize) {
+                final long regionSize = Math.min(MAX_REGION_SIZE, fileSize - regionStart);
+                final Region region = new Region(fileChannel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionSize));
+                final int regionEnd = region.split(regionStart + regionSize == fileSize);
+
+                if (regionEnd == 0) {
+                    throw new IOException("Line is bigger than the maximum mapping size in file " + path.getFileName());
+                }
+
+                region.decode(readLines);
+
+                // the next region starts with the line, which crosses the border of this region
+                regionStart = regionStart + regionEnd;
+            }
+
+            lines = new SharedGSILines(readLines);
+
+            return true;
+        } catch (IOException e) {
+            System.err.println("File " + path.getFileName() + " could not be mapped.");
+            e.printStackTrace();
+        }
+
+        return false;
+    }
+
+    /*
+     * Offsets of the not empty lines of a mapped region.
+     */
+    private static class Region {
+
+        private static final int CHUNK_SIZE = 64 * 1024;
+
+        private final ByteBuffer buffer;
+        private final BitSet nonASCIILines = new BitSet();
+        private int[] starts = new int[1024];
+        private int[] ends = new int[1024];
+        private int count = 0;
+
+        Region(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /*
+         * Decodes the lines in parallel and adds them to the read lines.
+         */
+        void decode(List<String> readLines) {
+            final String[] decodedLines = new String[count];
+
+            IntStream.range(0, count).parallel().forEach(i -> decodedLines[i] = decodeLine(i));
+
+            readLines.addAll(Arrays.asList(decodedLines));
+        }
+
+        /*
+         * Splits the region into lines and returns the offset behind the last complete line. The last line
+         * of the file doesn't need a line separator.
+         */
+        int split(boolean isLastRegion) {
+            final ByteBuffer view = buffer.duplicate();
+            final byte[] chunk = new byte[CHUNK_SIZE];
+            final int limit = buffer.limit();
+
+            int lineStart = 0;
+            int regionEnd = 0;
+            boolean isEmpty = true;
+            boolean isASCII = true;
+
+            // the bytes are scanned in chunks, because an array is much faster to scan than the buffer
+            for (int chunkStart = 0; chunkStart < limit; chunkStart += CHUNK_SIZE) {
+                final int chunkLength = Math.min(CHUNK_SIZE, limit - chunkStart);
+
+                view.get(chunk, 0, chunkLength);
+
+                for (int j = 0; j < chunkLength; j++) {
+                    final byte b = chunk[j];
+
+                    // CR LF results in an additional empty line, which is skipped anyway
+                    if (b == '\n' || b == '\r') {
+                        addLine(lineStart, chunkStart + j, isEmpty, isASCII);
+
+                        lineStart = chunkStart + j + 1;
+                        regionEnd = lineStart;
+                        isEmpty = true;
+                        isASCII = true;
+                    } else if (b < 0) {
+                        isEmpty = false;
+                        isASCII = false;
+                    } else if (b > ' ') {
+                        isEmpty = false;
+                    }
+                }
+            }
+
+            if (isLastRegion) {
+                addLine(lineStart, limit, isEmpty, isASCII);
+                regionEnd = limit;
+            }
+
+            return regionEnd;
+        }
+
+        private void addLine(int start, int end, boolean isEmpty, boolean isASCII) {
+            // like LineReader, which skips lines with white spaces only
+            if (isEmpty) {
+                return;
+            }
+
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+
+            starts[count] = start;
+            ends[count] = end;
+            nonASCIILines.set(count, !isASCII);
+
+            count = count + 1;
+        }
+
+        private String decodeLine(int line) {
+            final ByteBuffer view = buffer.duplicate();
+            final byte[] bytes = new byte[ends[line] - starts[line]];
+
+            view.position(starts[line]);
+            view.get(bytes);
+
+            // ASCII is a subset of ISO-8859-1, which is copied without decoding
+            return new String(bytes, nonASCIILines.get(line) ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+        }
+
+    }
+
+} // end of MappedGSIReader
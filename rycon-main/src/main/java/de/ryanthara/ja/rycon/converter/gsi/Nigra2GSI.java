@@ -17,6 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.gsi;
 
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.GSIBlock;
 
 import java.util.ArrayList;
@@ -26,19 +27,22 @@ import java.util.StringTokenizer;
  * Instances of this class provides functions to convert a Nigra height file into Leica GSI8 or GSI16 formatted files.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @since 12
  */
 public class Nigra2GSI {
 
+    private final ProcessingContext context;
     private ArrayList<String> readStringLines;
 
     /**
      * Constructs a new instance of this class with a parameter for the {@code ArrayList<String>}  from Nigra or NigraWin.
      *
      * @param readStringLines read lines
+     * @param context         processing context with the settings and the warning sink
      */
-    public Nigra2GSI(ArrayList<String> readStringLines) {
+    public Nigra2GSI(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         this.readStringLines = readStringLines;
     }
 
@@ -83,7 +87,7 @@ public class Nigra2GSI {
             }
         }
 
-        return BaseToolsGSI.lineTransformation(isGSI16, blocksInLines);
+        return BaseToolsGSI.lineTransformation(isGSI16, blocksInLines, context);
     }
 
 } // end of Nigra2GSI
@@ -0,0 +1,85 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.gsi
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.gsi;
+
+import java.util.ArrayList;
+
+/**
+ * Instances of this class holds the read lines of a Leica GSI file, which are converted into several
+ * target formats at once.
+ * <p>
+ * The lines are encoded into a {@link GSIDataSet} on the first request and the data set is shared between
+ * all copies of the lines. Therefore a {@link BaseToolsGSI} for the lines does not encode them again and the
+ * encoding is done only once per file regardless of the number of target formats.
+ * <p>
+ * The data set belongs to the lines at the time of the first request. Converters, which change the lines
+ * of their copy, have to use a plain {@code ArrayList} instead.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+public class SharedGSILines extends ArrayList<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Encoding encoding;
+
+    /**
+     * Constructs a new instance of this class with the read lines of a Leica GSI file.
+     *
+     * @param readStringLines read lines with GSI content
+     */
+    public SharedGSILines(ArrayList<String> readStringLines) {
+        super(readStringLines);
+
+        if (readStringLines instanceof SharedGSILines) {
+            this.encoding = ((SharedGSILines) readStringLines).encoding;
+        } else {
+            this.encoding = new Encoding();
+        }
+    }
+
+    /**
+     * Returns the encoded lines as {@link GSIDataSet}, which is shared between all copies of the lines.
+     * The lines are encoded on the first call.
+     *
+     * @return encoded GSIBlocks as data set
+     */
+    GSIDataSet getDataSet() {
+        return encoding.getDataSet(this);
+    }
+
+    /*
+     * Holder of the encoded data set, which is shared between the copies.
+     */
+    private static class Encoding {
+
+        private GSIDataSet dataSet = null;
+
+        synchronized GSIDataSet getDataSet(ArrayList<String> lines) {
+            if (dataSet == null) {
+                dataSet = BaseToolsGSI.blockEncoder(lines);
+            }
+
+            return dataSet;
+        }
+
+    }
+
+} // end of SharedGSILines
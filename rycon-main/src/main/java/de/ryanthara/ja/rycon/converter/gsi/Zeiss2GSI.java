@@ -18,6 +18,7 @@
 package de.ryanthara.ja.rycon.converter.gsi;
 
 import de.ryanthara.ja.rycon.converter.zeiss.ZeissDecoder;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.GSIBlock;
 import de.ryanthara.ja.rycon.elements.ZeissBlock;
 
@@ -28,7 +29,7 @@ import java.util.ArrayList;
  * and it's dialects (R4, R5, REC500 and M5) into Leica GSI8 or GSI16 formatted files.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @since 12
  */
 public class Zeiss2GSI {
@@ -37,6 +38,7 @@ public class Zeiss2GSI {
     private int ppmLine = -1, constantLine = -1;
     private String ppmAndAdditionConstant = "";
     private String format1 = "YYssmsms", format2 = "MMDDhhmm";
+    private final ProcessingContext context;
     private ArrayList<String> readStringLines;
 
     /**
@@ -46,8 +48,10 @@ public class Zeiss2GSI {
      * The differentiation of the content is done by the called method.
      *
      * @param readStringLines {@code ArrayList<String>} with lines as {@code String}
+     * @param context         processing context with the settings and the warning sink
      */
-    public Zeiss2GSI(ArrayList<String> readStringLines) {
+    public Zeiss2GSI(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         this.readStringLines = readStringLines;
     }
 
@@ -129,7 +133,7 @@ public class Zeiss2GSI {
             blocksInLines.add(blocks);
         }
 
-        return BaseToolsGSI.lineTransformation(isGSI16, blocksInLines);
+        return BaseToolsGSI.lineTransformation(isGSI16, blocksInLines, context);
     }
 
     private void fillValuesIntoBlocks(ZeissBlock zeissBlock, ArrayList<GSIBlock> blocks, boolean isGSI16, int readLineCounter) {
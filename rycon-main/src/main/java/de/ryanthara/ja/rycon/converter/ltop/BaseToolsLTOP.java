@@ -17,15 +17,16 @@
  */
 package de.ryanthara.ja.rycon.converter.ltop;
 
-import de.ryanthara.ja.rycon.Main;
-import de.ryanthara.ja.rycon.data.PreferenceKeys;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.data.Version;
 import de.ryanthara.ja.rycon.elements.RyPoint;
 import de.ryanthara.ja.rycon.i18n.Labels;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
+import de.ryanthara.ja.rycon.tools.ExternalLineSorter;
 
 import java.text.DateFormat;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Date;
 
 import static de.ryanthara.ja.rycon.i18n.ResourceBundles.LABELS;
 
@@ -36,7 +37,7 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.LABELS;
  * operations on the given text files.
  *
  * @author sebastian
- * @version 2
+ * @version 7
  * @since 8
  */
 class BaseToolsLTOP {
@@ -67,52 +68,25 @@ class BaseToolsLTOP {
      * Eliminates duplicate points from an ArrayList<String>.
      * <p>
      * Points are identical if the 3D distance is less than 3cm and the point number is the same. The point number is
-     * used for find wrong numbered points.
+     * used for find wrong numbered points. The first point of identical points is kept and the order of the points
+     * is not changed.
      *
      * @param arrayList unsorted ArrayList<String>
+     * @param context   processing context with the maximum distance of identical points
      *
-     * @return sorted ArrayList<String>
+     * @return ArrayList<String> without duplicate points
      */
-    static ArrayList<String> eliminateDuplicatePoints(ArrayList<RyPoint> arrayList) {
+    static ArrayList<String> eliminateDuplicatePoints(ArrayList<RyPoint> arrayList, ProcessingContext context) {
         ArrayList<String> result = new ArrayList<>();
 
-        // set minDistance to default value and try to parse the settings value
-        double d = 0.03;
+        // use the default value of 3cm, if the settings value is not a valid number
+        double d = context.getSettings().getPointIdenticalDistance();
 
-        try {
-            d = Double.parseDouble(Main.pref.getUserPreference(PreferenceKeys.CONVERTER_SETTING_POINT_IDENTICAL_DISTANCE));
-        } catch (NumberFormatException e) {
-            System.err.println("Can't convert maximum distance to double in eliminateDuplicatePoints()");
-            e.printStackTrace();
-        }
+        PointSpatialHash spatialHash = new PointSpatialHash(d);
 
-        final double minDistance = d;
-
-        // sort the tree set of RyPoints
-        TreeSet<RyPoint> set = new TreeSet<>(new Comparator<RyPoint>() {
-            @Override
-            //public int compare(ArrayList<RyPoint> p1, ArrayList<RyPoint> p2) {
-            public int compare(RyPoint pt1, RyPoint pt2) {
-                /*
-                Compare at the three distances x, y and z before calculating the slope distance because of reducing
-                calculation time and therefore increase the speed.
-
-                Points are equal if they are in a slope distance of 'maxDistance' and have the same number!
-                 */
-                if ((pt1.getSlopeDistance(pt2) < minDistance) && (pt1.getNumber().equalsIgnoreCase(pt2.getNumber()))) {
-                    return 0;
-                } else {
-                    return 1;
-                }
-            }
-        });
-
-        // add the ArrayList anc check for duplicate points
-        set.addAll(arrayList);
-
-        // bring back the points into an ArrayList<String>
-        for (RyPoint ryPoint : set) {
-            if (!ryPoint.getPrintLine().trim().equalsIgnoreCase("")) {
+        // bring back the unique points into an ArrayList<String>
+        for (RyPoint ryPoint : arrayList) {
+            if (!ryPoint.getPrintLine().trim().equalsIgnoreCase("") && spatialHash.add(ryPoint)) {
                 result.add(ryPoint.getPrintLine());
             }
         }
@@ -124,12 +98,14 @@ class BaseToolsLTOP {
      * Fills the ArrayList<RyPoint> with ryPoint objects.
      *
      * @param ryPoints   the ArrayList<RyPoint>
+     * @param number     point number
      * @param easting    easting value
      * @param northing   northing value
      * @param height     height value
      * @param resultLine result line as string
      */
-    static void fillRyPoints(ArrayList<RyPoint> ryPoints, String easting, String northing, String height, String resultLine) {
+    static void fillRyPoints(ArrayList<RyPoint> ryPoints, String number, String easting, String northing, String height,
+                             String resultLine) {
         double x = Double.NaN, y = Double.NaN, z = Double.NaN;
 
         try {
@@ -162,15 +138,16 @@ class BaseToolsLTOP {
      * @param geoid             the geoid
      * @param eta               the eta
      * @param xi                the xi
+     * @param context           processing context with the setting for eliminating zero coordinates
      *
      * @return prepared result string
      */
     static String prepareStringForKOO(String number, String pointType, String toleranceCategory,
                                       String easting, String northing, String height,
-                                      String geoid, String eta, String xi) {
+                                      String geoid, String eta, String xi, ProcessingContext context) {
 
         // check for null coordinate
-        if (Boolean.parseBoolean(Main.pref.getUserPreference(PreferenceKeys.CONVERTER_SETTING_ELIMINATE_ZERO_COORDINATE))) {
+        if (context.getSettings().isEliminateZeroCoordinate()) {
             String xyz = northing.trim().concat(easting.trim()).concat(height.trim());
             xyz = xyz.replace('.', '0');
 
@@ -197,18 +174,16 @@ class BaseToolsLTOP {
 
     /**
      * Sorts an ArrayList<String> by 'first token'.
+     * <p>
+     * The lines are sorted case insensitive and point numbers with digits in natural order (e.g. 'P2' before
+     * 'P10'). The lines are sorted in place.
      *
      * @param arrayList unsorted ArrayList<String>
      *
      * @return sorted ArrayList<String>
      */
     static ArrayList<String> sortResult(ArrayList<String> arrayList) {
-        Collections.sort(arrayList, new Comparator<String>() {
-            @Override
-            public int compare(String s1, String s2) {
-                return s1.compareToIgnoreCase(s2);
-            }
-        });
+        new ExternalLineSorter().sort(arrayList);
 
         return arrayList;
     }
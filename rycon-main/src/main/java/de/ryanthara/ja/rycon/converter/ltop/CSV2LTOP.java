@@ -17,6 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.ltop;
 
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.RyPoint;
 import de.ryanthara.ja.rycon.tools.NumberFormatter;
 
@@ -28,19 +29,22 @@ import java.util.List;
  * coordinate file into a coordinate file for LTOP.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class CSV2LTOP {
 
+    private final ProcessingContext context;
     private List<String[]> readCSVLines = null;
 
     /**
      * Constructs a new instance of this class with a parameter for read line based comma separated values (CSV) files.
      *
      * @param readCSVLines {@code List<String[]>} with lines as {@code String[]}
+     * @param context      processing context with the settings and the warning sink
      */
-    public CSV2LTOP(List<String[]> readCSVLines) {
+    public CSV2LTOP(List<String[]> readCSVLines, ProcessingContext context) {
+        this.context = context;
         this.readCSVLines = readCSVLines;
     }
 
@@ -85,11 +89,11 @@ public class CSV2LTOP {
 
             // pick up the relevant elements from the blocks from every line
             resultLine = BaseToolsLTOP.prepareStringForKOO(number, pointType, toleranceCategory, easting, northing,
-                    height, geoid, eta, xi);
+                    height, geoid, eta, xi, context);
 
             // fill elements in a special object structure for duplicate elimination
             if (eliminateDuplicates) {
-                BaseToolsLTOP.fillRyPoints(ryPoints, easting, northing, height, resultLine);
+                BaseToolsLTOP.fillRyPoints(ryPoints, number, easting, northing, height, resultLine);
             }
 
             if (!resultLine.isEmpty()) {
@@ -97,7 +101,7 @@ public class CSV2LTOP {
             }
         }
 
-        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints) : result;
+        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints, context) : result;
 
         return sortOutputFile ? BaseToolsLTOP.sortResult(result) : result;
     }
@@ -17,6 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.ltop;
 
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.RyPoint;
 import de.ryanthara.ja.rycon.tools.NumberFormatter;
 
@@ -28,19 +29,22 @@ import java.util.List;
  * Basel Stadt (Switzerland) into a KOO file for LTOP.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class CSVBaselStadt2LTOP {
 
+    private final ProcessingContext context;
     private List<String[]> readCSVLines = null;
 
     /**
      * Class constructor for read line based CSV files from the geodata server Basel Stadt (Switzerland).
      *
      * @param readCSVLines {@code List<String[]>} with lines as {@code String[]}
+     * @param context      processing context with the settings and the warning sink
      */
-    public CSVBaselStadt2LTOP(List<String[]> readCSVLines) {
+    public CSVBaselStadt2LTOP(List<String[]> readCSVLines, ProcessingContext context) {
+        this.context = context;
         this.readCSVLines = readCSVLines;
     }
 
@@ -88,18 +92,18 @@ public class CSVBaselStadt2LTOP {
 
             // pick up the relevant elements from the blocks from every line
             resultLine = BaseToolsLTOP.prepareStringForKOO(number, pointType, toleranceCategory, easting, northing,
-                    height, geoid, eta, xi);
+                    height, geoid, eta, xi, context);
 
             // fill elements in a special object structure for duplicate elimination
             if (eliminateDuplicates) {
-                BaseToolsLTOP.fillRyPoints(ryPoints, easting, northing, height, resultLine);
+                BaseToolsLTOP.fillRyPoints(ryPoints, number, easting, northing, height, resultLine);
             }
 
             if (!resultLine.isEmpty()) {
                 result.add(resultLine);
             }
         }
-        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints) : result;
+        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints, context) : result;
 
         return sortOutputFile ? BaseToolsLTOP.sortResult(result) : result;
     }
@@ -17,6 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.ltop;
 
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.RyPoint;
 import de.ryanthara.ja.rycon.tools.NumberFormatter;
 
@@ -26,19 +27,22 @@ import java.util.ArrayList;
  * This class provides functions to convert coordinate files from Cadwork CAD program into KOO files for LTOP.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class Cadwork2LTOP {
 
+    private final ProcessingContext context;
     private ArrayList<String> readStringLines;
 
     /**
      * Class constructor for read line based text files from Cadwork CAD program in node.dat file format.
      *
      * @param readStringLines {@code ArrayList<String>} with read lines from node.dat file
+     * @param context         processing context with the settings and the warning sink
      */
-    public Cadwork2LTOP(ArrayList<String> readStringLines) {
+    public Cadwork2LTOP(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         this.readStringLines = readStringLines;
     }
 
@@ -98,10 +102,10 @@ public class Cadwork2LTOP {
 
                 // pick up the relevant elements from the blocks from every line
                 resultLine = BaseToolsLTOP.prepareStringForKOO(number, pointType, toleranceCategory, easting, northing,
-                        height, geoid, eta, xi);
+                        height, geoid, eta, xi, context);
                 // fill elements in a special object structure for duplicate elimination
                 if (eliminateDuplicates) {
-                    BaseToolsLTOP.fillRyPoints(ryPoints, easting, northing, height, resultLine);
+                    BaseToolsLTOP.fillRyPoints(ryPoints, number, easting, northing, height, resultLine);
                 }
 
                 if (!resultLine.isEmpty()) {
@@ -110,7 +114,7 @@ public class Cadwork2LTOP {
             }
         }
 
-        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints) : result;
+        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints, context) : result;
 
         return sortOutputFile ? BaseToolsLTOP.sortResult(result) : result;
     }
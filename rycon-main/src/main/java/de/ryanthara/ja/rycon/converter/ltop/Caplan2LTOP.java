@@ -17,6 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.ltop;
 
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.CaplanBlock;
 import de.ryanthara.ja.rycon.elements.RyPoint;
 import de.ryanthara.ja.rycon.tools.NumberFormatter;
@@ -28,19 +29,22 @@ import java.util.ArrayList;
  * into a LTOP coordinate file.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class Caplan2LTOP {
 
+    private final ProcessingContext context;
     private ArrayList<String> readStringLines;
 
     /**
      * Constructs a new instance of this class with the read Caplan K file {@link ArrayList} string as parameter.
      *
      * @param readStringLines {@code ArrayList<String>} with lines in Caplan K format
+     * @param context         processing context with the settings and the warning sink
      */
-    public Caplan2LTOP(ArrayList<String> readStringLines) {
+    public Caplan2LTOP(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         this.readStringLines = readStringLines;
     }
 
@@ -94,11 +98,11 @@ public class Caplan2LTOP {
 
                 // pick up the relevant elements from the blocks from every line
                 resultLine = BaseToolsLTOP.prepareStringForKOO(number, pointType, toleranceCategory, easting, northing,
-                        height, geoid, eta, xi);
+                        height, geoid, eta, xi, context);
 
                 // fill elements in a special object structure for duplicate elimination
                 if (eliminateDuplicates) {
-                    BaseToolsLTOP.fillRyPoints(ryPoints, easting, northing, height, resultLine);
+                    BaseToolsLTOP.fillRyPoints(ryPoints, number, easting, northing, height, resultLine);
                 }
 
                 if (!resultLine.isEmpty()) {
@@ -107,7 +111,7 @@ public class Caplan2LTOP {
             }
         }
 
-        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints) : result;
+        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints, context) : result;
 
         return sortOutputFile ? BaseToolsLTOP.sortResult(result) : result;
     }
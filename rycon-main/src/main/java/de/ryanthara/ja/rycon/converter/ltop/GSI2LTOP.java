@@ -18,6 +18,7 @@
 package de.ryanthara.ja.rycon.converter.ltop;
 
 import de.ryanthara.ja.rycon.converter.gsi.BaseToolsGSI;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.GSIBlock;
 import de.ryanthara.ja.rycon.elements.RyPoint;
 import de.ryanthara.ja.rycon.tools.NumberFormatter;
@@ -31,19 +32,22 @@ import java.util.ArrayList;
  * With a little 'intelligence' it is possible to create the needed coordinate file.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class GSI2LTOP {
 
+    private final ProcessingContext context;
     private BaseToolsGSI baseToolsGSI;
 
     /**
      * Class constructor for read line based text files.
      *
      * @param readStringLines {@code ArrayList<String>} with lines as {@code String}
+     * @param context         processing context with the settings and the warning sink
      */
-    public GSI2LTOP(ArrayList<String> readStringLines) {
+    public GSI2LTOP(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         baseToolsGSI = new BaseToolsGSI(readStringLines);
     }
 
@@ -119,11 +123,11 @@ public class GSI2LTOP {
 
             // pick up the relevant elements from the blocks from every line
             resultLine = BaseToolsLTOP.prepareStringForKOO(number, pointType, toleranceCategory, easting, northing,
-                    height, geoid, eta, xi);
+                    height, geoid, eta, xi, context);
 
             // fill elements in a special object structure for duplicate elimination
             if (eliminateDuplicates) {
-                BaseToolsLTOP.fillRyPoints(ryPoints, easting, northing, height, resultLine);
+                BaseToolsLTOP.fillRyPoints(ryPoints, number, easting, northing, height, resultLine);
             }
 
             if (!resultLine.isEmpty()) {
@@ -131,7 +135,7 @@ public class GSI2LTOP {
             }
         }
 
-        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints) : result;
+        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints, context) : result;
 
         return sortOutputFile ? BaseToolsLTOP.sortResult(result) : result;
     }
@@ -30,7 +30,7 @@ import java.util.ArrayList;
  * With a little 'intelligence' it is possible to create the needed measurement file.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @since 12
  */
 public class GSI2MES {
@@ -156,13 +156,11 @@ public class GSI2MES {
 
                     verticalAngle = blocksAsLine.get(2).toPrintFormatCSV();
 
-                    Double d = Double.parseDouble(verticalAngle);
-
                     if (useZenithDistance) {
-                        verticalAngle = String.format("%12s", NumberFormatter.fillDecimalPlace(Double.toString(d), 5));
+                        verticalAngle = String.format("%12s", NumberFormatter.fillDecimalPlace(verticalAngle, 5));
                     } else {
-                        double heightAngle = 100d - d;
-                        verticalAngle = String.format("%12s", NumberFormatter.fillDecimalPlace(Double.toString(heightAngle), 5));
+                        double heightAngle = 100d - Double.parseDouble(verticalAngle);
+                        verticalAngle = String.format("%12s", NumberFormatter.fillDecimalPlace(heightAngle, 5));
                     }
 
                     slopeDistance = String.format("%12s", NumberFormatter.fillDecimalPlace(blocksAsLine.get(3).toPrintFormatCSV(), 5));
@@ -0,0 +1,104 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.ltop
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.ltop;
+
+import de.ryanthara.ja.rycon.elements.RyPoint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Instances of this class finds duplicate points with a uniform grid, which is hashed by the point number
+ * and the grid cell.
+ * <p>
+ * The size of a grid cell is the distance, below which two points with the same number are identical.
+ * Therefore a duplicate of a point can only be found in the same or in one of the 26 neighbour cells.
+ * The expected time to add a point is constant, regardless of the number of points.
+ * <p>
+ * Points with a missing coordinate are never identical with another point.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+class PointSpatialHash {
+
+    private final double minDistance;
+    private final HashMap<String, HashMap<Long, List<RyPoint>>> cellsByNumber = new HashMap<>();
+
+    /**
+     * Constructs a new instance of this class with the distance for identical points.
+     *
+     * @param minDistance points with the same number and a slope distance below this value are identical
+     */
+    PointSpatialHash(double minDistance) {
+        this.minDistance = minDistance;
+    }
+
+    /**
+     * Adds a point to the grid, if there is no identical point in the grid.
+     *
+     * @param ryPoint point to add
+     *
+     * @return true if the point was added, false if it is a duplicate
+     */
+    boolean add(RyPoint ryPoint) {
+        if (!(minDistance > 0) || Double.isNaN(ryPoint.getX()) || Double.isNaN(ryPoint.getY()) ||
+                Double.isNaN(ryPoint.getZ())) {
+            return true;
+        }
+
+        final String number = ryPoint.getNumber().trim().toLowerCase(Locale.ROOT);
+        final long cellX = (long) Math.floor(ryPoint.getX() / minDistance);
+        final long cellY = (long) Math.floor(ryPoint.getY() / minDistance);
+        final long cellZ = (long) Math.floor(ryPoint.getZ() / minDistance);
+
+        HashMap<Long, List<RyPoint>> cells = cellsByNumber.computeIfAbsent(number, key -> new HashMap<>());
+
+        for (long x = cellX - 1; x <= cellX + 1; x++) {
+            for (long y = cellY - 1; y <= cellY + 1; y++) {
+                for (long z = cellZ - 1; z <= cellZ + 1; z++) {
+                    List<RyPoint> cell = cells.get(cellKey(x, y, z));
+
+                    if (cell != null) {
+                        for (RyPoint other : cell) {
+                            if (ryPoint.getSlopeDistance(other) < minDistance) {
+                                return false;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        cells.computeIfAbsent(cellKey(cellX, cellY, cellZ), key -> new ArrayList<>(1)).add(ryPoint);
+
+        return true;
+    }
+
+    /*
+     * Different cells can get the same key. This does not matter, because the distance of every point
+     * in a cell is checked.
+     */
+    private static long cellKey(long x, long y, long z) {
+        return (x * 73856093L) ^ (y * 19349663L) ^ (z * 83492791L);
+    }
+
+} // end of PointSpatialHash
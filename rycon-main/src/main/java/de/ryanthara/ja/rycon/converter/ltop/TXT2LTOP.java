@@ -17,6 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.ltop;
 
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.RyPoint;
 import de.ryanthara.ja.rycon.tools.NumberFormatter;
 
@@ -24,17 +25,24 @@ import java.util.ArrayList;
 
 /**
  * This class provides functions to convert text formatted coordinate files into LTOP KOO files.
+ *
+ * @author sebastian
+ * @version 3
+ * @since 12
  */
 public class TXT2LTOP {
 
+    private final ProcessingContext context;
     private ArrayList<String> readStringLines;
 
     /**
      * Class constructor for read line based coordinate files in text format.
      *
      * @param readStringLines {@code ArrayList<String>} with lines as {@code String}
+     * @param context         processing context with the settings and the warning sink
      */
-    public TXT2LTOP(ArrayList<String> readStringLines) {
+    public TXT2LTOP(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         this.readStringLines = readStringLines;
     }
 
@@ -91,11 +99,11 @@ public class TXT2LTOP {
 
                 // pick up the relevant elements from the blocks from every line
                 resultLine = BaseToolsLTOP.prepareStringForKOO(number, pointType, toleranceCategory, easting, northing,
-                        height, geoid, eta, xi);
+                        height, geoid, eta, xi, context);
 
                 // fill elements in a special object structure for duplicate elimination
                 if (eliminateDuplicates) {
-                    BaseToolsLTOP.fillRyPoints(ryPoints, easting, northing, height, resultLine);
+                    BaseToolsLTOP.fillRyPoints(ryPoints, number, easting, northing, height, resultLine);
                 }
 
                 if (!resultLine.isEmpty()) {
@@ -104,7 +112,7 @@ public class TXT2LTOP {
             }
         }
 
-        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints) : result;
+        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints, context) : result;
 
         return sortOutputFile ? BaseToolsLTOP.sortResult(result) : result;
     }
@@ -17,6 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.ltop;
 
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.RyPoint;
 import de.ryanthara.ja.rycon.tools.NumberFormatter;
 
@@ -27,19 +28,22 @@ import java.util.ArrayList;
  * into LTOP KOO files.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class TXTBaselLandschaft2LTOP {
 
+    private final ProcessingContext context;
     private ArrayList<String> readStringLines;
 
     /**
      * Class constructor for read line based text files.
      *
      * @param readStringLines {@code ArrayList<String>} with lines as {@code String}
+     * @param context         processing context with the settings and the warning sink
      */
-    public TXTBaselLandschaft2LTOP(ArrayList<String> readStringLines) {
+    public TXTBaselLandschaft2LTOP(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         this.readStringLines = readStringLines;
     }
 
@@ -104,11 +108,11 @@ public class TXTBaselLandschaft2LTOP {
 
                 // pick up the relevant elements from the blocks from every line
                 resultLine = BaseToolsLTOP.prepareStringForKOO(number, pointType, toleranceCategory, easting, northing,
-                        height, geoid, eta, xi);
+                        height, geoid, eta, xi, context);
 
                 // fill elements in a special object structure for duplicate elimination
                 if (eliminateDuplicates) {
-                    BaseToolsLTOP.fillRyPoints(ryPoints, easting, northing, height, resultLine);
+                    BaseToolsLTOP.fillRyPoints(ryPoints, number, easting, northing, height, resultLine);
                 }
 
                 if (!resultLine.isEmpty()) {
@@ -117,7 +121,7 @@ public class TXTBaselLandschaft2LTOP {
             }
         }
 
-        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints) : result;
+        result = eliminateDuplicates ? BaseToolsLTOP.eliminateDuplicatePoints(ryPoints, context) : result;
 
         return sortOutputFile ? BaseToolsLTOP.sortResult(result) : result;
     }
@@ -0,0 +1,176 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.model
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.model;
+
+import de.ryanthara.ja.rycon.io.CSVTokenizer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Instances of this class reads the point records of a CSV file from the geodata service Basel Stadt
+ * (Switzerland).
+ * <p>
+ * The first line contains the column names and is skipped. The point number is in column 1,
+ * the coordinates are in the columns 3 to 5. A not valued height is handled as not existing.
+ * <p>
+ * The CSV file can be given as read lines or as path. A path is read row by row with a {@link CSVTokenizer}
+ * without storing the read lines.
+ *
+ * @author sebastian
+ * @version 3
+ * @since 25
+ */
+public class CSVBaselStadtRecordReader implements RecordReader {
+
+    private final List<String[]> readCSVLines;
+    private final Path path;
+    private final boolean sourceContainsCodeColumn;
+    private AtomicLong lineCounter = null;
+
+    /**
+     * Constructs a new instance of this class with the read lines of the CSV file.
+     * <p>
+     * The read lines are not changed by the reader.
+     *
+     * @param readCSVLines             {@code List<String[]>} with lines as {@code String[]}
+     * @param sourceContainsCodeColumn if source file contains a code column
+     */
+    public CSVBaselStadtRecordReader(List<String[]> readCSVLines, boolean sourceContainsCodeColumn) {
+        this.readCSVLines = readCSVLines;
+        this.path = null;
+        this.sourceContainsCodeColumn = sourceContainsCodeColumn;
+    }
+
+    /**
+     * Constructs a new instance of this class with the path of the semicolon separated CSV file, which is
+     * read while reading the point records.
+     *
+     * @param path                     path of the CSV file
+     * @param sourceContainsCodeColumn if source file contains a code column
+     */
+    public CSVBaselStadtRecordReader(Path path, boolean sourceContainsCodeColumn) {
+        this.readCSVLines = null;
+        this.path = path;
+        this.sourceContainsCodeColumn = sourceContainsCodeColumn;
+    }
+
+    /**
+     * Sets a line counter, which is incremented for every row read from the path. The counter can be
+     * shared between several readers (e.g. to show the progress of a job).
+     *
+     * @param lineCounter line counter or null
+     */
+    public void setLineCounter(AtomicLong lineCounter) {
+        this.lineCounter = lineCounter;
+    }
+
+    /**
+     * Reads the point records and hands them over to the record handler one by one and returns the read success.
+     * <p>
+     * If the CSV file is read from the path and an error occurs, false is returned.
+     *
+     * @param handler handler for the read point records
+     *
+     * @return read success
+     */
+    @Override
+    public boolean read(RecordHandler handler) {
+        List<String> columns = new ArrayList<>();
+
+        if (path == null) {
+            // skip comment line
+            for (String[] stringField : readCSVLines.subList(Math.min(1, readCSVLines.size()), readCSVLines.size())) {
+                if (!handleLine(columns, stringField[0], stringField[2], stringField[3], stringField[4], handler)) {
+                    break;
+                }
+            }
+        } else {
+            try (CSVTokenizer tokenizer = CSVTokenizer.open(path, ';')) {
+                // skip comment line
+                if (tokenizer.nextRow()) {
+                    countRow();
+                }
+
+                while (tokenizer.nextRow()) {
+                    countRow();
+
+                    if (tokenizer.getFieldCount() < 5) {
+                        System.err.println("CSVBaselStadtRecordReader.read() : line " + tokenizer.getRowNumber() +
+                                " contains less than 5 values");
+                    } else if (!handleLine(columns, tokenizer.getField(0), tokenizer.getField(2),
+                            tokenizer.getField(3), tokenizer.getField(4), handler)) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("CSVBaselStadtRecordReader.read() : file " + path.getFileName() + " could not be read.");
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void countRow() {
+        if (lineCounter != null) {
+            lineCounter.incrementAndGet();
+        }
+    }
+
+    private boolean handleLine(List<String> columns, CharSequence number, CharSequence easting,
+                               CharSequence northing, CharSequence height, RecordHandler handler) {
+        columns.clear();
+
+        // point number is in column 1, without white space
+        StringBuilder numberWithoutWhitespace = new StringBuilder(number.length());
+
+        for (int i = 0; i < number.length(); i++) {
+            if (!Character.isWhitespace(number.charAt(i))) {
+                numberWithoutWhitespace.append(number.charAt(i));
+            }
+        }
+
+        CSVRecordReader.addColumns(columns, numberWithoutWhitespace);
+
+        // easting (Y) is in column 3 and northing (X) is in column 4
+        CSVRecordReader.addColumns(columns, easting);
+        CSVRecordReader.addColumns(columns, northing);
+
+        // height (Z) is in column 5, but not always valued
+        CSVRecordReader.addColumns(columns, height.length() == 0 ? "-9999" : height);
+
+        if (columns.size() > 1) {
+            PointRecord record = PointRecord.fromColumns(columns.toArray(new String[columns.size()]),
+                    sourceContainsCodeColumn);
+
+            if (record == null) {
+                System.err.println("CSVBaselStadtRecordReader.read() : line contains less or more tokens " + columns);
+            } else {
+                return handler.handleRecord(record);
+            }
+        }
+
+        return true;
+    }
+
+} // end of CSVBaselStadtRecordReader
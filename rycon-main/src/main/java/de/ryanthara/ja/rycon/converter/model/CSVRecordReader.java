@@ -0,0 +1,182 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.model
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.model;
+
+import de.ryanthara.ja.rycon.io.CSVTokenizer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Instances of this class reads the point records of a CSV file (comma or semicolon delimited).
+ * <p>
+ * Decimal commas are replaced by points and empty values are skipped. The supported column
+ * orders are described in {@link PointRecord#fromColumns(String[], boolean)}.
+ * <p>
+ * The CSV file can be given as read lines or as path. A path is read row by row with a {@link CSVTokenizer}
+ * without storing the read lines.
+ *
+ * @author sebastian
+ * @version 3
+ * @since 25
+ */
+public class CSVRecordReader implements RecordReader {
+
+    private final List<String[]> readCSVLines;
+    private final Path path;
+    private final char separator;
+    private final boolean sourceContainsCodeColumn;
+    private AtomicLong lineCounter = null;
+
+    /**
+     * Constructs a new instance of this class with the read lines of the CSV file.
+     *
+     * @param readCSVLines             {@code List<String[]>} with lines as {@code String[]}
+     * @param sourceContainsCodeColumn if source file contains a code column
+     */
+    public CSVRecordReader(List<String[]> readCSVLines, boolean sourceContainsCodeColumn) {
+        this.readCSVLines = readCSVLines;
+        this.path = null;
+        this.separator = ',';
+        this.sourceContainsCodeColumn = sourceContainsCodeColumn;
+    }
+
+    /**
+     * Constructs a new instance of this class with the path of the CSV file, which is read while reading
+     * the point records.
+     *
+     * @param path                     path of the CSV file
+     * @param separator                separator between the values
+     * @param sourceContainsCodeColumn if source file contains a code column
+     */
+    public CSVRecordReader(Path path, char separator, boolean sourceContainsCodeColumn) {
+        this.readCSVLines = null;
+        this.path = path;
+        this.separator = separator;
+        this.sourceContainsCodeColumn = sourceContainsCodeColumn;
+    }
+
+    /**
+     * Adds the whitespace separated parts of a value as columns and skips empty parts.
+     *
+     * @param columns columns of the line
+     * @param value   read value
+     */
+    static void addColumns(List<String> columns, CharSequence value) {
+        final int length = value.length();
+        int start = -1;
+
+        for (int i = 0; i <= length; i++) {
+            boolean isSeparator = i == length || Character.isWhitespace(value.charAt(i));
+
+            if (isSeparator && start >= 0) {
+                columns.add(value.subSequence(start, i).toString());
+                start = -1;
+            } else if (!isSeparator && start < 0) {
+                start = i;
+            }
+        }
+    }
+
+    /**
+     * Sets a line counter, which is incremented for every row read from the path. The counter can be
+     * shared between several readers (e.g. to show the progress of a job).
+     *
+     * @param lineCounter line counter or null
+     */
+    public void setLineCounter(AtomicLong lineCounter) {
+        this.lineCounter = lineCounter;
+    }
+
+    /**
+     * Reads the point records and hands them over to the record handler one by one and returns the read success.
+     * <p>
+     * If the CSV file is read from the path and an error occurs, false is returned.
+     *
+     * @param handler handler for the read point records
+     *
+     * @return read success
+     */
+    @Override
+    public boolean read(RecordHandler handler) {
+        List<String> columns = new ArrayList<>();
+
+        if (path == null) {
+            for (String[] stringField : readCSVLines) {
+                columns.clear();
+
+                for (String s : stringField) {
+                    addColumns(columns, s);
+                }
+
+                if (!handleColumns(columns, handler)) {
+                    break;
+                }
+            }
+        } else {
+            try (CSVTokenizer tokenizer = CSVTokenizer.open(path, separator)) {
+                while (tokenizer.nextRow()) {
+                    countRow();
+                    columns.clear();
+
+                    for (int i = 0; i < tokenizer.getFieldCount(); i++) {
+                        addColumns(columns, tokenizer.getField(i));
+                    }
+
+                    if (!handleColumns(columns, handler)) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("CSVRecordReader.read() : file " + path.getFileName() + " could not be read.");
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void countRow() {
+        if (lineCounter != null) {
+            lineCounter.incrementAndGet();
+        }
+    }
+
+    private boolean handleColumns(List<String> columns, RecordHandler handler) {
+        // empty lines and lines with one column are skipped without a message
+        if (columns.size() > 1) {
+            columns.replaceAll(column -> column.replace(',', '.'));
+
+            PointRecord record = PointRecord.fromColumns(columns.toArray(new String[columns.size()]),
+                    sourceContainsCodeColumn);
+
+            if (record == null) {
+                System.err.println("CSVRecordReader.read() : line contains less or more tokens " + columns);
+            } else {
+                return handler.handleRecord(record);
+            }
+        }
+
+        return true;
+    }
+
+} // end of CSVRecordReader
@@ -0,0 +1,86 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.model
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.model;
+
+import java.util.ArrayList;
+
+/**
+ * Instances of this class writes point records into lines with separated columns, which are used for the
+ * text (space or tabulator separated) and the CSV (comma or semicolon separated) target formats.
+ * <p>
+ * The columns are written in the order number, code, easting, northing and height. Not existing values
+ * are left out without an empty column (e.g. a not valued height of a Basel Stadt CSV file).
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+public class ColumnRecordWriter implements RecordWriter {
+
+    private final String separator;
+    private final ArrayList<String> result = new ArrayList<>();
+    private final StringBuilder line = new StringBuilder(64);
+
+    /**
+     * Constructs a new instance of this class with the separator between the columns.
+     *
+     * @param separator separator sign as {@code String}
+     */
+    public ColumnRecordWriter(String separator) {
+        this.separator = separator;
+    }
+
+    /**
+     * Returns the lines of all handled point records.
+     *
+     * @return converted {@code ArrayList<String>} with separated columns
+     */
+    @Override
+    public ArrayList<String> getResult() {
+        return result;
+    }
+
+    /**
+     * Writes one point record into a line with separated columns.
+     *
+     * @param record point record
+     *
+     * @return true
+     */
+    @Override
+    public boolean handleRecord(PointRecord record) {
+        line.setLength(0);
+        line.append(record.getNumber());
+
+        appendColumn(record.getCode());
+        appendColumn(record.getEasting());
+        appendColumn(record.getNorthing());
+        appendColumn(record.getHeight());
+
+        result.add(line.toString());
+
+        return true;
+    }
+
+    private void appendColumn(String value) {
+        if (value != null) {
+            line.append(separator).append(value);
+        }
+    }
+
+} // end of ColumnRecordWriter
@@ -0,0 +1,147 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.model
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.model;
+
+/**
+ * Instances of this class defines a point record, which is the intermediate format between the
+ * {@link RecordReader} of a source format and the {@link RecordWriter} of a target format.
+ * <p>
+ * The values are stored as read from the source format without any number parsing or formatting,
+ * so that the values are re-encoded only once by the writer of the target format. Not existing
+ * values are null.
+ * <p>
+ * A point record holds coordinates only. Polar observations (angles, distances, instrument and target
+ * heights) and units are not part of the record, therefore measurement files are still converted by the
+ * conversion classes of the format pairs.
+ *
+ * @author sebastian
+ * @version 2
+ * @since 25
+ */
+public class PointRecord {
+
+    private final String number;
+    private final String code;
+    private final String easting;
+    private final String northing;
+    private final String height;
+
+    /**
+     * Constructs a new instance of this class given a bunch of parameters.
+     *
+     * @param number   the point number
+     * @param code     the code or null
+     * @param easting  the easting (y coordinate) or null
+     * @param northing the northing (x coordinate) or null
+     * @param height   the height (z coordinate) or null
+     */
+    public PointRecord(String number, String code, String easting, String northing, String height) {
+        this.number = number;
+        this.code = code;
+        this.easting = easting;
+        this.northing = northing;
+        this.height = height;
+    }
+
+    /**
+     * Creates a point record from the columns of a line of a coordinate file.
+     * <p>
+     * The following column orders are supported:
+     * <ul>
+     * <li>number, height</li>
+     * <li>number, code, height (with code column) or number, easting, northing (without code column)</li>
+     * <li>number, easting, northing, height (a height of '-9999' is handled as not valued)</li>
+     * <li>number, code, easting, northing, height</li>
+     * </ul>
+     *
+     * @param columns                  columns of the line
+     * @param sourceContainsCodeColumn if the source file contains a code column
+     *
+     * @return point record or null if the number of columns is not supported
+     */
+    public static PointRecord fromColumns(String[] columns, boolean sourceContainsCodeColumn) {
+        switch (columns.length) {
+            case 2:     // no, height
+                return new PointRecord(columns[0], null, null, null, columns[1]);
+
+            case 3:     // no, code, height or no, easting, northing
+                if (sourceContainsCodeColumn) {
+                    return new PointRecord(columns[0], columns[1], null, null, columns[2]);
+                } else {
+                    return new PointRecord(columns[0], null, columns[1], columns[2], null);
+                }
+
+            case 4:     // no, easting, northing, height
+                // necessary because of Basel Stadt CSV distinguish between points without height
+                return new PointRecord(columns[0], null, columns[1], columns[2],
+                        columns[3].equals("-9999") ? null : columns[3]);
+
+            case 5:     // no, code, easting, northing, height
+                return new PointRecord(columns[0], columns[1], columns[2], columns[3], columns[4]);
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the code.
+     *
+     * @return code or null
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the easting (y coordinate).
+     *
+     * @return easting or null
+     */
+    public String getEasting() {
+        return easting;
+    }
+
+    /**
+     * Returns the height (z coordinate).
+     *
+     * @return height or null
+     */
+    public String getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the northing (x coordinate).
+     *
+     * @return northing or null
+     */
+    public String getNorthing() {
+        return northing;
+    }
+
+    /**
+     * Returns the point number.
+     *
+     * @return point number
+     */
+    public String getNumber() {
+        return number;
+    }
+
+} // end of PointRecord
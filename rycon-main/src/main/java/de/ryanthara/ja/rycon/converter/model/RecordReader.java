@@ -0,0 +1,44 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.model
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.model;
+
+/**
+ * Interface for the readers, which read the point records of a source format one by one.
+ * <p>
+ * A reader does not change the read lines of the source file. Therefore the same lines can be read
+ * several times.
+ *
+ * @author sebastian
+ * @version 2
+ * @since 25
+ */
+public interface RecordReader {
+
+    /**
+     * Reads the point records and hands them over to the record handler one by one and returns the read success.
+     * <p>
+     * A reader, which reads the source file while reading the point records, returns false if the file could
+     * not be read completely. In this case the records handed over before are incomplete and must not be written.
+     *
+     * @param handler handler for the read point records
+     *
+     * @return read success
+     */
+    boolean read(RecordHandler handler);
+
+} // end of RecordReader
@@ -0,0 +1,38 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.model
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.model;
+
+import java.util.ArrayList;
+
+/**
+ * Interface for the writers, which encode the point records into the lines of a target format.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+public interface RecordWriter extends RecordHandler {
+
+    /**
+     * Returns the encoded lines of all handled point records.
+     *
+     * @return encoded lines
+     */
+    ArrayList<String> getResult();
+
+} // end of RecordWriter
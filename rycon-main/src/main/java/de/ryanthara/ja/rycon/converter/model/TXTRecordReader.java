@@ -0,0 +1,94 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.model
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.model;
+
+import java.util.List;
+
+/**
+ * Instances of this class reads the point records of a text file (space or tabulator separated).
+ * <p>
+ * RyCON uses space or tab as separation sign and not a fixed column position. The supported
+ * column orders are described in {@link PointRecord#fromColumns(String[], boolean)}.
+ *
+ * @author sebastian
+ * @version 3
+ * @since 25
+ */
+public class TXTRecordReader implements RecordReader {
+
+    private final List<String> readStringLines;
+    private final boolean sourceContainsCodeColumn;
+
+    /**
+     * Constructs a new instance of this class with the read lines of the text file.
+     *
+     * @param readStringLines          read lines
+     * @param sourceContainsCodeColumn if source file contains a code column
+     */
+    public TXTRecordReader(List<String> readStringLines, boolean sourceContainsCodeColumn) {
+        this.readStringLines = readStringLines;
+        this.sourceContainsCodeColumn = sourceContainsCodeColumn;
+    }
+
+    /**
+     * Reads the point records and hands them over to the record handler one by one and returns the read success.
+     *
+     * @param handler handler for the read point records
+     *
+     * @return read success
+     */
+    @Override
+    public boolean read(RecordHandler handler) {
+        for (String line : readStringLines) {
+            if (!readLine(line, handler)) {
+                break;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the point record of one line and hands it over to the record handler. This method is used for
+     * reading a text file line by line without storing the read lines.
+     *
+     * @param line    read line
+     * @param handler handler for the read point record
+     *
+     * @return true if the reading should be continued, false to stop the reading
+     *
+     * @since 25
+     */
+    public boolean readLine(String line, RecordHandler handler) {
+        String[] lineSplit = line.trim().split("\\s+");
+
+        // lines with one column are skipped without a message
+        if (lineSplit.length > 1) {
+            PointRecord record = PointRecord.fromColumns(lineSplit, sourceContainsCodeColumn);
+
+            if (record == null) {
+                System.err.println("TXTRecordReader.read() : line contains less or more tokens " + line);
+            } else {
+                return handler.handleRecord(record);
+            }
+        }
+
+        return true;
+    }
+
+} // end of TXTRecordReader
@@ -17,10 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.odf;
 
-import org.odftoolkit.simple.SpreadsheetDocument;
-import org.odftoolkit.simple.table.Cell;
-import org.odftoolkit.simple.table.Table;
-
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
@@ -30,13 +27,13 @@ import java.util.List;
  * Basel Stadt (Switzerland) into an Open Document Format spreadsheet file.
  *
  * @author sebastian
- * @version 1
+ * @version 4
  * @since 12
  */
 public class CSVBaselStadt2ODF {
 
     private List<String[]> readCSVLines;
-    private SpreadsheetDocument spreadsheetDocument;
+    private ODSWriter odsWriter;
 
     /**
      * Constructs a new instance of this class for read line based CSV files from the geodata server Basel Stadt (Switzerland).
@@ -50,49 +47,40 @@ public class CSVBaselStadt2ODF {
     /**
      * Convert a CSV file from the geodata server Basel Stadt (Switzerland) into an Open Document Format spreadsheet file.
      *
-     * @param sheetName       name of the sheet (file name from input file)
+     * @param sheetName       input file, which gives the name of the sheet and the directory of the temporary file
      * @param writeCommentRow write comment row
      *
      * @return success conversion success
      */
     public boolean convertCSVBaselStadt2ODS(Path sheetName, boolean writeCommentRow) {
-        int colIndex = 0;
-        int rowIndex = 0;
+        boolean success = false;
 
         try {
-            // prepare spreadsheet document
-            spreadsheetDocument = SpreadsheetDocument.newSpreadsheetDocument();
-            spreadsheetDocument.getTableByName("Sheet1").remove();
-
-            Table table = Table.newTable(spreadsheetDocument);
-            table.setTableName(sheetName.toString());
-
-            Cell cell;
+            // prepare spreadsheet file
+            odsWriter = new ODSWriter(sheetName.toAbsolutePath().getParent(), sheetName.getFileName().toString(),
+                    "#,##0.000");
 
             if (writeCommentRow) {
                 String[] commentLine = readCSVLines.get(0);
 
+                odsWriter.startRow();
+
                 for (String description : commentLine) {
-                    cell = table.getCellByPosition(colIndex, rowIndex);
-                    cell.setStringValue(description);
-                    colIndex = colIndex + 1;
+                    odsWriter.writeString(description);
                 }
-                rowIndex = rowIndex + 1;
             }
 
             // remove furthermore the still not needed comment line
             readCSVLines.remove(0);
 
             for (String[] csvLine : readCSVLines) {
-                colIndex = 0;
+                odsWriter.startRow();
 
                 for (int i = 0; i < csvLine.length; i++) {
-                    cell = table.getCellByPosition(colIndex, rowIndex);
-
                     switch (i) {
                         case 0:
                         case 1:
-                            cell.setStringValue(csvLine[i]);
+                            odsWriter.writeString(csvLine[i]);
                             break;
 
                         case 2:
@@ -100,10 +88,9 @@ public class CSVBaselStadt2ODF {
                         case 4:
                         case 5:
                             if (csvLine[i].equalsIgnoreCase("")) {
-                                cell.setStringValue(csvLine[i]);
+                                odsWriter.writeString(csvLine[i]);
                             } else {
-                                cell.setDoubleValue(Double.parseDouble(csvLine[i]));
-                                cell.setFormatString("#,##0.000");
+                                odsWriter.writeDouble(Double.parseDouble(csvLine[i]), "#,##0.000");
                             }
                             break;
 
@@ -112,32 +99,37 @@ public class CSVBaselStadt2ODF {
                         case 8:
                         case 9:
                         case 10:
-                            cell.setStringValue(csvLine[i]);
+                            odsWriter.writeString(csvLine[i]);
                             break;
 
                         default:
+                            odsWriter.writeEmptyCell();
                             System.err.println("CSVBaselStadt2ODF.convertCSVBaselStadt2ODS() : line contains less or more tokens " + Arrays.toString(csvLine));
                     }
-                    colIndex = colIndex + 1;
                 }
-                rowIndex = rowIndex + 1;
             }
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
+
+            odsWriter.finish();
+
+            success = odsWriter.getRowCount() > 1;
+        } catch (IOException e) {
             System.err.println("ERROR: unable to create output file.");
+        } finally {
+            if (!success && odsWriter != null) {
+                odsWriter.close();
+            }
         }
 
-        return rowIndex > 1;
+        return success;
     }
 
     /**
-     * Returns the SpreadsheetDocument object for writing it to a file.
+     * Returns the {@link ODSWriter} with the written spreadsheet file for saving it.
      *
-     * @return SpreadsheetDocument
+     * @return ODSWriter
      */
-    public SpreadsheetDocument getSpreadsheetDocument() {
-        return this.spreadsheetDocument;
+    public ODSWriter getODSWriter() {
+        return this.odsWriter;
     }
 
 } // end of CSVBaselStadt2ODF
@@ -17,10 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.odf;
 
-import org.odftoolkit.simple.SpreadsheetDocument;
-import org.odftoolkit.simple.table.Cell;
-import org.odftoolkit.simple.table.Table;
-
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 
@@ -29,13 +26,13 @@ import java.util.ArrayList;
  * an OpenDocument spreadsheet file.
  *
  * @author sebastian
- * @version 2
+ * @version 4
  * @since 12
  */
 public class Cadwork2ODF {
 
     private ArrayList<String> readStringLines;
-    private SpreadsheetDocument spreadsheetDocument;
+    private ODSWriter odsWriter;
 
     /**
      * Constructs a new instance of this class for read line based text files from Cadwork CAD program
@@ -52,25 +49,18 @@ public class Cadwork2ODF {
      * <p>
      * Cadwork node.dat files are tab separated.
      *
-     * @param sheetName       name of the sheet (file name from input file)
+     * @param sheetName       input file, which gives the name of the sheet and the directory of the temporary file
      * @param writeCommentRow write comment row
      *
      * @return success conversion
      */
     public boolean convertCadwork2ODS(Path sheetName, boolean writeCommentRow) {
-        int rowIndex = 0;
-        int colIndex = 0;
+        boolean success = false;
         String[] lineSplit;
 
         try {
-            // prepare spreadsheet document
-            spreadsheetDocument = SpreadsheetDocument.newSpreadsheetDocument();
-            spreadsheetDocument.getTableByName("Sheet1").remove();
-
-            Table table = Table.newTable(spreadsheetDocument);
-            table.setTableName(sheetName.toString());
-
-            Cell cell;
+            // prepare spreadsheet file
+            odsWriter = new ODSWriter(sheetName.toAbsolutePath().getParent(), sheetName.getFileName().toString());
 
             // remove not needed headlines
             for (int i = 0; i < 3; i++) {
@@ -80,62 +70,49 @@ public class Cadwork2ODF {
             if (writeCommentRow) {
                 lineSplit = readStringLines.get(0).trim().split("\\s+", -1);
 
+                odsWriter.startRow();
+
                 for (String description : lineSplit) {
-                    cell = table.getCellByPosition(colIndex, rowIndex);
-                    cell.setStringValue(description);
-                    colIndex = colIndex + 1;
+                    odsWriter.writeString(description);
                 }
-                rowIndex = rowIndex + 1;
             }
 
             // remove furthermore the still not needed comment line
             readStringLines.remove(0);
 
             for (String line : readStringLines) {
-                colIndex = 0;
-
                 lineSplit = line.trim().split("\\t", -1);
 
-                cell = table.getCellByPosition(colIndex, rowIndex);      // No
-                cell.setStringValue(lineSplit[0]);
-                colIndex = colIndex + 1;
-
-                cell = table.getCellByPosition(colIndex, rowIndex);      // X
-                cell.setStringValue(lineSplit[1]);
-                colIndex = colIndex + 1;
-
-                cell = table.getCellByPosition(colIndex, rowIndex);      // Y
-                cell.setStringValue(lineSplit[2]);
-                colIndex = colIndex + 1;
-
-                cell = table.getCellByPosition(colIndex, rowIndex);      // Z
-                cell.setStringValue(lineSplit[3]);
-                colIndex = colIndex + 1;
+                odsWriter.startRow();
+                odsWriter.writeString(lineSplit[0]);        // No
+                odsWriter.writeString(lineSplit[1]);        // X
+                odsWriter.writeString(lineSplit[2]);        // Y
+                odsWriter.writeString(lineSplit[3]);        // Z
+                odsWriter.writeString(lineSplit[4]);        // Code
+                odsWriter.writeString(lineSplit[5]);        // Name
+            }
 
-                cell = table.getCellByPosition(colIndex, rowIndex);      // Code
-                cell.setStringValue(lineSplit[4]);
-                colIndex = colIndex + 1;
+            odsWriter.finish();
 
-                cell = table.getCellByPosition(colIndex, rowIndex);      // Name
-                cell.setStringValue(lineSplit[5]);
-                rowIndex = rowIndex + 1;
-            }
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
+            success = odsWriter.getRowCount() > 1;
+        } catch (IOException e) {
             System.err.println("ERROR: unable to create output file.");
+        } finally {
+            if (!success && odsWriter != null) {
+                odsWriter.close();
+            }
         }
 
-        return rowIndex > 1;
+        return success;
     }
 
     /**
-     * Returns the SpreadsheetDocument for writing it to a file.
+     * Returns the {@link ODSWriter} with the written spreadsheet file for saving it.
      *
-     * @return SpreadsheetDocument
+     * @return ODSWriter
      */
-    public SpreadsheetDocument getSpreadsheetDocument() {
-        return this.spreadsheetDocument;
+    public ODSWriter getODSWriter() {
+        return this.odsWriter;
     }
 
 } // end of Cadwork2ODF
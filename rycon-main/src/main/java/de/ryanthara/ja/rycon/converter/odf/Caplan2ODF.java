@@ -20,10 +20,8 @@ package de.ryanthara.ja.rycon.converter.odf;
 import de.ryanthara.ja.rycon.elements.CaplanBlock;
 import de.ryanthara.ja.rycon.i18n.Columns;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
-import org.odftoolkit.simple.SpreadsheetDocument;
-import org.odftoolkit.simple.table.Cell;
-import org.odftoolkit.simple.table.Table;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 
@@ -34,13 +32,13 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.COLUMNS;
  * into an OpenDocument spreadsheet file.
  *
  * @author sebastian
- * @version 2
+ * @version 5
  * @since 12
  */
 public class Caplan2ODF {
 
     private ArrayList<String> readStringLines;
-    private SpreadsheetDocument spreadsheetDocument;
+    private ODSWriter odsWriter;
 
     /**
      * Constructs a new instance of this class with the read Caplan K file {@link ArrayList} string as parameter.
@@ -54,138 +52,91 @@ public class Caplan2ODF {
     /**
      * Converts a K file element by element into an Open Document Format spreadsheet file.
      *
-     * @param sheetName       name of the sheet (file name from input file)
+     * @param sheetName       input file, which gives the name of the sheet and the directory of the temporary file
      * @param writeCommentRow write comment row
      *
      * @return success conversion success
      */
     public boolean convertCaplan2ODS(Path sheetName, boolean writeCommentRow) {
-        int rowIndex = 0;
-        int colIndex = 0;
+        boolean success = false;
 
         try {
-            // prepare spreadsheet document
-            spreadsheetDocument = SpreadsheetDocument.newSpreadsheetDocument();
-            spreadsheetDocument.getTableByName("Sheet1").remove();
-
-            Table table = Table.newTable(spreadsheetDocument);
-            table.setTableName(sheetName.toString());
-
-            Cell cell;
+            // prepare spreadsheet file
+            odsWriter = new ODSWriter(sheetName.toAbsolutePath().getParent(), sheetName.getFileName().toString(),
+                    "#,##0.0000");
 
             if (writeCommentRow) {
-                cell = table.getCellByPosition(colIndex, rowIndex);
-                cell.setStringValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.pointNumber));
-                colIndex = colIndex + 1;
-
-                cell = table.getCellByPosition(colIndex, rowIndex);
-                cell.setStringValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.easting));
-                colIndex = colIndex + 1;
-
-                cell = table.getCellByPosition(colIndex, rowIndex);
-                cell.setStringValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.northing));
-                colIndex = colIndex + 1;
-
-                cell = table.getCellByPosition(colIndex, rowIndex);
-                cell.setStringValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.height));
-                colIndex = colIndex + 1;
-
-                cell = table.getCellByPosition(colIndex, rowIndex);
-                cell.setStringValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.object));
-                colIndex = colIndex + 1;
-
-                cell = table.getCellByPosition(colIndex, rowIndex);
-                cell.setStringValue(ResourceBundleUtils.getLangString(COLUMNS, Columns.attribute));
-
-                rowIndex = rowIndex + 1;
+                odsWriter.startRow();
+                odsWriter.writeString(ResourceBundleUtils.getLangString(COLUMNS, Columns.pointNumber));
+                odsWriter.writeString(ResourceBundleUtils.getLangString(COLUMNS, Columns.easting));
+                odsWriter.writeString(ResourceBundleUtils.getLangString(COLUMNS, Columns.northing));
+                odsWriter.writeString(ResourceBundleUtils.getLangString(COLUMNS, Columns.height));
+                odsWriter.writeString(ResourceBundleUtils.getLangString(COLUMNS, Columns.object));
+                odsWriter.writeString(ResourceBundleUtils.getLangString(COLUMNS, Columns.attribute));
             }
 
             for (String line : readStringLines) {
                 // skip empty lines directly after reading
                 if (!line.trim().isEmpty()) {
-                    colIndex = 0;
-
                     CaplanBlock caplanBlock = new CaplanBlock(line);
 
+                    odsWriter.startRow();
+
                     if (caplanBlock.getNumber() != null) {
-                        cell = table.getCellByPosition(colIndex, rowIndex);
-                        cell.setStringValue(caplanBlock.getNumber());
-                        colIndex = colIndex + 1;
+                        odsWriter.writeString(caplanBlock.getNumber());
                     }
 
                     if (caplanBlock.getEasting() != null) {
-                        if (!caplanBlock.getEasting().equals("")) {
-                            cell = table.getCellByPosition(colIndex, rowIndex);
-                            cell.setDoubleValue(Double.parseDouble(caplanBlock.getEasting()));
-                            cell.setFormatString("#,##0.0000");
-                        } else {
-                            cell = table.getCellByPosition(colIndex, rowIndex);
-                            cell.setStringValue("");
-                        }
-
-                        colIndex = colIndex + 1;
+                        writeCoordinate(caplanBlock.getEasting());
                     }
 
                     if (caplanBlock.getNorthing() != null) {
-                        if (!caplanBlock.getNorthing().equals("")) {
-                            cell = table.getCellByPosition(colIndex, rowIndex);
-                            cell.setDoubleValue(Double.parseDouble(caplanBlock.getNorthing()));
-                            cell.setFormatString("#,##0.0000");
-                        } else {
-                            cell = table.getCellByPosition(colIndex, rowIndex);
-                            cell.setStringValue("");
-                        }
-
-                        colIndex = colIndex + 1;
+                        writeCoordinate(caplanBlock.getNorthing());
                     }
 
                     if (caplanBlock.getHeight() != null) {
-                        if (!caplanBlock.getHeight().equals("")) {
-                            cell = table.getCellByPosition(colIndex, rowIndex);
-                            cell.setDoubleValue(Double.parseDouble(caplanBlock.getHeight()));
-                            cell.setFormatString("#,##0.0000");
-                        } else {
-                            cell = table.getCellByPosition(colIndex, rowIndex);
-                            cell.setStringValue("");
-                        }
-
-                        colIndex = colIndex + 1;
+                        writeCoordinate(caplanBlock.getHeight());
                     }
 
                     if (caplanBlock.getCode() != null) {
-                        cell = table.getCellByPosition(colIndex, rowIndex);
-                        cell.setStringValue(caplanBlock.getCode());
-                        colIndex = colIndex + 1;
-
-                        if (caplanBlock.getAttributes().size() > 0) {
-                            for (String attribute : caplanBlock.getAttributes()) {
-                                cell = table.getCellByPosition(colIndex, rowIndex);
-                                cell.setStringValue(attribute);
-                                colIndex = colIndex + 1;
-                            }
+                        odsWriter.writeString(caplanBlock.getCode());
+
+                        for (String attribute : caplanBlock.getAttributes()) {
+                            odsWriter.writeString(attribute);
                         }
                     }
-
-                    rowIndex = rowIndex + 1;
                 }
             }
 
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
+            odsWriter.finish();
+
+            success = odsWriter.getRowCount() > 1;
+        } catch (IOException e) {
             System.err.println("ERROR: unable to create output file.");
+        } finally {
+            if (!success && odsWriter != null) {
+                odsWriter.close();
+            }
         }
 
-        return rowIndex > 1;
+        return success;
+    }
+
+    private void writeCoordinate(String coordinate) throws IOException {
+        if (coordinate.equals("")) {
+            odsWriter.writeString("");
+        } else {
+            odsWriter.writeDouble(Double.parseDouble(coordinate), "#,##0.0000");
+        }
     }
 
     /**
-     * Returns the SpreadsheetDocument for writing it to a file.
+     * Returns the {@link ODSWriter} with the written spreadsheet file for saving it.
      *
-     * @return SpreadsheetDocument
+     * @return ODSWriter
      */
-    public SpreadsheetDocument getSpreadsheetDocument() {
-        return this.spreadsheetDocument;
+    public ODSWriter getODSWriter() {
+        return this.odsWriter;
     }
 
 } // end of Caplan2ODF
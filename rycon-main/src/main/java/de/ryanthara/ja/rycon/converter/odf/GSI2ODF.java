@@ -18,13 +18,11 @@
 package de.ryanthara.ja.rycon.converter.odf;
 
 import de.ryanthara.ja.rycon.converter.gsi.BaseToolsGSI;
-import de.ryanthara.ja.rycon.elements.GSIBlock;
+import de.ryanthara.ja.rycon.converter.gsi.GSIDataSet;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
 import de.ryanthara.ja.rycon.i18n.WordIndices;
-import org.odftoolkit.simple.SpreadsheetDocument;
-import org.odftoolkit.simple.table.Cell;
-import org.odftoolkit.simple.table.Table;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 
@@ -35,13 +33,13 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.WORDINDICES;
  * (GSI8 and GSI16) into an Open Document Format spreadsheet file.
  *
  * @author sebastian
- * @version 1
+ * @version 6
  * @since 12
  */
 public class GSI2ODF {
 
     private BaseToolsGSI baseToolsGSI;
-    private SpreadsheetDocument spreadsheetDocument;
+    private ODSWriter odsWriter;
 
     /**
      * Constructs a new instance of this class for read Leica GSI files as parameter.
@@ -55,62 +53,55 @@ public class GSI2ODF {
     /**
      * Converts a Leica GSI file element by element into an Open Document Format spreadsheet file.
      *
-     * @param sheetName name of the sheet (file name from input file)
+     * @param sheetName input file, which gives the name of the sheet and the directory of the temporary file
      *
      * @return success conversion success
      */
     public boolean convertGSI2ODS(Path sheetName, boolean writeCommentRow) {
-        int rowIndex = 0;
-        int colIndex = 0;
+        boolean success = false;
 
         try {
-            // prepare spreadsheet document
-            spreadsheetDocument = SpreadsheetDocument.newSpreadsheetDocument();
-            spreadsheetDocument.getTableByName("Sheet1").remove();
-
-            Table table = Table.newTable(spreadsheetDocument);
-            table.setTableName(sheetName.toString());
-
-            Cell cell;
+            // prepare spreadsheet file
+            odsWriter = new ODSWriter(sheetName.toAbsolutePath().getParent(), sheetName.getFileName().toString(),
+                    "#,##0.0000", "#,##0.000");
 
             if (writeCommentRow) {
-                for (int wordIndex : baseToolsGSI.getFoundAllWordIndices()) {
-                    cell = table.getCellByPosition(colIndex, 0);
-                    colIndex = colIndex + 1;
+                odsWriter.startRow();
 
-                    cell.setStringValue(ResourceBundleUtils.getLangString(WORDINDICES, WordIndices.valueOf("WI"+wordIndex)));
+                for (int wordIndex : baseToolsGSI.getFoundAllWordIndices()) {
+                    odsWriter.writeString(ResourceBundleUtils.getLangString(WORDINDICES, WordIndices.valueOf("WI"+wordIndex)));
                 }
-                rowIndex = rowIndex + 1;
             }
 
             // fill gsi content into rows and cells
-            for (ArrayList<GSIBlock> blocksInLine : baseToolsGSI.getEncodedLinesOfGSIBlocks()) {
-                colIndex = 0;
-                for (GSIBlock block : blocksInLine) {
-                    cell = table.getCellByPosition(colIndex, rowIndex);
+            GSIDataSet dataSet = baseToolsGSI.getDataSet();
 
-                    switch (block.getWordIndex()) {
+            for (int line = 0; line < dataSet.getLineCount(); line++) {
+                odsWriter.startRow();
+
+                for (int blockIndex = dataSet.getLineStart(line); blockIndex < dataSet.getLineEnd(line); blockIndex++) {
+                    switch (dataSet.getWordIndex(blockIndex)) {
                         // GENERAL
                         case 11:    // Point number (includes block number)
                         case 12:    // Instrument serial no
                         case 13:    // Instrument type
                         case 18:    // Time format 1: pos. 8-9 year, 10-11 sec, 12-14 msec
                         case 19:    // Time format 2 : pos, 8-9 month 10-11 day, 12-13 hour, 14-15 min
-                            cell.setStringValue(block.toPrintFormatCSV());
+                            odsWriter.writeString(dataSet.toPrintFormatCSV(blockIndex));
                             break;
 
                         // ANGLES
                         case 21:    // Horizontal Circle (Hz)
                         case 22:    // Vertical Angle (V)
                         case 25:    // Horizontal circle difference (Hz0-Hz)
-                            cell.setDoubleValue(Double.parseDouble(block.toPrintFormatCSV()));
+                            odsWriter.writeDouble(Double.parseDouble(dataSet.toPrintFormatCSV(blockIndex)));
                             break;
 
                         // DISTANCE
                         case 31:    // Slope Distance
                         case 32:    // Horizontal Distance
                         case 33:    // Height Difference
-                            cell.setDoubleValue(Double.parseDouble(block.toPrintFormatCSV()));
+                            odsWriter.writeDouble(Double.parseDouble(dataSet.toPrintFormatCSV(blockIndex)));
                             break;
 
                         // CODE BLOCK
@@ -123,7 +114,7 @@ public class GSI2ODF {
                         case 47:    // Information 6
                         case 48:    // Information 7
                         case 49:    // Information 8
-                            cell.setStringValue(block.toPrintFormatCSV());
+                            odsWriter.writeString(dataSet.toPrintFormatCSV(blockIndex));
                             break;
 
                         // DISTANCE (additional information)
@@ -132,7 +123,7 @@ public class GSI2ODF {
                         case 53:    // Deviation
                         case 58:    // Signal strength
                         case 59:    // Reflector constant (1/10 mm)ppm
-                            cell.setStringValue(block.toPrintFormatCSV());
+                            odsWriter.writeString(dataSet.toPrintFormatCSV(blockIndex));
                             break;
 
                         // POINT CODING
@@ -145,7 +136,7 @@ public class GSI2ODF {
                         case 77:    // Attribute 6
                         case 78:    // Attribute 7
                         case 79:    // Attribute 8
-                            cell.setStringValue(block.toPrintFormatCSV());
+                            odsWriter.writeString(dataSet.toPrintFormatCSV(blockIndex));
                             break;
 
                         // COORDINATES
@@ -155,40 +146,43 @@ public class GSI2ODF {
                         case 84:    // Station Easting (E0)
                         case 85:    // Station Northing (N0)
                         case 86:    // Station Elevation (H0)
-                            cell.setDoubleValue(Double.parseDouble(block.toPrintFormatCSV()));
-                            cell.setFormatString("#,##0.0000");
+                            odsWriter.writeDouble(Double.parseDouble(dataSet.toPrintFormatCSV(blockIndex)), "#,##0.0000");
                             break;
 
                         case 87:    // Reflector height (above ground)
                         case 88:    // Instrument height (above ground)
-                            cell.setDoubleValue(Double.parseDouble(block.toPrintFormatCSV()));
-                            cell.setFormatString("#,##0.000");
+                            odsWriter.writeDouble(Double.parseDouble(dataSet.toPrintFormatCSV(blockIndex)), "#,##0.000");
                             break;
 
                         default:
-                            System.err.println("GSI2ODF.convertGSI2ODS() : found unknown word index " + block.toPrintFormatCSV());
+                            odsWriter.writeEmptyCell();
+                            System.err.println("GSI2ODF.convertGSI2ODS() : found unknown word index " + dataSet.toPrintFormatCSV(blockIndex));
                     }
-                    colIndex = colIndex + 1;
                 }
-                rowIndex = rowIndex + 1;
             }
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
+
+            odsWriter.finish();
+
+            // check number of written lines
+            success = odsWriter.getRowCount() > 1;
+        } catch (IOException e) {
             System.err.println("ERROR: unable to create output file.");
+        } finally {
+            if (!success && odsWriter != null) {
+                odsWriter.close();
+            }
         }
 
-        // check number of written lines
-        return rowIndex > 1;
+        return success;
     }
 
     /**
-     * Returns the SpreadsheetDocument for writing it to a file.
+     * Returns the {@link ODSWriter} with the written spreadsheet file for saving it.
      *
-     * @return SpreadsheetDocument
+     * @return ODSWriter
      */
-    public SpreadsheetDocument getSpreadsheetDocument() {
-        return this.spreadsheetDocument;
+    public ODSWriter getODSWriter() {
+        return this.odsWriter;
     }
 
 } // end of GSI2ODF
@@ -0,0 +1,494 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.converter.odf
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.converter.odf;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Instances of this class writes an Open Document Format spreadsheet file with one table row by row.
+ * <p>
+ * The 'content.xml' is written with StAX directly into the zip stream of a temporary file. No document
+ * object model is built, so that the memory usage is independent of the number of rows. The manifest,
+ * the 'styles.xml' and the number styles are written before the first row. Therefore all number formats
+ * (e.g. '#,##0.000'), which are used for double values, have to be given to the constructor.
+ * <p>
+ * The temporary file is created in the directory of the output file and renamed atomically to the output file
+ * by {@link #save(Path)}. It is deleted by {@link #close()}, if it was not saved before.
+ *
+ * @author sebastian
+ * @version 2
+ * @since 25
+ */
+public class ODSWriter implements Closeable {
+
+    private static final String MIME_TYPE = "application/vnd.oasis.opendocument.spreadsheet";
+    private static final String ODF_VERSION = "1.2";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_TEMP_FILE_ATTEMPTS = 10;
+
+    private static final String NS_MANIFEST = "urn:oasis:names:tc:opendocument:xmlns:manifest:1.0";
+    private static final String NS_NUMBER = "urn:oasis:names:tc:opendocument:xmlns:datastyle:1.0";
+    private static final String NS_OFFICE = "urn:oasis:names:tc:opendocument:xmlns:office:1.0";
+    private static final String NS_STYLE = "urn:oasis:names:tc:opendocument:xmlns:style:1.0";
+    private static final String NS_TABLE = "urn:oasis:names:tc:opendocument:xmlns:table:1.0";
+    private static final String NS_TEXT = "urn:oasis:names:tc:opendocument:xmlns:text:1.0";
+
+    private final Path tempFile;
+    private final ZipOutputStream zipOutputStream;
+    private final BufferedOutputStream contentStream;
+    private final XMLStreamWriter content;
+    private final Map<String, String> cellStyleNames = new LinkedHashMap<>();
+    private final Map<String, DecimalFormat> decimalFormats = new LinkedHashMap<>();
+    private boolean isRowOpen = false;
+    private boolean isRowEmpty = true;
+    private boolean isFinished = false;
+    private boolean isSaved = false;
+    private int countRows = 0;
+
+    /**
+     * Constructs a new instance of this class, creates the temporary file in the default temporary-file
+     * directory and writes everything until the beginning of the table.
+     *
+     * @param tableName     name of the table (file name from input file)
+     * @param numberFormats number formats (e.g. '#,##0.000') used for double values
+     *
+     * @throws IOException if the temporary file could not be written
+     */
+    public ODSWriter(String tableName, String... numberFormats) throws IOException {
+        this(null, tableName, numberFormats);
+    }
+
+    /**
+     * Constructs a new instance of this class, creates the temporary file in the directory of the output file
+     * and writes everything until the beginning of the table.
+     * <p>
+     * The output file has to be saved into the same directory, so that the temporary file can be renamed
+     * atomically.
+     *
+     * @param directory     directory of the output file or null for the default temporary-file directory
+     * @param tableName     name of the table (file name from input file)
+     * @param numberFormats number formats (e.g. '#,##0.000') used for double values
+     *
+     * @throws IOException if the temporary file could not be written
+     *
+     * @since 25
+     */
+    public ODSWriter(Path directory, String tableName, String... numberFormats) throws IOException {
+        tempFile = createTempFile(directory, tableName);
+        zipOutputStream = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE));
+
+        // the xml writer writes small pieces, which are collected before they are encoded and compressed
+        contentStream = new BufferedOutputStream(zipOutputStream, BUFFER_SIZE);
+
+        try {
+            writeEntry(createMimeTypeEntry(), MIME_TYPE.getBytes(StandardCharsets.US_ASCII));
+            writeEntry(new ZipEntry("META-INF/manifest.xml"), createManifest());
+            writeEntry(new ZipEntry("styles.xml"), createStyles());
+
+            zipOutputStream.putNextEntry(new ZipEntry("content.xml"));
+            content = XMLOutputFactory.newInstance().createXMLStreamWriter(
+                    new BufferedWriter(new OutputStreamWriter(contentStream, StandardCharsets.UTF_8), BUFFER_SIZE));
+
+            startContent(tableName, numberFormats);
+        } catch (XMLStreamException e) {
+            close();
+            throw new IOException(e);
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes the temporary file, if it was not saved before.
+     */
+    @Override
+    public void close() {
+        if (!isSaved) {
+            try {
+                zipOutputStream.close();
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                System.err.println("ODSWriter.close() : unable to delete temporary file " + tempFile);
+            }
+        }
+    }
+
+    /**
+     * Finishes the table and the zip file. No cells can be written afterwards.
+     *
+     * @throws IOException if the temporary file could not be written
+     */
+    public void finish() throws IOException {
+        if (isFinished) {
+            return;
+        }
+
+        try {
+            endRow();
+
+            content.writeEndElement();      // table:table
+            content.writeEndElement();      // office:spreadsheet
+            content.writeEndElement();      // office:body
+            content.writeEndElement();      // office:document-content
+            content.writeEndDocument();
+            content.flush();
+            content.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+
+        contentStream.flush();
+
+        zipOutputStream.closeEntry();
+        zipOutputStream.close();
+
+        isFinished = true;
+    }
+
+    /**
+     * Returns the number of written rows.
+     *
+     * @return number of written rows
+     */
+    public int getRowCount() {
+        return countRows;
+    }
+
+    /**
+     * Finishes the spreadsheet file if needed and renames it atomically to the output file. An existing output
+     * file will be replaced.
+     * <p>
+     * If the file system does not support an atomic rename (e.g. the temporary file is on another file system),
+     * the temporary file is moved.
+     *
+     * @param path output file
+     *
+     * @throws IOException if the file could not be written or moved
+     */
+    public void save(Path path) throws IOException {
+        finish();
+
+        try {
+            Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        isSaved = true;
+    }
+
+    /**
+     * Starts a new row and ends the previous one.
+     *
+     * @throws IOException if the temporary file could not be written
+     */
+    public void startRow() throws IOException {
+        endRow();
+
+        try {
+            content.writeStartElement("table", "table-row", NS_TABLE);
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+
+        isRowOpen = true;
+        isRowEmpty = true;
+        countRows = countRows + 1;
+    }
+
+    /**
+     * Writes a double value with a number format, which was given to the constructor, into the next cell.
+     *
+     * @param value  double value
+     * @param format number format
+     *
+     * @throws IOException if the temporary file could not be written
+     */
+    public void writeDouble(double value, String format) throws IOException {
+        final String styleName = cellStyleNames.get(format);
+
+        if (styleName == null) {
+            throw new IllegalArgumentException("number format " + format + " was not declared");
+        }
+
+        writeFloatCell(value, styleName, decimalFormats.get(format).format(value));
+    }
+
+    /**
+     * Writes a double value with the default number format into the next cell.
+     *
+     * @param value double value
+     *
+     * @throws IOException if the temporary file could not be written
+     */
+    public void writeDouble(double value) throws IOException {
+        writeFloatCell(value, null, BigDecimal.valueOf(value).stripTrailingZeros().toPlainString());
+    }
+
+    /**
+     * Writes an empty cell.
+     *
+     * @throws IOException if the temporary file could not be written
+     */
+    public void writeEmptyCell() throws IOException {
+        try {
+            content.writeEmptyElement("table", "table-cell", NS_TABLE);
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+
+        isRowEmpty = false;
+    }
+
+    /**
+     * Writes a string value into the next cell.
+     *
+     * @param value string value
+     *
+     * @throws IOException if the temporary file could not be written
+     */
+    public void writeString(String value) throws IOException {
+        try {
+            content.writeStartElement("table", "table-cell", NS_TABLE);
+            content.writeAttribute("office", NS_OFFICE, "value-type", "string");
+            writeParagraph(value);
+            content.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+
+        isRowEmpty = false;
+    }
+
+    /*
+     * The mime type has to be the first and uncompressed entry of the zip file.
+     */
+    private static ZipEntry createMimeTypeEntry() {
+        final byte[] bytes = MIME_TYPE.getBytes(StandardCharsets.US_ASCII);
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes);
+
+        ZipEntry entry = new ZipEntry("mimetype");
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(bytes.length);
+        entry.setCompressedSize(bytes.length);
+        entry.setCrc(crc32.getValue());
+
+        return entry;
+    }
+
+    /*
+     * The temporary file in the directory of the output file gets the default permissions of a new file
+     * (unlike Files.createTempFile), because it becomes the output file.
+     */
+    private static Path createTempFile(Path directory, String tableName) throws IOException {
+        if (directory == null) {
+            return Files.createTempFile("rycon-", ".ods");
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            Path candidate = directory.resolve("." + tableName + "." +
+                    Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE) + ".tmp");
+
+            try {
+                return Files.createFile(candidate);
+            } catch (FileAlreadyExistsException e) {
+                if (attempt >= MAX_TEMP_FILE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static byte[] createManifest() throws XMLStreamException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream, "UTF-8");
+
+        writer.writeStartDocument("UTF-8", "1.0");
+        writer.writeStartElement("manifest", "manifest", NS_MANIFEST);
+        writer.writeNamespace("manifest", NS_MANIFEST);
+        writer.writeAttribute("manifest", NS_MANIFEST, "version", ODF_VERSION);
+
+        writeFileEntry(writer, "/", MIME_TYPE);
+        writeFileEntry(writer, "content.xml", "text/xml");
+        writeFileEntry(writer, "styles.xml", "text/xml");
+
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.close();
+
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] createStyles() throws XMLStreamException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream, "UTF-8");
+
+        writer.writeStartDocument("UTF-8", "1.0");
+        writer.writeStartElement("office", "document-styles", NS_OFFICE);
+        writer.writeNamespace("office", NS_OFFICE);
+        writer.writeNamespace("style", NS_STYLE);
+        writer.writeAttribute("office", NS_OFFICE, "version", ODF_VERSION);
+
+        writer.writeStartElement("office", "styles", NS_OFFICE);
+        writer.writeEmptyElement("style", "style", NS_STYLE);
+        writer.writeAttribute("style", NS_STYLE, "name", "Default");
+        writer.writeAttribute("style", NS_STYLE, "family", "table-cell");
+        writer.writeEndElement();
+
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.close();
+
+        return outputStream.toByteArray();
+    }
+
+    private static void writeFileEntry(XMLStreamWriter writer, String fullPath, String mediaType) throws XMLStreamException {
+        writer.writeEmptyElement("manifest", "file-entry", NS_MANIFEST);
+        writer.writeAttribute("manifest", NS_MANIFEST, "full-path", fullPath);
+        writer.writeAttribute("manifest", NS_MANIFEST, "media-type", mediaType);
+    }
+
+    private void endRow() throws IOException {
+        if (!isRowOpen) {
+            return;
+        }
+
+        // a table row needs at least one cell
+        if (isRowEmpty) {
+            writeEmptyCell();
+        }
+
+        try {
+            content.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+
+        isRowOpen = false;
+    }
+
+    private void startContent(String tableName, String... numberFormats) throws XMLStreamException {
+        content.writeStartDocument("UTF-8", "1.0");
+        content.writeStartElement("office", "document-content", NS_OFFICE);
+        content.writeNamespace("office", NS_OFFICE);
+        content.writeNamespace("style", NS_STYLE);
+        content.writeNamespace("text", NS_TEXT);
+        content.writeNamespace("table", NS_TABLE);
+        content.writeNamespace("number", NS_NUMBER);
+        content.writeAttribute("office", NS_OFFICE, "version", ODF_VERSION);
+
+        // one number style and one cell style for every number format
+        content.writeStartElement("office", "automatic-styles", NS_OFFICE);
+
+        for (String format : numberFormats) {
+            if (cellStyleNames.containsKey(format)) {
+                continue;
+            }
+
+            final int index = cellStyleNames.size() + 1;
+            final int decimalSeparator = format.indexOf('.');
+            final String integerPart = decimalSeparator < 0 ? format : format.substring(0, decimalSeparator);
+            final String decimalPart = decimalSeparator < 0 ? "" : format.substring(decimalSeparator + 1);
+
+            content.writeStartElement("number", "number-style", NS_NUMBER);
+            content.writeAttribute("style", NS_STYLE, "name", "N" + index);
+            content.writeEmptyElement("number", "number", NS_NUMBER);
+            content.writeAttribute("number", NS_NUMBER, "decimal-places", Integer.toString(decimalPart.length()));
+            content.writeAttribute("number", NS_NUMBER, "min-integer-digits",
+                    Long.toString(integerPart.chars().filter(c -> c == '0').count()));
+            content.writeAttribute("number", NS_NUMBER, "grouping", Boolean.toString(integerPart.contains(",")));
+            content.writeEndElement();
+
+            content.writeEmptyElement("style", "style", NS_STYLE);
+            content.writeAttribute("style", NS_STYLE, "name", "ce" + index);
+            content.writeAttribute("style", NS_STYLE, "family", "table-cell");
+            content.writeAttribute("style", NS_STYLE, "parent-style-name", "Default");
+            content.writeAttribute("style", NS_STYLE, "data-style-name", "N" + index);
+
+            cellStyleNames.put(format, "ce" + index);
+            decimalFormats.put(format, new DecimalFormat(format, DecimalFormatSymbols.getInstance(Locale.ENGLISH)));
+        }
+
+        content.writeEndElement();
+
+        content.writeStartElement("office", "body", NS_OFFICE);
+        content.writeStartElement("office", "spreadsheet", NS_OFFICE);
+        content.writeStartElement("table", "table", NS_TABLE);
+        content.writeAttribute("table", NS_TABLE, "name", tableName);
+        content.writeEmptyElement("table", "table-column", NS_TABLE);
+    }
+
+    private void writeFloatCell(double value, String styleName, String text) throws IOException {
+        try {
+            content.writeStartElement("table", "table-cell", NS_TABLE);
+
+            if (styleName != null) {
+                content.writeAttribute("table", NS_TABLE, "style-name", styleName);
+            }
+
+            content.writeAttribute("office", NS_OFFICE, "value-type", "float");
+            content.writeAttribute("office", NS_OFFICE, "value", Double.toString(value));
+            writeParagraph(text);
+            content.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+
+        isRowEmpty = false;
+    }
+
+    private void writeEntry(ZipEntry entry, byte[] bytes) throws IOException {
+        zipOutputStream.putNextEntry(entry);
+        zipOutputStream.write(bytes);
+        zipOutputStream.closeEntry();
+    }
+
+    private void writeParagraph(String text) throws XMLStreamException {
+        content.writeStartElement("text", "p", NS_TEXT);
+        content.writeCharacters(text);
+        content.writeEndElement();
+    }
+
+} // end of ODSWriter
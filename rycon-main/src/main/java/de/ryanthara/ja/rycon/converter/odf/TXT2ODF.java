@@ -17,10 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.odf;
 
-import org.odftoolkit.simple.SpreadsheetDocument;
-import org.odftoolkit.simple.table.Cell;
-import org.odftoolkit.simple.table.Table;
-
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 
@@ -29,13 +26,13 @@ import java.util.ArrayList;
  * into an Open Document Format spreadsheet file.
  *
  * @author sebastian
- * @version 2
+ * @version 4
  * @since 12
  */
 public class TXT2ODF {
 
     private ArrayList<String> readStringLines;
-    private SpreadsheetDocument spreadsheetDocument;
+    private ODSWriter odsWriter;
 
     /**
      * Constructs a new instance of this class for read line based text files as parameter.
@@ -49,48 +46,48 @@ public class TXT2ODF {
     /**
      * Converts a TXT file element by element into an Open Document Format spreadsheet file.
      *
-     * @param sheetName name of the sheet (file name from input file)
+     * @param sheetName input file, which gives the name of the sheet and the directory of the temporary file
      *
      * @return success conversion success
      */
     public boolean convertTXT2ODS(Path sheetName) {
-        int rowIndex = 0;
-        int colIndex;
+        boolean success = false;
 
         try {
-            // prepare spreadsheet document
-            spreadsheetDocument = SpreadsheetDocument.newSpreadsheetDocument();
-            spreadsheetDocument.getTableByName("Sheet1").remove();
-
-            Table table = Table.newTable(spreadsheetDocument);
-            table.setTableName(sheetName.toString());
-
-            Cell cell;
+            // prepare spreadsheet file
+            odsWriter = new ODSWriter(sheetName.toAbsolutePath().getParent(), sheetName.getFileName().toString());
 
             for (String line : readStringLines) {
                 String[] lineSplit = line.trim().split("\\s+");
-                colIndex = 0;
+
+                odsWriter.startRow();
+
                 for (String element : lineSplit) {
-                    cell = table.getCellByPosition(colIndex, rowIndex);
-                    cell.setStringValue(element);
-                    colIndex = colIndex + 1;
+                    odsWriter.writeString(element);
                 }
-                rowIndex = rowIndex + 1;
             }
-        } catch (Exception e) {
+
+            odsWriter.finish();
+
+            success = odsWriter.getRowCount() > 1;
+        } catch (IOException e) {
             System.err.println("ERROR: unable to create output file " + sheetName.toString() + ".");
+        } finally {
+            if (!success && odsWriter != null) {
+                odsWriter.close();
+            }
         }
 
-        return rowIndex > 1;
+        return success;
     }
 
     /**
-     * Returns the SpreadsheetDocument for writing it to a file.
+     * Returns the {@link ODSWriter} with the written spreadsheet file for saving it.
      *
-     * @return SpreadsheetDocument
+     * @return ODSWriter
      */
-    public SpreadsheetDocument getSpreadsheetDocument() {
-        return this.spreadsheetDocument;
+    public ODSWriter getODSWriter() {
+        return this.odsWriter;
     }
 
 } // end of TXT2ODF
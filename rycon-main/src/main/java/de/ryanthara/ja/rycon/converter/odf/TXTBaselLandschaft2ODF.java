@@ -17,10 +17,7 @@
  */
 package de.ryanthara.ja.rycon.converter.odf;
 
-import org.odftoolkit.simple.SpreadsheetDocument;
-import org.odftoolkit.simple.table.Cell;
-import org.odftoolkit.simple.table.Table;
-
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 
@@ -29,13 +26,13 @@ import java.util.ArrayList;
  * into an Open Document Format spreadsheet file.
  *
  * @author sebastian
- * @version 2
+ * @version 5
  * @since 12
  */
 public class TXTBaselLandschaft2ODF {
 
     private ArrayList<String> readStringLines;
-    private SpreadsheetDocument spreadsheetDocument;
+    private ODSWriter odsWriter;
 
     /**
      * Constructs a new instance of this class for read line based text files in different formats.
@@ -50,34 +47,27 @@ public class TXTBaselLandschaft2ODF {
      * Converts a txt file from the geodata server Basel Landschaft (Switzerland) element by element into an
      * Open Document Format spreadsheet file.
      *
-     * @param sheetName       name of the sheet (file name from input file)
+     * @param sheetName       input file, which gives the name of the sheet and the directory of the temporary file
      * @param writeCommentRow write comment row
      *
      * @return success conversion success
      */
     public boolean convertTXTBaselLandschaft2ODS(Path sheetName, boolean writeCommentRow) {
-        int rowIndex = 0;
-        int colIndex = 0;
+        boolean success = false;
 
         try {
-            // prepare spreadsheet document
-            spreadsheetDocument = SpreadsheetDocument.newSpreadsheetDocument();
-            spreadsheetDocument.getTableByName("Sheet1").remove();
-
-            Table table = Table.newTable(spreadsheetDocument);
-            table.setTableName(sheetName.toString());
-
-            Cell cell;
+            // prepare spreadsheet file
+            odsWriter = new ODSWriter(sheetName.toAbsolutePath().getParent(), sheetName.getFileName().toString(),
+                    "#,##0.000");
 
             if (writeCommentRow) {
                 String[] lineSplit = readStringLines.get(0).trim().split("\\t", -1);
 
+                odsWriter.startRow();
+
                 for (String description : lineSplit) {
-                    cell = table.getCellByPosition(colIndex, rowIndex);
-                    cell.setStringValue(description);
-                    colIndex = colIndex + 1;
+                    odsWriter.writeString(description);
                 }
-                rowIndex = rowIndex + 1;
             }
 
             // remove furthermore the still not needed comment line
@@ -86,66 +76,35 @@ public class TXTBaselLandschaft2ODF {
             for (String line : readStringLines) {
                 String[] lineSplit = line.trim().split("\\t", -1);
 
-                colIndex = 0;
+                odsWriter.startRow();
 
                 switch (lineSplit.length) {
                     case 5:     // HFP file
-                        cell = table.getCellByPosition(colIndex, rowIndex);      // Art
-                        cell.setStringValue(lineSplit[0]);
-                        colIndex = colIndex + 1;
-
-                        cell = table.getCellByPosition(colIndex, rowIndex);      // Number
-                        cell.setStringValue(lineSplit[1]);
-                        colIndex = colIndex + 1;
-
-                        cell = table.getCellByPosition(colIndex, rowIndex);      // X
-                        cell.setDoubleValue(Double.parseDouble(lineSplit[2]));
-                        cell.setFormatString("#,##0.000");
-                        colIndex = colIndex + 1;
-
-                        cell = table.getCellByPosition(colIndex, rowIndex);      // Y
-                        cell.setDoubleValue(Double.parseDouble(lineSplit[3]));
-                        cell.setFormatString("#,##0.000");
-                        colIndex = colIndex + 1;
+                        odsWriter.writeString(lineSplit[0]);        // Art
+                        odsWriter.writeString(lineSplit[1]);        // Number
+                        odsWriter.writeDouble(Double.parseDouble(lineSplit[2]), "#,##0.000");        // X
+                        odsWriter.writeDouble(Double.parseDouble(lineSplit[3]), "#,##0.000");        // Y
 
-                        cell = table.getCellByPosition(colIndex, rowIndex);      // Z
+                        // Z
                         if (lineSplit[4].equalsIgnoreCase("NULL")) {
-                            cell.setStringValue("NULL");
+                            odsWriter.writeString("NULL");
                         } else {
-                            cell.setDoubleValue(Double.parseDouble(lineSplit[4]));
-                            cell.setFormatString("#,##0.000");
+                            odsWriter.writeDouble(Double.parseDouble(lineSplit[4]), "#,##0.000");
                         }
                         break;
 
                     case 6:     // LFP file
-                        cell = table.getCellByPosition(colIndex, rowIndex);      // Art
-                        cell.setStringValue(lineSplit[0]);
-                        colIndex = colIndex + 1;
+                        odsWriter.writeString(lineSplit[0]);        // Art
+                        odsWriter.writeString(lineSplit[1]);        // Number
+                        odsWriter.writeString(lineSplit[2]);        // VArt
+                        odsWriter.writeDouble(Double.parseDouble(lineSplit[3]), "#,##0.000");        // X
+                        odsWriter.writeDouble(Double.parseDouble(lineSplit[4]), "#,##0.000");        // Y
 
-                        cell = table.getCellByPosition(colIndex, rowIndex);      // Number
-                        cell.setStringValue(lineSplit[1]);
-                        colIndex = colIndex + 1;
-
-                        cell = table.getCellByPosition(colIndex, rowIndex);      // VArt
-                        cell.setStringValue(lineSplit[2]);
-                        colIndex = colIndex + 1;
-
-                        cell = table.getCellByPosition(colIndex, rowIndex);      // X
-                        cell.setDoubleValue(Double.parseDouble(lineSplit[3]));
-                        cell.setFormatString("#,##0.000");
-                        colIndex = colIndex + 1;
-
-                        cell = table.getCellByPosition(colIndex, rowIndex);      // Y
-                        cell.setDoubleValue(Double.parseDouble(lineSplit[4]));
-                        cell.setFormatString("#,##0.000");
-                        colIndex = colIndex + 1;
-
-                        cell = table.getCellByPosition(colIndex, rowIndex);      // Z
+                        // Z
                         if (lineSplit[5].equalsIgnoreCase("NULL")) {
-                            cell.setStringValue("NULL");
+                            odsWriter.writeString("NULL");
                         } else {
-                            cell.setDoubleValue(Double.parseDouble(lineSplit[5]));
-                            cell.setFormatString("#,##0.000");
+                            odsWriter.writeDouble(Double.parseDouble(lineSplit[5]), "#,##0.000");
                         }
                         break;
 
@@ -153,25 +112,29 @@ public class TXTBaselLandschaft2ODF {
                         System.err.println("Error in convertTXTBaselLandschaft2ODS: line length doesn't match 5 or 6 elements");
 
                 }
-                rowIndex = rowIndex + 1;
             }
 
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
+            odsWriter.finish();
+
+            success = odsWriter.getRowCount() > 1;
+        } catch (IOException e) {
             System.err.println("ERROR: unable to create output file.");
+        } finally {
+            if (!success && odsWriter != null) {
+                odsWriter.close();
+            }
         }
 
-        return rowIndex > 1;
+        return success;
     }
 
     /**
-     * Returns the SpreadsheetDocument for writing it to a file.
+     * Returns the {@link ODSWriter} with the written spreadsheet file for saving it.
      *
-     * @return SpreadsheetDocument
+     * @return ODSWriter
      */
-    public SpreadsheetDocument getSpreadsheetDocument() {
-        return this.spreadsheetDocument;
+    public ODSWriter getODSWriter() {
+        return this.odsWriter;
     }
 
 } // end of TXTBaselLandschaft2ODF
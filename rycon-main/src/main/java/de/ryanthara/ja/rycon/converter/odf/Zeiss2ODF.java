@@ -19,10 +19,8 @@ package de.ryanthara.ja.rycon.converter.odf;
 
 import de.ryanthara.ja.rycon.converter.zeiss.ZeissDecoder;
 import de.ryanthara.ja.rycon.elements.ZeissBlock;
-import org.odftoolkit.simple.SpreadsheetDocument;
-import org.odftoolkit.simple.table.Cell;
-import org.odftoolkit.simple.table.Table;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 
@@ -31,13 +29,13 @@ import java.util.ArrayList;
  * and it's dialects (R4, R5, REC500 and M5) into OpenDocument spreadsheet files.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class Zeiss2ODF {
 
     private ArrayList<String> readStringLines;
-    private SpreadsheetDocument spreadsheetDocument;
+    private ODSWriter odsWriter;
 
     /**
      * Constructs a new instance of this class with a parameter for the read line based Zeiss REC files in
@@ -55,54 +53,51 @@ public class Zeiss2ODF {
      * This method can differ between different Zeiss REC dialects because of the
      * different structure and line length.
      *
-     * @param sheetName name of the sheet (file name from input file)
+     * @param sheetName input file, which gives the name of the sheet and the directory of the temporary file
      *
      * @return success conversion success
      */
     public boolean convertZeiss2ODS(Path sheetName) {
-        int rowIndex = 0;
-        int colIndex;
+        boolean success = false;
 
         try {
-            // prepare spreadsheet document
-            spreadsheetDocument = SpreadsheetDocument.newSpreadsheetDocument();
-            spreadsheetDocument.getTableByName("Sheet1").remove();
-
-            Table table = Table.newTable(spreadsheetDocument);
-            table.setTableName(sheetName.toString());
-
-            Cell cell;
+            // prepare spreadsheet file
+            odsWriter = new ODSWriter(sheetName.toAbsolutePath().getParent(), sheetName.getFileName().toString());
 
             for (String line : readStringLines) {
+                odsWriter.startRow();
 
                 // skip empty lines
                 if (line.trim().length() > 0) {
-                    colIndex = 0;
                     ZeissDecoder decoder = new ZeissDecoder();
 
                     for (ZeissBlock zeissBlock : decoder.getZeissBlocks()) {
-                        cell = table.getCellByPosition(colIndex, rowIndex);
-                        cell.setStringValue(zeissBlock.getValue());
-                        colIndex = colIndex + 1;
+                        odsWriter.writeString(zeissBlock.getValue());
                     }
                 }
-
-                rowIndex = rowIndex + 1;
             }
-        } catch (Exception e) {
+
+            odsWriter.finish();
+
+            success = odsWriter.getRowCount() > 1;
+        } catch (IOException e) {
             System.err.println("ERROR: unable to create output file " + sheetName.toString() + ".");
+        } finally {
+            if (!success && odsWriter != null) {
+                odsWriter.close();
+            }
         }
 
-        return rowIndex > 1;
+        return success;
     }
 
     /**
-     * Returns the SpreadsheetDocument for writing it to a file.
+     * Returns the {@link ODSWriter} with the written spreadsheet file for saving it.
      *
-     * @return SpreadsheetDocument
+     * @return ODSWriter
      */
-    public SpreadsheetDocument getSpreadsheetDocument() {
-        return this.spreadsheetDocument;
+    public ODSWriter getODSWriter() {
+        return this.odsWriter;
     }
 
 } // end of Zeiss2ODF
@@ -18,7 +18,7 @@
 package de.ryanthara.ja.rycon.converter.text;
 
 import de.ryanthara.ja.rycon.converter.gsi.BaseToolsGSI;
-import de.ryanthara.ja.rycon.elements.GSIBlock;
+import de.ryanthara.ja.rycon.converter.gsi.GSIDataSet;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -29,7 +29,7 @@ import java.util.TreeSet;
  * a text formatted measurement or coordinate file.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class GSI2TXT {
@@ -90,41 +90,35 @@ public class GSI2TXT {
             result.add(0, commentLine);
         }
 
-        for (ArrayList<GSIBlock> blocksInLine : baseToolsGSI.getEncodedLinesOfGSIBlocks()) {
-            String newLine = "";
+        // one reused builder for all lines, the blocks are appended without intermediate strings
+        StringBuilder newLine = new StringBuilder(foundWordIndices.size() * (isGSI16 ? 20 : 12));
+
+        String emptyBlock = isGSI16 ? "                " : "        ";
+
+        GSIDataSet dataSet = baseToolsGSI.getDataSet();
+
+        for (int line = 0; line < dataSet.getLineCount(); line++) {
+            newLine.setLength(0);
+
+            boolean isEmptyLine = dataSet.getLineStart(line) == dataSet.getLineEnd(line);
 
             Iterator<Integer> it = foundWordIndices.iterator();
 
             for (int i = 0; i < foundWordIndices.size(); i++) {
-                Integer wordIndex = it.next();
-
-                String intern = "";
-
-                for (GSIBlock block : blocksInLine) {
-                    // check the WI and fill in an empty block of spaces if WI doesn't match to 'column'
-                    if (wordIndex == block.getWordIndex()) {
-                        intern = block.toPrintFormatTXT();
-                        break; // important!!!
-                    } else {
-                        String emptyBlock;
-
-                        if (isGSI16) {
-                            emptyBlock = "                ";
-                        } else {
-                            emptyBlock = "        ";
-                        }
-
-                        intern = emptyBlock;
-                    }
-                }
+                int blockIndex = dataSet.getBlockIndex(line, it.next());
 
-                newLine = newLine.concat(intern);
+                // fill in an empty block of spaces if WI doesn't match to 'column'
+                if (blockIndex >= 0) {
+                    dataSet.appendPrintFormatTXT(blockIndex, newLine);
+                } else if (!isEmptyLine) {
+                    newLine.append(emptyBlock);
+                }
 
                 if (i < foundWordIndices.size() - 1) {
-                    newLine = newLine.concat(sep);
+                    newLine.append(sep);
                 }
             }
-            result.add(newLine);
+            result.add(newLine.toString());
         }
         return result;
     }
@@ -26,7 +26,7 @@ import java.util.ArrayList;
  * dialects (R4, R5, REC500 and M5) into a bunch of elements.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @since 12
  */
 public class ZeissDecoder {
@@ -207,7 +207,6 @@ public class ZeissDecoder {
                 zeissBlocks.add(block2);
                 numOfBlocks = numOfBlocks + 1;
 
-                System.out.println(line.length());
                 if (line.length() > 66) {
                     block3 = new ZeissBlock(ZeissTypeIdentifier.valueOf(
                             line.substring(REC500[14], REC500[15] + 1).trim()),
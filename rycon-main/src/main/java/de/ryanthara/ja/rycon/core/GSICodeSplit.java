@@ -18,37 +18,51 @@
 package de.ryanthara.ja.rycon.core;
 
 import de.ryanthara.ja.rycon.converter.gsi.BaseToolsGSI;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.GSIBlock;
 import de.ryanthara.ja.rycon.elements.RyBlock;
-import de.ryanthara.ja.rycon.tools.SortHelper;
 
-import java.util.ArrayList;
 import java.util.TreeSet;
 
 /**
  * Instances of this class provides functions to split a Leica GSI file by code into separate files.
+ * <p>
+ * The lines are processed one by one while reading. Every processed line is returned together with its code,
+ * so that it can be written directly into the file of the code (e.g. with a
+ * {@link de.ryanthara.ja.rycon.io.PartitionedLineWriter}) without storing or sorting the whole file.
  *
  * @author sebastian
- * @version 2
+ * @version 5
  * @since 12
  */
 public class GSICodeSplit {
 
-    private ArrayList<String> readStringLines;
-    private TreeSet<Integer> foundCodes;
+    /**
+     * Pseudo code for lines without code.
+     */
+    public static final int CODE_LINES_WITHOUT_CODE = 987789;
+
+    private final boolean concatBlankAtLineEnding;
+    private final boolean insertCodeBlock;
+    private final boolean writeLinesWithoutCode;
+    private final TreeSet<Integer> foundCodes;
 
     /**
-     * Constructs a new instance of this class given a read line based text file in Leica GSI format.
+     * Constructs a new instance of this class with the split options.
      *
-     * @param readStringLines {@code ArrayList<String>} with lines as {@code String}
+     * @param insertCodeBlock       if code block is insert into the result string
+     * @param writeLinesWithoutCode if lines without code should be written to a separate file
+     * @param context               processing context with the line ending setting
      */
-    public GSICodeSplit(ArrayList<String> readStringLines) {
-        this.readStringLines = readStringLines;
+    public GSICodeSplit(boolean insertCodeBlock, boolean writeLinesWithoutCode, ProcessingContext context) {
+        this.insertCodeBlock = insertCodeBlock;
+        this.writeLinesWithoutCode = writeLinesWithoutCode;
+        this.concatBlankAtLineEnding = context.getSettings().isLineEndingWithBlank();
         foundCodes = new TreeSet<>();
     }
 
     /**
-     * Returns the found codes as {@code TreeSet<Integer>}.
+     * Returns the found codes of the processed lines as {@code TreeSet<Integer>}.
      * <p>
      * This method is necessary because of the elimination of the code in the string of the read lines.
      *
@@ -59,116 +73,72 @@ public class GSICodeSplit {
     }
 
     /**
-     * Splits a code based Leica GSI file into separate files by code.
+     * Processes one line of a code based Leica GSI file and returns the line with its code.
      * <p>
      * RyCON needs a valid GSI format file with code blocks (WI 71). The block order is equal.
-     * A separate file is generated for every existing code. Lines without code will get the pseudo code '987789'.
+     * Lines without code get the pseudo code '987789'. They are skipped, if they should not be written.
      *
-     * @param insertCodeBlock       if code block is insert into the result string
-     * @param writeLinesWithoutCode if lines without code should be written to a separate file
+     * @param line read line in Leica GSI format
      *
-     * @return converted {@code ArrayList<ArrayList<String>>} for writing
+     * @return processed line with its code as {@link RyBlock} or null if the line is skipped
      */
-    public ArrayList<ArrayList<String>> processCodeSplit(boolean insertCodeBlock, boolean writeLinesWithoutCode) {
-        ArrayList<ArrayList<String>> result = new ArrayList<>();
-        ArrayList<RyBlock> linesWithCode = new ArrayList<>();
-        ArrayList<RyBlock> linesWithOutCode = new ArrayList<>();
-
-        // transform lines into GSI-Blocks
-        BaseToolsGSI baseToolsGSI = new BaseToolsGSI(readStringLines);
-        ArrayList<ArrayList<GSIBlock>> gsiBlocks = baseToolsGSI.getEncodedLinesOfGSIBlocks();
-
-        for (ArrayList<GSIBlock> blocksInLines : gsiBlocks) {
-            // helper for code handling inside the switch statements
-            int code = -1;
-            int validCheckHelperValue = 0;
-            String newLine = null;
-
-            for (GSIBlock block : blocksInLines) {
-                switch (block.getWordIndex()) {
-                    case 11:
-                        newLine = block.toString();
-                        break;
-
-                    case 71:
-                        code = Integer.parseInt(block.getDataGSI());
-                        if (insertCodeBlock) {
-                            newLine = newLine != null ? newLine.concat(" " + block.toString()) : null;
-                        }
-                        break;
-
-                    case 81:
-                        assert newLine != null;
-                        newLine = newLine.concat(" " + block.toString());
-                        validCheckHelperValue += 1;
-                        break;
-
-                    case 82:
-                        assert newLine != null;
-                        newLine = newLine.concat(" " + block.toString());
-                        validCheckHelperValue += 3;
-                        break;
-
-                    case 83:
-                        assert newLine != null;
-                        newLine = newLine.concat(" " + block.toString());
-                        validCheckHelperValue += 6;
-                        break;
-
-                    default:
-                        System.err.println("GSICodeSplit.processCodeSplit() : found wrong word index " + block.toPrintFormatCSV());
-                }
-            }
-
-            newLine = BaseToolsGSI.prepareLineEnding(newLine);
-
-            // split lines with and without code
-            if (((code != -1) & (newLine != null)) & validCheckHelperValue > 1) {
-                foundCodes.add(code);
-                linesWithCode.add(new RyBlock(code, newLine));
-            } else {
-                // use 'blind' code '987789' for this
-                linesWithOutCode.add(new RyBlock(-987789, newLine));
+    public RyBlock processLine(String line) {
+        // helper for code handling inside the switch statements
+        int code = -1;
+        int validCheckHelperValue = 0;
+        String newLine = null;
+
+        for (GSIBlock block : BaseToolsGSI.encodeLine(line)) {
+            switch (block.getWordIndex()) {
+                case 11:
+                    newLine = block.toString();
+                    break;
+
+                case 71:
+                    code = Integer.parseInt(block.getDataGSI());
+                    if (insertCodeBlock) {
+                        newLine = newLine != null ? newLine.concat(" " + block.toString()) : null;
+                    }
+                    break;
+
+                case 81:
+                    assert newLine != null;
+                    newLine = newLine.concat(" " + block.toString());
+                    validCheckHelperValue += 1;
+                    break;
+
+                case 82:
+                    assert newLine != null;
+                    newLine = newLine.concat(" " + block.toString());
+                    validCheckHelperValue += 3;
+                    break;
+
+                case 83:
+                    assert newLine != null;
+                    newLine = newLine.concat(" " + block.toString());
+                    validCheckHelperValue += 6;
+                    break;
+
+                default:
+                    System.err.println("GSICodeSplit.processLine() : found wrong word index " + block.toPrintFormatCSV());
             }
         }
 
-        SortHelper.sortByCode(linesWithCode);
-
-        // helpers for generating a new array for every found code
-        if (linesWithCode.size() > 0) {
-            int code = linesWithCode.get(0).getNumber();
-            ArrayList<String> lineStorage = new ArrayList<>();
-
-            // fill in the sorted textBlocks into an ArrayList<ArrayList<String>> for writing it out
-            for (RyBlock ryBlock : linesWithCode) {
-                if (code == ryBlock.getNumber()) {
-                    lineStorage.add(ryBlock.getString());
-                } else {
-                    result.add(lineStorage);
-                    lineStorage = new ArrayList<>(); // do not use temp.clear()!!!
-                    lineStorage.add(ryBlock.getString());
-                }
-
-                code = ryBlock.getNumber();
-            }
-
-            // insert last element
-            result.add(lineStorage);
-        }
+        newLine = BaseToolsGSI.prepareLineEnding(newLine, concatBlankAtLineEnding);
 
-        // insert lines without code for writing
-        if (writeLinesWithoutCode && (linesWithOutCode.size() > 0)) {
-            ArrayList<String> temp = new ArrayList<>();
+        // split lines with and without code
+        if (((code != -1) & (newLine != null)) & validCheckHelperValue > 1) {
+            foundCodes.add(code);
 
-            for (RyBlock ryBlock : linesWithOutCode) {
-                temp.add(ryBlock.getString());
-            }
+            return new RyBlock(code, newLine);
+        } else if (writeLinesWithoutCode) {
+            // use 'blind' code '987789' for this
+            foundCodes.add(CODE_LINES_WITHOUT_CODE);
 
-            foundCodes.add(987789);
-            result.add(temp);
+            return new RyBlock(CODE_LINES_WITHOUT_CODE, newLine);
         }
 
-        return result;
+        return null;
     }
 
 } // end of GSICodeSplit
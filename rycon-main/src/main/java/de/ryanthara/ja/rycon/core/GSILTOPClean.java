@@ -17,20 +17,15 @@
  */
 package de.ryanthara.ja.rycon.core;
 
-import de.ryanthara.ja.rycon.Main;
 import de.ryanthara.ja.rycon.converter.gsi.BaseToolsGSI;
-import de.ryanthara.ja.rycon.data.DefaultKeys;
-import de.ryanthara.ja.rycon.gui.custom.MessageBoxes;
-import de.ryanthara.ja.rycon.i18n.Labels;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
 import de.ryanthara.ja.rycon.i18n.Warnings;
-import org.eclipse.swt.SWT;
 
 import java.util.ArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static de.ryanthara.ja.rycon.i18n.ResourceBundles.LABELS;
 import static de.ryanthara.ja.rycon.i18n.ResourceBundles.WARNINGS;
 
 /**
@@ -50,21 +45,24 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.WARNINGS;
  * </ul>
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public class GSILTOPClean {
 
     private final static Logger logger = Logger.getLogger(GSILTOPClean.class.getName());
 
+    private final ProcessingContext context;
     private ArrayList<String> readStringLines;
 
     /**
      * Constructs a new instance of this class given a read line based Leica GSI formatted file.
      *
      * @param readStringLines {@code ArrayList<String>} with lines as {@code String}
+     * @param context         processing context with the settings and the warning sink
      */
-    public GSILTOPClean(ArrayList<String> readStringLines) {
+    public GSILTOPClean(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         this.readStringLines = readStringLines;
     }
 
@@ -84,14 +82,16 @@ public class GSILTOPClean {
      * <li>control point ('STKE')</li>
      * </ul>
      * <p>
-     * Free Station lines are identified by the defined free station parameter.
+     * Free Station lines are identified by the defined free station parameter. A station without a control
+     * point in the range of the reference points is added as warning to the processing context. A cancelled
+     * processing context stops the clean up.
      *
      * @return clean up LTOP MES file
      */
     public ArrayList<String> processLTOPClean() {
 
-        final String paramFreeStationString = DefaultKeys.PARAM_FREE_STATION_STRING.getValue();
-        final String paramControlPointString = DefaultKeys.PARAM_CONTROL_POINT_STRING.getValue();
+        final String paramFreeStationString = context.getSettings().getFreeStationIdentifier();
+        final String paramControlPointString = context.getSettings().getControlPointIdentifier();
 
         ArrayList<String> result = new ArrayList<>();
 
@@ -106,6 +106,10 @@ public class GSILTOPClean {
         String currentStation = "", previousLine = "";
 
         for (String line : readStringLines) {
+            if (context.isCancelled()) {
+                break;
+            }
+
             int size = BaseToolsGSI.getBlockSize(line);
 
             if (size == 24) {
@@ -138,9 +142,8 @@ public class GSILTOPClean {
                             range = range + 1;
                         }
                     } else if ((status == 0) & (range == 4)) {                       // no control point in range
-                        MessageBoxes.showMessageBox(Main.shell, SWT.ICON_WARNING,
-                                ResourceBundleUtils.getLangString(LABELS, Labels.warningTextMsgBox),
-                                String.format(ResourceBundleUtils.getLangString(WARNINGS, Warnings.noControlPointsLTOP), currentStation));
+                        context.addWarning(String.format(ResourceBundleUtils.getLangString(WARNINGS,
+                                Warnings.noControlPointsLTOP), currentStation));
 
                         range = range + 1;
                     } else {
@@ -18,6 +18,7 @@
 package de.ryanthara.ja.rycon.core;
 
 import de.ryanthara.ja.rycon.converter.gsi.BaseToolsGSI;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.elements.GSIBlock;
 
 import java.util.ArrayList;
@@ -30,19 +31,22 @@ import java.util.List;
  * Therefore a raising northing and easting coordinate value is added to every read height line.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @since 12
  */
 public class GSILevelling2Cad {
 
+    private final ProcessingContext context;
     private ArrayList<String> readStringLines;
 
     /**
      * Constructs a new instance of this class given a read line based text file in the Leica GSI format.
      *
      * @param readStringLines {@code ArrayList<String>} with lines in Leica GSI format
+     * @param context         processing context with the settings and the warning sink
      */
-    public GSILevelling2Cad(ArrayList<String> readStringLines) {
+    public GSILevelling2Cad(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         this.readStringLines = readStringLines;
     }
 
@@ -118,7 +122,7 @@ public class GSILevelling2Cad {
                         String leveledRounded = leveled.substring(0, 4) + "26" + leveled.substring(6, 7) + "0" + leveled.substring(7, leveled.length() - 1);
 
                         newLine = newLine.concat(" " + leveledRounded);
-                        newLine = BaseToolsGSI.prepareLineEnding(newLine);
+                        newLine = BaseToolsGSI.prepareLineEnding(newLine, context);
 
                         result.add(newLine);
                         lineCounter = lineCounter + 1;
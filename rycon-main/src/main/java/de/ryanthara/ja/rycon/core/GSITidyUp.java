@@ -17,30 +17,33 @@
  */
 package de.ryanthara.ja.rycon.core;
 
-import de.ryanthara.ja.rycon.Main;
-import de.ryanthara.ja.rycon.converter.gsi.BaseToolsGSI;
-import de.ryanthara.ja.rycon.data.PreferenceKeys;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 
 /**
  * Instances of this class provides functions to clean up a Leica GSI formatted file with some smart functions.
+ * <p>
+ * The lines are processed in a single pass by the {@link GSITidyUpEngine}, which can also be used for
+ * processing the lines while reading without storing the file.
  *
  * @author sebastian
- * @version 2
+ * @version 4
  * @since 12
  */
 public class GSITidyUp {
 
+    private final ProcessingContext context;
     private ArrayList<String> readStringLines;
 
     /**
      * Constructs a new instance of this class given read line based Leica GSI formatted file.
      *
      * @param readStringLines {@code ArrayList<String>} with lines as {@code String}
+     * @param context         processing context with the settings and the warning sink
      */
-    public GSITidyUp(ArrayList<String> readStringLines) {
+    public GSITidyUp(ArrayList<String> readStringLines, ProcessingContext context) {
+        this.context = context;
         this.readStringLines = readStringLines;
     }
 
@@ -51,6 +54,19 @@ public class GSITidyUp {
      * structure in the measurement file. Stations are identified by word index (WI).
      * The control and stake out points are identified by the order in the file and
      * with the stake out pattern (e.g. 'STKE').
+     * <p>
+     * Leading free station or station lines and the control points between them are removed, if they
+     * should not be hold. The other lines are classified with the following rules:
+     * <ul>
+     * <li>A target measurement contains three zero coordinates. A line above with the same point number
+     * is a two face target measurement, a line above with the control point identifier is a control point.</li>
+     * <li>A free station or station line contains the station identifier.</li>
+     * <li>A line with the control point identifier is a control point after a free station or the last line.
+     * After the same point number it is a control point, if control points are hold, otherwise a target
+     * measurement. In all other cases it is a measurement value.</li>
+     * <li>All other lines are measurement values.</li>
+     * </ul>
+     * Target measurements are removed, stations and control points are removed, if they should not be hold.
      *
      * @param holdStations      decide to hold station lines
      * @param holdControlPoints decide to hold control points
@@ -58,135 +74,15 @@ public class GSITidyUp {
      * @return converted {@code ArrayList<ArrayList<String>>} for writing
      */
     public ArrayList<String> processTidyUp(boolean holdStations, boolean holdControlPoints) {
-        // initialize values and prepare string with additional zeros for identification
-        String controlPointIdentifier = Main.pref.getUserPreference(PreferenceKeys.PARAM_CONTROL_POINT_STRING);
-        String freeStationIdentifier = "000" + Main.pref.getUserPreference(PreferenceKeys.PARAM_FREE_STATION_STRING);
-        String stationIdentifier = "000" + Main.pref.getUserPreference(PreferenceKeys.PARAM_KNOWN_STATION_STRING);
-
         ArrayList<String> result = new ArrayList<>();
 
-        // handle special case / exception when the file starts with one or more free station or (station) lines
-        String firstRow = readStringLines.get(0).toUpperCase();
-
-        if (firstRow.startsWith("*")) {
-            freeStationIdentifier = "00000000" + freeStationIdentifier;
-            stationIdentifier = "00000000" + stationIdentifier;
-        }
-
-        // breaking out of nested loops with a label called 'breakOut'
-        breakOut:
+        GSITidyUpEngine engine = new GSITidyUpEngine(holdStations, holdControlPoints, context, result::add);
 
-        if (firstRow.contains(freeStationIdentifier) || firstRow.contains(stationIdentifier)) {
-            for (Iterator<String> iter = readStringLines.iterator(); iter.hasNext(); ) {
-                firstRow = iter.next();
-                if (firstRow.toUpperCase().contains(freeStationIdentifier) || firstRow.toUpperCase().contains(stationIdentifier)) {
-                    if (!holdStations) {
-                        iter.remove();
-                    }
-                } else if (firstRow.toUpperCase().contains(controlPointIdentifier)) {
-                    if (!holdControlPoints) {
-                        iter.remove();
-                    }
-                } else {
-                    break breakOut;
-                }
-            }
+        for (String line : readStringLines) {
+            engine.handleLine(line);
         }
 
-        /*
-         * Use a helper array to identify the different lines by 'type'.
-         *
-         * type:
-         * =================================
-         * 1: target measurement
-         * 2: free station
-         * 3: stake out value / control points
-         * 9: measurement value
-         */
-        int[] helperArray = new int[readStringLines.size()];
-
-        /*
-         * Try to detect single and two face measurements of control points.
-         *
-         * A one face measured control point contains only zero values as coordinates. A two face
-         * measured control point contains the coordinates of the control point in the first, and
-         * only zeros in the second line. Therefore the comparison has to be made from current
-         * to previous line!
-         *
-         * The first comparison is made with the biggest integer value.
-         */
-        String currentLine;
-        String previousLine = "12345678901234567890" + Integer.toString(Integer.MAX_VALUE);
-
-        // The operations starts with the last line outside the for-loop!
-        for (int i = 0; i < readStringLines.size(); i++) {
-            currentLine = readStringLines.get(i);
-
-            // detect two face measurement for target measurement
-            String currentPointNumber = BaseToolsGSI.getPointNumber(currentLine);
-            String previousPointNumber = BaseToolsGSI.getPointNumber(previousLine);
-
-            // detect line type
-            if (BaseToolsGSI.isTargetLine(currentLine)) {
-                helperArray[i] = 1;
-
-                if (currentPointNumber.equals(previousPointNumber)) {
-                    helperArray[i - 1] = 1;
-                } else if (previousPointNumber.contains(controlPointIdentifier)) {
-                    helperArray[i - 1] = 3;
-                }
-            } else if (currentLine.contains(freeStationIdentifier) || currentLine.contains(stationIdentifier)) {
-                helperArray[i] = 2;
-            } else if (currentLine.contains(controlPointIdentifier)) {
-
-                // line above is free station
-                if (previousPointNumber.contains(freeStationIdentifier) || currentPointNumber.contains(stationIdentifier)) {
-                    helperArray[i] = 3;
-                }
-                // line above is the same control point -> stake out point is marked as target point
-                else if (currentPointNumber.equals(previousPointNumber)) {
-                    if (holdControlPoints) {
-                        helperArray[i] = 3;
-                    } else {
-                        helperArray[i] = 1;
-                    }
-                }
-                // line above is control point and not last line -> stake out point is measurement value
-                else {
-                    if (i < readStringLines.size() - 1) {
-                        helperArray[i] = 9;
-                    } else {
-                        helperArray[i] = 3;
-                    }
-                }
-            } else {
-                helperArray[i] = 9;
-            }
-            previousLine = currentLine;
-        }
-
-        // preparing the result lines
-        for (int i = 0; i < helperArray.length; i++) {
-            int value = helperArray[i];
-
-            String resultLine = BaseToolsGSI.prepareLineEnding(readStringLines.get(i));
-
-            if (value == 9) {
-                result.add(resultLine);
-            } else {
-                if (holdStations) {
-                    if (value == 2) {
-                        result.add(resultLine);
-                    }
-                }
-
-                if (holdControlPoints) {
-                    if (value == 3) {
-                        result.add(resultLine);
-                    }
-                }
-            }
-        }
+        engine.finish();
 
         return result;
     }
@@ -0,0 +1,240 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.core
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.core;
+
+import de.ryanthara.ja.rycon.converter.gsi.BaseToolsGSI;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
+import de.ryanthara.ja.rycon.io.LineHandler;
+
+/**
+ * Instances of this class tidy up a Leica GSI formatted file line by line in a single pass.
+ * <p>
+ * The read lines are handed over one by one with {@link #handleLine(String)}. Every line is classified as
+ * target measurement, station, control point or measurement value with the rules of {@link GSITidyUp}.
+ * A target measurement can change the type of the line above it (two face measurements and control points).
+ * Therefore a line is handed over to the output handler as soon as the next line is classified. The last
+ * line is handed over by {@link #finish()}.
+ * <p>
+ * The station and control point identifiers are searched only in the point number field (first block)
+ * with a precompiled {@link IdentifierMatcher}.
+ *
+ * @author sebastian
+ * @version 3
+ * @since 25
+ */
+public class GSITidyUpEngine implements LineHandler {
+
+    // line types
+    private static final int TARGET = 1;
+    private static final int STATION = 2;
+    private static final int CONTROL_POINT = 3;
+    private static final int MEASUREMENT = 9;
+
+    // bits of the identifier matcher
+    private static final int FREE_STATION = 1;
+    private static final int KNOWN_STATION = 1 << 1;
+    private static final int CONTROL = 1 << 2;
+    private static final int ANY_STATION = FREE_STATION | KNOWN_STATION;
+
+    private final boolean holdStations;
+    private final boolean holdControlPoints;
+    private final boolean concatBlankAtLineEnding;
+    private final ProcessingContext context;
+    private final LineHandler output;
+    private final String controlPointIdentifier;
+    private final String freeStationIdentifier;
+    private final String stationIdentifier;
+
+    private IdentifierMatcher matcher = null;
+    private boolean isFirstLine = true;
+    private boolean isLeadingStation = false;
+    private boolean isStopped = false;
+
+    // the previous line is held back until its type is final
+    private String previousLine = null;
+    private int previousType = 0;
+    private int previousIdentifiers = 0;
+    private boolean isPreviousOnlyLastControlPoint = false;
+
+    /**
+     * Constructs a new instance of this class with the tidy up options and the handler for the result lines.
+     * <p>
+     * The identifiers are read from the settings of the processing context. The reading is stopped,
+     * if the processing context is cancelled.
+     *
+     * @param holdStations      decide to hold station lines
+     * @param holdControlPoints decide to hold control points
+     * @param context           processing context with the settings
+     * @param output            handler which receives the result lines
+     */
+    public GSITidyUpEngine(boolean holdStations, boolean holdControlPoints, ProcessingContext context,
+                           LineHandler output) {
+        this.holdStations = holdStations;
+        this.holdControlPoints = holdControlPoints;
+        this.context = context;
+        this.output = output;
+
+        // prepare string with additional zeros for identification
+        controlPointIdentifier = context.getSettings().getControlPointIdentifier();
+        freeStationIdentifier = "000" + context.getSettings().getFreeStationIdentifier();
+        stationIdentifier = "000" + context.getSettings().getKnownStationIdentifier();
+
+        concatBlankAtLineEnding = context.getSettings().isLineEndingWithBlank();
+    }
+
+    /**
+     * Hands over the held back last line to the output handler. Has to be called after the last read line.
+     *
+     * @return true if the output handler accepts further lines
+     */
+    public boolean finish() {
+        // a control point in the last line is not a measurement value
+        if (isPreviousOnlyLastControlPoint) {
+            previousType = CONTROL_POINT;
+        }
+
+        boolean result = emitPreviousLine();
+
+        previousLine = null;
+
+        return result;
+    }
+
+    /**
+     * Classifies one read line and hands over the line above to the output handler.
+     *
+     * @param line read line in Leica GSI format
+     *
+     * @return true if the reading should be continued
+     */
+    @Override
+    public boolean handleLine(String line) {
+        if (isStopped || context.isCancelled()) {
+            return false;
+        }
+
+        final int from = line.startsWith("*") ? 8 : 7;
+        final int to = Math.min(line.length(), from + (line.startsWith("*") ? 16 : 8));
+
+        // the identifiers depend on the format of the first line
+        if (isFirstLine) {
+            isFirstLine = false;
+
+            if (line.startsWith("*")) {
+                matcher = new IdentifierMatcher("00000000" + freeStationIdentifier, "00000000" + stationIdentifier,
+                        controlPointIdentifier);
+            } else {
+                matcher = new IdentifierMatcher(freeStationIdentifier, stationIdentifier, controlPointIdentifier);
+            }
+
+            // handle special case when the file starts with one or more free station or (station) lines
+            isLeadingStation = (matcher.match(line, from, to, true) & ANY_STATION) != 0;
+        }
+
+        if (isLeadingStation) {
+            int identifiers = matcher.match(line, from, to, true);
+
+            if ((identifiers & ANY_STATION) != 0) {
+                if (!holdStations) {
+                    return true;
+                }
+            } else if ((identifiers & CONTROL) != 0) {
+                if (!holdControlPoints) {
+                    return true;
+                }
+            } else {
+                isLeadingStation = false;
+            }
+        }
+
+        classifyLine(line, from, to);
+
+        return !isStopped;
+    }
+
+    private void classifyLine(String line, int from, int to) {
+        final int identifiers = matcher.match(line, from, to, false);
+        final boolean isSamePointNumber = previousLine != null && isSamePointNumber(line, from, to);
+
+        int type;
+        boolean isOnlyLastControlPoint = false;
+
+        if (BaseToolsGSI.isTargetLine(line)) {
+            type = TARGET;
+
+            // detect two face measurement for target measurement and control points
+            if (previousLine != null) {
+                if (isSamePointNumber) {
+                    previousType = TARGET;
+                } else if ((previousIdentifiers & CONTROL) != 0) {
+                    previousType = CONTROL_POINT;
+                }
+
+                isPreviousOnlyLastControlPoint = false;
+            }
+        } else if ((identifiers & ANY_STATION) != 0) {
+            type = STATION;
+        } else if ((identifiers & CONTROL) != 0) {
+            if ((previousIdentifiers & FREE_STATION) != 0) {
+                // line above is free station
+                type = CONTROL_POINT;
+            } else if (isSamePointNumber) {
+                // line above is the same control point -> stake out point is marked as target point
+                type = holdControlPoints ? CONTROL_POINT : TARGET;
+            } else {
+                // line above is control point and not last line -> stake out point is measurement value
+                type = MEASUREMENT;
+                isOnlyLastControlPoint = true;
+            }
+        } else {
+            type = MEASUREMENT;
+        }
+
+        emitPreviousLine();
+
+        previousLine = line;
+        previousType = type;
+        previousIdentifiers = identifiers;
+        isPreviousOnlyLastControlPoint = isOnlyLastControlPoint;
+    }
+
+    private boolean emitPreviousLine() {
+        if (previousLine == null || isStopped) {
+            return !isStopped;
+        }
+
+        boolean isWritten = previousType == MEASUREMENT ||
+                (holdStations && previousType == STATION) ||
+                (holdControlPoints && previousType == CONTROL_POINT);
+
+        if (isWritten && !output.handleLine(BaseToolsGSI.prepareLineEnding(previousLine, concatBlankAtLineEnding))) {
+            isStopped = true;
+        }
+
+        return !isStopped;
+    }
+
+    private boolean isSamePointNumber(String line, int from, int to) {
+        final int previousFrom = previousLine.startsWith("*") ? 8 : 7;
+        final int previousTo = Math.min(previousLine.length(), previousFrom + (previousLine.startsWith("*") ? 16 : 8));
+
+        return to - from == previousTo - previousFrom && to >= from &&
+                line.regionMatches(from, previousLine, previousFrom, to - from);
+    }
+
+} // end of GSITidyUpEngine
@@ -0,0 +1,163 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.core
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Instances of this class finds several identifiers (e.g. station and control point identifiers) in a text
+ * with one pass over the text.
+ * <p>
+ * The identifiers are compiled once into an automaton (Aho-Corasick). The result of a match is a bit mask,
+ * in which the bit with the index of an identifier is set, if the identifier is contained in the text.
+ * Like {@link String#contains(CharSequence)} an empty identifier is contained in every text.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+class IdentifierMatcher {
+
+    private final char[] alphabet;
+    private final int[][] transitions;
+    private final int[] outputs;
+
+    /**
+     * Constructs a new instance of this class and compiles the identifiers. At most 32 identifiers are supported.
+     *
+     * @param identifiers identifiers to find
+     */
+    IdentifierMatcher(String... identifiers) {
+        if (identifiers.length > 32) {
+            throw new IllegalArgumentException("at most 32 identifiers are supported");
+        }
+
+        // distinct and sorted characters of all identifiers
+        StringBuilder chars = new StringBuilder();
+
+        for (String identifier : identifiers) {
+            chars.append(identifier);
+        }
+
+        alphabet = chars.chars().distinct().sorted().collect(StringBuilder::new, StringBuilder::appendCodePoint,
+                StringBuilder::append).toString().toCharArray();
+
+        // build the trie of the identifiers
+        List<int[]> trie = new ArrayList<>();
+        List<Integer> trieOutputs = new ArrayList<>();
+
+        trie.add(newState());
+        trieOutputs.add(0);
+
+        for (int i = 0; i < identifiers.length; i++) {
+            int state = 0;
+
+            for (char c : identifiers[i].toCharArray()) {
+                int index = Arrays.binarySearch(alphabet, c);
+
+                if (trie.get(state)[index] < 0) {
+                    trie.get(state)[index] = trie.size();
+                    trie.add(newState());
+                    trieOutputs.add(0);
+                }
+
+                state = trie.get(state)[index];
+            }
+
+            trieOutputs.set(state, trieOutputs.get(state) | (1 << i));
+        }
+
+        transitions = trie.toArray(new int[trie.size()][]);
+        outputs = new int[transitions.length];
+
+        for (int i = 0; i < outputs.length; i++) {
+            outputs[i] = trieOutputs.get(i);
+        }
+
+        // complete the transitions with the failure links in breadth first order
+        int[] failure = new int[transitions.length];
+        Deque<Integer> queue = new ArrayDeque<>();
+
+        for (int index = 0; index < alphabet.length; index++) {
+            if (transitions[0][index] < 0) {
+                transitions[0][index] = 0;
+            } else {
+                failure[transitions[0][index]] = 0;
+                queue.add(transitions[0][index]);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] |= outputs[failure[state]];
+
+            for (int index = 0; index < alphabet.length; index++) {
+                int next = transitions[state][index];
+
+                if (next < 0) {
+                    transitions[state][index] = transitions[failure[state]][index];
+                } else {
+                    failure[next] = transitions[failure[state]][index];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the bit mask of the identifiers, which are contained in a part of the text.
+     *
+     * @param text       text to search in
+     * @param from       index of the first character (inclusive)
+     * @param to         index of the last character (exclusive)
+     * @param ignoreCase true if the text is compared in upper case (like {@link String#toUpperCase()})
+     *
+     * @return bit mask of the contained identifiers
+     */
+    int match(CharSequence text, int from, int to, boolean ignoreCase) {
+        int state = 0;
+        int result = outputs[0];
+
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+
+            if (ignoreCase) {
+                c = Character.toUpperCase(c);
+            }
+
+            int index = Arrays.binarySearch(alphabet, c);
+
+            state = index < 0 ? 0 : transitions[state][index];
+            result |= outputs[state];
+        }
+
+        return result;
+    }
+
+    private int[] newState() {
+        int[] state = new int[alphabet.length];
+        Arrays.fill(state, -1);
+
+        return state;
+    }
+
+} // end of IdentifierMatcher
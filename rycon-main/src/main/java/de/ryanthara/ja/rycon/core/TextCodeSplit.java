@@ -18,9 +18,7 @@
 package de.ryanthara.ja.rycon.core;
 
 import de.ryanthara.ja.rycon.elements.RyBlock;
-import de.ryanthara.ja.rycon.tools.SortHelper;
 
-import java.util.ArrayList;
 import java.util.StringTokenizer;
 import java.util.TreeSet;
 
@@ -28,30 +26,39 @@ import java.util.TreeSet;
  * Instances of this class provides functions to split text based measurement and coordinate files
  * by code into separate files.
  * <p>
- * Therefore a couple of methods and helpers are implemented to do the conversions and
- * operations on the given text files.
+ * The lines are processed one by one while reading. Every processed line is returned together with its code,
+ * so that it can be written directly into the file of the code (e.g. with a
+ * {@link de.ryanthara.ja.rycon.io.PartitionedLineWriter}) without storing or sorting the whole file.
  *
  * @author sebastian
- * @version 5
+ * @version 6
  * @since 1
  */
 public class TextCodeSplit {
 
-    private ArrayList<String> readStringLines;
-    private TreeSet<Integer> foundCodes;
+    /**
+     * Pseudo code for lines without code.
+     */
+    public static final int CODE_LINES_WITHOUT_CODE = 987789;
+
+    private final boolean insertCodeBlock;
+    private final boolean writeLinesWithoutCode;
+    private final TreeSet<Integer> foundCodes;
 
     /**
-     * Constructs a new instance of this class given a read line based text file with a specified format.
+     * Constructs a new instance of this class with the split options.
      *
-     * @param arrayList {@code ArrayList<String>} with lines in text format
+     * @param insertCodeBlock       if code block is insert into the result string
+     * @param writeLinesWithoutCode if lines without code should be written to a separate file
      */
-    public TextCodeSplit(ArrayList<String> arrayList) {
-        this.readStringLines = arrayList;
+    public TextCodeSplit(boolean insertCodeBlock, boolean writeLinesWithoutCode) {
+        this.insertCodeBlock = insertCodeBlock;
+        this.writeLinesWithoutCode = writeLinesWithoutCode;
         foundCodes = new TreeSet<>();
     }
 
     /**
-     * Returns the found codes as an integer array.
+     * Returns the found codes of the processed lines as {@code TreeSet<Integer>}.
      * <p>
      * This is necessary because of the elimination of the code in the string line.
      *
@@ -62,108 +69,69 @@ public class TextCodeSplit {
     }
 
     /**
-     * Splits a code based text file into separate files by code.
+     * Processes one line of a code based text file and returns the line with its code.
      * <p>
-     * A separate file is generated for every existing code. Lines without code will get the pseudo code '987789'.
+     * Lines without code get the pseudo code '987789'. They are skipped, if they should not be written.
      * RyCON need a text file format that is no, code, x, y, z and divided by blank or tab.
      *
-     * @param insertCodeBlock       if code block is insert into the result string
-     * @param writeLinesWithoutCode if lines without code should be written to a separate file
+     * @param line read line in text format
      *
-     * @return converted {@code ArrayList<ArrayList<String>>} for writing
+     * @return processed line with its code as {@link RyBlock} or null if the line is skipped
      */
-    public ArrayList<ArrayList<String>> processCodeSplit(boolean insertCodeBlock, boolean writeLinesWithoutCode) {
-        StringTokenizer stringTokenizer;
-
-        ArrayList<ArrayList<String>> result = new ArrayList<>();
-        ArrayList<RyBlock> linesWithCode = new ArrayList<>();
-        ArrayList<String> linesWithOutCode = new ArrayList<>();
-
-        for (String line : readStringLines) {
-            stringTokenizer = new StringTokenizer(line);
-
-            if (stringTokenizer.countTokens() == 4) {
-                // a line without code contains 4 tokens (no, y, y, z)
-                // number
-                String resultLine = stringTokenizer.nextToken();
-
-                if (insertCodeBlock) {
-                    resultLine = resultLine.concat(" 987789");
-                }
+    public RyBlock processLine(String line) {
+        StringTokenizer stringTokenizer = new StringTokenizer(line);
 
-                String easting = stringTokenizer.nextToken();
-                resultLine = resultLine.concat(" " + easting);
-
-                String northing = stringTokenizer.nextToken();
-                resultLine = resultLine.concat(" " + northing);
-
-                String height = stringTokenizer.nextToken();
-                resultLine = resultLine.concat(" " + height);
-
-                linesWithOutCode.add(resultLine);
-            } else if (stringTokenizer.countTokens() == 5) {
-                // a line with code contains 5 tokens (no, code, y, y, z)
-
-                // number
-                String resultLine = stringTokenizer.nextToken();
+        if (stringTokenizer.countTokens() == 4) {
+            if (!writeLinesWithoutCode) {
+                return null;
+            }
 
-                String code = stringTokenizer.nextToken();
-                foundCodes.add(Integer.parseInt(code));
+            // a line without code contains 4 tokens (no, y, y, z)
+            // number
+            String resultLine = stringTokenizer.nextToken();
 
-                if (insertCodeBlock) {
-                    resultLine = resultLine.concat(" " + code);
-                }
+            if (insertCodeBlock) {
+                resultLine = resultLine.concat(" 987789");
+            }
 
-                String easting = stringTokenizer.nextToken();
-                resultLine = resultLine.concat(" " + easting);
+            String easting = stringTokenizer.nextToken();
+            resultLine = resultLine.concat(" " + easting);
 
-                String northing = stringTokenizer.nextToken();
-                resultLine = resultLine.concat(" " + northing);
+            String northing = stringTokenizer.nextToken();
+            resultLine = resultLine.concat(" " + northing);
 
-                String height = stringTokenizer.nextToken();
-                resultLine = resultLine.concat(" " + height);
+            String height = stringTokenizer.nextToken();
+            resultLine = resultLine.concat(" " + height);
 
-                linesWithCode.add(new RyBlock(Integer.parseInt(code), resultLine));
-            }
-        }
+            foundCodes.add(CODE_LINES_WITHOUT_CODE);
 
-        SortHelper.sortByCode(linesWithCode);
+            return new RyBlock(CODE_LINES_WITHOUT_CODE, resultLine);
+        } else if (stringTokenizer.countTokens() == 5) {
+            // a line with code contains 5 tokens (no, code, y, y, z)
 
-        if (linesWithCode.size() > 0) {
-            // helpers for generating a new array for every found code
-            int code = linesWithCode.get(0).getNumber();
-            ArrayList<String> lineStorage = new ArrayList<>();
+            // number
+            String resultLine = stringTokenizer.nextToken();
 
-            // fill in the sorted textBlocks into an ArrayList<ArrayList<String>> for writing
-            for (RyBlock ryBlock : linesWithCode) {
-                if (code == ryBlock.getNumber()) {
-                    lineStorage.add(ryBlock.getString());
-                } else {
-                    result.add(lineStorage);
-                    lineStorage = new ArrayList<>();
-                    lineStorage.add(ryBlock.getString());
-                }
+            String code = stringTokenizer.nextToken();
+            foundCodes.add(Integer.parseInt(code));
 
-                code = ryBlock.getNumber();
+            if (insertCodeBlock) {
+                resultLine = resultLine.concat(" " + code);
             }
 
-            // insert last element
-            result.add(lineStorage);
-        }
+            String easting = stringTokenizer.nextToken();
+            resultLine = resultLine.concat(" " + easting);
 
-        // insert lines without code for writing
-        if (writeLinesWithoutCode && (linesWithOutCode.size() > 0)) {
-            ArrayList<String> lineStorage = new ArrayList<>();
+            String northing = stringTokenizer.nextToken();
+            resultLine = resultLine.concat(" " + northing);
 
-            for (String textBlock : linesWithOutCode) {
-                lineStorage.add(textBlock);
-            }
+            String height = stringTokenizer.nextToken();
+            resultLine = resultLine.concat(" " + height);
 
-            foundCodes.add(987789);
-            result.add(lineStorage);
+            return new RyBlock(Integer.parseInt(code), resultLine);
         }
 
-        return result;
+        return null;
     }
 
 }  // end of TextFileTools
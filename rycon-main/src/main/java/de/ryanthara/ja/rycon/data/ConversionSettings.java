@@ -0,0 +1,286 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.data
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.data;
+
+import de.ryanthara.ja.rycon.converter.zeiss.ZeissDialect;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Instances of this class are immutable snapshots of the user settings for conversions and tidy ups.
+ * <p>
+ * The settings are read once from the {@link PreferenceHandler} and parsed into typed values (booleans,
+ * numbers, identifiers and the {@link ZeissDialect}). Therefore hot loops don't touch the backing store of
+ * the {@code java.util.prefs} API and a batch job runs against a consistent view of the settings.
+ * <p>
+ * The {@link PreferenceHandler} caches the last snapshot and invalidates it when a preference is changed.
+ *
+ * @author sebastian
+ * @version 2
+ * @see ProcessingContext
+ * @since 25
+ */
+public final class ConversionSettings {
+
+    private final EnumMap<PreferenceKeys, String> values;
+
+    private final boolean isEliminateZeroCoordinate;
+    private final boolean isLTOPUseZenithDistance;
+    private final boolean isLineEndingWithBlank;
+    private final boolean isOverwriteExisting;
+    private final double pointIdenticalDistance;
+    private final int parallelConversions;
+    private final ZeissDialect zeissDialect;
+
+    private final String codeIdentifier;
+    private final String controlPointIdentifier;
+    private final String editIdentifier;
+    private final String freeStationIdentifier;
+    private final String knownStationIdentifier;
+    private final String ltopIdentifier;
+
+    /**
+     * Constructs a new instance of this class with given settings (e.g. for headless processing or tests).
+     * <p>
+     * Settings which are not given, are taken from the {@link DefaultKeys}.
+     *
+     * @param settings settings to be used
+     */
+    public ConversionSettings(Map<PreferenceKeys, String> settings) {
+        values = new EnumMap<>(PreferenceKeys.class);
+
+        for (PreferenceKeys key : PreferenceKeys.values()) {
+            String value = settings.get(key);
+
+            if (value == null) {
+                value = getDefaultValue(key);
+            }
+
+            values.put(key, value);
+        }
+
+        isEliminateZeroCoordinate = Boolean.parseBoolean(values.get(PreferenceKeys.CONVERTER_SETTING_ELIMINATE_ZERO_COORDINATE));
+        isLTOPUseZenithDistance = Boolean.parseBoolean(values.get(PreferenceKeys.CONVERTER_SETTING_LTOP_USE_ZENITH_DISTANCE));
+        isLineEndingWithBlank = Boolean.parseBoolean(values.get(PreferenceKeys.GSI_SETTING_LINE_ENDING_WITH_BLANK));
+        isOverwriteExisting = Boolean.parseBoolean(values.get(PreferenceKeys.OVERWRITE_EXISTING));
+        pointIdenticalDistance = parseDouble(PreferenceKeys.CONVERTER_SETTING_POINT_IDENTICAL_DISTANCE, 0.03);
+        parallelConversions = parseInt(PreferenceKeys.CONVERTER_SETTING_PARALLEL_CONVERSIONS, 0);
+        zeissDialect = parseZeissDialect();
+
+        codeIdentifier = values.get(PreferenceKeys.PARAM_CODE_STRING);
+        controlPointIdentifier = values.get(PreferenceKeys.PARAM_CONTROL_POINT_STRING);
+        editIdentifier = values.get(PreferenceKeys.PARAM_EDIT_STRING);
+        freeStationIdentifier = values.get(PreferenceKeys.PARAM_FREE_STATION_STRING);
+        knownStationIdentifier = values.get(PreferenceKeys.PARAM_KNOWN_STATION_STRING);
+        ltopIdentifier = values.get(PreferenceKeys.PARAM_LTOP_STRING);
+    }
+
+    /**
+     * Creates a new snapshot by reading all user settings of the given {@link PreferenceHandler}.
+     * <p>
+     * Settings which are missing or empty in the preferences, are taken from the {@link DefaultKeys}.
+     *
+     * @param preferenceHandler preference handler to be read
+     *
+     * @return new snapshot
+     */
+    public static ConversionSettings fromPreferences(PreferenceHandler preferenceHandler) {
+        EnumMap<PreferenceKeys, String> settings = new EnumMap<>(PreferenceKeys.class);
+
+        for (PreferenceKeys key : PreferenceKeys.values()) {
+            String value = preferenceHandler.getUserPreference(key);
+
+            // missing keys (e.g. of older preferences) are returned as empty string and taken from the defaults
+            if (value != null && !value.isEmpty()) {
+                settings.put(key, value);
+            }
+        }
+
+        return new ConversionSettings(settings);
+    }
+
+    private static String getDefaultValue(PreferenceKeys key) {
+        try {
+            return DefaultKeys.valueOf(key.name()).getValue();
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Returns the identifier for the code blocks.
+     *
+     * @return code identifier
+     */
+    public String getCodeIdentifier() {
+        return codeIdentifier;
+    }
+
+    /**
+     * Returns the identifier for control points.
+     *
+     * @return control point identifier
+     */
+    public String getControlPointIdentifier() {
+        return controlPointIdentifier;
+    }
+
+    /**
+     * Returns the identifier for edited points.
+     *
+     * @return edit identifier
+     */
+    public String getEditIdentifier() {
+        return editIdentifier;
+    }
+
+    /**
+     * Returns the identifier for free stations.
+     *
+     * @return free station identifier
+     */
+    public String getFreeStationIdentifier() {
+        return freeStationIdentifier;
+    }
+
+    /**
+     * Returns the identifier for known stations.
+     *
+     * @return known station identifier
+     */
+    public String getKnownStationIdentifier() {
+        return knownStationIdentifier;
+    }
+
+    /**
+     * Returns the identifier for LTOP points.
+     *
+     * @return LTOP identifier
+     */
+    public String getLTOPIdentifier() {
+        return ltopIdentifier;
+    }
+
+    /**
+     * Returns the number of parallel conversions. A value of zero means the number of processors.
+     *
+     * @return number of parallel conversions
+     */
+    public int getParallelConversions() {
+        return parallelConversions;
+    }
+
+    /**
+     * Returns the distance in meters for identical points.
+     *
+     * @return distance for identical points
+     */
+    public double getPointIdenticalDistance() {
+        return pointIdenticalDistance;
+    }
+
+    /**
+     * Returns the raw value of a setting from the snapshot.
+     *
+     * @param key key of the setting
+     *
+     * @return value of the setting
+     */
+    public String getSetting(PreferenceKeys key) {
+        return values.get(key);
+    }
+
+    /**
+     * Returns the dialect for Zeiss REC files.
+     *
+     * @return Zeiss dialect
+     */
+    public ZeissDialect getZeissDialect() {
+        return zeissDialect;
+    }
+
+    /**
+     * Returns true if coordinates with zero values has to be eliminated.
+     *
+     * @return true if zero coordinates are eliminated
+     */
+    public boolean isEliminateZeroCoordinate() {
+        return isEliminateZeroCoordinate;
+    }
+
+    /**
+     * Returns true if the LTOP MES files are written with zenith distances.
+     *
+     * @return true if zenith distances are used
+     */
+    public boolean isLTOPUseZenithDistance() {
+        return isLTOPUseZenithDistance;
+    }
+
+    /**
+     * Returns true if the lines of GSI files end with a blank.
+     *
+     * @return true if lines end with a blank
+     */
+    public boolean isLineEndingWithBlank() {
+        return isLineEndingWithBlank;
+    }
+
+    /**
+     * Returns true if existing files has to be overwritten.
+     *
+     * @return true if existing files are overwritten
+     */
+    public boolean isOverwriteExisting() {
+        return isOverwriteExisting;
+    }
+
+    private double parseDouble(PreferenceKeys key, double defaultValue) {
+        try {
+            return Double.parseDouble(values.get(key));
+        } catch (NumberFormatException e) {
+            System.err.println("Can't convert the setting " + key + " to double, use the default value " + defaultValue);
+
+            return defaultValue;
+        }
+    }
+
+    private int parseInt(PreferenceKeys key, int defaultValue) {
+        try {
+            return Integer.parseInt(values.get(key));
+        } catch (NumberFormatException e) {
+            System.err.println("Can't convert the setting " + key + " to int, use the default value " + defaultValue);
+
+            return defaultValue;
+        }
+    }
+
+    private ZeissDialect parseZeissDialect() {
+        String value = values.get(PreferenceKeys.CONVERTER_SETTING_ZEISS_DIALECT);
+
+        try {
+            return ZeissDialect.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown Zeiss dialect " + value + " in the settings, use the dialect M5");
+
+            return ZeissDialect.M5;
+        }
+    }
+
+} // end of ConversionSettings
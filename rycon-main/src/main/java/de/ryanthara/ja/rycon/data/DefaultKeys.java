@@ -29,13 +29,14 @@ import java.util.logging.Logger;
  * This enumeration is used for encapsulating the data.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @since 2.0
  */
 public enum DefaultKeys {
 
     CONVERTER_SETTING_ELIMINATE_ZERO_COORDINATE("true"),
     CONVERTER_SETTING_LTOP_USE_ZENITH_DISTANCE("false"),
+    CONVERTER_SETTING_PARALLEL_CONVERSIONS("0"),
     CONVERTER_SETTING_POINT_IDENTICAL_DISTANCE("0.03"),
     CONVERTER_SETTING_ZEISS_DIALECT("M5"),
 
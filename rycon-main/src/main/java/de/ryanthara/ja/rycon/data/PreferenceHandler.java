@@ -40,15 +40,18 @@ import java.util.prefs.Preferences;
  * - Under Windows in a location like 'HKEY_CURRENT_USER\Software\JavaSoft\Prefs\de\ryanthara\ja'
  * - Under OS X in a location ~/Library/PreferenceKeys/de.ryanthara.ja.plist
  * - Under *nix in a location /etc/.java/.systemPrefs
+ * <p>
+ * A typed snapshot of the settings for conversions is cached and invalidated when a preference is changed.
  *
  * @author sebastian
- * @version 8
+ * @version 11
  * @since 1
  */
 public class PreferenceHandler implements PreferenceChangeListener {
     private final static Logger logger = Logger.getLogger(PreferenceHandler.class.getName());
     private boolean isDefaultSettingsGenerated = false;
     private Preferences userPreferences;
+    private volatile ConversionSettings conversionSettings;
 
     /**
      * Constructs a new instance of this class and initializes the configuration handling.
@@ -87,6 +90,25 @@ public class PreferenceHandler implements PreferenceChangeListener {
         }
     }
 
+    /**
+     * Returns an immutable snapshot of the user settings for conversions. The snapshot is cached
+     * until a preference is changed.
+     *
+     * @return snapshot of the settings
+     *
+     * @since 25
+     */
+    public ConversionSettings getConversionSettings() {
+        ConversionSettings settings = conversionSettings;
+
+        if (settings == null) {
+            settings = ConversionSettings.fromPreferences(this);
+            conversionSettings = settings;
+        }
+
+        return settings;
+    }
+
     /**
      * Returns a system preference by given name.
      *
@@ -122,12 +144,15 @@ public class PreferenceHandler implements PreferenceChangeListener {
      * This method gets called when a preference is added, removed or when
      * its value is changed.
      * <p>
+     * The cached snapshot of the settings is invalidated.
      *
      * @param evt A PreferenceChangeEvent object describing the event source
      *            and the preference that has changed.
      */
     @Override
     public void preferenceChange(PreferenceChangeEvent evt) {
+        conversionSettings = null;
+
         logger.log(Level.FINE, "called preferenceChange");
     }
 
@@ -141,6 +166,9 @@ public class PreferenceHandler implements PreferenceChangeListener {
      */
     public void setUserPreference(final PreferenceKeys preference, final String value) {
         userPreferences.put(preference.name(), value);
+
+        // the change events are delivered asynchronously, therefore the cache is invalidated here too
+        conversionSettings = null;
     }
 
     /**
@@ -160,6 +188,7 @@ public class PreferenceHandler implements PreferenceChangeListener {
      * <li>'DIR_PROJECT_TEMPLATE' - './project/template-folder' </li>
      * <li>'CONVERTER_SETTING_ELIMINATE_ZERO_COORDINATE' -  'true' </li>
      * <li>'CONVERTER_SETTING_LTOP_USE_ZENITH_DISTANCE' -  'false' </li>
+     * <li>'CONVERTER_SETTING_PARALLEL_CONVERSIONS' -  '0' (number of processors) </li>
      * <li>'CONVERTER_SETTING_ZEISS_DIALECT' - 'M5' </li>
      * <li>'GSI_SETTING_LINE_ENDING_WITH_BLANK' -  'true' </li>
      * <li>'OVERWRITE_EXISTING' - 'false' </li>
@@ -217,6 +246,8 @@ public class PreferenceHandler implements PreferenceChangeListener {
         // parameters for module #6 - converter
         setUserPreference(PreferenceKeys.CONVERTER_SETTING_ELIMINATE_ZERO_COORDINATE, DefaultKeys.CONVERTER_SETTING_ELIMINATE_ZERO_COORDINATE.getValue());
         setUserPreference(PreferenceKeys.CONVERTER_SETTING_LTOP_USE_ZENITH_DISTANCE, DefaultKeys.CONVERTER_SETTING_LTOP_USE_ZENITH_DISTANCE.getValue());
+        setUserPreference(PreferenceKeys.CONVERTER_SETTING_PARALLEL_CONVERSIONS, DefaultKeys.CONVERTER_SETTING_PARALLEL_CONVERSIONS.getValue());
+        setUserPreference(PreferenceKeys.CONVERTER_SETTING_POINT_IDENTICAL_DISTANCE, DefaultKeys.CONVERTER_SETTING_POINT_IDENTICAL_DISTANCE.getValue());
         setUserPreference(PreferenceKeys.CONVERTER_SETTING_ZEISS_DIALECT, DefaultKeys.CONVERTER_SETTING_ZEISS_DIALECT.getValue());
 
         // GSI file format settings
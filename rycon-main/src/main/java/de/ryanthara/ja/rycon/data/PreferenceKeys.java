@@ -21,7 +21,7 @@ package de.ryanthara.ja.rycon.data;
  * The <tt>PreferenceKeys</tt> enumeration holds all of the preference keys for <tt>RyCON</tt>.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @see PreferenceHandler
  * @since 23
  */
@@ -30,6 +30,7 @@ public enum PreferenceKeys {
     BUILD_VERSION,
     CONVERTER_SETTING_ELIMINATE_ZERO_COORDINATE,
     CONVERTER_SETTING_LTOP_USE_ZENITH_DISTANCE,
+    CONVERTER_SETTING_PARALLEL_CONVERSIONS,
     CONVERTER_SETTING_POINT_IDENTICAL_DISTANCE,
     CONVERTER_SETTING_ZEISS_DIALECT,
     DIR_ADMIN,
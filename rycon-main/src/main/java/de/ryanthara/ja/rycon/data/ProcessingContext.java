@@ -0,0 +1,132 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.data
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Instances of this class hold the context of a file processing (e.g. a conversion or a tidy up) on
+ * a worker thread.
+ * <p>
+ * The context consists of a snapshot of the user settings, a sink for warnings and a cancellation flag.
+ * The processors of the packages {@code core} and {@code converter} and the read and write classes of the
+ * converter widget read their settings from the context instead of the global {@code Main.pref} and
+ * collect their warnings instead of showing message boxes. Therefore they can run concurrently on worker
+ * threads, headless or in tests. The warnings are shown once after the processing by the caller.
+ * <p>
+ * The settings are an immutable {@link ConversionSettings} snapshot. Changes of the preferences while
+ * processing are not visible in a running context.
+ *
+ * @author sebastian
+ * @version 2
+ * @since 25
+ */
+public class ProcessingContext {
+
+    private final ConversionSettings settings;
+    private final ConcurrentLinkedQueue<String> warnings = new ConcurrentLinkedQueue<>();
+    private volatile boolean isCancelled = false;
+
+    /**
+     * Constructs a new instance of this class with given settings (e.g. for headless processing or tests).
+     * <p>
+     * Settings which are not given, are taken from the {@link DefaultKeys}.
+     *
+     * @param settings settings to be used
+     */
+    public ProcessingContext(Map<PreferenceKeys, String> settings) {
+        this(new ConversionSettings(settings));
+    }
+
+    /**
+     * Constructs a new instance of this class with a given snapshot of the settings.
+     *
+     * @param settings snapshot of the settings
+     */
+    public ProcessingContext(ConversionSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Creates a new context with the cached snapshot of the user settings of the given {@link PreferenceHandler}.
+     *
+     * @param preferenceHandler preference handler to be read
+     *
+     * @return new context
+     */
+    public static ProcessingContext fromPreferences(PreferenceHandler preferenceHandler) {
+        return new ProcessingContext(preferenceHandler.getConversionSettings());
+    }
+
+    /**
+     * Adds a warning, which is shown to the user after the processing. This method can be called
+     * from several worker threads.
+     *
+     * @param warning warning message
+     */
+    public void addWarning(String warning) {
+        warnings.add(warning);
+    }
+
+    /**
+     * Cancels the processing. The processors check the flag with {@link #isCancelled()}.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    /**
+     * Returns the snapshot of the settings.
+     *
+     * @return snapshot of the settings
+     */
+    public ConversionSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Returns the collected warnings in the order they were added.
+     *
+     * @return collected warnings
+     */
+    public List<String> getWarnings() {
+        return new ArrayList<>(warnings);
+    }
+
+    /**
+     * Returns true if at least one warning was added.
+     *
+     * @return true if warnings were added
+     */
+    public boolean hasWarnings() {
+        return !warnings.isEmpty();
+    }
+
+    /**
+     * Returns true if the processing was cancelled.
+     *
+     * @return true if cancelled
+     */
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+} // end of ProcessingContext
@@ -34,16 +34,35 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.WORDINDICES;
  * <p>
  * The GSI interface is composed in a sequence of blocks, ending with a terminator (CR or CR/LF).
  * The later introduced enhanced GSI16 format starts every line with a <code>*</code> sign.
+ * <p>
+ * Because of the big number of blocks in large files, the values are stored in a compact primitive form.
+ * The four characters of the information are packed into an int, the sign is stored as a bit and numeric
+ * data is stored as long value together with it's length. Only alphanumeric data (e.g. point numbers) is
+ * stored as {@code char[]}. Blocks with an unusual information or sign are stored unpacked.
  *
  * @author sebastian
- * @version 5
+ * @version 10
  * @since 8
  */
 public class GSIBlock {
 
-    private boolean isGSI16;
-    private int wordIndex;
-    private String dataGSI, information, sign;
+    private static final byte FLAG_GSI16 = 1;
+    private static final byte FLAG_NEGATIVE = 2;
+    private static final byte FLAG_NUMERIC_DATA = 4;
+    private static final byte MAX_NUMERIC_DATA_LENGTH = 18;
+    private static final int NO_DOT = Integer.MIN_VALUE;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+            10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+            1000000000000000L, 10000000000000000L, 100000000000000000L};
+
+    private byte wordIndex;
+    private byte flags;
+    private byte numericDataLength;
+    private int packedInformation;
+    private long numericData;
+    private char[] alphanumericData;
+    private String[] unpackedInformationAndSign;
 
     /**
      * Constructs a new instance of this class given a read GSI block as string.
@@ -55,11 +74,11 @@ public class GSIBlock {
     public GSIBlock(String blockAsString) {
         blockAsString = blockAsString.trim();
 
-        this.isGSI16 = blockAsString.length() == 23;
-        this.wordIndex = Integer.parseInt(blockAsString.substring(0, 2));
-        this.information = blockAsString.substring(2, 6);
-        this.sign = blockAsString.substring(6, 7);
-        this.dataGSI = blockAsString.substring(7, blockAsString.length());
+        this.wordIndex = (byte) Integer.parseInt(blockAsString.substring(0, 2));
+
+        setGSI16(blockAsString.length() == 23);
+        setInformationAndSign(blockAsString.substring(2, 6), blockAsString.substring(6, 7));
+        setDataGSI(blockAsString.substring(7, blockAsString.length()));
     }
 
     /**
@@ -77,10 +96,13 @@ public class GSIBlock {
         int length = isGSI16 ? 16 : 8;
 
         if (wordIndex == 11) {
-            this.wordIndex = wordIndex;
-            this.information = String.format("%04d", lineNumber);
-            this.sign = "+";
-            this.dataGSI = fillWithZeros(length, dataGSI);
+            this.wordIndex = (byte) wordIndex;
+
+            setInformationAndSign(String.format("%04d", lineNumber), "+");
+            setDataGSI(fillWithZeros(length, dataGSI));
+        } else {
+            setInformationAndSign(null, null);
+            setDataGSI(null);
         }
     }
 
@@ -98,15 +120,17 @@ public class GSIBlock {
      */
     public GSIBlock(boolean isGSI16, int wordIndex, String dataGSI) {
         int length = isGSI16 ? 16 : 8;
+        String information;
+        String sign = getSign(dataGSI);
 
-        this.wordIndex = wordIndex;
+        this.wordIndex = (byte) wordIndex;
 
-        dataGSI = removeSign(dataGSI);                          // sets the sign internally
+        dataGSI = removeSign(dataGSI);
 
         if (wordIndex == 71) {                                  // code
-            this.information = "..46";
+            information = "..46";
         } else if ((wordIndex > 80) & (wordIndex < 90)) {       // coordinates
-            this.information = "..46";
+            information = "..46";
 
             try {
                 Double d = Double.parseDouble(dataGSI);
@@ -126,10 +150,11 @@ public class GSIBlock {
             }
         } else {
             // not used other values
-            this.information = "..4.";
+            information = "..4.";
         }
 
-        this.dataGSI = fillWithZeros(length, dataGSI);
+        setInformationAndSign(information, sign);
+        setDataGSI(fillWithZeros(length, dataGSI));
     }
 
     /**
@@ -145,9 +170,9 @@ public class GSIBlock {
      * @param dataGSI     GSI8 data (pos 8-15) or GSI16 data (pos8-23)
      */
     public GSIBlock(boolean isGSI16, int wordIndex, String information, String sign, String dataGSI) {
-        this.wordIndex = wordIndex;
-        this.information = information;
-        this.sign = sign;
+        this.wordIndex = (byte) wordIndex;
+
+        setInformationAndSign(information, sign);
 
         char[] leadingZeros;
 
@@ -159,7 +184,62 @@ public class GSIBlock {
         }
         Arrays.fill(leadingZeros, '0');
 
-        this.dataGSI = new String(leadingZeros) + dataGSI.substring(0, dataGSI.length());
+        setDataGSI(new String(leadingZeros) + dataGSI.substring(0, dataGSI.length()));
+    }
+
+    /**
+     * Constructs a new instance of this class given its GSI8/GSI16 identifier, the word index, the packed information
+     * related to data, the sign and the numeric data as long value with its length.
+     * <p>
+     * This constructor is used to build a block out of the columns of an encoded data set without creating
+     * intermediate strings.
+     *
+     * @param isGSI16           boolean for indicating a GSI16 file
+     * @param wordIndex         word index (pos 1-2)
+     * @param packedInformation information related to data (pos 3-6) with one ISO-8859-1 character per byte
+     * @param isNegative        true if the sign (pos 7) is '-'
+     * @param numericData       numeric data without sign
+     * @param numericDataLength number of digits of the data including leading zeros
+     *
+     * @since 25
+     */
+    public GSIBlock(boolean isGSI16, int wordIndex, int packedInformation, boolean isNegative, long numericData,
+                    int numericDataLength) {
+        this.wordIndex = (byte) wordIndex;
+        this.flags = FLAG_NUMERIC_DATA;
+        this.packedInformation = packedInformation;
+        this.numericData = numericData;
+        this.numericDataLength = (byte) numericDataLength;
+
+        setGSI16(isGSI16);
+        setNegative(isNegative);
+    }
+
+    /**
+     * Constructs a new instance of this class given its GSI8/GSI16 identifier, the word index, the packed information
+     * related to data, the sign and the alphanumeric data as part of a character array.
+     * <p>
+     * This constructor is used to build a block out of the columns of an encoded data set without creating
+     * intermediate strings. The characters are copied.
+     *
+     * @param isGSI16           boolean for indicating a GSI16 file
+     * @param wordIndex         word index (pos 1-2)
+     * @param packedInformation information related to data (pos 3-6) with one ISO-8859-1 character per byte
+     * @param isNegative        true if the sign (pos 7) is '-'
+     * @param data              character array with the alphanumeric data
+     * @param offset            index of the first data character
+     * @param length            number of data characters
+     *
+     * @since 25
+     */
+    public GSIBlock(boolean isGSI16, int wordIndex, int packedInformation, boolean isNegative, char[] data, int offset,
+                    int length) {
+        this.wordIndex = (byte) wordIndex;
+        this.packedInformation = packedInformation;
+        this.alphanumericData = Arrays.copyOfRange(data, offset, offset + length);
+
+        setGSI16(isGSI16);
+        setNegative(isNegative);
     }
 
     /**
@@ -168,7 +248,109 @@ public class GSIBlock {
      * @return gsi data as string
      */
     public String getDataGSI() {
-        return dataGSI;
+        if ((flags & FLAG_NUMERIC_DATA) != 0) {
+            char[] digits = new char[numericDataLength];
+            long value = numericData;
+
+            for (int i = digits.length - 1; i >= 0; i--) {
+                digits[i] = (char) ('0' + value % 10);
+                value = value / 10;
+            }
+
+            return new String(digits);
+        } else if (alphanumericData != null) {
+            return new String(alphanumericData);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the gsi data as long value, if the data contains only digits.
+     * <p>
+     * The sign is not included, use {@link #getSign()} for it.
+     *
+     * @return gsi data as long value
+     *
+     * @throws NumberFormatException if the data is alphanumeric
+     */
+    public long getDataAsLong() {
+        if ((flags & FLAG_NUMERIC_DATA) != 0) {
+            return numericData;
+        } else {
+            throw new NumberFormatException("GSI block contains alphanumeric data: " + getDataGSI());
+        }
+    }
+
+    /**
+     * Returns the number of data characters (e.g. 8 for GSI8 or 16 for GSI16) without creating a string.
+     *
+     * @return number of data characters
+     *
+     * @since 25
+     */
+    public int getDataLength() {
+        if ((flags & FLAG_NUMERIC_DATA) != 0) {
+            return numericDataLength;
+        } else {
+            return alphanumericData != null ? alphanumericData.length : 0;
+        }
+    }
+
+    /**
+     * Returns the information related to data (pos 3-6) as string.
+     *
+     * @return information related to data
+     */
+    public String getInformation() {
+        if (unpackedInformationAndSign != null) {
+            return unpackedInformationAndSign[0];
+        } else {
+            char[] chars = new char[4];
+
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) ((packedInformation >>> (24 - 8 * i)) & 0xFF);
+            }
+
+            return new String(chars);
+        }
+    }
+
+    /**
+     * Returns the information related to data (pos 3-6) packed into an integer value with one
+     * ISO-8859-1 character per byte, e.g. '..46' as 0x2E2E3436.
+     * <p>
+     * Missing characters of an unusual information are packed as zero.
+     *
+     * @return packed information related to data
+     */
+    public int getPackedInformation() {
+        if (unpackedInformationAndSign != null) {
+            String information = unpackedInformationAndSign[0];
+            int packed = 0;
+
+            for (int i = 0; i < 4; i++) {
+                char c = information != null && i < information.length() ? information.charAt(i) : 0;
+                packed = (packed << 8) | (c & 0xFF);
+            }
+
+            return packed;
+        } else {
+            return packedInformation;
+        }
+    }
+
+    /**
+     * Returns the sign (pos 7) as string.
+     *
+     * @return sign as string ('+' or '-')
+     */
+    public String getSign() {
+        if (unpackedInformationAndSign != null) {
+            return unpackedInformationAndSign[1];
+        } else {
+            return (flags & FLAG_NEGATIVE) != 0 ? "-" : "+";
+        }
     }
 
     /**
@@ -180,83 +362,140 @@ public class GSIBlock {
         return wordIndex;
     }
 
+    /**
+     * Returns true if the information related to data and the sign are usual values, which are stored packed.
+     * <p>
+     * An information with four ISO-8859-1 characters and a sign '+' or '-' is stored packed. Other values
+     * are stored unpacked to get the identical output.
+     *
+     * @return true if information and sign are stored packed
+     *
+     * @since 25
+     */
+    public boolean hasPackedInformation() {
+        return unpackedInformationAndSign == null;
+    }
+
     /**
      * Returns true if GSIBlock is GSI16 format.
      *
      * @return true if GSIBlock is GSI16 format
      */
     public boolean isGSI16() {
-        return isGSI16;
+        return (flags & FLAG_GSI16) != 0;
     }
 
     /**
-     * Returns a GSIBlock in csv format without separation sign. No additional invisible spaces are created.
+     * Returns true if the sign (pos 7) is '-'.
      *
-     * @return formatted {@code String} for CSV output
+     * @return true for negative values
      */
-    public String toPrintFormatCSV() {
-        return this.toPrintFormatTXT().trim();
+    public boolean isNegative() {
+        return "-".equals(getSign());
     }
 
     /**
-     * Returns a GSIBlock in a printable format filled up with invisible spaces to a defined length (e.g. 16 characters).
+     * Returns true if the gsi data contains only digits and is stored as long value.
      *
-     * @return formatted {@code String} for column based TXT output
+     * @return true if the gsi data is numeric
      */
-    // TODO: 29.10.16 checks the right length for print string length (16, 17, sign)
-    public String toPrintFormatTXT() {
-        String s = this.dataGSI;
-        int length = s.length();
+    public boolean isNumericData() {
+        return (flags & FLAG_NUMERIC_DATA) != 0;
+    }
+
+    /**
+     * Appends the GSIBlock in csv format without separation sign to the given {@link StringBuilder}.
+     * No additional invisible spaces are created.
+     * <p>
+     * The output is the same as from {@link #toPrintFormatCSV()}, but no intermediate strings are created.
+     *
+     * @param stringBuilder string builder to append to
+     */
+    public void appendPrintFormatCSV(StringBuilder stringBuilder) {
+        int start = stringBuilder.length();
+
+        appendPrintFormatTXT(stringBuilder);
+
+        // trim the appended part like String.trim()
+        int end = stringBuilder.length();
+
+        while (end > start && stringBuilder.charAt(end - 1) <= ' ') {
+            end = end - 1;
+        }
+
+        stringBuilder.setLength(end);
 
-        StringBuilder stringBuilder;
+        int first = start;
+
+        while (first < end && stringBuilder.charAt(first) <= ' ') {
+            first = first + 1;
+        }
+
+        if (first > start) {
+            stringBuilder.delete(start, first);
+        }
+    }
+
+    /**
+     * Appends the GSIBlock in a printable format filled up with invisible spaces to a defined length
+     * (e.g. 16 characters) to the given {@link StringBuilder}.
+     * <p>
+     * The output is the same as from {@link #toPrintFormatTXT()}, but the characters are written directly
+     * into the string builder without regular expressions, format strings or intermediate strings.
+     *
+     * @param stringBuilder string builder to append to
+     */
+    public void appendPrintFormatTXT(StringBuilder stringBuilder) {
+        int length;
 
         switch (wordIndex) {
             case 11:        // point number
-                s = preparePrintString(s);
+                length = getDataLength();
+                appendTrimmed(stringBuilder, NO_DOT, "", length);
                 break;
             case 21:        // angle Hz
             case 22:        // angle Vz
             case 24:        // angle Hz0
             case 25:        // angle difference (Hz0 - Hz)
-                if (this.information.endsWith("2") || this.information.endsWith("3")) {
-                    stringBuilder = new StringBuilder(s);
-                    s = stringBuilder.insert(length - 5, ".").toString();
-                    s = trimLeadingZeros(s);
-                    s = fillWithSpaces(length + 1, s);
+                length = getDataLength();
+
+                if (informationEndsWith('2') || informationEndsWith('3')) {
+                    appendTrimmed(stringBuilder, length - 5, "", length + 1);
+                } else {
+                    appendData(stringBuilder);
                 }
                 break;
             case 26:        // offset
             case 27:        // angle Vz0
             case 28:        // angle difference (Vz0 - Vz)
+                appendData(stringBuilder);
                 break;
             case 31:        // slope distance
             case 32:        // horizontal distance
             case 33:        // height difference
-                stringBuilder = new StringBuilder(s);
-
-                if (this.information.endsWith("0")) {
-                    s = stringBuilder.insert(length - 3, ".").toString();
-                } else if (this.information.endsWith("6")) {
-                    s = stringBuilder.insert(length - 4, ".").toString();
-                } else if (this.information.endsWith("8")) {
-                    s = stringBuilder.insert(length - 5, ".").toString();
+                length = getDataLength();
+
+                int dotPosition;
+
+                if (informationEndsWith('0')) {
+                    dotPosition = length - 3;
+                } else if (informationEndsWith('6')) {
+                    dotPosition = length - 4;
+                } else if (informationEndsWith('8')) {
+                    dotPosition = length - 5;
                 } else {
-                    s = stringBuilder.insert(length - 3, ".").toString();
+                    dotPosition = length - 3;
                 }
 
-                s = insertMinusSign(s);
-                s = fillWithSpaces(length + 2, s);
+                appendTrimmed(stringBuilder, dotPosition, getMinusSign(), length + 2);
                 break;
             case 41:        // code
-                s = trimLeadingZeros(s);
-                s = fillWithSpaces(length, s);
+                length = getDataLength();
+                appendTrimmed(stringBuilder, NO_DOT, "", length);
                 break;
             case 58:        // addition constant in 1/10 mm
-                stringBuilder = new StringBuilder(s);
-                s = stringBuilder.insert(length - 4, ".").toString();
-
-                s = this.sign + trimLeadingZeros(s);
-                s = fillWithSpaces(length, s);
+                length = getDataLength();
+                appendTrimmed(stringBuilder, length - 4, String.valueOf(getSign()), length);
                 break;
             case 71:        // comment 1, mostly used for code
             case 72:        // attribute 1
@@ -267,7 +506,8 @@ public class GSIBlock {
             case 77:        // attribute 6
             case 78:        // attribute 7
             case 79:        // attribute 8
-                s = preparePrintString(s);
+                length = getDataLength();
+                appendTrimmed(stringBuilder, NO_DOT, "", length);
                 break;
             case 81:        // easting E
             case 82:        // northing N
@@ -277,25 +517,48 @@ public class GSIBlock {
             case 86:        // height H0
             case 87:        // target height
             case 88:        // instrument height
-                stringBuilder = new StringBuilder(s);
+                length = getDataLength();
 
-                if (this.information.endsWith("0")) {           // mm
-                    s = stringBuilder.insert(this.dataGSI.length() - 3, ".").toString();
-                } else if (this.information.endsWith("6")) {    // 1/10 mm
-                    s = stringBuilder.insert(this.dataGSI.length() - 4, ".").toString();
+                if (informationEndsWith('0')) {                 // mm
+                    dotPosition = length - 3;
+                } else if (informationEndsWith('6')) {          // 1/10 mm
+                    dotPosition = length - 4;
+                } else {
+                    dotPosition = NO_DOT;
                 }
 
-                s = insertMinusSign(s);
-
                 // add two spaces, one for the sign and one for the decimal dot
-                s = fillWithSpaces(length + 2, s);
+                appendTrimmed(stringBuilder, dotPosition, getMinusSign(), length + 2);
                 break;
             default:
-                s = ResourceBundleUtils.getLangString(WORDINDICES, WordIndices.WI9999);
-                System.err.println("GSIBlock.toPrintFormatTXT() : block contains the wrong word index " + dataGSI);
+                stringBuilder.append(ResourceBundleUtils.getLangString(WORDINDICES, WordIndices.WI9999));
+                System.err.println("GSIBlock.toPrintFormatTXT() : block contains the wrong word index " + getDataGSI());
         }
+    }
 
-        return s;
+    /**
+     * Returns a GSIBlock in csv format without separation sign. No additional invisible spaces are created.
+     *
+     * @return formatted {@code String} for CSV output
+     */
+    public String toPrintFormatCSV() {
+        StringBuilder stringBuilder = new StringBuilder(24);
+        appendPrintFormatCSV(stringBuilder);
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Returns a GSIBlock in a printable format filled up with invisible spaces to a defined length (e.g. 16 characters).
+     *
+     * @return formatted {@code String} for column based TXT output
+     */
+    // TODO: 29.10.16 checks the right length for print string length (16, 17, sign)
+    public String toPrintFormatTXT() {
+        StringBuilder stringBuilder = new StringBuilder(24);
+        appendPrintFormatTXT(stringBuilder);
+
+        return stringBuilder.toString();
     }
 
     /**
@@ -304,7 +567,7 @@ public class GSIBlock {
      * @return GSIBlock as String
      */
     public String toString() {
-        return wordIndex + information + sign + dataGSI;
+        return wordIndex + getInformation() + getSign() + getDataGSI();
     }
 
     /**
@@ -317,6 +580,10 @@ public class GSIBlock {
      * @return GSIBlock as String depending on format GSI8/GSI16
      */
     public String toString(boolean isGSI16) {
+        final String dataGSI = getDataGSI();
+        final String information = getInformation();
+        final String sign = getSign();
+
         String data;
         String leadingZeros = "00000000";
         String result;
@@ -338,9 +605,60 @@ public class GSIBlock {
         return result;
     }
 
-    private String fillWithSpaces(int length, String input) {
-        String format = "%" + length + "." + length + "s";
-        return String.format(format, input);
+    private void appendData(StringBuilder stringBuilder) {
+        int length = getDataLength();
+
+        for (int i = 0; i < length; i++) {
+            stringBuilder.append(getDataChar(i));
+        }
+    }
+
+    /*
+     * Appends the data with an optional inserted decimal dot, cut off leading zeros (at least one character is left),
+     * a leading zero for values starting with the decimal dot and a prefix. The result is right aligned and filled up
+     * with spaces or cut off to the given width. This is the same as the former chain of StringBuilder.insert(),
+     * the regex "^0+(?!$)" and String.format("%width.widths").
+     */
+    private void appendTrimmed(StringBuilder stringBuilder, int dotPosition, String prefix, int width) {
+        int dataLength = getDataLength();
+
+        if (dotPosition != NO_DOT && (dotPosition < 0 || dotPosition > dataLength)) {
+            throw new StringIndexOutOfBoundsException(dotPosition);
+        }
+
+        int length = dotPosition == NO_DOT ? dataLength : dataLength + 1;
+
+        // cut off leading zeros
+        int first = 0;
+
+        while (first < length - 1 && getCharWithDot(first, dotPosition) == '0') {
+            first = first + 1;
+        }
+
+        boolean leadingZero = first < length && getCharWithDot(first, dotPosition) == '.';
+
+        int contentLength = prefix.length() + (leadingZero ? 1 : 0) + length - first;
+
+        for (int i = contentLength; i < width; i++) {
+            stringBuilder.append(' ');
+        }
+
+        int written = 0;
+
+        for (int i = 0; i < prefix.length() && written < width; i++) {
+            stringBuilder.append(prefix.charAt(i));
+            written = written + 1;
+        }
+
+        if (leadingZero && written < width) {
+            stringBuilder.append('0');
+            written = written + 1;
+        }
+
+        for (int i = first; i < length && written < width; i++) {
+            stringBuilder.append(getCharWithDot(i, dotPosition));
+            written = written + 1;
+        }
     }
 
     private String fillWithZeros(int length, String input) {
@@ -348,39 +666,131 @@ public class GSIBlock {
         return String.format(format, input).replace(' ', '0');
     }
 
-    private String insertMinusSign(String s) {
-        if (this.sign.equals("-")) {
-            return this.sign + trimLeadingZeros(s);
+    private char getCharWithDot(int index, int dotPosition) {
+        if (dotPosition == NO_DOT || index < dotPosition) {
+            return getDataChar(index);
+        } else if (index == dotPosition) {
+            return '.';
+        } else {
+            return getDataChar(index - 1);
+        }
+    }
+
+    private char getDataChar(int index) {
+        if ((flags & FLAG_NUMERIC_DATA) != 0) {
+            return (char) ('0' + (numericData / POWERS_OF_TEN[numericDataLength - 1 - index]) % 10);
         } else {
-            return trimLeadingZeros(s);
+            return alphanumericData[index];
         }
     }
 
-    private String preparePrintString(String s) {
-        return fillWithSpaces(s.length(), trimLeadingZeros(s));
+    private String getMinusSign() {
+        if (getSign().equals("-")) {
+            return "-";
+        } else {
+            return "";
+        }
+    }
+
+    private String getSign(String dataGSI) {
+        if (dataGSI.startsWith("-")) {
+            return "-";
+        } else {
+            return "+";
+        }
+    }
+
+    private boolean informationEndsWith(char c) {
+        if (unpackedInformationAndSign != null) {
+            return unpackedInformationAndSign[0].endsWith(String.valueOf(c));
+        } else {
+            return (packedInformation & 0xFF) == c;
+        }
     }
 
     private String removeSign(String dataGSI) {
-        if (dataGSI.startsWith("+")) {
-            sign = "+";
-            return dataGSI.substring(1, dataGSI.length());
-        } else if (dataGSI.startsWith("-")) {
-            sign = "-";
+        if (dataGSI.startsWith("+") || dataGSI.startsWith("-")) {
             return dataGSI.substring(1, dataGSI.length());
         } else {
-            sign = "+";
             return dataGSI;
         }
     }
 
-    private String trimLeadingZeros(String s) {
-        // cut off leading zeros with regex;
-        String intern = s.replaceFirst("^0+(?!$)", "");
+    private void setDataGSI(String dataGSI) {
+        boolean isNumeric = dataGSI != null && dataGSI.length() > 0 && dataGSI.length() <= MAX_NUMERIC_DATA_LENGTH;
+
+        if (isNumeric) {
+            long value = 0;
+
+            for (int i = 0; i < dataGSI.length(); i++) {
+                char c = dataGSI.charAt(i);
+
+                if (c < '0' || c > '9') {
+                    isNumeric = false;
+                    break;
+                }
+
+                value = value * 10 + (c - '0');
+            }
+
+            numericData = value;
+        }
+
+        if (isNumeric) {
+            flags = (byte) (flags | FLAG_NUMERIC_DATA);
+            numericDataLength = (byte) dataGSI.length();
+            alphanumericData = null;
+        } else {
+            flags = (byte) (flags & ~FLAG_NUMERIC_DATA);
+            numericData = 0;
+            alphanumericData = dataGSI != null ? dataGSI.toCharArray() : null;
+        }
+    }
+
+    private void setGSI16(boolean isGSI16) {
+        if (isGSI16) {
+            flags = (byte) (flags | FLAG_GSI16);
+        } else {
+            flags = (byte) (flags & ~FLAG_GSI16);
+        }
+    }
+
+    private void setNegative(boolean isNegative) {
+        if (isNegative) {
+            flags = (byte) (flags | FLAG_NEGATIVE);
+        } else {
+            flags = (byte) (flags & ~FLAG_NEGATIVE);
+        }
+    }
+
+    private void setInformationAndSign(String information, String sign) {
+        boolean isPackable = information != null && information.length() == 4 && ("+".equals(sign) || "-".equals(sign));
+
+        if (isPackable) {
+            int packed = 0;
+
+            for (int i = 0; i < 4; i++) {
+                char c = information.charAt(i);
+
+                if (c > 0xFF) {
+                    isPackable = false;
+                    break;
+                }
+
+                packed = (packed << 8) | c;
+            }
+
+            packedInformation = packed;
+        }
+
+        if (isPackable) {
+            unpackedInformationAndSign = null;
 
-        if (intern.startsWith(".")) {
-            return "0" + intern;
+            setNegative(sign.equals("-"));
         } else {
-            return intern;
+            // store unusual values unpacked to get the identical output
+            packedInformation = 0;
+            unpackedInformationAndSign = new String[]{information, sign};
         }
     }
 
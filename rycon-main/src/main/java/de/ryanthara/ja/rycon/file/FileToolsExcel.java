@@ -25,9 +25,12 @@ import java.nio.file.Path;
 
 /**
  * Instances of this class provides basic file operations to write Microsoft xls, xlsx, ... files.
+ * <p>
+ * The workbook is not closed by this class. The caller closes it with
+ * {@link de.ryanthara.ja.rycon.converter.excel.BaseToolsExcel#closeWorkbook(Workbook)}.
  *
  * @author sebastian
- * @version 2
+ * @version 4
  * @since 9
  */
 public class FileToolsExcel {
@@ -17,28 +17,29 @@
  */
 package de.ryanthara.ja.rycon.file;
 
-import org.odftoolkit.simple.SpreadsheetDocument;
+import de.ryanthara.ja.rycon.converter.odf.ODSWriter;
 
+import java.nio.file.Paths;
 
 /**
  * Instances of this class provides basic file operations to write Open Document Format spreadsheet files.
  *
  * @author sebastian
- * @version 2
+ * @version 3
  * @since 9
  */
 public class FileToolsODF {
 
-    private final SpreadsheetDocument spreadsheetDocument;
+    private final ODSWriter odsWriter;
 
     /**
-     * Constructs a new instance of this class given a {@link SpreadsheetDocument} object for writing the filled table
-     * to the file system.
+     * Constructs a new instance of this class given a {@link ODSWriter} object with the written table for saving
+     * it to the file system.
      *
-     * @param spreadsheetDocument {@code SpreadsheetDocument} object
+     * @param odsWriter {@code ODSWriter} object
      */
-    public FileToolsODF(SpreadsheetDocument spreadsheetDocument) {
-        this.spreadsheetDocument = spreadsheetDocument;
+    public FileToolsODF(ODSWriter odsWriter) {
+        this.odsWriter = odsWriter;
     }
 
     /**
@@ -50,7 +51,7 @@ public class FileToolsODF {
      */
     public boolean writeODS(String fileName) {
         try {
-            spreadsheetDocument.save(fileName);
+            odsWriter.save(Paths.get(fileName));
             return true;
         } catch (Exception e) {
             System.err.println("unable to save Open Document Spreadsheet file to disk.");
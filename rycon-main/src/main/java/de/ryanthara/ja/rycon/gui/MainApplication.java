@@ -68,7 +68,7 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.*;
  * {@code Main} class.
  *
  * @author sebastian
- * @version 8
+ * @version 9
  * @see Main
  * @since 1
  */
@@ -127,6 +127,11 @@ public class MainApplication extends Main {
     public static void main(String... args) {
         initLogging();
         checkCommandLineInterfaceArguments(args);
+
+        if (isHeadlessConversion()) {
+            System.exit(runHeadlessConversion());
+        }
+
         checkJavaVersion();
         checkRyCONVersion();
         initApplicationPreferences();
@@ -17,22 +17,40 @@
  */
 package de.ryanthara.ja.rycon.gui.custom;
 
+import de.ryanthara.ja.rycon.i18n.Labels;
+import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.MessageBox;
 import org.eclipse.swt.widgets.Shell;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static de.ryanthara.ja.rycon.i18n.ResourceBundles.LABELS;
+
 /**
  * This class provides simple {@link MessageBox} with static access for RyCON's gui elements.
  *
  * @author sebastian
- * @version 1
+ * @version 4
  * @since 12
  */
 public class MessageBoxes {
 
+    private static final int MAX_SHOWN_WARNINGS = 20;
+
     /**
      * Shows a swt {@link MessageBox} and returns an integer value as indicator for being shown.
+     * <p>
+     * Without a shell (e.g. in the headless batch conversion) the message is printed to the error stream
+     * and {@link SWT#NO} is returned, so questions like overwriting an existing file are answered with no.
+     * The same is done for an already disposed shell.
+     * <p>
+     * Called from a background job, the message box is shown synchronously on the user interface thread.
      *
-     * @param innerShell the inner shell object
+     * @param innerShell the inner shell object or null
      * @param icon       the icon of the message box
      * @param text       the headline text of the message box
      * @param message    the message of the message box
@@ -40,6 +58,24 @@ public class MessageBoxes {
      * @return int value
      */
     public static int showMessageBox(final Shell innerShell, final int icon, final String text, final String message) {
+        if (innerShell == null || innerShell.isDisposed()) {
+            System.err.println(text + ": " + message);
+
+            return SWT.NO;
+        }
+
+        if (Display.getCurrent() == null) {
+            final int[] result = new int[]{SWT.NO};
+
+            innerShell.getDisplay().syncExec(() -> {
+                if (!innerShell.isDisposed()) {
+                    result[0] = showMessageBox(innerShell, icon, text, message);
+                }
+            });
+
+            return result[0];
+        }
+
         MessageBox messageBox = new MessageBox(innerShell, icon);
 
         messageBox.setText(text);
@@ -48,4 +84,39 @@ public class MessageBoxes {
         return messageBox.open();
     }
 
+    /**
+     * Shows the collected warnings of a file processing once in a warning {@link MessageBox}.
+     * <p>
+     * Equal warnings (e.g. the same reading error of several files) are shown only once. At most
+     * {@value #MAX_SHOWN_WARNINGS} warnings are shown, the remaining ones are only counted.
+     *
+     * @param innerShell the inner shell object or null
+     * @param warnings   collected warnings
+     *
+     * @since 25
+     */
+    public static void showWarnings(final Shell innerShell, final List<String> warnings) {
+        Set<String> distinctWarnings = new LinkedHashSet<>(warnings);
+
+        if (distinctWarnings.isEmpty()) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder();
+        int counter = 0;
+
+        for (String warning : distinctWarnings) {
+            if (counter == MAX_SHOWN_WARNINGS) {
+                message.append("... (").append(distinctWarnings.size() - counter).append(")");
+                break;
+            }
+
+            message.append(warning).append("\n");
+            counter = counter + 1;
+        }
+
+        showMessageBox(innerShell, SWT.ICON_WARNING, ResourceBundleUtils.getLangString(LABELS, Labels.warningTextMsgBox),
+                message.toString().trim());
+    }
+
 } // end of MessageBoxes
@@ -20,18 +20,23 @@ package de.ryanthara.ja.rycon.gui.custom;
 
 import de.ryanthara.ja.rycon.events.StatusInformationListener;
 import de.ryanthara.ja.rycon.gui.Images;
+import de.ryanthara.ja.rycon.i18n.Buttons;
+import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
 import de.ryanthara.ja.rycon.tools.ImageConverter;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.layout.FormAttachment;
 import org.eclipse.swt.layout.FormData;
 import org.eclipse.swt.layout.FormLayout;
+import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
 
 import java.util.Vector;
 
+import static de.ryanthara.ja.rycon.i18n.ResourceBundles.BUTTONS;
+
 /**
  * Instances of this class implements a custom status bar and it's functionality.
  * <p>
@@ -39,10 +44,12 @@ import java.util.Vector;
  * which shows three conditions for the actual status of the program. The status bar
  * is shown at the bottom of RyCONs main window.
  * <p>
+ * While a background job is running, a cancel button is shown next to the status icon.
+ * <p>
  * Later on a progress bar should be implemented.
  *
  * @author sebastian
- * @version 2
+ * @version 3
  * @since 1
  */
 public class StatusBar extends Composite {
@@ -50,8 +57,10 @@ public class StatusBar extends Composite {
     private Image iconError;
     private Image iconOK;
     private Image iconWarning;
+    private Button btnCancel;
     private Label icon;
     private Label message;
+    private Runnable cancelAction;
     private Vector statusInformationListeners;
 
     /**
@@ -85,6 +94,16 @@ public class StatusBar extends Composite {
         return super.computeSize(wHint, hHint, changed);
     }
 
+    /**
+     * Hides the cancel button of a background job.
+     *
+     * @since 25
+     */
+    public void hideCancelButton() {
+        cancelAction = null;
+        btnCancel.setVisible(false);
+    }
+
     /**
      * Display a text and the status with an icon on the status bar.
      * <p>
@@ -119,6 +138,19 @@ public class StatusBar extends Composite {
         layout(true);
     }
 
+    /**
+     * Shows the cancel button for a running background job. The cancel action is
+     * performed when the button is pressed.
+     *
+     * @param cancelAction action to cancel the background job
+     *
+     * @since 25
+     */
+    public void showCancelButton(Runnable cancelAction) {
+        this.cancelAction = cancelAction;
+        btnCancel.setVisible(true);
+    }
+
     /**
      * Add the {@link StatusInformationListener} method.
      *
@@ -142,6 +174,16 @@ public class StatusBar extends Composite {
         icon = new Label(this, org.eclipse.swt.SWT.NONE);
         message = new Label(this, org.eclipse.swt.SWT.NONE);
 
+        btnCancel = new Button(this, org.eclipse.swt.SWT.NONE);
+        btnCancel.setText(ResourceBundleUtils.getLangString(BUTTONS, Buttons.cancelText));
+        btnCancel.setToolTipText(ResourceBundleUtils.getLangString(BUTTONS, Buttons.cancelToolTip));
+        btnCancel.setVisible(false);
+        btnCancel.addListener(org.eclipse.swt.SWT.Selection, event -> {
+            if (cancelAction != null) {
+                cancelAction.run();
+            }
+        });
+
         FormData data = new FormData();
 
         // TODO here comes the progress bar
@@ -153,6 +195,11 @@ public class StatusBar extends Composite {
         data.right = new FormAttachment(100, 0);
         icon.setLayoutData(data);
 
+        data = new FormData();
+        data.right = new FormAttachment(icon, -5);
+        data.top = new FormAttachment(icon, 0, org.eclipse.swt.SWT.CENTER);
+        btnCancel.setLayoutData(data);
+
         statusInformationListeners = new Vector();
 
         addStatusInformationListener(e -> message.setText(e.getStatusText()));
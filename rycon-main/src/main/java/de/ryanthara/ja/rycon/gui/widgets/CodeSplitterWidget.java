@@ -24,11 +24,13 @@ import de.ryanthara.ja.rycon.core.GSICodeSplit;
 import de.ryanthara.ja.rycon.core.TextCodeSplit;
 import de.ryanthara.ja.rycon.data.DefaultKeys;
 import de.ryanthara.ja.rycon.data.PreferenceKeys;
+import de.ryanthara.ja.rycon.elements.RyBlock;
 import de.ryanthara.ja.rycon.gui.Sizes;
 import de.ryanthara.ja.rycon.gui.custom.*;
 import de.ryanthara.ja.rycon.i18n.*;
 import de.ryanthara.ja.rycon.io.LineReader;
-import de.ryanthara.ja.rycon.io.LineWriter;
+import de.ryanthara.ja.rycon.io.LineEnding;
+import de.ryanthara.ja.rycon.io.PartitionedLineWriter;
 import de.ryanthara.ja.rycon.tools.ShellPositioner;
 import de.ryanthara.ja.rycon.tools.StringUtils;
 import org.eclipse.swt.SWT;
@@ -36,10 +38,11 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.*;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -59,7 +62,7 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.*;
  * </ul>
  *
  * @author sebastian
- * @version 7
+ * @version 11
  * @since 1
  */
 public class CodeSplitterWidget extends AbstractWidget {
@@ -102,22 +105,8 @@ public class CodeSplitterWidget extends AbstractWidget {
      */
     public void executeDropInjection() {
         if ((files2read != null) && (files2read.length > 0)) {
-            if (processFileOperationsDND()) {
-                String status;
-
-                final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.splitFilesStatus), Main.countFileOps);
-
-                // use counter to display different text on the status bar
-                if (Main.countFileOps == 1) {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
-                } else {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
-                }
-
-                Main.statusBar.setStatus(status, Status.OK);
-            }
+            processFileOperationsDND();
         }
-
     }
 
     void actionBtnCancel() {
@@ -142,20 +131,7 @@ public class CodeSplitterWidget extends AbstractWidget {
         }
 
         if ((files2read != null) && (files2read.length > 0)) {
-            if (processFileOperations()) {
-                String status;
-
-                final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.splitFilesStatus), Main.countFileOps);
-
-                // use counter to display different text on the status bar
-                if (Main.countFileOps == 1) {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
-                } else {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
-                }
-
-                Main.statusBar.setStatus(status, Status.OK);
-            }
+            processFileOperations();
 
             return true;
         }
@@ -299,84 +275,64 @@ public class CodeSplitterWidget extends AbstractWidget {
         chkBoxWriteCodeZero.setText(ResourceBundleUtils.getLangString(CHECKBOXES, CheckBoxes.writeCodeZeroSplitter));
     }
 
-    private int executeSplitGSI(boolean insertCodeColumn, boolean writeFileWithCodeZero, int counter, Path file2read,
-                                ArrayList<String> readFile) {
+    private int executeSplit(Path file2read, LineReader lineReader, Function<String, RyBlock> splitter,
+                             String suffix, LineEnding lineEnding, Job job) {
         final String paramCodeString = DefaultKeys.PARAM_CODE_STRING.getValue();
+        final String prefix = file2read.toString().substring(0, file2read.toString().length() - 4) + "_" +
+                paramCodeString + "-";
+
+        // every line is written directly into the file of its code, one file per code
+        try (PartitionedLineWriter<Integer> writer = new PartitionedLineWriter<>(
+                code -> Paths.get(prefix + code + suffix), lineEnding)) {
+            writer.setLineCounter(job.getWrittenLineCounter());
+
+            boolean readFileSuccess = lineReader.readFile(line -> {
+                RyBlock ryBlock = splitter.apply(line);
+
+                if (ryBlock != null) {
+                    try {
+                        writer.writeLine(ryBlock.getNumber(), ryBlock.getString());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
 
-        GSICodeSplit gsiCodeSplit = new GSICodeSplit(readFile);
-        ArrayList<ArrayList<String>> writeFile = gsiCodeSplit.processCodeSplit(insertCodeColumn, writeFileWithCodeZero);
-
-        Iterator<Integer> codeIterator = gsiCodeSplit.getFoundCodes().iterator();
-
-        // write file by file with one code
-        for (ArrayList<String> lines : writeFile) {
-            int code = codeIterator.next();
-
-            String file2write = file2read.toString().substring(0, file2read.toString().length() - 4) + "_" +
-                    paramCodeString + "-" + code + ".GSI";
-
-            LineWriter lineWriter = new LineWriter(file2write);
-
-            if (lineWriter.writeFile(lines)) {
-                counter = counter + 1;
-            }
-        }
-
-        return counter;
-    }
-
-    private int executeSplitTxt(boolean insertCodeColumn, boolean writeFileWithCodeZero, int counter, Path file2read,
-                                ArrayList<String> readFile) {
-
-        final String paramCodeString = DefaultKeys.PARAM_CODE_STRING.getValue();
-
-        TextCodeSplit textCodeSplit = new TextCodeSplit(readFile);
-        ArrayList<ArrayList<String>> writeFile = textCodeSplit.processCodeSplit(insertCodeColumn, writeFileWithCodeZero);
-
-        Iterator<Integer> codeIterator = textCodeSplit.getFoundCodes().iterator();
-
-        // write file by file with one code
-        for (ArrayList<String> lines : writeFile) {
-            int code = codeIterator.next();
-
-            String file2write = file2read.toString().substring(0, file2read.toString().length() - 4) + "_" +
-                    paramCodeString + "-" + code + ".TXT";
-
-            LineWriter lineWriter = new LineWriter(file2write);
+                return !job.isCancelled();
+            });
 
-            if (lineWriter.writeFile(lines)) {
-                counter = counter + 1;
+            if (!readFileSuccess) {
+                System.err.println("File " + file2read.getFileName() + " could not be read.");
+            } else if (!job.isCancelled()) {
+                return writer.commit();
             }
+        } catch (UncheckedIOException e) {
+            System.err.println("File " + file2read.getFileName() + " could not be split.");
+            logger.log(Level.SEVERE, "can not write the split files of " + file2read, e.getCause());
         }
 
-        return counter;
+        return 0;
     }
 
-    private int fileOperations(boolean insertCodeColumn, boolean writeFileWithCodeZero) {
+    private int fileOperation(Path path, Job job, boolean insertCodeColumn, boolean writeFileWithCodeZero) {
         int counter = 0;
 
-        for (Path path : files2read) {
-            LineReader lineReader = new LineReader(path);
-
-            if (lineReader.readFile()) {
-                ArrayList<String> readFile = lineReader.getLines();
+        LineReader lineReader = new LineReader(path);
+        lineReader.setLineCounter(job.getReadLineCounter());
 
-                // processFileOperations by differ between txt oder gsi files
+        // processFileOperations by differ between txt oder gsi files
 
-                // processFileOperations and differ between 'normal' GSI files and LTOP 'GSL' files
-                PathMatcher matcherGSI = FileSystems.getDefault().getPathMatcher("regex:(?iu:.+\\.GSI)");
-                PathMatcher matcherTXT = FileSystems.getDefault().getPathMatcher("regex:(?iu:.+\\.TXT)");
+        // processFileOperations and differ between 'normal' GSI files and LTOP 'GSL' files
+        PathMatcher matcherGSI = FileSystems.getDefault().getPathMatcher("regex:(?iu:.+\\.GSI)");
+        PathMatcher matcherTXT = FileSystems.getDefault().getPathMatcher("regex:(?iu:.+\\.TXT)");
 
-                if (matcherGSI.matches(path)) {
-                    counter = executeSplitGSI(insertCodeColumn, writeFileWithCodeZero, counter, path, readFile);
-                } else if (matcherTXT.matches(path)) {
-                    counter = executeSplitTxt(insertCodeColumn, writeFileWithCodeZero, counter, path, readFile);
-                } else {
-                    System.err.println("File format of " + path.getFileName() + " are not supported.");
-                }
-            } else {
-                System.err.println("File " + path.getFileName() + " could not be read.");
-            }
+        if (matcherGSI.matches(path)) {
+            GSICodeSplit gsiCodeSplit = new GSICodeSplit(insertCodeColumn, writeFileWithCodeZero, job.getContext());
+            counter = executeSplit(path, lineReader, gsiCodeSplit::processLine, ".GSI", LineEnding.CRLF, job);
+        } else if (matcherTXT.matches(path)) {
+            TextCodeSplit textCodeSplit = new TextCodeSplit(insertCodeColumn, writeFileWithCodeZero);
+            counter = executeSplit(path, lineReader, textCodeSplit::processLine, ".TXT", LineEnding.LF, job);
+        } else {
+            System.err.println("File format of " + path.getFileName() + " are not supported.");
         }
 
         return counter;
@@ -390,48 +346,65 @@ public class CodeSplitterWidget extends AbstractWidget {
         }
     }
 
-    private boolean processFileOperations() {
-        int counter = fileOperations(chkBoxInsertCodeColumn.getSelection(), chkBoxWriteCodeZero.getSelection());
+    private void processFileOperations() {
+        final boolean insertCodeColumn = chkBoxInsertCodeColumn.getSelection();
+        final boolean writeFileWithCodeZero = chkBoxWriteCodeZero.getSelection();
 
-        if (counter > 0) {
-            String message;
+        JobEngine.submit(ResourceBundleUtils.getLangString(LABELS, Labels.splitterText), files2read,
+                (path, job) -> fileOperation(path, job, insertCodeColumn, writeFileWithCodeZero),
+                job -> {
+                    final int counter = job.getCounter();
 
-            final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.splitFilesMessage), counter);
+                    // the inner shell is already disposed after 'OK and exit'
+                    final Shell shell = innerShell.isDisposed() ? Main.shell : innerShell;
 
-            if (counter == 1) {
-                message = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
-            } else {
-                message = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
-            }
+                    if (counter > 0) {
+                        String message;
 
-            MessageBoxes.showMessageBox(innerShell, SWT.ICON_INFORMATION,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.successTextMsgBox), message);
+                        final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.splitFilesMessage), counter);
 
-            // set the counter for status bar information
-            Main.countFileOps = counter;
+                        if (counter == 1) {
+                            message = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
+                        } else {
+                            message = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
+                        }
 
-            return true;
-        } else {
-            MessageBoxes.showMessageBox(innerShell, SWT.ICON_WARNING,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.errorTextMsgBox),
-                    ResourceBundleUtils.getLangString(ERRORS, Errors.codeSplitFailed));
+                        MessageBoxes.showMessageBox(shell, SWT.ICON_INFORMATION,
+                                ResourceBundleUtils.getLangString(LABELS, Labels.successTextMsgBox), message);
 
-            return false;
-        }
+                        showStatus(counter);
+                    } else if (!job.isCancelled()) {
+                        MessageBoxes.showMessageBox(shell, SWT.ICON_WARNING,
+                                ResourceBundleUtils.getLangString(LABELS, Labels.errorTextMsgBox),
+                                ResourceBundleUtils.getLangString(ERRORS, Errors.codeSplitFailed));
+                    }
+                });
     }
 
-    private boolean processFileOperationsDND() {
+    private void processFileOperationsDND() {
         // no code column and write file for lines without code
-        int counter = fileOperations(false, true);
+        JobEngine.submit(ResourceBundleUtils.getLangString(LABELS, Labels.splitterText), files2read,
+                (path, job) -> fileOperation(path, job, false, true),
+                job -> {
+                    if (job.getCounter() > 0) {
+                        showStatus(job.getCounter());
+                    }
+                });
+    }
 
-        if (counter > 0) {
-            // set the counter for status bar information
-            Main.countFileOps = counter;
+    private void showStatus(int counter) {
+        String status;
 
-            return true;
+        final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.splitFilesStatus), counter);
+
+        // use counter to display different text on the status bar
+        if (counter == 1) {
+            status = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
         } else {
-            return false;
+            status = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
         }
+
+        Main.statusBar.setStatus(status, Status.OK);
     }
 
 } // end of CodeSplitterWidget
@@ -20,16 +20,17 @@ package de.ryanthara.ja.rycon.gui.widgets;
 import de.ryanthara.ja.rycon.Main;
 import de.ryanthara.ja.rycon.check.TextCheck;
 import de.ryanthara.ja.rycon.converter.csv.BaseToolsCSV;
-import de.ryanthara.ja.rycon.converter.excel.BaseToolsExcel;
 import de.ryanthara.ja.rycon.converter.text.BaseToolsTXT;
 import de.ryanthara.ja.rycon.converter.zeiss.ZeissDialect;
 import de.ryanthara.ja.rycon.data.PreferenceKeys;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.gui.Sizes;
 import de.ryanthara.ja.rycon.gui.custom.BottomButtonBar;
 import de.ryanthara.ja.rycon.gui.custom.DirectoryDialogs;
 import de.ryanthara.ja.rycon.gui.custom.InputFieldsComposite;
 import de.ryanthara.ja.rycon.gui.custom.MessageBoxes;
 import de.ryanthara.ja.rycon.gui.widgets.convert.FileFilterIndex;
+import de.ryanthara.ja.rycon.gui.widgets.convert.ReadWriteFactory;
 import de.ryanthara.ja.rycon.gui.widgets.convert.SourceButton;
 import de.ryanthara.ja.rycon.gui.widgets.convert.TargetButton;
 import de.ryanthara.ja.rycon.gui.widgets.convert.read.*;
@@ -51,9 +52,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import static de.ryanthara.ja.rycon.gui.custom.Status.OK;
 import static de.ryanthara.ja.rycon.gui.widgets.convert.FileFilterIndex.*;
@@ -65,13 +65,19 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.*;
  * The ConverterWidget of RyCON is used to convert measurement and coordinate
  * files into different formats. RyCON can be used to convert special formats
  * e.g. coordinate files from governmental services in Switzerland
+ * <p>
+ * Several target formats can be selected. Every file is read only once and written into all
+ * selected target formats.
  *
  * @author sebastian
- * @version 9
+ * @version 17
  * @since 1
  */
 public class ConverterWidget extends AbstractWidget {
 
+    // the first formats are available as source and target format
+    private static final int NUMBER_OF_COMMON_FORMATS = 5;
+
     private Button chkBoxCadworkUseZeroHeights;
     private Button chkBoxCSVSemiColonSeparator;
     private Button chkBoxKFormatUseSimpleFormat;
@@ -139,20 +145,7 @@ public class ConverterWidget extends AbstractWidget {
                     inputFieldsComposite.getTargetTextField(), files2read);
         }
         if ((files2read != null) && (files2read.length > 0)) {
-            if (processFileOperations()) {
-                String status;
-
-                final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.conversionStatus), Main.countFileOps);
-
-                // use counter to display different text on the status bar
-                if (Main.countFileOps == 1) {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
-                } else {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
-                }
-
-                Main.statusBar.setStatus(status, OK);
-            }
+            processFileOperations();
 
             return true;
         }
@@ -256,11 +249,8 @@ public class ConverterWidget extends AbstractWidget {
         gridData = new GridData(SWT.FILL, SWT.FILL, true, true);
         groupTarget.setLayoutData(gridData);
 
-        SelectionListener selectionListenerSource = getSelectionListener(groupTarget.getChildren(), groupSource.getChildren());
-        SelectionListener selectionListenerTarget = getSelectionListener(groupSource.getChildren(), groupTarget.getChildren());
-
-        createRadioButtonsSource(selectionListenerSource, groupSource);
-        createRadioButtonsTarget(selectionListenerTarget, groupTarget);
+        createRadioButtonsSource(getSelectionListenerSource(), groupSource);
+        createCheckButtonsTarget(getSelectionListenerTarget(), groupTarget);
     }
 
     private void createDescription(int width) {
@@ -341,18 +331,36 @@ public class ConverterWidget extends AbstractWidget {
         }
     }
 
-    private void createRadioButtonsTarget(SelectionListener selectionListener, Group group) {
+    private void createCheckButtonsTarget(SelectionListener selectionListener, Group group) {
         for (TargetButton button : TargetButton.values()) {
-            Button radioBtn = new Button(group, SWT.RADIO);
-            radioBtn.addSelectionListener(selectionListener);
-            radioBtn.setText(button.getText());
+            Button checkBtn = new Button(group, SWT.CHECK);
+            checkBtn.addSelectionListener(selectionListener);
+            checkBtn.setText(button.getText());
 
             if (button == TargetButton.TXT) {
-                radioBtn.setSelection(true);
+                checkBtn.setSelection(true);
             }
         }
     }
 
+    /*
+     * Deselects a target format, which is the same as the source format. If no target format
+     * is left, the replacement is selected.
+     */
+    private void deselectTarget(int number, int replacement) {
+        Control[] childrenTarget = groupTarget.getChildren();
+
+        if (number >= NUMBER_OF_COMMON_FORMATS || !RadioHelper.isSelected(childrenTarget, number)) {
+            return;
+        }
+
+        ((Button) childrenTarget[number]).setSelection(false);
+
+        if (RadioHelper.getSelectedBtns(childrenTarget).isEmpty()) {
+            ((Button) childrenTarget[replacement]).setSelection(true);
+        }
+    }
+
     private void determineFilterIndex(FileDialog fileDialog) {
         int selectedBtnSource = RadioHelper.getSelectedBtn(groupSource.getChildren());
 
@@ -388,19 +396,66 @@ public class ConverterWidget extends AbstractWidget {
         }
     }
 
-    @SuppressWarnings("MethodCanBeVariableArityMethod")
-    private SelectionListener getSelectionListener(final Control[] children1, final Control[] children2) {
+    private SelectionListener getSelectionListenerSource() {
         return new SelectionAdapter() {
             public void widgetSelected(SelectionEvent e) {
                 // control of double fired events
                 boolean isSelected = ((Button) e.getSource()).getSelection();
                 if (isSelected) {
-                    RadioHelper.toggleBtn(children1, children2);
+                    int number = RadioHelper.getSelectedBtn(groupSource.getChildren());
+
+                    deselectTarget(number, (number + 1) % TargetButton.values().length);
+                }
+            }
+        };
+    }
+
+    private SelectionListener getSelectionListenerTarget() {
+        return new SelectionAdapter() {
+            public void widgetSelected(SelectionEvent e) {
+                Button button = (Button) e.getSource();
+                Control[] childrenTarget = groupTarget.getChildren();
+                int number = Arrays.asList(childrenTarget).indexOf(button);
+
+                if (button.getSelection()) {
+                    // GSI8 and GSI16 files are written into the same file
+                    if (number == TargetButton.GSI8.ordinal()) {
+                        ((Button) childrenTarget[TargetButton.GSI16.ordinal()]).setSelection(false);
+                    } else if (number == TargetButton.GSI16.ordinal()) {
+                        ((Button) childrenTarget[TargetButton.GSI8.ordinal()]).setSelection(false);
+                    }
+
+                    if (number == RadioHelper.getSelectedBtn(groupSource.getChildren())) {
+                        deselectTarget(number, (number + 1) % childrenTarget.length);
+                    }
+                } else if (RadioHelper.getSelectedBtns(childrenTarget).isEmpty()) {
+                    // at least one target format is needed
+                    button.setSelection(true);
                 }
             }
         };
     }
 
+    private List<TargetButton> getSelectedTargets() {
+        List<TargetButton> targetButtons = new ArrayList<>();
+
+        for (int number : RadioHelper.getSelectedBtns(groupTarget.getChildren())) {
+            targetButtons.add(TargetButton.fromIndex(number));
+        }
+
+        return targetButtons;
+    }
+
+    /*
+     * Returns the number of parallel conversions from the settings. Zero or an invalid value
+     * uses all worker threads of the job engine.
+     */
+    private int getParallelConversions(ProcessingContext context) {
+        final int parallelConversions = context.getSettings().getParallelConversions();
+
+        return parallelConversions > 0 ? parallelConversions : JobEngine.getMaxThreads();
+    }
+
     private void handleCommandLineInterfaceInjection() {
         String files = Main.getCLIInputFiles();
 
@@ -450,54 +505,57 @@ public class ConverterWidget extends AbstractWidget {
         innerShell.open();
     }
 
-    private Map<Integer, ReadFile> prepareReadFileMaps() {
-        Map<Integer, ReadFile> readFileMap = new HashMap<>();
-        readFileMap.put(0, new GSIReadFile(innerShell));
-        readFileMap.put(1, new GSIReadFile(innerShell));
-        readFileMap.put(2, new TXTReadFile(innerShell));
-        readFileMap.put(3, new CSVReadFile(innerShell, chkBoxCSVSemiColonSeparator.getSelection()));
-        readFileMap.put(4, new CaplanReadFile(innerShell));
-        readFileMap.put(5, new ZeissReadFile(innerShell));
-        readFileMap.put(6, new CadworkReadFile(innerShell));
-        readFileMap.put(7, new BaselStadtCSVReadFile(innerShell));
-        readFileMap.put(8, new BaselLandschaftTXTReadFile(innerShell));
-
-        return readFileMap;
-    }
+    private int fileOperation(Path file2read, Job job, SourceButton sourceButton, List<TargetButton> targetButtons,
+                              boolean isCSVSemiColonSeparator, WriteParameter parameter) {
+        boolean readFileSuccess = false;
+
+        List<String[]> readCSVFile = null;
+        ArrayList<String> readStringFile = null;
+
+        // text and CSV files are read line by line while converting into GSI
+        if (ReadWriteFactory.isReadWhileConverting(sourceButton, targetButtons)) {
+            return ReadWriteFactory.writeWhileReading(sourceButton, targetButtons, file2read, parameter,
+                    job.getReadLineCounter());
+        }
+
+        // every file is read with its own reader
+        ReadFile readFile = ReadWriteFactory.createReadFile(sourceButton, parameter.getContext(), isCSVSemiColonSeparator);
 
-    private Map<Integer, WriteFile> prepareWriteFile(Path path, ArrayList<String> readStringFile, List<String[]> readCSVFile, WriteParameter parameter) {
-        Map<Integer, WriteFile> writeFileMap = new HashMap<>();
-        writeFileMap.put(0, new GSIWriteFile(path, readStringFile, readCSVFile, parameter, Main.getGSI8()));
-        writeFileMap.put(1, new GSIWriteFile(path, readStringFile, readCSVFile, parameter, Main.getGSI16()));
-        writeFileMap.put(2, new TXTWriteFile(path, readStringFile, readCSVFile, parameter));
-        writeFileMap.put(3, new CSVWriteFile(path, readStringFile, readCSVFile, parameter));
-        writeFileMap.put(4, new CaplanWriteFile(path, readStringFile, readCSVFile, parameter));
-        writeFileMap.put(5, new ZeissWriteFile(path, readStringFile, readCSVFile, parameter));
-        writeFileMap.put(6, new LtopKOOWriteFile(path, readStringFile, readCSVFile, parameter));
-        writeFileMap.put(7, new LtopMESWriteFile(path, readStringFile, parameter));
-        writeFileMap.put(8, new ExcelWriteFile(path, readStringFile, readCSVFile, parameter, BaseToolsExcel.isXLSX));
-        writeFileMap.put(9, new ExcelWriteFile(path, readStringFile, readCSVFile, parameter, BaseToolsExcel.isXLS));
-        writeFileMap.put(10, new ODFWriteFile(path, readStringFile, readCSVFile, parameter));
-
-        return writeFileMap;
+        if (readFile.readFile(file2read)) {
+            if ((readCSVFile = readFile.getReadCSVFile()) != null) {
+                job.getReadLineCounter().addAndGet(readCSVFile.size());
+                readFileSuccess = true;
+            } else if ((readStringFile = readFile.getReadStringLines()) != null) {
+                job.getReadLineCounter().addAndGet(readStringFile.size());
+                readFileSuccess = true;
+            }
+        }
+
+        // the read file is written into all target formats
+        if (readFileSuccess) {
+            return ReadWriteFactory.write(sourceButton, targetButtons, file2read, readStringFile, readCSVFile, parameter);
+        }
+
+        return 0;
     }
 
-    private boolean processFileOperations() {
-        boolean success;
+    private void processFileOperations() {
         boolean GSIFormat;
 
-        int counter = 0;
-        int sourceNumber = RadioHelper.getSelectedBtn(groupSource.getChildren());
-        int targetNumber = RadioHelper.getSelectedBtn(groupTarget.getChildren());
+        final int sourceNumber = RadioHelper.getSelectedBtn(groupSource.getChildren());
+        final boolean isCSVSemiColonSeparator = chkBoxCSVSemiColonSeparator.getSelection();
 
         GSIFormat = sourceNumber == 0 ? Main.getGSI8() : Main.getGSI16();
 
         // prepares a parameter object for reducing parameter field size
-        String separatorCSV = chkBoxCSVSemiColonSeparator.getSelection() ? BaseToolsCSV.SEPARATOR_SEMICOLON : BaseToolsCSV.SEPARATOR_COMMA;
+        String separatorCSV = isCSVSemiColonSeparator ? BaseToolsCSV.SEPARATOR_SEMICOLON : BaseToolsCSV.SEPARATOR_COMMA;
         String separatorTXT = chkBoxTXTSpaceSeparator.getSelection() ? BaseToolsTXT.SEPARATOR_SPACE : BaseToolsTXT.SEPARATOR_TAB;
-        ZeissDialect dialect = ZeissDialect.valueOf(Main.pref.getUserPreference(PreferenceKeys.CONVERTER_SETTING_ZEISS_DIALECT));
+        // the settings are read once for all files and workers of the conversion
+        final ProcessingContext context = ProcessingContext.fromPreferences(Main.pref);
+
+        ZeissDialect dialect = context.getSettings().getZeissDialect();
 
-        WriteParameter parameter = new WriteParameter(sourceNumber, GSIFormat,
+        final WriteParameter parameter = new WriteParameter(sourceNumber, GSIFormat,
                 chkBoxCadworkUseZeroHeights.getSelection(),
                 chkBoxKFormatUseSimpleFormat.getSelection(),
                 chkBoxLTOPEliminateDuplicatePoints.getSelection(),
@@ -505,69 +563,132 @@ public class ConverterWidget extends AbstractWidget {
                 chkBoxSourceContainsCode.getSelection(),
                 chkBoxWriteCodeColumn.getSelection(),
                 chkBoxWriteCommentLine.getSelection(),
-                separatorCSV, separatorTXT, dialect);
+                separatorCSV, separatorTXT, dialect, context);
 
-        Map<Integer, ReadFile> readFileMap = prepareReadFileMaps();
+        final SourceButton sourceButton = SourceButton.fromIndex(sourceNumber);
+        final List<TargetButton> targetButtons = getSelectedTargets();
 
-        for (Path file2read : files2read) {
-            boolean readFileSuccess = false;
-
-            List<String[]> readCSVFile = null;
-            ArrayList<String> readStringFile = null;
-
-            // read files (new version)
-            if (readFileMap.containsKey(sourceNumber)) {
-                if (readFileMap.get(sourceNumber).readFile(file2read)) {
-                    if ((readCSVFile = readFileMap.get(sourceNumber).getReadCSVFile()) != null) {
-                        readFileSuccess = true;
-                    } else if ((readStringFile = readFileMap.get(sourceNumber).getReadStringLines()) != null) {
-                        readFileSuccess = true;
+        if (targetButtons.isEmpty()) {
+            return;
+        }
+
+        // ask for overwriting before the workers are started
+        final Path[] files2convert = prepareFilesForOverwriting(targetButtons, parameter);
+
+        if (files2convert.length == 0) {
+            return;
+        }
+
+        JobEngine.submit(ResourceBundleUtils.getLangString(LABELS, Labels.converterText), files2convert,
+                getParallelConversions(context), context,
+                (path, job) -> fileOperation(path, job, sourceButton, targetButtons, isCSVSemiColonSeparator, parameter),
+                job -> {
+                    final int counter = job.getCounter();
+
+                    // the inner shell is already disposed after 'OK and exit'
+                    final Shell shell = innerShell.isDisposed() ? Main.shell : innerShell;
+
+                    if (counter > 0) {
+                        String message;
+
+                        final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.conversionMessage), counter);
+
+                        if (counter == 1) {
+                            message = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
+                        } else {
+                            message = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
+                        }
+
+                        MessageBoxes.showMessageBox(shell, SWT.ICON_INFORMATION,
+                                ResourceBundleUtils.getLangString(LABELS, Labels.successTextMsgBox), message);
+
+                        showStatus(counter);
+                    } else if (!job.isCancelled()) {
+                        MessageBoxes.showMessageBox(shell, SWT.ICON_ERROR,
+                                ResourceBundleUtils.getLangString(LABELS, Labels.errorTextMsgBox),
+                                ResourceBundleUtils.getLangString(ERRORS, Errors.conversionFailed));
                     }
-                }
-            }
 
-            // write files (new version)
-            if (readFileSuccess) {
-                Map<Integer, WriteFile> writeFileMap = prepareWriteFile(file2read, readStringFile, readCSVFile, parameter);
-                if (writeFileMap.containsKey(targetNumber)) {
-                    if (writeFileMap.get(targetNumber).writeSpreadsheetDocument()) {
-                        counter = counter + 1;
-                    } else if (writeFileMap.get(targetNumber).writeStringFile()) {
-                        counter = counter + 1;
-                    } else if (writeFileMap.get(targetNumber).writeWorkbookFile()) {
-                        counter = counter + 1;
+                    final List<Path> failedFiles = job.getFailedFiles();
+
+                    if (counter > 0 && !failedFiles.isEmpty()) {
+                        StringBuilder fileNames = new StringBuilder();
+
+                        for (Path failedFile : failedFiles) {
+                            fileNames.append(failedFile.getFileName()).append("\n");
+                        }
+
+                        MessageBoxes.showMessageBox(shell, SWT.ICON_WARNING,
+                                ResourceBundleUtils.getLangString(LABELS, Labels.warningTextMsgBox),
+                                String.format(ResourceBundleUtils.getLangString(ERRORS, Errors.conversionFailedFiles), fileNames));
                     }
+                });
+    }
+
+    /*
+     * Returns the files to be converted. The question for overwriting existing files is asked only once
+     * for all files and target formats. If the user denies it, the files with at least one existing output
+     * file are not converted.
+     */
+    private Path[] prepareFilesForOverwriting(List<TargetButton> targetButtons, WriteParameter parameter) {
+        List<Path> existingFiles = new ArrayList<>();
+        Path firstExistingFile = null;
+
+        for (Path file2read : files2read) {
+            for (TargetButton targetButton : targetButtons) {
+                Path outputPath = ReadWriteFactory.getOutputPath(targetButton, file2read);
+
+                if (Files.exists(outputPath)) {
+                    if (firstExistingFile == null) {
+                        firstExistingFile = outputPath;
+                    }
+
+                    existingFiles.add(file2read);
+                    break;
                 }
             }
         }
 
-        if (counter > 0) {
-            String message;
+        if (existingFiles.isEmpty()) {
+            return files2read;
+        }
 
-            final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.conversionMessage), counter);
+        String message;
 
-            if (counter == 1) {
-                message = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
-            } else {
-                message = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
-            }
+        if (existingFiles.size() == 1) {
+            message = String.format(ResourceBundleUtils.getLangString(WARNINGS, Warnings.fileExists), firstExistingFile);
+        } else {
+            message = String.format(ResourceBundleUtils.getLangString(WARNINGS, Warnings.filesExist), existingFiles.size());
+        }
 
-            MessageBoxes.showMessageBox(innerShell, SWT.ICON_INFORMATION,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.successTextMsgBox), message);
+        int returnValue = MessageBoxes.showMessageBox(innerShell, SWT.ICON_WARNING | SWT.YES | SWT.NO,
+                ResourceBundleUtils.getLangString(LABELS, Labels.warningTextMsgBox), message);
 
-            // set the counter for status bar information
-            Main.countFileOps = counter;
+        if (returnValue == SWT.YES) {
+            parameter.setOverwriteExistingFiles(true);
 
-            success = true;
-        } else {
-            MessageBoxes.showMessageBox(innerShell, SWT.ICON_ERROR,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.errorTextMsgBox),
-                    ResourceBundleUtils.getLangString(ERRORS, Errors.conversionFailed));
+            return files2read;
+        }
+
+        List<Path> files2convert = new ArrayList<>(Arrays.asList(files2read));
+        files2convert.removeAll(existingFiles);
+
+        return files2convert.toArray(new Path[0]);
+    }
+
+    private void showStatus(int counter) {
+        String status;
 
-            success = false;
+        final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.conversionStatus), counter);
+
+        // use counter to display different text on the status bar
+        if (counter == 1) {
+            status = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
+        } else {
+            status = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
         }
 
-        return success;
+        Main.statusBar.setStatus(status, OK);
     }
 
     @SuppressWarnings("MethodCanBeVariableArityMethod")
@@ -577,9 +698,9 @@ public class ConverterWidget extends AbstractWidget {
                 if (RadioHelper.getSelectedBtn(childrenSource) > 1) {
                     RadioHelper.selectBtn(childrenSource, 1);
                 }
-                if (RadioHelper.getSelectedBtn(childrenTarget) == 0) {
+                if (RadioHelper.isSelected(childrenTarget, 0)) {
                     RadioHelper.selectBtn(childrenSource, 1);
-                } else if (RadioHelper.getSelectedBtn(childrenTarget) == 1) {
+                } else if (RadioHelper.isSelected(childrenTarget, 1)) {
                     RadioHelper.selectBtn(childrenSource, 0);
                 }
                 break;
@@ -589,9 +710,7 @@ public class ConverterWidget extends AbstractWidget {
                 if (RadioHelper.getSelectedBtn(childrenSource) != 8) {
                     RadioHelper.selectBtn(childrenSource, 2);
                 }
-                if (RadioHelper.getSelectedBtn(childrenTarget) == 2) {
-                    RadioHelper.selectBtn(childrenTarget, 1);
-                }
+                deselectTarget(2, 1);
                 break;
 
             case CSV:
@@ -599,9 +718,7 @@ public class ConverterWidget extends AbstractWidget {
                 if (RadioHelper.getSelectedBtn(childrenSource) != 7) {
                     RadioHelper.selectBtn(childrenSource, 3);
                 }
-                if (RadioHelper.getSelectedBtn(childrenTarget) == 3) {
-                    RadioHelper.selectBtn(childrenTarget, 1);
-                }
+                deselectTarget(3, 1);
                 break;
 
             case K:
@@ -609,9 +726,7 @@ public class ConverterWidget extends AbstractWidget {
                 if (RadioHelper.getSelectedBtn(childrenSource) != 4) {
                     RadioHelper.selectBtn(childrenSource, 4);
                 }
-                if (RadioHelper.getSelectedBtn(childrenTarget) == 4) {
-                    RadioHelper.selectBtn(childrenTarget, 1);
-                }
+                deselectTarget(4, 1);
                 break;
 
             case DAT:
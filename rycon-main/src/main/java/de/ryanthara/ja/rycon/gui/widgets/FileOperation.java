@@ -0,0 +1,45 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.gui.widgets
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.gui.widgets;
+
+import java.nio.file.Path;
+
+/**
+ * The <tt>FileOperation</tt> is the functional interface for the processing of a single file
+ * in a background {@link Job}.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+@FunctionalInterface
+interface FileOperation {
+
+    /**
+     * Processes a single file on a worker thread and returns the number of successful written files.
+     * <p>
+     * A negative value stops the processing of the remaining files of the job.
+     *
+     * @param path file to be processed
+     * @param job  the running job, e.g. for the line counters
+     *
+     * @return number of written files
+     */
+    int processFile(Path path, Job job);
+
+} // end of FileOperation
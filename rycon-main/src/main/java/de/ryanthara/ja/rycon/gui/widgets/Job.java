@@ -0,0 +1,294 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.gui.widgets
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.gui.widgets;
+
+import de.ryanthara.ja.rycon.Main;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
+import de.ryanthara.ja.rycon.gui.custom.MessageBoxes;
+import de.ryanthara.ja.rycon.i18n.Messages;
+import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.widgets.Display;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static de.ryanthara.ja.rycon.gui.custom.Status.OK;
+import static de.ryanthara.ja.rycon.gui.custom.Status.WARNING;
+import static de.ryanthara.ja.rycon.i18n.ResourceBundles.MESSAGES;
+
+/**
+ * Instances of this class processes a couple of files with a {@link FileOperation} on one or more
+ * worker threads of the {@link JobEngine}.
+ * <p>
+ * Every worker takes the next unprocessed file until all files are processed. Therefore independent
+ * files can be processed in parallel, as long as the file operation does not share mutable state
+ * between the files. The results are stored per file, so that the failed files can be returned in
+ * the original order.
+ * <p>
+ * The worker thread only increments counters. The progress is shown on the status bar by the user
+ * interface thread, which is triggered with {@link Display#asyncExec(Runnable)} after every processed
+ * file and by a timer for the line counters. Pending updates are coalesced, so that a fast job does not
+ * flood the event queue of the display.
+ * <p>
+ * The finish listener is called on the user interface thread after the last file or the cancellation.
+ * Afterwards the warnings, which were collected in the {@link ProcessingContext} of the job, are shown
+ * once in a message box.
+ *
+ * @author sebastian
+ * @version 3
+ * @since 25
+ */
+class Job implements Runnable {
+
+    private final static Logger logger = Logger.getLogger(Job.class.getName());
+
+    private final AtomicInteger counter = new AtomicInteger(0);
+    private final AtomicInteger countProcessedFiles = new AtomicInteger(0);
+    private final AtomicLong countReadLines = new AtomicLong(0);
+    private final AtomicLong countWrittenLines = new AtomicLong(0);
+    private final AtomicBoolean isUpdatePending = new AtomicBoolean(false);
+    private final AtomicInteger activeWorkers;
+    private final AtomicInteger nextFile = new AtomicInteger(0);
+    private final Display display;
+    private final Path[] files;
+    private final Consumer<Job> finishListener;
+    private final ProcessingContext context;
+    private final FileOperation operation;
+    private final int[] results;
+    private final String title;
+    private volatile boolean isCancelled = false;
+    private volatile boolean isStopped = false;
+    private volatile boolean isFinished = false;
+
+    /**
+     * Constructs a new instance of this class on the user interface thread.
+     *
+     * @param title          title of the job shown on the status bar
+     * @param files          files to be processed
+     * @param workers        number of workers, which process the files in parallel
+     * @param context        processing context with the settings and the warnings of the job
+     * @param operation      operation for every file
+     * @param finishListener listener which is called on the user interface thread at the end
+     */
+    Job(String title, Path[] files, int workers, ProcessingContext context, FileOperation operation,
+        Consumer<Job> finishListener) {
+        this.title = title;
+        this.files = files.clone();
+        this.context = context;
+        this.operation = operation;
+        this.finishListener = finishListener;
+        this.activeWorkers = new AtomicInteger(workers);
+        this.display = Display.getCurrent();
+        this.results = new int[files.length];
+
+        Arrays.fill(results, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Cancels the job. The file in progress is finished, the remaining files are not processed.
+     */
+    void cancel() {
+        isCancelled = true;
+        context.cancel();
+    }
+
+    /**
+     * Returns the processing context of the job, which is shared by all workers.
+     *
+     * @return processing context
+     */
+    ProcessingContext getContext() {
+        return context;
+    }
+
+    /**
+     * Returns the number of successful written files.
+     *
+     * @return number of written files
+     */
+    int getCounter() {
+        return counter.get();
+    }
+
+    /**
+     * Returns the files, which were processed without success, in the original order. Must be called
+     * after the job is finished.
+     *
+     * @return failed files
+     */
+    List<Path> getFailedFiles() {
+        List<Path> failedFiles = new ArrayList<>();
+
+        for (int i = 0; i < files.length; i++) {
+            // Integer.MIN_VALUE is used for not processed files (e.g. after the cancellation)
+            if (results[i] != Integer.MIN_VALUE && results[i] <= 0) {
+                failedFiles.add(files[i]);
+            }
+        }
+
+        return failedFiles;
+    }
+
+    /**
+     * Returns the line counter for the {@link de.ryanthara.ja.rycon.io.LineReader}.
+     *
+     * @return read line counter
+     */
+    AtomicLong getReadLineCounter() {
+        return countReadLines;
+    }
+
+    /**
+     * Returns the line counter for the {@link de.ryanthara.ja.rycon.io.LineWriter}.
+     *
+     * @return written line counter
+     */
+    AtomicLong getWrittenLineCounter() {
+        return countWrittenLines;
+    }
+
+    /**
+     * Returns true if the job was cancelled.
+     *
+     * @return true if cancelled
+     */
+    boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Processes the next unprocessed files on a worker thread.
+     */
+    @Override
+    public void run() {
+        try {
+            int index;
+
+            while (!isCancelled && !isStopped && (index = nextFile.getAndIncrement()) < files.length) {
+                int result;
+
+                try {
+                    result = operation.processFile(files[index], this);
+                } catch (RuntimeException e) {
+                    logger.log(Level.SEVERE, "background job '" + title + "' failed for file " + files[index], e);
+                    result = 0;
+                }
+
+                results[index] = result;
+                countProcessedFiles.incrementAndGet();
+
+                if (result < 0) {
+                    isStopped = true;
+                } else {
+                    counter.addAndGet(result);
+                }
+
+                requestUpdate();
+            }
+        } finally {
+            workerDone();
+        }
+    }
+
+    /**
+     * Shows the first progress and starts the timer for the line counters. Must be called
+     * on the user interface thread.
+     */
+    void start() {
+        showProgress();
+
+        display.timerExec(JobEngine.UPDATE_INTERVAL, new Runnable() {
+            @Override
+            public void run() {
+                if (!isFinished) {
+                    showProgress();
+                    display.timerExec(JobEngine.UPDATE_INTERVAL, this);
+                }
+            }
+        });
+    }
+
+    /**
+     * Signals the end of a worker. After the last worker the job is finished.
+     */
+    void workerDone() {
+        if (activeWorkers.decrementAndGet() == 0) {
+            isFinished = true;
+            runOnDisplay(this::finish);
+        }
+    }
+
+    private void finish() {
+        JobEngine.finished(this);
+
+        if (isCancelled && Main.statusBar != null && !Main.statusBar.isDisposed()) {
+            final String status = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.jobCancelled),
+                    title, countProcessedFiles.get(), files.length);
+
+            Main.statusBar.setStatus(status, WARNING);
+        }
+
+        finishListener.accept(this);
+
+        if (context.hasWarnings()) {
+            MessageBoxes.showWarnings(Main.shell, context.getWarnings());
+        }
+    }
+
+    private void requestUpdate() {
+        // coalesce the updates until the display has shown the last one
+        if (isUpdatePending.compareAndSet(false, true)) {
+            runOnDisplay(() -> {
+                isUpdatePending.set(false);
+
+                if (!isFinished) {
+                    showProgress();
+                }
+            });
+        }
+    }
+
+    private void runOnDisplay(Runnable runnable) {
+        if (display != null && !display.isDisposed()) {
+            try {
+                display.asyncExec(runnable);
+            } catch (SWTException e) {
+                logger.log(Level.FINE, "display is disposed", e);
+            }
+        }
+    }
+
+    private void showProgress() {
+        if (Main.statusBar != null && !Main.statusBar.isDisposed()) {
+            final String status = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.jobProgress),
+                    title, countProcessedFiles.get(), files.length, countReadLines.get(), countWrittenLines.get());
+
+            Main.statusBar.setStatus(status, OK);
+        }
+    }
+
+} // end of Job
@@ -0,0 +1,194 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.gui.widgets
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.gui.widgets;
+
+import de.ryanthara.ja.rycon.Main;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
+
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This class provides the shared background job engine for the file operations of RyCON's widgets.
+ * <p>
+ * The jobs are executed on a bounded thread pool with a bounded queue, so that the user interface
+ * thread is never blocked by file reading, conversion and writing. A job can use several workers to
+ * process independent files in parallel. While at least one job is running,
+ * the cancel button of the status bar is shown. It cancels all running jobs.
+ * <p>
+ * Except the worker threads, all methods must be called on the user interface thread.
+ *
+ * @author sebastian
+ * @version 3
+ * @since 25
+ */
+class JobEngine {
+
+    /**
+     * Member for the interval of the status bar updates in milliseconds.
+     */
+    static final int UPDATE_INTERVAL = 200;
+
+    private final static Logger logger = Logger.getLogger(JobEngine.class.getName());
+
+    private static final int MAX_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int MAX_QUEUED_JOBS = 16;
+    private static final Set<Job> runningJobs = new LinkedHashSet<>();
+    private static final ThreadPoolExecutor executor;
+
+    static {
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "RyCON-job-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_JOBS), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Cancels all running jobs.
+     */
+    static void cancelAll() {
+        for (Job job : runningJobs) {
+            job.cancel();
+        }
+    }
+
+    /**
+     * Returns the maximum number of worker threads of the engine.
+     *
+     * @return maximum number of threads
+     */
+    static int getMaxThreads() {
+        return MAX_THREADS;
+    }
+
+    /**
+     * Submits a new job for the files, which are processed one by one, and returns the submission success.
+     *
+     * @param title          title of the job shown on the status bar
+     * @param files          files to be processed
+     * @param operation      operation for every file
+     * @param finishListener listener which is called on the user interface thread at the end
+     *
+     * @return true if the job was submitted
+     */
+    static boolean submit(String title, Path[] files, FileOperation operation, Consumer<Job> finishListener) {
+        return submit(title, files, 1, operation, finishListener);
+    }
+
+    /**
+     * Submits a new job for the files, which are processed in parallel by the given number of workers,
+     * and returns the submission success.
+     * <p>
+     * The number of workers is limited by the number of files and the maximum number of threads. The job
+     * gets a processing context with a snapshot of the current settings.
+     *
+     * @param title          title of the job shown on the status bar
+     * @param files          files to be processed
+     * @param parallelism    number of files processed in parallel
+     * @param operation      operation for every file, without shared mutable state between the files
+     * @param finishListener listener which is called on the user interface thread at the end
+     *
+     * @return true if the job was submitted
+     */
+    static boolean submit(String title, Path[] files, int parallelism, FileOperation operation,
+                          Consumer<Job> finishListener) {
+        return submit(title, files, parallelism, ProcessingContext.fromPreferences(Main.pref), operation, finishListener);
+    }
+
+    /**
+     * Submits a new job for the files with a prepared processing context and returns the submission success.
+     * <p>
+     * The processing context is cancelled together with the job. Its warnings are shown after the job.
+     *
+     * @param title          title of the job shown on the status bar
+     * @param files          files to be processed
+     * @param parallelism    number of files processed in parallel
+     * @param context        processing context with a snapshot of the settings
+     * @param operation      operation for every file, without shared mutable state between the files
+     * @param finishListener listener which is called on the user interface thread at the end
+     *
+     * @return true if the job was submitted
+     */
+    static boolean submit(String title, Path[] files, int parallelism, ProcessingContext context,
+                          FileOperation operation, Consumer<Job> finishListener) {
+        final int workers = Math.max(1, Math.min(Math.min(parallelism, MAX_THREADS), files.length));
+
+        Job job = new Job(title, files, workers, context, operation, finishListener);
+
+        for (int i = 0; i < workers; i++) {
+            try {
+                executor.execute(job);
+            } catch (RejectedExecutionException e) {
+                if (i == 0) {
+                    logger.log(Level.SEVERE, "too many background jobs, job '" + title + "' is rejected", e);
+
+                    return false;
+                }
+
+                // the already started workers process the remaining files
+                logger.log(Level.WARNING, "job '" + title + "' runs with " + i + " of " + workers + " workers");
+
+                for (int j = i; j < workers; j++) {
+                    job.workerDone();
+                }
+
+                break;
+            }
+        }
+
+        runningJobs.add(job);
+        job.start();
+
+        if (Main.statusBar != null && !Main.statusBar.isDisposed()) {
+            Main.statusBar.showCancelButton(JobEngine::cancelAll);
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes a finished job and hides the cancel button after the last job.
+     *
+     * @param job finished job
+     */
+    static void finished(Job job) {
+        runningJobs.remove(job);
+
+        if (runningJobs.isEmpty() && Main.statusBar != null && !Main.statusBar.isDisposed()) {
+            Main.statusBar.hideCancelButton();
+        }
+    }
+
+} // end of JobEngine
@@ -27,6 +27,7 @@ import de.ryanthara.ja.rycon.gui.Sizes;
 import de.ryanthara.ja.rycon.gui.custom.*;
 import de.ryanthara.ja.rycon.i18n.*;
 import de.ryanthara.ja.rycon.io.LineReader;
+import de.ryanthara.ja.rycon.io.LineEnding;
 import de.ryanthara.ja.rycon.io.LineWriter;
 import de.ryanthara.ja.rycon.tools.ShellPositioner;
 import de.ryanthara.ja.rycon.tools.StringUtils;
@@ -57,7 +58,7 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.*;
  * On later versions of RyCON there will be support for more levelling formats.
  *
  * @author sebastian
- * @version 8
+ * @version 11
  * @since 1
  */
 public class LevellingWidget extends AbstractWidget {
@@ -101,20 +102,7 @@ public class LevellingWidget extends AbstractWidget {
      */
     public void executeDropInjection() {
         if ((files2read != null) && (files2read.length > 0)) {
-            if (processFileOperationsDND()) {
-                String status;
-
-                final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.levellingStatus), Main.countFileOps);
-
-                // use counter to display different text on the status bar
-                if (Main.countFileOps == 1) {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
-                } else {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
-                }
-
-                Main.statusBar.setStatus(status, OK);
-            }
+            processFileOperationsDND();
         }
     }
 
@@ -160,20 +148,7 @@ public class LevellingWidget extends AbstractWidget {
         }
 
         if ((files2read != null) && (files2read.length > 0)) {
-            if (processFileOperations()) {
-                String status;
-
-                final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.levellingStatus), Main.countFileOps);
-
-                // use counter to display different text on the status bar
-                if (Main.countFileOps == 1) {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
-                } else {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
-                }
-
-                Main.statusBar.setStatus(status, OK);
-            }
+            processFileOperations();
 
             return true;
         }
@@ -261,40 +236,42 @@ public class LevellingWidget extends AbstractWidget {
         chkBoxHoldChangePoint.setText(ResourceBundleUtils.getLangString(CHECKBOXES, CheckBoxes.levellingIgnoreChangePoints));
     }
 
-    private int fileOperations(boolean holdChangePoints) {
+    private int fileOperation(Path file2read, Job job, boolean holdChangePoints) {
         int counter = 0;
 
-        for (Path file2read : files2read) {
-            LineReader lineReader = new LineReader(file2read);
+        LineReader lineReader = new LineReader(file2read);
+        lineReader.setLineCounter(job.getReadLineCounter());
+
+        if (lineReader.readFile()) {
+            ArrayList<String> readFile = lineReader.getLines();
 
-            if (lineReader.readFile()) {
-                ArrayList<String> readFile = lineReader.getLines();
+            String[] fileNameAndSuffix = file2read.getFileName().toString().split("\\.(?=[^.]+$)");
 
-                String[] fileNameAndSuffix = file2read.getFileName().toString().split("\\.(?=[^.]+$)");
+            ArrayList<String> writeFile;
 
-                ArrayList<String> writeFile;
+            if (fileNameAndSuffix[1].equalsIgnoreCase("GSI")) {
+                GSILevelling2Cad gsiLevelling2Cad = new GSILevelling2Cad(readFile, job.getContext());
+                writeFile = gsiLevelling2Cad.processLevelling2Cad(holdChangePoints);
+            } else if (fileNameAndSuffix[1].equalsIgnoreCase("ASC")) {
+                Nigra2GSI nigra2GSI = new Nigra2GSI(readFile, job.getContext());
+                writeFile = nigra2GSI.convertNIGRA2GSI(Main.getGSI16());
+            } else {
+                System.err.println("File " + file2read.getFileName() + " is not supported (yet).");
 
-                if (fileNameAndSuffix[1].equalsIgnoreCase("GSI")) {
-                    GSILevelling2Cad gsiLevelling2Cad = new GSILevelling2Cad(readFile);
-                    writeFile = gsiLevelling2Cad.processLevelling2Cad(holdChangePoints);
-                } else if (fileNameAndSuffix[1].equalsIgnoreCase("ASC")) {
-                    Nigra2GSI nigra2GSI = new Nigra2GSI(readFile);
-                    writeFile = nigra2GSI.convertNIGRA2GSI(Main.getGSI16());
-                } else {
-                    System.err.println("File " + file2read.getFileName() + " is not supported (yet).");
-                    break;
-                }
+                // stops the processing of the remaining files
+                return -1;
+            }
 
-                String file2write = file2read.toString().substring(0, file2read.toString().length() - 4) + "_LEVEL.GSI";
+            String file2write = file2read.toString().substring(0, file2read.toString().length() - 4) + "_LEVEL.GSI";
 
-                LineWriter lineWriter = new LineWriter(file2write);
+            LineWriter lineWriter = new LineWriter(Paths.get(file2write), LineEnding.CRLF);
+            lineWriter.setLineCounter(job.getWrittenLineCounter());
 
-                if (lineWriter.writeFile(writeFile)) {
-                    counter = counter + 1;
-                }
-            } else {
-                System.err.println("File " + file2read.getFileName() + " could not be read.");
+            if (lineWriter.writeFile(writeFile)) {
+                counter = counter + 1;
             }
+        } else {
+            System.err.println("File " + file2read.getFileName() + " could not be read.");
         }
 
         return counter;
@@ -344,50 +321,64 @@ public class LevellingWidget extends AbstractWidget {
         innerShell.open();
     }
 
-    private boolean processFileOperations() {
-        boolean success;
-
-        int counter = fileOperations(chkBoxHoldChangePoint.getSelection());
+    private void processFileOperations() {
+        final boolean holdChangePoints = chkBoxHoldChangePoint.getSelection();
 
-        if (counter > 0) {
-            String message;
+        JobEngine.submit(ResourceBundleUtils.getLangString(LABELS, Labels.levellingText), files2read,
+                (path, job) -> fileOperation(path, job, holdChangePoints),
+                job -> {
+                    final int counter = job.getCounter();
 
-            final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.levellingMessage), counter);
+                    // the inner shell is already disposed after 'OK and exit'
+                    final Shell shell = innerShell.isDisposed() ? Main.shell : innerShell;
 
-            if (counter == 1) {
-                message = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
-            } else {
-                message = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
-            }
+                    if (counter > 0) {
+                        String message;
 
-            MessageBoxes.showMessageBox(innerShell, SWT.ICON_INFORMATION,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.successTextMsgBox), message);
+                        final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.levellingMessage), counter);
 
-            // set the counter for status bar information
-            Main.countFileOps = counter;
-            success = true;
-        } else {
-            MessageBoxes.showMessageBox(innerShell, SWT.ICON_WARNING,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.errorTextMsgBox),
-                    ResourceBundleUtils.getLangString(ERRORS, Errors.levellingPreparationFailed));
+                        if (counter == 1) {
+                            message = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
+                        } else {
+                            message = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
+                        }
 
-            success = false;
-        }
+                        MessageBoxes.showMessageBox(shell, SWT.ICON_INFORMATION,
+                                ResourceBundleUtils.getLangString(LABELS, Labels.successTextMsgBox), message);
 
-        return success;
+                        showStatus(counter);
+                    } else if (!job.isCancelled()) {
+                        MessageBoxes.showMessageBox(shell, SWT.ICON_WARNING,
+                                ResourceBundleUtils.getLangString(LABELS, Labels.errorTextMsgBox),
+                                ResourceBundleUtils.getLangString(ERRORS, Errors.levellingPreparationFailed));
+                    }
+                });
     }
 
-    private boolean processFileOperationsDND() {
+    private void processFileOperationsDND() {
         // change points are ignored
-        int counter = fileOperations(false);
+        JobEngine.submit(ResourceBundleUtils.getLangString(LABELS, Labels.levellingText), files2read,
+                (path, job) -> fileOperation(path, job, false),
+                job -> {
+                    if (job.getCounter() > 0) {
+                        showStatus(job.getCounter());
+                    }
+                });
+    }
 
-        if (counter > 0) {
-            // set the counter for status bar information
-            Main.countFileOps = counter;
-            return true;
+    private void showStatus(int counter) {
+        String status;
+
+        final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.levellingStatus), counter);
+
+        // use counter to display different text on the status bar
+        if (counter == 1) {
+            status = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
         } else {
-            return false;
+            status = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
         }
+
+        Main.statusBar.setStatus(status, OK);
     }
 
 } // end of LevellingWidget.java
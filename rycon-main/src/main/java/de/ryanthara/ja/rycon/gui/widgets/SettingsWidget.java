@@ -49,7 +49,7 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.*;
  * An additional button adds the functionality to set default values by a simple click.
  *
  * @author sebastian
- * @version 8
+ * @version 9
  * @since 2
  */
 public class SettingsWidget {
@@ -77,6 +77,7 @@ public class SettingsWidget {
     private Text identifierFreeStationTextField;
     private Text identifierKnownStationTextField;
     private Text identifierLTOPTextField;
+    private Text parallelConversions;
     private Text pointIdenticalDistance;
 
     /**
@@ -111,6 +112,7 @@ public class SettingsWidget {
         identifierKnownStationTextField.setText(DefaultKeys.PARAM_KNOWN_STATION_STRING.getValue());
         identifierLTOPTextField.setText(DefaultKeys.PARAM_LTOP_STRING.getValue());
         pointIdenticalDistance.setText(DefaultKeys.CONVERTER_SETTING_POINT_IDENTICAL_DISTANCE.getValue());
+        parallelConversions.setText(DefaultKeys.CONVERTER_SETTING_PARALLEL_CONVERSIONS.getValue());
 
         RadioHelper.selectBtn(groupZeissRECFormat.getChildren(), 3); // M5 as default value
 
@@ -191,7 +193,7 @@ public class SettingsWidget {
                     ResourceBundleUtils.getLangString(WARNINGS, Warnings.emptyTextField));
         }
 
-        if (TextCheck.isEmpty(pointIdenticalDistance) || !checkForValidInputs()) {
+        if (TextCheck.isEmpty(pointIdenticalDistance) || TextCheck.isEmpty(parallelConversions) || !checkForValidInputs()) {
             errorOccurred = MessageBoxes.showMessageBox(innerShell, SWT.ICON_WARNING,
                     ResourceBundleUtils.getLangString(LABELS, Labels.warningTextMsgBox),
                     ResourceBundleUtils.getLangString(WARNINGS, Warnings.emptyTextField));
@@ -236,11 +238,12 @@ public class SettingsWidget {
                 TextCheck.isEmpty(identifierControlPointTextField) |
                 TextCheck.isEmpty(identifierKnownStationTextField) |
                 TextCheck.isEmpty(identifierLTOPTextField) |
-                TextCheck.isEmpty(pointIdenticalDistance);
+                TextCheck.isEmpty(pointIdenticalDistance) |
+                TextCheck.isEmpty(parallelConversions);
     }
 
     private boolean checkForValidInputs() {
-        return TextCheck.isDoubleValue(pointIdenticalDistance);
+        return TextCheck.isDoubleValue(pointIdenticalDistance) && TextCheck.isIntegerValue(parallelConversions);
     }
 
     private void createAdminDirComposite(Group group) {
@@ -579,6 +582,25 @@ public class SettingsWidget {
         gridData.widthHint = 50;
         gridData.grabExcessHorizontalSpace = false;
         pointIdenticalDistance.setLayoutData(gridData);
+
+        Label parallelConversionsLabel = new Label(composite2, SWT.NONE);
+        parallelConversionsLabel.setText(ResourceBundleUtils.getLangString(LABELS, Labels.parallelConversions));
+
+        parallelConversions = new Text(composite2, SWT.BORDER);
+        parallelConversions.setText(Main.pref.getUserPreference(PreferenceKeys.CONVERTER_SETTING_PARALLEL_CONVERSIONS));
+        parallelConversions.addListener(SWT.Traverse, event -> {
+            // prevent this shortcut for execute when the text fields are empty
+            if (!checkForEmptyTextFields()) {
+                if (((event.stateMask & SWT.CTRL) == SWT.CTRL) && (event.detail == SWT.TRAVERSE_RETURN)) {
+                    actionBtnOk();
+                }
+            }
+        });
+
+        gridData = new GridData();
+        gridData.widthHint = 50;
+        gridData.grabExcessHorizontalSpace = false;
+        parallelConversions.setLayoutData(gridData);
     }
 
     private void createGroupConverterComposite3(int width) {
@@ -1067,6 +1089,7 @@ public class SettingsWidget {
         Main.pref.setUserPreference(PreferenceKeys.CONVERTER_SETTING_ELIMINATE_ZERO_COORDINATE, Boolean.toString(chkBoxEliminateZeroCoordinates.getSelection()));
         Main.pref.setUserPreference(PreferenceKeys.CONVERTER_SETTING_LTOP_USE_ZENITH_DISTANCE, Boolean.toString(chkBoxLTOPUseZenithDistance.getSelection()));
         Main.pref.setUserPreference(PreferenceKeys.CONVERTER_SETTING_POINT_IDENTICAL_DISTANCE, pointIdenticalDistance.getText());
+        Main.pref.setUserPreference(PreferenceKeys.CONVERTER_SETTING_PARALLEL_CONVERSIONS, parallelConversions.getText());
 
         // Zeiss Rec dialect
         switch (ZeissDialect.fromIndex(RadioHelper.getSelectedBtn(groupZeissRECFormat.getChildren()))) {
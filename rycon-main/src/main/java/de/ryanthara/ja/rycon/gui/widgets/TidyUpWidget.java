@@ -22,12 +22,13 @@ import de.ryanthara.ja.rycon.Main;
 import de.ryanthara.ja.rycon.check.PathCheck;
 import de.ryanthara.ja.rycon.check.TextCheck;
 import de.ryanthara.ja.rycon.core.GSILTOPClean;
-import de.ryanthara.ja.rycon.core.GSITidyUp;
+import de.ryanthara.ja.rycon.core.GSITidyUpEngine;
 import de.ryanthara.ja.rycon.data.PreferenceKeys;
 import de.ryanthara.ja.rycon.gui.Sizes;
 import de.ryanthara.ja.rycon.gui.custom.*;
 import de.ryanthara.ja.rycon.i18n.*;
 import de.ryanthara.ja.rycon.io.LineReader;
+import de.ryanthara.ja.rycon.io.LineEnding;
 import de.ryanthara.ja.rycon.io.LineWriter;
 import de.ryanthara.ja.rycon.tools.ShellPositioner;
 import de.ryanthara.ja.rycon.tools.StringUtils;
@@ -36,6 +37,8 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.*;
 import java.util.ArrayList;
 import java.util.Optional;
@@ -52,7 +55,7 @@ import static de.ryanthara.ja.rycon.i18n.ResourceBundles.*;
  * measurement files with a simple 'intelligence'.
  *
  * @author sebastian
- * @version 8
+ * @version 13
  * @since 1
  */
 public class TidyUpWidget extends AbstractWidget {
@@ -100,20 +103,7 @@ public class TidyUpWidget extends AbstractWidget {
      */
     public void executeDropInjection() {
         if ((files2read != null) && (files2read.length > 0)) {
-            if (processFileOperationsDND()) {
-                String status;
-
-                final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.tidyUpStatus), Main.countFileOps);
-
-                // use counter to display different text on the status bar
-                if (Main.countFileOps == 1) {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
-                } else {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
-                }
-
-                Main.statusBar.setStatus(status, OK);
-            }
+            processFileOperationsDND();
         }
     }
 
@@ -139,20 +129,8 @@ public class TidyUpWidget extends AbstractWidget {
         }
 
         if ((files2read != null) && (files2read.length > 0)) {
-            if (processFileOperations()) {
-                String status;
+            processFileOperations();
 
-                final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.tidyUpStatus), Main.countFileOps);
-
-                // use counter to display different text on the status bar
-                if (Main.countFileOps == 1) {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
-                } else {
-                    status = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
-                }
-
-                Main.statusBar.setStatus(status, OK);
-            }
             return true;
         }
 
@@ -265,48 +243,77 @@ public class TidyUpWidget extends AbstractWidget {
         chkBoxHoldStations.setText(ResourceBundleUtils.getLangString(CHECKBOXES, CheckBoxes.HoldStationsTidyUp));
     }
 
-    private int fileOperations(boolean holdStations, boolean holdControlPoints) {
+    private int fileOperation(Path path, Job job, boolean holdStations, boolean holdControlPoints) {
         int counter = 0;
-        LineReader lineReader;
-        String editString = Main.pref.getUserPreference(PreferenceKeys.PARAM_EDIT_STRING);
-        String ltopString = Main.pref.getUserPreference(PreferenceKeys.PARAM_LTOP_STRING);
+        String editString = job.getContext().getSettings().getEditIdentifier();
+        String ltopString = job.getContext().getSettings().getLTOPIdentifier();
+
+        LineReader lineReader = new LineReader(path);
+        lineReader.setLineCounter(job.getReadLineCounter());
 
-        for (Path path : files2read) {
-            lineReader = new LineReader(path);
+        // processFileOperations and differ between 'normal' GSI files and LTOP 'GSL' files (case insensitive)
+        PathMatcher matcherGSI = FileSystems.getDefault().getPathMatcher("regex:(?iu:.+\\.GSI)");
+        PathMatcher matcherGSL = FileSystems.getDefault().getPathMatcher("regex:(?iu:.+\\.GSL)");
 
+        if (matcherGSL.matches(path)) {
             if (lineReader.readFile()) {
-                ArrayList<String> readFile = lineReader.getLines();
-                ArrayList<String> writeFile = null;
-                String file2write = null;
-
-                // processFileOperations and differ between 'normal' GSI files and LTOP 'GSL' files (case insensitive)
-                PathMatcher matcherGSI = FileSystems.getDefault().getPathMatcher("regex:(?iu:.+\\.GSI)");
-                PathMatcher matcherGSL = FileSystems.getDefault().getPathMatcher("regex:(?iu:.+\\.GSL)");
-
-                if (matcherGSL.matches(path)) {
-                    GSILTOPClean gsiltopClean = new GSILTOPClean(readFile);
-                    writeFile = gsiltopClean.processLTOPClean();
-                    file2write = path.toString().substring(0, path.toString().length() - 4) + "_" + ltopString + ".GSI";
-                } else if (matcherGSI.matches(path)) {
-                    GSITidyUp gsiTidyUp = new GSITidyUp(readFile);
-                    writeFile = gsiTidyUp.processTidyUp(holdStations, holdControlPoints);
-                    file2write = path.toString().substring(0, path.toString().length() - 4) + "_" + editString + ".GSI";
-                }
+                GSILTOPClean gsiltopClean = new GSILTOPClean(lineReader.getLines(), job.getContext());
+                ArrayList<String> writeFile = gsiltopClean.processLTOPClean();
+                String file2write = path.toString().substring(0, path.toString().length() - 4) + "_" + ltopString + ".GSI";
 
                 // write file line by line
-                if (file2write != null) {
-                    LineWriter lineWriter = new LineWriter(file2write);
-                    if (lineWriter.writeFile(writeFile)) {
-                        counter = counter + 1;
-                    }
+                LineWriter lineWriter = new LineWriter(Paths.get(file2write), LineEnding.CRLF);
+                lineWriter.setLineCounter(job.getWrittenLineCounter());
+
+                if (!job.isCancelled() && lineWriter.writeFile(writeFile)) {
+                    counter = counter + 1;
                 }
             } else {
                 System.err.println("File " + path.getFileName() + " could not be read.");
             }
+        } else if (matcherGSI.matches(path)) {
+            String file2write = path.toString().substring(0, path.toString().length() - 4) + "_" + editString + ".GSI";
+
+            if (executeTidyUp(lineReader, Paths.get(file2write), holdStations, holdControlPoints, job)) {
+                counter = counter + 1;
+            }
         }
+
         return counter;
     }
 
+    private boolean executeTidyUp(LineReader lineReader, Path file2write, boolean holdStations,
+                                  boolean holdControlPoints, Job job) {
+        // the lines are tidied up while reading and written as soon as their type is known
+        try (LineWriter lineWriter = new LineWriter(file2write, LineEnding.CRLF)) {
+            lineWriter.setLineCounter(job.getWrittenLineCounter());
+            lineWriter.open();
+
+            GSITidyUpEngine engine = new GSITidyUpEngine(holdStations, holdControlPoints, job.getContext(), line -> {
+                try {
+                    lineWriter.writeLine(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                return !job.isCancelled();
+            });
+
+            if (!lineReader.readFile(engine)) {
+                System.err.println("File " + file2write.getFileName() + " could not be read.");
+            } else if (engine.finish() && !job.isCancelled()) {
+                lineWriter.commit();
+
+                return true;
+            }
+        } catch (IOException | UncheckedIOException e) {
+            System.err.format("File %s could not be written to the file system.%n", file2write);
+            logger.log(Level.SEVERE, "can not write the tidy up file " + file2write, e);
+        }
+
+        return false;
+    }
+
     private void handleFileInjection() {
         String files = Main.getCLIInputFiles();
 
@@ -351,50 +358,65 @@ public class TidyUpWidget extends AbstractWidget {
         innerShell.open();
     }
 
-    private boolean processFileOperations() {
-        boolean success;
+    private void processFileOperations() {
+        final boolean holdStations = chkBoxHoldStations.getSelection();
+        final boolean holdControlPoints = chkBoxHoldControlPoints.getSelection();
 
-        final int counter = fileOperations(chkBoxHoldStations.getSelection(), chkBoxHoldControlPoints.getSelection());
+        JobEngine.submit(ResourceBundleUtils.getLangString(LABELS, Labels.tidyUpText), files2read,
+                (path, job) -> fileOperation(path, job, holdStations, holdControlPoints),
+                job -> {
+                    final int counter = job.getCounter();
 
-        if (counter > 0) {
-            String message;
+                    // the inner shell is already disposed after 'OK and exit'
+                    final Shell shell = innerShell.isDisposed() ? Main.shell : innerShell;
 
-            final String helper = ResourceBundleUtils.getLangString(MESSAGES, Messages.tidyUpMessage);
+                    if (counter > 0) {
+                        String message;
 
-            if (counter == 1) {
-                message = String.format(StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR), counter);
-            } else {
-                message = String.format(StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL), counter);
-            }
+                        final String helper = ResourceBundleUtils.getLangString(MESSAGES, Messages.tidyUpMessage);
 
-            MessageBoxes.showMessageBox(innerShell, SWT.ICON_INFORMATION,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.successTextMsgBox), message);
+                        if (counter == 1) {
+                            message = String.format(StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR), counter);
+                        } else {
+                            message = String.format(StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL), counter);
+                        }
 
-            // set the counter for status bar information
-            Main.countFileOps = counter;
-            success = true;
-        } else {
-            final String message = String.format(ResourceBundleUtils.getLangString(ERRORS, Errors.tidyUpFailed), counter);
+                        MessageBoxes.showMessageBox(shell, SWT.ICON_INFORMATION,
+                                ResourceBundleUtils.getLangString(LABELS, Labels.successTextMsgBox), message);
 
-            MessageBoxes.showMessageBox(innerShell, SWT.ICON_WARNING,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.errorTextMsgBox), message);
+                        showStatus(counter);
+                    } else if (!job.isCancelled()) {
+                        final String message = String.format(ResourceBundleUtils.getLangString(ERRORS, Errors.tidyUpFailed), counter);
 
-            success = false;
-        }
+                        MessageBoxes.showMessageBox(shell, SWT.ICON_WARNING,
+                                ResourceBundleUtils.getLangString(LABELS, Labels.errorTextMsgBox), message);
+                    }
+                });
+    }
 
-        return success;
+    private void processFileOperationsDND() {
+        JobEngine.submit(ResourceBundleUtils.getLangString(LABELS, Labels.tidyUpText), files2read,
+                (path, job) -> fileOperation(path, job, false, false),
+                job -> {
+                    if (job.getCounter() > 0) {
+                        showStatus(job.getCounter());
+                    }
+                });
     }
 
-    private boolean processFileOperationsDND() {
-        int counter = fileOperations(false, false);
+    private void showStatus(int counter) {
+        String status;
 
-        if (counter > 0) {
-            // set the counter for status bar information
-            Main.countFileOps = counter;
-            return true;
+        final String helper = String.format(ResourceBundleUtils.getLangString(MESSAGES, Messages.tidyUpStatus), counter);
+
+        // use counter to display different text on the status bar
+        if (counter == 1) {
+            status = StringUtils.singularPluralMessage(helper, Main.TEXT_SINGULAR);
         } else {
-            return false;
+            status = StringUtils.singularPluralMessage(helper, Main.TEXT_PLURAL);
         }
+
+        Main.statusBar.setStatus(status, OK);
     }
 
 } // end of TidyUpWidget
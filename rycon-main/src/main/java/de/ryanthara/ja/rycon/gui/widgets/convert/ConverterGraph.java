@@ -0,0 +1,245 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.gui.widgets.convert
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.gui.widgets.convert;
+
+import de.ryanthara.ja.rycon.Main;
+import de.ryanthara.ja.rycon.converter.gsi.GSIRecordWriter;
+import de.ryanthara.ja.rycon.converter.model.CSVBaselStadtRecordReader;
+import de.ryanthara.ja.rycon.converter.model.CSVRecordReader;
+import de.ryanthara.ja.rycon.converter.model.ColumnRecordWriter;
+import de.ryanthara.ja.rycon.converter.model.PointRecord;
+import de.ryanthara.ja.rycon.converter.model.RecordReader;
+import de.ryanthara.ja.rycon.converter.model.RecordWriter;
+import de.ryanthara.ja.rycon.converter.model.TXTRecordReader;
+import de.ryanthara.ja.rycon.gui.widgets.convert.read.ReadFile;
+import de.ryanthara.ja.rycon.gui.widgets.convert.write.WriteParameter;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class provides static functions to convert files through the intermediate {@link PointRecord} model.
+ * <p>
+ * Every source format with a {@link RecordReader} can be converted into every target format with a
+ * {@link RecordWriter}. The reader and the writer are composed at runtime, so that every conversion is done
+ * in a single pass without an intermediate format. Conversions between formats without a reader or
+ * a writer are done by the conversion classes of the format pairs.
+ * <p>
+ * The point record holds coordinates only (see {@link PointRecord}). Therefore only the conversions of
+ * {@link #isRecordConversion(SourceButton, TargetButton)} are done through the point record model, the other
+ * conversions keep the conversion classes of the format pairs, which write all values of the source file.
+ * <p>
+ * This applies to all Leica GSI sources and to the spreadsheet targets: the converters of the
+ * {@link de.ryanthara.ja.rycon.gui.widgets.convert.write.ExcelWriteFile} and the
+ * {@link de.ryanthara.ja.rycon.gui.widgets.convert.write.ODFWriteFile} write every block, token or column of
+ * the source file into a cell, which can't be expressed by a point record without losing values.
+ *
+ * @author sebastian
+ * @version 7
+ * @since 25
+ */
+public class ConverterGraph {
+
+    /**
+     * Converts the point records of the reader with the writer and returns the written lines.
+     *
+     * @param reader reader of the source format
+     * @param writer writer of the target format
+     *
+     * @return converted lines or null if the source file could not be read
+     */
+    public static ArrayList<String> convert(RecordReader reader, RecordWriter writer) {
+        if (reader.read(writer)) {
+            return writer.getResult();
+        }
+
+        return null;
+    }
+
+    /**
+     * Converts the read file from the source format into the target format, if both formats are supported.
+     *
+     * @param sourceButton   source format
+     * @param targetButton   target format
+     * @param readStringFile read string file
+     * @param readCSVFile    read csv file
+     * @param parameter      the write parameter object
+     *
+     * @return converted lines or null if the conversion is not supported or failed
+     */
+    public static ArrayList<String> convert(SourceButton sourceButton, TargetButton targetButton,
+                                            ArrayList<String> readStringFile, List<String[]> readCSVFile,
+                                            WriteParameter parameter) {
+        RecordReader reader = createRecordReader(sourceButton, readStringFile, readCSVFile, parameter);
+        RecordWriter writer = createRecordWriter(targetButton, parameter);
+
+        return reader != null && writer != null ? convert(reader, writer) : null;
+    }
+
+    /**
+     * Returns true if the source format is converted into the target format through the point record model.
+     * <p>
+     * Text and CSV based coordinate files are converted into Leica GSI, and Basel Stadt CSV files are
+     * converted into text and CSV files.
+     *
+     * @param sourceButton source format
+     * @param targetButton target format
+     *
+     * @return true if the conversion is done with a {@link RecordReader} and a {@link RecordWriter}
+     *
+     * @since 25
+     */
+    public static boolean isRecordConversion(SourceButton sourceButton, TargetButton targetButton) {
+        switch (targetButton) {
+            case GSI8:
+            case GSI16:
+                return sourceButton == SourceButton.TXT || sourceButton == SourceButton.CSV ||
+                        sourceButton == SourceButton.BASEL_STADT;
+
+            case TXT:
+            case CSV:
+                return sourceButton == SourceButton.BASEL_STADT;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Creates the {@link RecordReader} for a source format.
+     *
+     * @param sourceButton   source format
+     * @param readStringFile read string file
+     * @param readCSVFile    read csv file
+     * @param parameter      the write parameter object
+     *
+     * @return reader or null if the source format has no reader
+     */
+    public static RecordReader createRecordReader(SourceButton sourceButton, ArrayList<String> readStringFile,
+                                                  List<String[]> readCSVFile, WriteParameter parameter) {
+        switch (sourceButton) {
+            case TXT:
+                return new TXTRecordReader(readStringFile, parameter.sourceContainsCode());
+
+            case CSV:
+                return new CSVRecordReader(readCSVFile, parameter.sourceContainsCode());
+
+            case BASEL_STADT:
+                return new CSVBaselStadtRecordReader(readCSVFile, parameter.sourceContainsCode());
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Creates the {@link RecordReader} for a source format, which reads the source file row by row from the path
+     * while converting (see {@link ReadWriteFactory#isReadWhileConverting(SourceButton, List)}).
+     * <p>
+     * Text files are read line by line with the {@link ReadFile} of the source format. If the source file could
+     * not be read, the failure is reported by the {@link ReadFile} of the source format and the reader returns
+     * false.
+     *
+     * @param sourceButton    source format
+     * @param path            path of the source file
+     * @param readLineCounter counter for the read lines or null
+     * @param parameter       the write parameter object
+     *
+     * @return reader or null if the source format has no reader for paths
+     *
+     * @since 25
+     */
+    public static RecordReader createRecordReader(SourceButton sourceButton, Path path, AtomicLong readLineCounter,
+                                                  WriteParameter parameter) {
+        final ReadFile readFile = ReadWriteFactory.createReadFile(sourceButton, parameter.getContext(), false);
+        final RecordReader reader;
+
+        switch (sourceButton) {
+            case TXT:
+                final TXTRecordReader txtRecordReader = new TXTRecordReader(null, parameter.sourceContainsCode());
+
+                // the text file reports its reading failure itself
+                return handler -> readFile.readFile(path, line -> {
+                    if (readLineCounter != null) {
+                        readLineCounter.incrementAndGet();
+                    }
+
+                    return txtRecordReader.readLine(line, handler);
+                });
+
+            case CSV:
+                CSVRecordReader csvRecordReader = new CSVRecordReader(path, parameter.getSeparatorCSV().charAt(0),
+                        parameter.sourceContainsCode());
+                csvRecordReader.setLineCounter(readLineCounter);
+
+                reader = csvRecordReader;
+                break;
+
+            case BASEL_STADT:
+                CSVBaselStadtRecordReader csvBaselStadtRecordReader = new CSVBaselStadtRecordReader(path,
+                        parameter.sourceContainsCode());
+                csvBaselStadtRecordReader.setLineCounter(readLineCounter);
+
+                reader = csvBaselStadtRecordReader;
+                break;
+
+            default:
+                return null;
+        }
+
+        return handler -> {
+            boolean success = reader.read(handler);
+
+            if (!success) {
+                readFile.reportReadingFailed(path);
+            }
+
+            return success;
+        };
+    }
+
+    /**
+     * Creates the {@link RecordWriter} for a target format.
+     *
+     * @param targetButton target format
+     * @param parameter    the write parameter object
+     *
+     * @return writer or null if the target format has no writer
+     */
+    public static RecordWriter createRecordWriter(TargetButton targetButton, WriteParameter parameter) {
+        switch (targetButton) {
+            case GSI8:
+                return new GSIRecordWriter(Main.getGSI8(), parameter.getContext());
+
+            case GSI16:
+                return new GSIRecordWriter(Main.getGSI16(), parameter.getContext());
+
+            case TXT:
+                return new ColumnRecordWriter(parameter.getSeparatorTXT());
+
+            case CSV:
+                return new ColumnRecordWriter(parameter.getSeparatorCSV());
+
+            default:
+                return null;
+        }
+    }
+
+} // end of ConverterGraph
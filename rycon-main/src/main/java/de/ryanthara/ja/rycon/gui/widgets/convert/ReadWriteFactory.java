@@ -0,0 +1,309 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.gui.widgets.convert
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.gui.widgets.convert;
+
+import de.ryanthara.ja.rycon.Main;
+import de.ryanthara.ja.rycon.converter.excel.BaseToolsExcel;
+import de.ryanthara.ja.rycon.converter.gsi.SharedGSILines;
+import de.ryanthara.ja.rycon.converter.model.RecordReader;
+import de.ryanthara.ja.rycon.converter.model.RecordWriter;
+import de.ryanthara.ja.rycon.data.DefaultKeys;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
+import de.ryanthara.ja.rycon.gui.widgets.ConverterWidget;
+import de.ryanthara.ja.rycon.gui.widgets.convert.read.*;
+import de.ryanthara.ja.rycon.gui.widgets.convert.write.*;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class provides static functions to create the {@link ReadFile} and {@link WriteFile} implementations
+ * for the source and target formats of the {@link ConverterWidget}.
+ * <p>
+ * Every call creates a new instance, so that every conversion (e.g. on a worker thread) uses its own
+ * reader and writer.
+ *
+ * @author sebastian
+ * @version 7
+ * @since 25
+ */
+public class ReadWriteFactory {
+
+    /**
+     * Creates the {@link ReadFile} implementation for a source format.
+     * <p>
+     * Errors are added as warnings to the processing context and are shown by the caller after the conversion.
+     *
+     * @param sourceButton            source format
+     * @param context                 processing context for the warnings
+     * @param isCSVSemiColonSeparator true if CSV files are separated by semicolon
+     *
+     * @return reader for the source format
+     */
+    public static ReadFile createReadFile(SourceButton sourceButton, ProcessingContext context,
+                                          boolean isCSVSemiColonSeparator) {
+        switch (sourceButton) {
+            case GSI8:
+            case GSI16:
+                return new GSIReadFile(context);
+
+            case TXT:
+                return new TXTReadFile(context);
+
+            case CSV:
+                return new CSVReadFile(context, isCSVSemiColonSeparator);
+
+            case CAPLAN_K:
+                return new CaplanReadFile(context);
+
+            case ZEISS_REC:
+                return new ZeissReadFile(context);
+
+            case CADWORK:
+                return new CadworkReadFile(context);
+
+            case BASEL_STADT:
+                return new BaselStadtCSVReadFile(context);
+
+            case BASEL_LANDSCHAFT:
+                return new BaselLandschaftTXTReadFile(context);
+
+            default:
+                throw new IllegalArgumentException("unknown source format " + sourceButton);
+        }
+    }
+
+    /**
+     * Creates the {@link WriteFile} implementation for a target format.
+     *
+     * @param targetButton   target format
+     * @param path           read file object for writing
+     * @param readStringFile read string file
+     * @param readCSVFile    read csv file
+     * @param parameter      the write parameter object
+     *
+     * @return writer for the target format
+     */
+    public static WriteFile createWriteFile(TargetButton targetButton, Path path, ArrayList<String> readStringFile,
+                                            List<String[]> readCSVFile, WriteParameter parameter) {
+        switch (targetButton) {
+            case GSI8:
+                return new GSIWriteFile(path, readStringFile, readCSVFile, parameter, Main.getGSI8());
+
+            case GSI16:
+                return new GSIWriteFile(path, readStringFile, readCSVFile, parameter, Main.getGSI16());
+
+            case TXT:
+                return new TXTWriteFile(path, readStringFile, readCSVFile, parameter);
+
+            case CSV:
+                return new CSVWriteFile(path, readStringFile, readCSVFile, parameter);
+
+            case CAPLAN_K:
+                return new CaplanWriteFile(path, readStringFile, readCSVFile, parameter);
+
+            case ZEISS_REC:
+                return new ZeissWriteFile(path, readStringFile, readCSVFile, parameter);
+
+            case LTOP_KOO:
+                return new LtopKOOWriteFile(path, readStringFile, readCSVFile, parameter);
+
+            case LTOP_MES:
+                return new LtopMESWriteFile(path, readStringFile, parameter);
+
+            case EXCEL_XLSX:
+                return new ExcelWriteFile(path, readStringFile, readCSVFile, parameter, BaseToolsExcel.isXLSX);
+
+            case EXCEL_XLS:
+                return new ExcelWriteFile(path, readStringFile, readCSVFile, parameter, BaseToolsExcel.isXLS);
+
+            case ODF_ODS:
+                return new ODFWriteFile(path, readStringFile, readCSVFile, parameter);
+
+            default:
+                throw new IllegalArgumentException("unknown target format " + targetButton);
+        }
+    }
+
+    /**
+     * Returns the path of the file, which is written for a read file and a target format.
+     * <p>
+     * The name is built in the same way as in the writers (file name without suffix, edit string
+     * and the suffix of the target format).
+     *
+     * @param targetButton target format
+     * @param path         read file
+     *
+     * @return path of the written file
+     */
+    public static Path getOutputPath(TargetButton targetButton, Path path) {
+        final String paramEditString = DefaultKeys.PARAM_EDIT_STRING.getValue();
+
+        return Paths.get(path.toString().substring(0, path.toString().length() - 4) + "_" + paramEditString +
+                targetButton.getSuffix());
+    }
+
+    /**
+     * Returns true if the source file is read while converting into the target formats.
+     * <p>
+     * Text and CSV based source files, which are converted through the point record model (see
+     * {@link ConverterGraph#isRecordConversion(SourceButton, TargetButton)}), are read line by line by the
+     * {@link RecordReader} without storing the read lines. In this case the source file
+     * has not to be read before and is converted with {@link #writeWhileReading(SourceButton, List, Path,
+     * WriteParameter, AtomicLong)}.
+     *
+     * @param sourceButton  source format
+     * @param targetButtons target formats
+     *
+     * @return true if the source file is read while converting
+     */
+    public static boolean isReadWhileConverting(SourceButton sourceButton, List<TargetButton> targetButtons) {
+        for (TargetButton targetButton : targetButtons) {
+            if (!ConverterGraph.isRecordConversion(sourceButton, targetButton)) {
+                return false;
+            }
+        }
+
+        return !targetButtons.isEmpty();
+    }
+
+    /**
+     * Writes the converted file with the writer and returns write success.
+     * <p>
+     * The writers are tried in the same order as in the {@link ConverterWidget} (spreadsheet document,
+     * string file, workbook).
+     *
+     * @param writeFile writer to be used
+     *
+     * @return write success
+     */
+    public static boolean write(WriteFile writeFile) {
+        return writeFile.writeSpreadsheetDocument() || writeFile.writeStringFile() || writeFile.writeWorkbookFile();
+    }
+
+    /**
+     * Writes one read file into several target formats and returns the number of written files.
+     * <p>
+     * The source file is read only once. Leica GSI lines are encoded only once and the encoded blocks
+     * are shared between the target formats. Every target format gets its own copy of the read lines,
+     * because some converters remove the header line. The target formats are written in parallel
+     * on the common fork/join pool.
+     *
+     * @param sourceButton   source format
+     * @param targetButtons  target formats with different output files
+     * @param path           read file object for writing
+     * @param readStringFile read string file
+     * @param readCSVFile    read csv file
+     * @param parameter      the write parameter object
+     *
+     * @return number of written files
+     */
+    public static int write(SourceButton sourceButton, List<TargetButton> targetButtons, Path path,
+                            ArrayList<String> readStringFile, List<String[]> readCSVFile, WriteParameter parameter) {
+        if (targetButtons.size() == 1) {
+            return write(createWriteFile(targetButtons.get(0), path, readStringFile, readCSVFile, parameter)) ? 1 : 0;
+        }
+
+        final boolean isGSISource = sourceButton == SourceButton.GSI8 || sourceButton == SourceButton.GSI16;
+        final ArrayList<String> sharedStringFile = isGSISource && readStringFile != null ?
+                new SharedGSILines(readStringFile) : readStringFile;
+
+        return (int) targetButtons.parallelStream()
+                .filter(targetButton -> {
+                    boolean success = write(createWriteFile(targetButton, path, copyOf(sharedStringFile),
+                            readCSVFile == null ? null : new ArrayList<>(readCSVFile), parameter));
+
+                    if (!success) {
+                        System.err.println("File " + path.getFileName() + " could not be converted into " + targetButton);
+                    }
+
+                    return success;
+                })
+                .count();
+    }
+
+    /**
+     * Reads the source file row by row and writes it into several target formats. Returns the number of written
+     * files.
+     * <p>
+     * The source file is read only once and every read point record is handed over to the {@link RecordWriter}s
+     * of all target formats. The files are written after the source file was read completely. If the source
+     * file could not be read, nothing is written and the warning of the reader is shown by the caller.
+     *
+     * @param sourceButton    source format
+     * @param targetButtons   target formats with different output files
+     * @param path            path of the source file
+     * @param parameter       the write parameter object
+     * @param readLineCounter counter for the read lines or null
+     *
+     * @return number of written files
+     *
+     * @since 25
+     */
+    public static int writeWhileReading(SourceButton sourceButton, List<TargetButton> targetButtons, Path path,
+                                        WriteParameter parameter, AtomicLong readLineCounter) {
+        final RecordReader reader = ConverterGraph.createRecordReader(sourceButton, path, readLineCounter, parameter);
+        final List<RecordWriter> recordWriters = new ArrayList<>(targetButtons.size());
+
+        for (TargetButton targetButton : targetButtons) {
+            recordWriters.add(ConverterGraph.createRecordWriter(targetButton, parameter));
+        }
+
+        final boolean readFileSuccess = reader.read(record -> {
+            for (RecordWriter recordWriter : recordWriters) {
+                if (!recordWriter.handleRecord(record)) {
+                    return false;
+                }
+            }
+
+            return true;
+        });
+
+        if (!readFileSuccess) {
+            return 0;
+        }
+
+        int counter = 0;
+
+        for (int i = 0; i < targetButtons.size(); i++) {
+            final TargetButton targetButton = targetButtons.get(i);
+
+            if (write(new RecordWriteFile(path, recordWriters.get(i), targetButton.getSuffix(), parameter))) {
+                counter = counter + 1;
+            } else {
+                System.err.println("File " + path.getFileName() + " could not be converted into " + targetButton);
+            }
+        }
+
+        return counter;
+    }
+
+    private static ArrayList<String> copyOf(ArrayList<String> readStringFile) {
+        if (readStringFile instanceof SharedGSILines) {
+            return new SharedGSILines(readStringFile);
+        } else if (readStringFile != null) {
+            return new ArrayList<>(readStringFile);
+        }
+
+        return null;
+    }
+
+} // end of ReadWriteFactory
@@ -23,27 +23,29 @@ import de.ryanthara.ja.rycon.gui.widgets.ConverterWidget;
  * This enumeration is used for the target format radio buttons of the {@link ConverterWidget}.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @since 12
  */
 public enum TargetButton {
 
-    GSI8("GSI8"),
-    GSI16("GSI16"),
-    TXT("TXT"),
-    CSV("CSV"),
-    CAPLAN_K("CAPLAN (.K)"),
-    ZEISS_REC("Zeiss (.REC)"),
-    LTOP_KOO("LTOP (.KOO)"),
-    LTOP_MES("LTOP (.MES)"),
-    EXCEL_XLSX("Excel 2007 (.xlsx)"),
-    EXCEL_XLS("Excel '97 (.xls)"),
-    ODF_ODS("Open Document Format (.ods)");
+    GSI8("GSI8", ".GSI"),
+    GSI16("GSI16", ".GSI"),
+    TXT("TXT", ".TXT"),
+    CSV("CSV", ".CSV"),
+    CAPLAN_K("CAPLAN (.K)", ".K"),
+    ZEISS_REC("Zeiss (.REC)", ".REC"),
+    LTOP_KOO("LTOP (.KOO)", ".KOO"),
+    LTOP_MES("LTOP (.MES)", ".MES"),
+    EXCEL_XLSX("Excel 2007 (.xlsx)", ".xlsx"),
+    EXCEL_XLS("Excel '97 (.xls)", ".xls"),
+    ODF_ODS("Open Document Format (.ods)", ".ods");
 
+    private final String suffix;
     private final String text;
 
-    TargetButton(String text) {
+    TargetButton(String text, String suffix) {
         this.text = text;
+        this.suffix = suffix;
     }
 
     /**
@@ -65,6 +67,17 @@ public enum TargetButton {
         return selectedTargetButton;
     }
 
+    /**
+     * Returns the file suffix of the written files.
+     *
+     * @return the file suffix
+     *
+     * @since 25
+     */
+    public String getSuffix() {
+        return this.suffix;
+    }
+
     /**
      * Returns the text.
      *
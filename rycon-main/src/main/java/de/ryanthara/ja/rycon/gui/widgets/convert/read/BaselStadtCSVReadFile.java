@@ -17,44 +17,39 @@
  */
 package de.ryanthara.ja.rycon.gui.widgets.convert.read;
 
-import com.opencsv.CSVReader;
-import de.ryanthara.ja.rycon.gui.custom.MessageBoxes;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.gui.widgets.ConverterWidget;
 import de.ryanthara.ja.rycon.i18n.Errors;
-import de.ryanthara.ja.rycon.i18n.Labels;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
-import org.eclipse.swt.SWT;
-import org.eclipse.swt.widgets.Shell;
+import de.ryanthara.ja.rycon.io.CSVTokenizer;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 import static de.ryanthara.ja.rycon.i18n.ResourceBundles.ERRORS;
-import static de.ryanthara.ja.rycon.i18n.ResourceBundles.LABELS;
 
 /**
  * Instances of this class are used for reading coordinate files (CSV format) from the geodata server
  * Kanton Basel Stadt (Switzerland) from the {@link ConverterWidget} of RyCON.
  *
  * @author sebastian
- * @version 2
+ * @version 5
  * @since 12
  */
 public class BaselStadtCSVReadFile implements ReadFile {
 
     private List<String[]> readCSVFile;
-    private Shell innerShell;
+    private final ProcessingContext context;
 
     /**
-     * Constructs a new instance of this class given a reference to the inner shell of the calling object.
+     * Constructs a new instance of this class given a processing context, which collects the warnings.
      *
-     * @param innerShell reference to the inner shell
+     * @param context processing context for the warnings
      */
-    public BaselStadtCSVReadFile(Shell innerShell) {
-        this.innerShell = innerShell;
+    public BaselStadtCSVReadFile(ProcessingContext context) {
+        this.context = context;
     }
 
     /**
@@ -96,19 +91,32 @@ public class BaselStadtCSVReadFile implements ReadFile {
     public boolean readFile(Path file2Read) {
         boolean success = false;
 
-        try {
-            CSVReader reader = new CSVReader(new FileReader(file2Read.toFile()), ';', '"', 0); // do not skip first line!
-            readCSVFile = reader.readAll();
+        try (CSVTokenizer tokenizer = CSVTokenizer.open(file2Read, ';')) {
+            // the first line is not skipped here
+            List<String[]> readLines = new ArrayList<>();
 
+            while (tokenizer.nextRow()) {
+                readLines.add(tokenizer.toStringArray());
+            }
+
+            readCSVFile = readLines;
             success = true;
         } catch (IOException e) {
-            System.err.println("File " + file2Read.getFileName() + " could not be read.");
-            MessageBoxes.showMessageBox(innerShell, SWT.ICON_ERROR,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.errorTextMsgBox),
-                    ResourceBundleUtils.getLangString(ERRORS, Errors.csvBSReadingFailed));
+            reportReadingFailed(file2Read);
         }
 
         return success;
     }
 
+    /**
+     * Reports that the file given as parameter could not be read and adds a warning to the processing context.
+     *
+     * @param file2Read read file reference
+     */
+    @Override
+    public void reportReadingFailed(Path file2Read) {
+        System.err.println("File " + file2Read.getFileName() + " could not be read.");
+        context.addWarning(ResourceBundleUtils.getLangString(ERRORS, Errors.csvBSReadingFailed));
+    }
+
 } // end of BaselStadtCSVReadFile
@@ -17,41 +17,37 @@
  */
 package de.ryanthara.ja.rycon.gui.widgets.convert.read;
 
-import de.ryanthara.ja.rycon.gui.custom.MessageBoxes;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.gui.widgets.ConverterWidget;
 import de.ryanthara.ja.rycon.i18n.Errors;
-import de.ryanthara.ja.rycon.i18n.Labels;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
 import de.ryanthara.ja.rycon.io.LineReader;
-import org.eclipse.swt.SWT;
-import org.eclipse.swt.widgets.Shell;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 import static de.ryanthara.ja.rycon.i18n.ResourceBundles.ERRORS;
-import static de.ryanthara.ja.rycon.i18n.ResourceBundles.LABELS;
 
 /**
  * Instances of this class are used for reading Cadwork node.dat files from the {@link ConverterWidget} of RyCON.
  *
  * @author sebastian
- * @version 2
+ * @version 4
  * @since 12
  */
 public class CadworkReadFile implements ReadFile {
 
     private ArrayList<String> readStringFile;
-    private Shell innerShell;
+    private final ProcessingContext context;
 
     /**
-     * Constructs a new instance of this class given a reference to the inner shell of the calling object.
+     * Constructs a new instance of this class given a processing context, which collects the warnings.
      *
-     * @param innerShell reference to the inner shell
+     * @param context processing context for the warnings
      */
-    public CadworkReadFile(Shell innerShell) {
-        this.innerShell = innerShell;
+    public CadworkReadFile(ProcessingContext context) {
+        this.context = context;
     }
 
     /**
@@ -99,14 +95,22 @@ public class CadworkReadFile implements ReadFile {
                 success = true;
             }
         } else {
-            System.err.println("File " + file2Read.getFileName() + " could not be read.");
-            MessageBoxes.showMessageBox(innerShell, SWT.ICON_ERROR,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.errorTextMsgBox),
-                    ResourceBundleUtils.getLangString(ERRORS, Errors.cadworkReadingFailed));
+            reportReadingFailed(file2Read);
 
         }
 
         return success;
     }
 
+    /**
+     * Reports that the file given as parameter could not be read and adds a warning to the processing context.
+     *
+     * @param file2Read read file reference
+     */
+    @Override
+    public void reportReadingFailed(Path file2Read) {
+        System.err.println("File " + file2Read.getFileName() + " could not be read.");
+        context.addWarning(ResourceBundleUtils.getLangString(ERRORS, Errors.cadworkReadingFailed));
+    }
+
 } // end of CadworkReadFile
@@ -18,6 +18,8 @@
 package de.ryanthara.ja.rycon.gui.widgets.convert.read;
 
 import de.ryanthara.ja.rycon.gui.widgets.ConverterWidget;
+import de.ryanthara.ja.rycon.io.LineHandler;
+import de.ryanthara.ja.rycon.io.LineReader;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -27,7 +29,7 @@ import java.util.List;
  * Interface for reading operations in the {@link ConverterWidget}.
  *
  * @author sebastian
- * @version 1
+ * @version 3
  * @since 12
  */
 public interface ReadFile {
@@ -61,4 +63,36 @@ public interface ReadFile {
      */
     boolean readFile(Path file2Read);
 
+    /**
+     * Reads the ... file from ... given as parameter and hands over the read lines one by one to the given
+     * {@link LineHandler}. The lines are not stored, therefore {@link #getReadStringLines()} and
+     * {@link #getReadCSVFile()} are not filled by this kind of reading. Returns the read file success.
+     * <p>
+     * The lines are handed over as raw text lines, the separation into values has to be done by the handler.
+     * If the file could not be read, the failure is reported with {@link #reportReadingFailed(Path)}.
+     *
+     * @param file2Read   {@link Path} reference to file
+     * @param lineHandler handler which receives the read lines
+     *
+     * @return read file success
+     */
+    default boolean readFile(Path file2Read, LineHandler lineHandler) {
+        boolean success = new LineReader(file2Read).readFile(lineHandler);
+
+        if (!success) {
+            reportReadingFailed(file2Read);
+        }
+
+        return success;
+    }
+
+    /**
+     * Reports that the ... file given as parameter could not be read and adds a warning to the processing context.
+     *
+     * @param file2Read {@link Path} reference to file
+     *
+     * @since 25
+     */
+    void reportReadingFailed(Path file2Read);
+
 } // end of ReadFile
@@ -19,7 +19,9 @@ package de.ryanthara.ja.rycon.gui.widgets.convert.write;
 
 import de.ryanthara.ja.rycon.converter.csv.*;
 import de.ryanthara.ja.rycon.gui.widgets.ConverterWidget;
+import de.ryanthara.ja.rycon.gui.widgets.convert.ConverterGraph;
 import de.ryanthara.ja.rycon.gui.widgets.convert.SourceButton;
+import de.ryanthara.ja.rycon.gui.widgets.convert.TargetButton;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.odftoolkit.simple.SpreadsheetDocument;
 
@@ -32,7 +34,7 @@ import java.util.List;
  * from the {@link ConverterWidget} of RyCON.
  *
  * @author sebastian
- * @version 2
+ * @version 5
  * @since 12
  */
 public class CSVWriteFile implements WriteFile {
@@ -108,8 +110,8 @@ public class CSVWriteFile implements WriteFile {
                 break;
 
             case BASEL_STADT:
-                CSVBaselStadt2CSV csvBaselStadt2CSV = new CSVBaselStadt2CSV(readCSVFile);
-                writeFile = csvBaselStadt2CSV.convertCSVBaselStadt2CSV(parameter.getSeparatorCSV());
+                writeFile = ConverterGraph.convert(SourceButton.BASEL_STADT, TargetButton.CSV,
+                        readStringFile, readCSVFile, parameter);
                 break;
 
             case BASEL_LANDSCHAFT:
@@ -122,7 +124,8 @@ public class CSVWriteFile implements WriteFile {
                 System.err.println("CSVWriteFile.writeStringFile() : unknown file format " + SourceButton.fromIndex(parameter.getSourceNumber()));
         }
 
-        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".CSV")) {
+        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".CSV", parameter.isOverwriteExistingFiles(),
+                parameter.getContext())) {
             success = true;
         }
 
@@ -31,7 +31,7 @@ import java.util.List;
  * Instances of this class are used for writing Caplan K files from the {@link ConverterWidget} of RyCON.
  *
  * @author sebastian
- * @version 2
+ * @version 4
  * @since 12
  */
 public class CaplanWriteFile implements WriteFile {
@@ -121,7 +121,8 @@ public class CaplanWriteFile implements WriteFile {
                 System.err.println("CaplanWriteFile.writeStringFile() : unknown file format " + SourceButton.fromIndex(parameter.getSourceNumber()));
         }
 
-        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".K")) {
+        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".K", parameter.isOverwriteExistingFiles(),
+                parameter.getContext())) {
             success = true;
         }
 
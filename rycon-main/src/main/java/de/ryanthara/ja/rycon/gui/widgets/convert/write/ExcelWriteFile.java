@@ -32,7 +32,7 @@ import java.util.List;
  * from the {@link ConverterWidget} of RyCON.
  *
  * @author sebastian
- * @version 2
+ * @version 5
  * @since 12
  */
 public class ExcelWriteFile implements WriteFile {
@@ -89,64 +89,57 @@ public class ExcelWriteFile implements WriteFile {
     @Override
     public boolean writeWorkbookFile() {
         boolean success = false;
+        boolean isConverted = false;
         Workbook workbook = null;
 
         switch (SourceButton.fromIndex(parameter.getSourceNumber())) {
             case GSI8:
             case GSI16:
                 GSI2Excel gsi2Excel = new GSI2Excel(readStringFile);
-                if (gsi2Excel.convertGSI2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine())) {
-                    workbook = gsi2Excel.getWorkbook();
-                }
+                isConverted = gsi2Excel.convertGSI2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine());
+                workbook = gsi2Excel.getWorkbook();
                 break;
 
             case TXT:
                 TXT2Excel txt2Excel = new TXT2Excel(readStringFile);
-                if (txt2Excel.convertTXT2Excel(isXLS, path.getFileName().toString())) {
-                    workbook = txt2Excel.getWorkbook();
-                }
+                isConverted = txt2Excel.convertTXT2Excel(isXLS, path.getFileName().toString());
+                workbook = txt2Excel.getWorkbook();
                 break;
 
             case CSV:
                 CSV2Excel csv2Excel = new CSV2Excel(readCSVFile);
-                if (csv2Excel.convertCSV2Excel(isXLS, path.getFileName().toString())) {
-                    workbook = csv2Excel.getWorkbook();
-                }
+                isConverted = csv2Excel.convertCSV2Excel(isXLS, path.getFileName().toString());
+                workbook = csv2Excel.getWorkbook();
                 break;
 
             case CAPLAN_K:
                 Caplan2Excel caplan2Excel = new Caplan2Excel(readStringFile);
-                if (caplan2Excel.convertCaplan2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine())) {
-                    workbook = caplan2Excel.getWorkbook();
-                }
+                isConverted = caplan2Excel.convertCaplan2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine());
+                workbook = caplan2Excel.getWorkbook();
                 break;
 
             case ZEISS_REC:
                 Zeiss2Excel zeiss2Excel = new Zeiss2Excel(readStringFile);
-                if (zeiss2Excel.convertZeiss2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine())) {
-                    workbook = zeiss2Excel.getWorkbook();
-                }
+                isConverted = zeiss2Excel.convertZeiss2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine());
+                workbook = zeiss2Excel.getWorkbook();
                 break;
 
             case CADWORK:
                 Cadwork2Excel cadwork2Excel = new Cadwork2Excel(readStringFile);
-                if (cadwork2Excel.convertCadwork2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine())) {
-                    workbook = cadwork2Excel.getWorkbook();
-                }
+                isConverted = cadwork2Excel.convertCadwork2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine());
+                workbook = cadwork2Excel.getWorkbook();
                 break;
 
             case BASEL_STADT:
                 CSVBaselStadt2Excel csvBaselStadt2Excel = new CSVBaselStadt2Excel(readCSVFile);
-                if (csvBaselStadt2Excel.convertCSVBaselStadt2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine())) {
-                    workbook = csvBaselStadt2Excel.getWorkbook();
-                }
+                isConverted = csvBaselStadt2Excel.convertCSVBaselStadt2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine());
+                workbook = csvBaselStadt2Excel.getWorkbook();
                 break;
 
             case BASEL_LANDSCHAFT:
                 TXTBaselLandschaft2Excel txtBaselLandschaft2Excel = new TXTBaselLandschaft2Excel(readStringFile);
-                if (txtBaselLandschaft2Excel.convertTXTBaselLand2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine())) {
-                    workbook = txtBaselLandschaft2Excel.getWorkbook();
-                }
+                isConverted = txtBaselLandschaft2Excel.convertTXTBaselLand2Excel(isXLS, path.getFileName().toString(), parameter.isWriteCommentLine());
+                workbook = txtBaselLandschaft2Excel.getWorkbook();
                 break;
 
             default:
@@ -155,9 +148,17 @@ public class ExcelWriteFile implements WriteFile {
 
         }
 
+        // the workbook of a failed conversion is closed without writing
+        if (!isConverted) {
+            BaseToolsExcel.closeWorkbook(workbook);
+
+            return false;
+        }
+
         String suffix = isXLS ? ".xls" : ".xlsx";
 
-        if (WriteExcel2Disk.writeExcel2Disk(path, workbook, suffix)) {
+        if (WriteExcel2Disk.writeExcel2Disk(path, workbook, suffix, parameter.isOverwriteExistingFiles(),
+                parameter.getContext())) {
             success = true;
         }
 
@@ -19,6 +19,7 @@ package de.ryanthara.ja.rycon.gui.widgets.convert.write;
 
 import de.ryanthara.ja.rycon.converter.gsi.*;
 import de.ryanthara.ja.rycon.gui.widgets.ConverterWidget;
+import de.ryanthara.ja.rycon.gui.widgets.convert.ConverterGraph;
 import de.ryanthara.ja.rycon.gui.widgets.convert.SourceButton;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.odftoolkit.simple.SpreadsheetDocument;
@@ -31,7 +32,7 @@ import java.util.List;
  * Instances of this class are used for writing Leica GSI files from the {@link ConverterWidget} of RyCON.
  *
  * @author sebastian
- * @version 1
+ * @version 6
  * @since 12
  */
 public class GSIWriteFile implements WriteFile {
@@ -78,55 +79,51 @@ public class GSIWriteFile implements WriteFile {
         boolean success = false;
         ArrayList<String> writeFile;
 
-        switch (SourceButton.fromIndex(parameter.getSourceNumber())) {
+        final SourceButton sourceButton = SourceButton.fromIndex(parameter.getSourceNumber());
+
+        // text and CSV based formats are converted through the point record model
+        switch (sourceButton) {
             case GSI8:
             case GSI16:
-                GSI8vsGSI16 gsi8vsGSI16 = new GSI8vsGSI16(readStringFile);
+                GSI8vsGSI16 gsi8vsGSI16 = new GSI8vsGSI16(readStringFile, parameter.getContext());
                 writeFile = gsi8vsGSI16.convertGSI8vsGSI16(isGSI16);
                 break;
 
             case TXT:
-                TXT2GSI txt2GSI = new TXT2GSI(readStringFile);
-                writeFile = txt2GSI.convertTXT2GSI(isGSI16, parameter.sourceContainsCode());
-                break;
-
             case CSV:
-                CSV2GSI csv2GSI = new CSV2GSI(readCSVFile);
-                writeFile = csv2GSI.convertCSV2GSI(isGSI16, parameter.sourceContainsCode());
+            case BASEL_STADT:
+                writeFile = ConverterGraph.convert(ConverterGraph.createRecordReader(sourceButton, readStringFile,
+                        readCSVFile, parameter), new GSIRecordWriter(isGSI16, parameter.getContext()));
                 break;
 
             case CAPLAN_K:
-                Caplan2GSI caplan2GSI = new Caplan2GSI(readStringFile);
+                Caplan2GSI caplan2GSI = new Caplan2GSI(readStringFile, parameter.getContext());
                 writeFile = caplan2GSI.convertK2GSI(isGSI16, parameter.isWriteCodeColumn());
                 break;
 
             case ZEISS_REC:
-                Zeiss2GSI zeiss2GSI = new Zeiss2GSI(readStringFile);
+                Zeiss2GSI zeiss2GSI = new Zeiss2GSI(readStringFile, parameter.getContext());
                 writeFile = zeiss2GSI.convertZeiss2GSI(isGSI16);
                 break;
 
             case CADWORK:
-                Cadwork2GSI cadwork2GSI = new Cadwork2GSI(readStringFile);
+                Cadwork2GSI cadwork2GSI = new Cadwork2GSI(readStringFile, parameter.getContext());
                 writeFile = cadwork2GSI.convertCadwork2GSI(isGSI16, parameter.isWriteCodeColumn(), parameter.isCadworkUseZeroHeights());
                 break;
 
-            case BASEL_STADT:
-                CSVBaselStadt2GSI csvBaselStadt2GSI = new CSVBaselStadt2GSI(readCSVFile);
-                writeFile = csvBaselStadt2GSI.convertCSVBaselStadt2GSI(isGSI16, parameter.sourceContainsCode());
-                break;
-
             case BASEL_LANDSCHAFT:
-                TXTBaselLandschaft2GSI txtBaselLandschaft2GSI = new TXTBaselLandschaft2GSI(readStringFile);
+                TXTBaselLandschaft2GSI txtBaselLandschaft2GSI = new TXTBaselLandschaft2GSI(readStringFile, parameter.getContext());
                 writeFile = txtBaselLandschaft2GSI.convertTXTBaselLandschaft2GSI(isGSI16, parameter.isWriteCodeColumn());
                 break;
 
             default:
                 writeFile = null;
-                System.err.println("GSIWriteFile.writeStringFile() : unknown file format " + SourceButton.fromIndex(parameter.getSourceNumber()));
+                System.err.println("GSIWriteFile.writeStringFile() : unknown file format " + sourceButton);
 
         }
 
-        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".GSI")) {
+        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".GSI", parameter.isOverwriteExistingFiles(),
+                parameter.getContext())) {
             success = true;
         }
 
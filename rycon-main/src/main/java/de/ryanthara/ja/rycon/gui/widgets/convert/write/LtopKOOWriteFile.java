@@ -31,7 +31,7 @@ import java.util.List;
  * Instances of this class are used for writing LTOP KOO files from the {@link ConverterWidget} of RyCON.
  *
  * @author sebastian
- * @version 2
+ * @version 4
  * @since 12
  */
 public class LtopKOOWriteFile implements WriteFile {
@@ -79,25 +79,25 @@ public class LtopKOOWriteFile implements WriteFile {
         switch (SourceButton.fromIndex(parameter.getSourceNumber())) {
             case GSI8:
             case GSI16:
-                GSI2LTOP gsi2LTOP = new GSI2LTOP(readStringFile);
+                GSI2LTOP gsi2LTOP = new GSI2LTOP(readStringFile, parameter.getContext());
                 writeFile = gsi2LTOP.convertGSI2KOO(parameter.isLtopEliminateDuplicatePoints(),
                         parameter.isLtopSortOutputFileByNumber());
                 break;
 
             case TXT:
-                TXT2LTOP txt2LTOP = new TXT2LTOP(readStringFile);
+                TXT2LTOP txt2LTOP = new TXT2LTOP(readStringFile, parameter.getContext());
                 writeFile = txt2LTOP.convertTXT2KOO(parameter.isLtopEliminateDuplicatePoints(),
                         parameter.isLtopSortOutputFileByNumber());
                 break;
 
             case CSV:
-                CSV2LTOP csv2LTOP = new CSV2LTOP(readCSVFile);
+                CSV2LTOP csv2LTOP = new CSV2LTOP(readCSVFile, parameter.getContext());
                 writeFile = csv2LTOP.convertCSV2KOO(parameter.isLtopEliminateDuplicatePoints(),
                         parameter.isLtopSortOutputFileByNumber());
                 break;
 
             case CAPLAN_K:
-                Caplan2LTOP caplan2LTOP = new Caplan2LTOP(readStringFile);
+                Caplan2LTOP caplan2LTOP = new Caplan2LTOP(readStringFile, parameter.getContext());
                 writeFile = caplan2LTOP.convertK2KOO(parameter.isLtopEliminateDuplicatePoints(),
                         parameter.isLtopSortOutputFileByNumber());
                 break;
@@ -109,19 +109,19 @@ public class LtopKOOWriteFile implements WriteFile {
                 break;
 
             case CADWORK:
-                Cadwork2LTOP cadwork2LTOP = new Cadwork2LTOP(readStringFile);
+                Cadwork2LTOP cadwork2LTOP = new Cadwork2LTOP(readStringFile, parameter.getContext());
                 writeFile = cadwork2LTOP.convertCadwork2KOO(parameter.isCadworkUseZeroHeights(),
                         parameter.isLtopEliminateDuplicatePoints(), parameter.isLtopSortOutputFileByNumber());
                 break;
 
             case BASEL_STADT:
-                CSVBaselStadt2LTOP csvBaselStadt2LTOP = new CSVBaselStadt2LTOP(readCSVFile);
+                CSVBaselStadt2LTOP csvBaselStadt2LTOP = new CSVBaselStadt2LTOP(readCSVFile, parameter.getContext());
                 writeFile = csvBaselStadt2LTOP.convertCSVBaselStadt2KOO(parameter.isLtopEliminateDuplicatePoints(),
                         parameter.isLtopSortOutputFileByNumber());
                 break;
 
             case BASEL_LANDSCHAFT:
-                TXTBaselLandschaft2LTOP txtBaselLandschaft2LTOP = new TXTBaselLandschaft2LTOP(readStringFile);
+                TXTBaselLandschaft2LTOP txtBaselLandschaft2LTOP = new TXTBaselLandschaft2LTOP(readStringFile, parameter.getContext());
                 writeFile = txtBaselLandschaft2LTOP.convertTXTBaselLandschaft2KOO(parameter.isLtopEliminateDuplicatePoints(),
                         parameter.isLtopSortOutputFileByNumber());
                 break;
@@ -131,7 +131,8 @@ public class LtopKOOWriteFile implements WriteFile {
                 System.err.println("LtopKOOWriteFile.writeStringFile() : unknown file format " + SourceButton.fromIndex(parameter.getSourceNumber()));
         }
 
-        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".KOO")) {
+        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".KOO", parameter.isOverwriteExistingFiles(),
+                parameter.getContext())) {
             success = true;
         }
 
@@ -17,10 +17,8 @@
  */
 package de.ryanthara.ja.rycon.gui.widgets.convert.write;
 
-import de.ryanthara.ja.rycon.Main;
 import de.ryanthara.ja.rycon.converter.ltop.GSI2MES;
 import de.ryanthara.ja.rycon.converter.ltop.Zeiss2LTOP;
-import de.ryanthara.ja.rycon.data.PreferenceKeys;
 import de.ryanthara.ja.rycon.gui.widgets.ConverterWidget;
 import de.ryanthara.ja.rycon.gui.widgets.convert.SourceButton;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -33,7 +31,7 @@ import java.util.ArrayList;
  * Instances of this class are used for writing LTOP MES files from the {@link ConverterWidget} of RyCON.
  *
  * @author sebastian
- * @version 2
+ * @version 5
  * @since 12
  */
 public class LtopMESWriteFile implements WriteFile {
@@ -79,14 +77,12 @@ public class LtopMESWriteFile implements WriteFile {
             case GSI8:
             case GSI16:
                 GSI2MES gsi2MES = new GSI2MES(readStringFile);
-                writeFile = gsi2MES.convertGSI2MES(Boolean.parseBoolean(Main.pref.getUserPreference(
-                        PreferenceKeys.CONVERTER_SETTING_LTOP_USE_ZENITH_DISTANCE)));
+                writeFile = gsi2MES.convertGSI2MES(parameter.getContext().getSettings().isLTOPUseZenithDistance());
                 break;
 
             case ZEISS_REC:
                 Zeiss2LTOP zeiss2LTOP = new Zeiss2LTOP(readStringFile);
-                writeFile = zeiss2LTOP.convertZeiss2MES(Boolean.parseBoolean(Main.pref.getUserPreference(
-                        PreferenceKeys.CONVERTER_SETTING_LTOP_USE_ZENITH_DISTANCE)));
+                writeFile = zeiss2LTOP.convertZeiss2MES(parameter.getContext().getSettings().isLTOPUseZenithDistance());
                 break;
 
             default:
@@ -94,7 +90,8 @@ public class LtopMESWriteFile implements WriteFile {
                 System.err.println("LtopMESWriteFile.writeStringFile() : unknown file format " + SourceButton.fromIndex(parameter.getSourceNumber()));
         }
 
-        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".MES")) {
+        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".MES", parameter.isOverwriteExistingFiles(),
+                parameter.getContext())) {
             success = true;
         }
 
@@ -21,7 +21,6 @@ import de.ryanthara.ja.rycon.converter.odf.*;
 import de.ryanthara.ja.rycon.gui.widgets.ConverterWidget;
 import de.ryanthara.ja.rycon.gui.widgets.convert.SourceButton;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.odftoolkit.simple.SpreadsheetDocument;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -32,7 +31,7 @@ import java.util.List;
  * from the {@link ConverterWidget} of RyCON.
  *
  * @author sebastian
- * @version 1
+ * @version 5
  * @since 12
  */
 public class ODFWriteFile implements WriteFile {
@@ -58,79 +57,80 @@ public class ODFWriteFile implements WriteFile {
     }
 
     /**
-     * Returns true if the prepared {@link SpreadsheetDocument} for file writing was written to the file system.
+     * Returns true if the prepared {@link ODSWriter} for file writing was written to the file system.
      *
      * @return write success
      */
     @Override
     public boolean writeSpreadsheetDocument() {
         boolean success = false;
-        SpreadsheetDocument spreadsheetDocument = null;
+        ODSWriter odsWriter = null;
 
         switch (SourceButton.fromIndex(parameter.getSourceNumber())) {
             case GSI8:
             case GSI16:
                 GSI2ODF gsi2ODF = new GSI2ODF(readStringFile);
-                if (gsi2ODF.convertGSI2ODS(path.getFileName(), parameter.isWriteCommentLine())) {
-                    spreadsheetDocument = gsi2ODF.getSpreadsheetDocument();
+                if (gsi2ODF.convertGSI2ODS(path, parameter.isWriteCommentLine())) {
+                    odsWriter = gsi2ODF.getODSWriter();
                 }
                 break;
 
             case TXT:
                 TXT2ODF txt2ODF = new TXT2ODF(readStringFile);
-                if (txt2ODF.convertTXT2ODS(path.getFileName())) {
-                    spreadsheetDocument = txt2ODF.getSpreadsheetDocument();
+                if (txt2ODF.convertTXT2ODS(path)) {
+                    odsWriter = txt2ODF.getODSWriter();
                 }
                 break;
 
             case CSV:
                 CSV2ODF csv2ODF = new CSV2ODF(readCSVFile);
-                if (csv2ODF.convertCSV2ODS(path.getFileName())) {
-                    spreadsheetDocument = csv2ODF.getSpreadsheetDocument();
+                if (csv2ODF.convertCSV2ODS(path)) {
+                    odsWriter = csv2ODF.getODSWriter();
                 }
                 break;
 
             case CAPLAN_K:
                 Caplan2ODF caplan2ODF = new Caplan2ODF(readStringFile);
-                if (caplan2ODF.convertCaplan2ODS(path.getFileName(), parameter.isWriteCommentLine())) {
-                    spreadsheetDocument = caplan2ODF.getSpreadsheetDocument();
+                if (caplan2ODF.convertCaplan2ODS(path, parameter.isWriteCommentLine())) {
+                    odsWriter = caplan2ODF.getODSWriter();
                 }
                 break;
 
             case ZEISS_REC:
                 Zeiss2ODF zeiss2ODF = new Zeiss2ODF(readStringFile);
-                if (zeiss2ODF.convertZeiss2ODS(path.getFileName())) {
-                    spreadsheetDocument = zeiss2ODF.getSpreadsheetDocument();
+                if (zeiss2ODF.convertZeiss2ODS(path)) {
+                    odsWriter = zeiss2ODF.getODSWriter();
                 }
                 break;
 
             case CADWORK:
                 Cadwork2ODF cadwork2ODF = new Cadwork2ODF(readStringFile);
-                if (cadwork2ODF.convertCadwork2ODS(path.getFileName(), parameter.isWriteCommentLine())) {
-                    spreadsheetDocument = cadwork2ODF.getSpreadsheetDocument();
+                if (cadwork2ODF.convertCadwork2ODS(path, parameter.isWriteCommentLine())) {
+                    odsWriter = cadwork2ODF.getODSWriter();
                 }
                 break;
 
             case BASEL_STADT:
                 CSVBaselStadt2ODF csvBaselStadt2ODF = new CSVBaselStadt2ODF(readCSVFile);
-                if (csvBaselStadt2ODF.convertCSVBaselStadt2ODS(path.getFileName(), parameter.isWriteCommentLine())) {
-                    spreadsheetDocument = csvBaselStadt2ODF.getSpreadsheetDocument();
+                if (csvBaselStadt2ODF.convertCSVBaselStadt2ODS(path, parameter.isWriteCommentLine())) {
+                    odsWriter = csvBaselStadt2ODF.getODSWriter();
                 }
                 break;
 
             case BASEL_LANDSCHAFT:
                 TXTBaselLandschaft2ODF txtBaselLandschaft2ODF = new TXTBaselLandschaft2ODF(readStringFile);
-                if (txtBaselLandschaft2ODF.convertTXTBaselLandschaft2ODS(path.getFileName(), parameter.isWriteCommentLine())) {
-                    spreadsheetDocument = txtBaselLandschaft2ODF.getSpreadsheetDocument();
+                if (txtBaselLandschaft2ODF.convertTXTBaselLandschaft2ODS(path, parameter.isWriteCommentLine())) {
+                    odsWriter = txtBaselLandschaft2ODF.getODSWriter();
                 }
                 break;
 
             default:
-                spreadsheetDocument = null;
+                odsWriter = null;
                 System.err.println("ODFWriteFile.writeStringFile() : unknown file format " + SourceButton.fromIndex(parameter.getSourceNumber()));
         }
 
-        if (WriteODS2Disk.writeODS2Disk(path, spreadsheetDocument)) {
+        if (WriteODS2Disk.writeODS2Disk(path, odsWriter, parameter.isOverwriteExistingFiles(),
+                parameter.getContext())) {
             success = true;
         }
 
@@ -0,0 +1,91 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.gui.widgets.convert.write
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.gui.widgets.convert.write;
+
+import de.ryanthara.ja.rycon.converter.model.RecordWriter;
+import de.ryanthara.ja.rycon.gui.widgets.convert.ConverterGraph;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.odftoolkit.simple.SpreadsheetDocument;
+
+import java.nio.file.Path;
+
+/**
+ * Instances of this class are used for writing the lines of a {@link RecordWriter}, which was filled
+ * while reading the source file (see {@link ConverterGraph}).
+ * <p>
+ * The lines are written only after the source file was read completely. Therefore nothing is written,
+ * if the source file could not be read.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+public class RecordWriteFile implements WriteFile {
+
+    private final Path path;
+    private final RecordWriter recordWriter;
+    private final String suffix;
+    private final WriteParameter parameter;
+
+    /**
+     * Constructs the {@link RecordWriteFile} with a set of parameters.
+     *
+     * @param path         read file object as {@link java.nio.file.Path} for writing
+     * @param recordWriter record writer with the converted point records
+     * @param suffix       file suffix of the target format
+     * @param parameter    the write parameter object
+     */
+    public RecordWriteFile(Path path, RecordWriter recordWriter, String suffix, WriteParameter parameter) {
+        this.path = path;
+        this.recordWriter = recordWriter;
+        this.suffix = suffix;
+        this.parameter = parameter;
+    }
+
+    /**
+     * Returns true if the prepared {@link SpreadsheetDocument} for file writing was written to the file system.
+     *
+     * @return write success
+     */
+    @Override
+    public boolean writeSpreadsheetDocument() {
+        return false;
+    }
+
+    /**
+     * Returns true if the lines of the record writer were written to the file system.
+     *
+     * @return write success
+     */
+    @Override
+    public boolean writeStringFile() {
+        return WriteFile2Disk.writeFile2Disk(path, recordWriter.getResult(), suffix,
+                parameter.isOverwriteExistingFiles(), parameter.getContext());
+    }
+
+    /**
+     * Returns true if the prepared {@link Workbook} for file writing was written to the file system.
+     *
+     * @return write success
+     */
+    @Override
+    public boolean writeWorkbookFile() {
+        return false;
+    }
+
+} // end of RecordWriteFile
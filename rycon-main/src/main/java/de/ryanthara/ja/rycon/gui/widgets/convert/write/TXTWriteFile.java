@@ -19,7 +19,9 @@ package de.ryanthara.ja.rycon.gui.widgets.convert.write;
 
 import de.ryanthara.ja.rycon.converter.text.*;
 import de.ryanthara.ja.rycon.gui.widgets.ConverterWidget;
+import de.ryanthara.ja.rycon.gui.widgets.convert.ConverterGraph;
 import de.ryanthara.ja.rycon.gui.widgets.convert.SourceButton;
+import de.ryanthara.ja.rycon.gui.widgets.convert.TargetButton;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.odftoolkit.simple.SpreadsheetDocument;
 
@@ -31,7 +33,7 @@ import java.util.List;
  * Instances of this class are used for writing text files from the {@link ConverterWidget} of RyCON.
  *
  * @author sebastian
- * @version 2
+ * @version 5
  * @since 12
  */
 public class TXTWriteFile implements WriteFile {
@@ -109,8 +111,8 @@ public class TXTWriteFile implements WriteFile {
                 break;
 
             case BASEL_STADT:
-                CSVBaselStadt2TXT csvBaselStadt2TXT = new CSVBaselStadt2TXT(readCSVFile);
-                writeFile = csvBaselStadt2TXT.convertCSVBaselStadt2TXT(parameter.getSeparatorTXT());
+                writeFile = ConverterGraph.convert(SourceButton.BASEL_STADT, TargetButton.TXT,
+                        readStringFile, readCSVFile, parameter);
                 break;
 
             case BASEL_LANDSCHAFT:
@@ -123,7 +125,8 @@ public class TXTWriteFile implements WriteFile {
                 System.err.println("TXTWriteFile.writeStringFile() : unknown file format " + SourceButton.fromIndex(parameter.getSourceNumber()));
         }
 
-        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".TXT")) {
+        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".TXT", parameter.isOverwriteExistingFiles(),
+                parameter.getContext())) {
             success = true;
         }
 
@@ -17,28 +17,25 @@
  */
 package de.ryanthara.ja.rycon.gui.widgets.convert.write;
 
-import de.ryanthara.ja.rycon.Main;
+import de.ryanthara.ja.rycon.converter.excel.BaseToolsExcel;
 import de.ryanthara.ja.rycon.data.DefaultKeys;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.file.FileToolsExcel;
-import de.ryanthara.ja.rycon.gui.custom.MessageBoxes;
-import de.ryanthara.ja.rycon.i18n.Labels;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
 import de.ryanthara.ja.rycon.i18n.Warnings;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.eclipse.swt.SWT;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import static de.ryanthara.ja.rycon.i18n.ResourceBundles.LABELS;
 import static de.ryanthara.ja.rycon.i18n.ResourceBundles.WARNINGS;
 
 /**
  * This class implements static file writing functions for line based files.
  *
  * @author sebastian
- * @version 2
+ * @version 5
  * @since 12
  */
 class WriteExcel2Disk {
@@ -51,37 +48,44 @@ class WriteExcel2Disk {
 
     /**
      * Writes a Microsoft Excel (.XLS or .XLSX) file from a {@link Workbook} to the file system and returns write success.
+     * <p>
+     * An existing file is only overwritten, if the overwriting was confirmed before. Otherwise the file is not
+     * written and a warning is added to the processing context.
+     * <p>
+     * The workbook is closed on every path and the temporary files of a streamed XLSX workbook are deleted.
      *
-     * @param path     path object
-     * @param workbook prepared {@link Workbook} for writing
-     * @param suffix   file suffix
+     * @param path                path object
+     * @param workbook            prepared {@link Workbook} for writing or null
+     * @param suffix              file suffix
+     * @param isOverwriteExisting true if an existing file can be overwritten without a question
+     * @param context             processing context for the warnings
      *
      * @return write success
      */
-    static boolean writeExcel2Disk(Path path, Workbook workbook, String suffix) {
+    static boolean writeExcel2Disk(Path path, Workbook workbook, String suffix, boolean isOverwriteExisting,
+                                   ProcessingContext context) {
+        if (workbook == null) {
+            return false;
+        }
+
         boolean writeSuccess;
         String outputFileName = prepareOutputFileName(path, suffix);
 
         FileToolsExcel fileToolsExcel = new FileToolsExcel(workbook);
 
-        if (Files.exists(Paths.get(outputFileName))) {
-            int returnValue = MessageBoxes.showMessageBox(Main.shell, SWT.ICON_WARNING | SWT.YES | SWT.NO,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.warningTextMsgBox),
-                    String.format(ResourceBundleUtils.getLangString(WARNINGS, Warnings.fileExists), outputFileName));
+        try {
+            if (!isOverwriteExisting && Files.exists(Paths.get(outputFileName))) {
+                context.addWarning(String.format(ResourceBundleUtils.getLangString(WARNINGS, Warnings.fileExists), outputFileName));
 
-            if (returnValue == SWT.YES) {
+                writeSuccess = false;
+            } else {
                 if (suffix.equalsIgnoreCase(".xls")) {
                     writeSuccess = fileToolsExcel.writeXLS(Paths.get(outputFileName));
                 } else
                     writeSuccess = suffix.equalsIgnoreCase(".xlsx") && fileToolsExcel.writeXLSX(Paths.get(outputFileName));
-            } else {
-                writeSuccess = false;
             }
-        } else {
-            if (suffix.equalsIgnoreCase(".xls")) {
-                writeSuccess = fileToolsExcel.writeXLS(Paths.get(outputFileName));
-            } else
-                writeSuccess = suffix.equalsIgnoreCase(".xlsx") && fileToolsExcel.writeXLSX(Paths.get(outputFileName));
+        } finally {
+            BaseToolsExcel.closeWorkbook(workbook);
         }
 
         return writeSuccess;
@@ -17,28 +17,28 @@
  */
 package de.ryanthara.ja.rycon.gui.widgets.convert.write;
 
-import de.ryanthara.ja.rycon.Main;
 import de.ryanthara.ja.rycon.data.DefaultKeys;
-import de.ryanthara.ja.rycon.gui.custom.MessageBoxes;
-import de.ryanthara.ja.rycon.i18n.Labels;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
 import de.ryanthara.ja.rycon.i18n.Warnings;
+import de.ryanthara.ja.rycon.io.LineEnding;
 import de.ryanthara.ja.rycon.io.LineWriter;
-import org.eclipse.swt.SWT;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 
-import static de.ryanthara.ja.rycon.i18n.ResourceBundles.LABELS;
 import static de.ryanthara.ja.rycon.i18n.ResourceBundles.WARNINGS;
 
 /**
  * This class implements static file writing functions for line based files.
+ * <p>
+ * The files are written with the UTF-8 charset. Leica GSI and Zeiss REC files, which are uploaded to an
+ * instrument, are written with carriage return and line feed, all other files with a line feed only.
  *
  * @author sebastian
- * @version 2
+ * @version 6
  * @since 12
  */
 class WriteFile2Disk {
@@ -51,34 +51,40 @@ class WriteFile2Disk {
 
     /**
      * Writes a line based string file from an {@link ArrayList} to the file system and returns write success.
+     * <p>
+     * An existing file is only overwritten, if the overwriting was confirmed before. Otherwise the file is not
+     * written and a warning is added to the processing context.
+     * <p>
+     * A missing result of a failed conversion (null) is not written.
      *
-     * @param path      {@link Path} object
-     * @param writeFile prepared string lines for writing
-     * @param suffix    file suffix
+     * @param path                {@link Path} object
+     * @param writeFile           prepared string lines for writing or null
+     * @param suffix              file suffix
+     * @param isOverwriteExisting true if an existing file can be overwritten without a question
+     * @param context             processing context for the warnings
      *
      * @return write success
      */
-    static boolean writeFile2Disk(Path path, ArrayList<String> writeFile, String suffix) {
+    static boolean writeFile2Disk(Path path, ArrayList<String> writeFile, String suffix, boolean isOverwriteExisting,
+                                  ProcessingContext context) {
         boolean success;
         String outputFileName = prepareOutputFileName(path, suffix);
 
-        if (Files.exists(Paths.get(outputFileName))) {
-            int returnValue = MessageBoxes.showMessageBox(Main.shell, SWT.ICON_WARNING | SWT.YES | SWT.NO,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.warningTextMsgBox),
-                    String.format(ResourceBundleUtils.getLangString(WARNINGS, Warnings.fileExists), outputFileName));
+        if (writeFile == null) {
+            success = false;
+        } else if (!isOverwriteExisting && Files.exists(Paths.get(outputFileName))) {
+            context.addWarning(String.format(ResourceBundleUtils.getLangString(WARNINGS, Warnings.fileExists), outputFileName));
 
-            if (returnValue == SWT.YES) {
-                LineWriter lineWriter = new LineWriter(outputFileName);
-
-                success = lineWriter.writeFile(writeFile);
-            } else {
-                success = false;
-            }
+            success = false;
         } else {
-            success = new LineWriter(outputFileName).writeFile(writeFile);
+            success = writeLines(outputFileName, writeFile, suffix);
         }
 
         return success;
     }
 
+    private static boolean writeLines(String outputFileName, ArrayList<String> writeFile, String suffix) {
+        return new LineWriter(Paths.get(outputFileName), LineEnding.fromSuffix(suffix)).writeFile(writeFile);
+    }
+
 } // end of WriteFile2Disk
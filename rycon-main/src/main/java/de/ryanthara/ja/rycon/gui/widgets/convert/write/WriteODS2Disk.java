@@ -17,28 +17,24 @@
  */
 package de.ryanthara.ja.rycon.gui.widgets.convert.write;
 
-import de.ryanthara.ja.rycon.Main;
+import de.ryanthara.ja.rycon.converter.odf.ODSWriter;
 import de.ryanthara.ja.rycon.data.DefaultKeys;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 import de.ryanthara.ja.rycon.file.FileToolsODF;
-import de.ryanthara.ja.rycon.gui.custom.MessageBoxes;
-import de.ryanthara.ja.rycon.i18n.Labels;
 import de.ryanthara.ja.rycon.i18n.ResourceBundleUtils;
 import de.ryanthara.ja.rycon.i18n.Warnings;
-import org.eclipse.swt.SWT;
-import org.odftoolkit.simple.SpreadsheetDocument;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import static de.ryanthara.ja.rycon.i18n.ResourceBundles.LABELS;
 import static de.ryanthara.ja.rycon.i18n.ResourceBundles.WARNINGS;
 
 /**
  * This class implements static file writing functions for Open Document spreadsheet files.
  *
  * @author sebastian
- * @version 2
+ * @version 6
  * @since 12
  */
 class WriteODS2Disk {
@@ -50,27 +46,40 @@ class WriteODS2Disk {
     }
 
     /**
-     * Writes a Open Document spreadsheet from a {@link SpreadsheetDocument} to the file system and returns write success.
+     * Writes a Open Document spreadsheet from a {@link ODSWriter} to the file system and returns write success.
+     * <p>
+     * An existing file is only overwritten, if the overwriting was confirmed before. Otherwise the file is not
+     * written and a warning is added to the processing context.
+     * The temporary file of the {@link ODSWriter} is deleted, if it was not saved.
      *
      * @param path                path object
-     * @param spreadsheetDocument prepared {@link SpreadsheetDocument} for writing
+     * @param odsWriter           prepared {@link ODSWriter} for writing
+     * @param isOverwriteExisting true if an existing file can be overwritten without a question
+     * @param context             processing context for the warnings
      *
      * @return write success
      */
-    static boolean writeODS2Disk(Path path, SpreadsheetDocument spreadsheetDocument) {
+    static boolean writeODS2Disk(Path path, ODSWriter odsWriter, boolean isOverwriteExisting,
+                                 ProcessingContext context) {
+        if (odsWriter == null) {
+            return false;
+        }
+
         boolean writeSuccess;
         String outputFileName = prepareOutputFileName(path, ".ods");
 
-        FileToolsODF fileToolsODF = new FileToolsODF(spreadsheetDocument);
+        FileToolsODF fileToolsODF = new FileToolsODF(odsWriter);
 
-        if (Files.exists(Paths.get(outputFileName))) {
-            int returnValue = MessageBoxes.showMessageBox(Main.shell, SWT.ICON_WARNING | SWT.YES | SWT.NO,
-                    ResourceBundleUtils.getLangString(LABELS, Labels.warningTextMsgBox),
-                    String.format(ResourceBundleUtils.getLangString(WARNINGS, Warnings.fileExists), outputFileName));
+        try {
+            if (!isOverwriteExisting && Files.exists(Paths.get(outputFileName))) {
+                context.addWarning(String.format(ResourceBundleUtils.getLangString(WARNINGS, Warnings.fileExists), outputFileName));
 
-            writeSuccess = returnValue == SWT.YES && fileToolsODF.writeODS(outputFileName);
-        } else {
-            writeSuccess = fileToolsODF.writeODS(outputFileName);
+                writeSuccess = false;
+            } else {
+                writeSuccess = fileToolsODF.writeODS(outputFileName);
+            }
+        } finally {
+            odsWriter.close();
         }
 
         return writeSuccess;
@@ -18,6 +18,7 @@
 package de.ryanthara.ja.rycon.gui.widgets.convert.write;
 
 import de.ryanthara.ja.rycon.converter.zeiss.ZeissDialect;
+import de.ryanthara.ja.rycon.data.ProcessingContext;
 
 /**
  * Instances of this class holds parameter for the writing classes in the package {@link de.ryanthara.ja.rycon.gui.widgets.convert.write}
@@ -27,7 +28,9 @@ public class WriteParameter {
 
     private boolean isGSI16, cadworkUseZeroHeights, kFormatUseSimpleFormat, ltopEliminateDuplicatePoints,
             ltopSortOutputFileByNumber, sourceContainsCode, writeCodeColumn, writeCommentLine;
+    private boolean overwriteExistingFiles = false;
     private int sourceNumber;
+    private ProcessingContext context;
     private String separatorCSV, separatorTXT;
     private ZeissDialect dialect;
 
@@ -42,7 +45,8 @@ public class WriteParameter {
                           boolean sourceContainsCode,
                           boolean writeCodeColumn,
                           boolean writeCommentLine,
-                          String separatorCSV, String separatorTXT, ZeissDialect dialect) {
+                          String separatorCSV, String separatorTXT, ZeissDialect dialect,
+                          ProcessingContext context) {
         this.sourceNumber = sourceNumber;
         this.isGSI16 = isGSI16;
         this.cadworkUseZeroHeights = cadworkUseZeroHeights;
@@ -55,6 +59,18 @@ public class WriteParameter {
         this.separatorCSV = separatorCSV;
         this.separatorTXT = separatorTXT;
         this.dialect = dialect;
+        this.context = context;
+    }
+
+    /**
+     * Returns the processing context with the settings, the warning sink and the cancellation flag.
+     *
+     * @return processing context
+     *
+     * @since 25
+     */
+    public ProcessingContext getContext() {
+        return context;
     }
 
     /**
@@ -129,6 +145,18 @@ public class WriteParameter {
         return ltopEliminateDuplicatePoints;
     }
 
+    /**
+     * Returns true if existing output files are overwritten without a question. This is used
+     * when the overwriting was confirmed before the conversion was started.
+     *
+     * @return overwrite existing files
+     *
+     * @since 25
+     */
+    public boolean isOverwriteExistingFiles() {
+        return overwriteExistingFiles;
+    }
+
     /**
      * Returns sort LTOP KOO files by point number.
      *
@@ -156,6 +184,17 @@ public class WriteParameter {
         return writeCommentLine;
     }
 
+    /**
+     * Sets the overwriting of existing output files without a question.
+     *
+     * @param overwriteExistingFiles overwrite existing files
+     *
+     * @since 25
+     */
+    public void setOverwriteExistingFiles(boolean overwriteExistingFiles) {
+        this.overwriteExistingFiles = overwriteExistingFiles;
+    }
+
     /**
      * Returns the source file contains code column parameter.
      *
@@ -32,7 +32,7 @@ import java.util.List;
  * from the {@link ConverterWidget} of RyCON.
  *
  * @author sebastian
- * @version 2
+ * @version 4
  * @since 12
  */
 public class ZeissWriteFile implements WriteFile {
@@ -122,7 +122,8 @@ public class ZeissWriteFile implements WriteFile {
                 System.err.println("ZeissWriteFile.writeStringFile() : unknown file format " + SourceButton.fromIndex(parameter.getSourceNumber()));
         }
 
-        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".REC")) {
+        if (WriteFile2Disk.writeFile2Disk(path, writeFile, ".REC", parameter.isOverwriteExistingFiles(),
+                parameter.getContext())) {
             success = true;
         }
 
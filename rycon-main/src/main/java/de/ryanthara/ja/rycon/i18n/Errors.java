@@ -24,7 +24,7 @@ package de.ryanthara.ja.rycon.i18n;
  * is used to access different enumerations in the class {@link ResourceBundleUtils}.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @since 2.0
  */
 public enum Errors implements ResourceKeys {
@@ -40,6 +40,7 @@ public enum Errors implements ResourceKeys {
     caplanReadingFailed,
     codeSplitFailed,
     conversionFailed,
+    conversionFailedFiles,
     csvBSReadingFailed,
     directoryNotFound,
     fileExistsNot,
@@ -24,7 +24,7 @@ package de.ryanthara.ja.rycon.i18n;
  * is used to access different enumerations in the class {@link ResourceBundleUtils}.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @since 2.0
  */
 public enum Labels implements ResourceKeys {
@@ -67,6 +67,7 @@ public enum Labels implements ResourceKeys {
     minimumPointDistance,
     newConfigFileGenerated,
     optionsText,
+    parallelConversions,
     pathSelectionText,
     pathSettingsText,
     projectNumber,
@@ -24,7 +24,7 @@ package de.ryanthara.ja.rycon.i18n;
  * is used to access different enumerations in the class {@link ResourceBundleUtils}.
  *
  * @author sebastian
- * @version 1
+ * @version 2
  * @since 2.0
  */
 public enum Messages implements ResourceKeys {
@@ -38,6 +38,8 @@ public enum Messages implements ResourceKeys {
     cardReaderFilesCopySuccessful,
     conversionMessage,
     conversionStatus,
+    jobCancelled,
+    jobProgress,
     levellingStatus,
     levellingMessage,
     newConfigFileGenerated,
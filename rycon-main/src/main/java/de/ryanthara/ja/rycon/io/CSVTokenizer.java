@@ -0,0 +1,339 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.io
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Instances of this class splits comma separated values (CSV) into fields row by row.
+ * <p>
+ * The rows are read one after another from a {@link Reader} with {@link #nextRow()}. The fields of the current
+ * row are returned as {@link CharSequence} views over a reusable buffer, therefore no strings are created while
+ * reading. A field view is only valid until the next call of {@link #nextRow()}. Use {@link #getString(int)}
+ * or {@link #toStringArray()} to keep the values.
+ * <p>
+ * The separator (e.g. ',' or ';') can be chosen. Fields can be enclosed in double quotes. A quoted field
+ * can contain separators, line breaks and double quotes, which are written as two double quotes. White space
+ * in front of an opening quote is skipped. An empty line is returned as a row with one empty field.
+ *
+ * @author sebastian
+ * @version 2
+ * @since 25
+ */
+public class CSVTokenizer implements Closeable {
+
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char separator;
+    private final char[] readBuffer = new char[64 * 1024];
+
+    private int readPosition = 0;
+    private int readLimit = 0;
+    private long rowNumber = 0;
+
+    private char[] rowChars = new char[256];
+    private int rowLength = 0;
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private Field[] fields = new Field[16];
+    private int fieldCount = 0;
+
+    /**
+     * Constructs a new instance of this class with a reader and a separator.
+     *
+     * @param reader    reader of the CSV content
+     * @param separator separator between the fields
+     */
+    public CSVTokenizer(Reader reader, char separator) {
+        this.reader = reader;
+        this.separator = separator;
+    }
+
+    /**
+     * Opens a CSV file with UTF-8 encoding for tokenizing.
+     * <p>
+     * Like the {@link LineReader} malformed input (e.g. an umlaut of an ISO-8859-1 export) is replaced
+     * instead of failing the whole file.
+     *
+     * @param path      CSV file
+     * @param separator separator between the fields
+     *
+     * @return tokenizer of the file, which has to be closed
+     *
+     * @throws IOException if the file could not be opened
+     */
+    public static CSVTokenizer open(Path path, char separator) throws IOException {
+        return new CSVTokenizer(new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8), separator);
+    }
+
+    /**
+     * Closes the reader.
+     *
+     * @throws IOException if the reader could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Returns a view of a field of the current row. The view is only valid until the next call of
+     * {@link #nextRow()}.
+     *
+     * @param index index of the field
+     *
+     * @return field as char sequence
+     *
+     * @throws IndexOutOfBoundsException if the row has no field with this index
+     */
+    public CharSequence getField(int index) {
+        checkIndex(index);
+
+        return fields[index];
+    }
+
+    /**
+     * Returns the number of fields of the current row.
+     *
+     * @return number of fields
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Returns the number of the current row, first row is one. Rows with quoted line breaks are counted once.
+     *
+     * @return number of the current row
+     */
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * Returns a field of the current row as string.
+     *
+     * @param index index of the field
+     *
+     * @return field as string
+     *
+     * @throws IndexOutOfBoundsException if the row has no field with this index
+     */
+    public String getString(int index) {
+        checkIndex(index);
+
+        return new String(rowChars, fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+    }
+
+    /**
+     * Reads the next row and returns false at the end of the input.
+     *
+     * @return true if a row was read
+     *
+     * @throws IOException if the input could not be read
+     */
+    public boolean nextRow() throws IOException {
+        int c = read();
+
+        if (c < 0) {
+            return false;
+        }
+
+        if (rowNumber == 0 && c == BYTE_ORDER_MARK) {
+            c = read();
+        }
+
+        rowNumber = rowNumber + 1;
+        rowLength = 0;
+        fieldCount = 0;
+
+        int fieldStart = 0;
+        boolean isBlankField = true;
+        boolean inQuotes = false;
+
+        while (true) {
+            if (inQuotes) {
+                if (c < 0) {
+                    // unclosed quote at the end of the input
+                    endField(fieldStart);
+
+                    return true;
+                } else if (c == QUOTE) {
+                    if (peek() == QUOTE) {
+                        read();
+                        append(QUOTE);
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    append((char) c);
+                }
+            } else if (c == separator) {
+                endField(fieldStart);
+                fieldStart = rowLength;
+                isBlankField = true;
+            } else if (c < 0 || c == '\n') {
+                endField(fieldStart);
+
+                return true;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    read();
+                }
+
+                endField(fieldStart);
+
+                return true;
+            } else if (c == QUOTE && isBlankField) {
+                // skip white space in front of the opening quote
+                rowLength = fieldStart;
+                isBlankField = false;
+                inQuotes = true;
+            } else {
+                append((char) c);
+
+                if (isBlankField && !Character.isWhitespace(c)) {
+                    isBlankField = false;
+                }
+            }
+
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the fields of the current row as string array.
+     *
+     * @return fields as strings
+     */
+    public String[] toStringArray() {
+        String[] strings = new String[fieldCount];
+
+        for (int i = 0; i < fieldCount; i++) {
+            strings[i] = getString(i);
+        }
+
+        return strings;
+    }
+
+    private void append(char c) {
+        if (rowLength == rowChars.length) {
+            rowChars = Arrays.copyOf(rowChars, rowChars.length * 2);
+        }
+
+        rowChars[rowLength++] = c;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException("field " + index + " of " + fieldCount + " in row " + rowNumber);
+        }
+    }
+
+    private void endField(int fieldStart) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+            fields = Arrays.copyOf(fields, fieldCount * 2);
+        }
+
+        if (fields[fieldCount] == null) {
+            fields[fieldCount] = new Field(fieldCount);
+        }
+
+        fieldStarts[fieldCount] = fieldStart;
+        fieldEnds[fieldCount] = rowLength;
+        fieldCount = fieldCount + 1;
+    }
+
+    private boolean fill() throws IOException {
+        int count = reader.read(readBuffer, 0, readBuffer.length);
+
+        readPosition = 0;
+        readLimit = Math.max(count, 0);
+
+        return count > 0;
+    }
+
+    private int peek() throws IOException {
+        if (readPosition == readLimit && !fill()) {
+            return -1;
+        }
+
+        return readBuffer[readPosition];
+    }
+
+    private int read() throws IOException {
+        if (readPosition == readLimit && !fill()) {
+            return -1;
+        }
+
+        return readBuffer[readPosition++];
+    }
+
+    /**
+     * View of one field of the current row.
+     */
+    private final class Field implements CharSequence {
+
+        private final int index;
+
+        Field(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public char charAt(int i) {
+            if (i < 0 || i >= length()) {
+                throw new IndexOutOfBoundsException("index " + i + " of field " + index);
+            }
+
+            return rowChars[fieldStarts[index] + i];
+        }
+
+        @Override
+        public int length() {
+            return fieldEnds[index] - fieldStarts[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length() || start > end) {
+                throw new IndexOutOfBoundsException("range " + start + " to " + end + " of field " + index);
+            }
+
+            return new String(rowChars, fieldStarts[index] + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return getString(index);
+        }
+
+    }
+
+} // end of CSVTokenizer
@@ -0,0 +1,70 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.io
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.io;
+
+/**
+ * This enumeration is used for the line endings, which are written by the {@link LineWriter}.
+ * <p>
+ * Files for the upload to an instrument (e.g. Leica GSI or Zeiss REC) are written with carriage return
+ * and line feed. All other files are written with a line feed only.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+public enum LineEnding {
+
+    /**
+     * Carriage return and line feed, used for files, which are uploaded to an instrument.
+     */
+    CRLF("\r\n"),
+
+    /**
+     * Line feed only.
+     */
+    LF("\n");
+
+    private final String separator;
+
+    LineEnding(String separator) {
+        this.separator = separator;
+    }
+
+    /**
+     * Returns the line ending for a file suffix. Leica GSI and Zeiss REC files get carriage return and line feed.
+     *
+     * @param suffix file suffix with or without leading dot
+     *
+     * @return line ending for the file suffix
+     */
+    public static LineEnding fromSuffix(String suffix) {
+        final String s = suffix.startsWith(".") ? suffix.substring(1) : suffix;
+
+        return s.equalsIgnoreCase("GSI") || s.equalsIgnoreCase("REC") ? CRLF : LF;
+    }
+
+    /**
+     * Returns the line separator characters as {@code String}.
+     *
+     * @return line separator
+     */
+    public String getSeparator() {
+        return separator;
+    }
+
+} // end of LineEnding
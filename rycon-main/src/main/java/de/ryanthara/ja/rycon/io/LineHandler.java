@@ -0,0 +1,42 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.io
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.io;
+
+/**
+ * Callback interface which receives the read lines of a file one by one from the {@link LineReader}.
+ * <p>
+ * With this interface the lines of a file are handed over directly to the processing code without
+ * storing the complete file in an {@code ArrayList<String>}. The memory usage is therefore independent
+ * of the file size.
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+public interface LineHandler {
+
+    /**
+     * Handles one read line, which is neither blank nor a comment line.
+     *
+     * @param line read line
+     *
+     * @return true if the reading should be continued, false to stop the reading
+     */
+    boolean handleLine(String line);
+
+} // end of LineHandler
@@ -23,16 +23,23 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Instances of this class implements functions to read a text based path line by line and stores it's values
  * in an {code ArrayList<String>}.
  * <p>
+ * For large files the lines can be handed over one by one to a {@link LineHandler} instead. In this case
+ * no line is stored and the memory usage of the reader is independent of the file size.
+ * <p>
+ * The progress of the reading can be observed by another thread (e.g. to show it on the status bar)
+ * with a line counter, which is incremented for every read line.
+ * <p>
  * A couple of things are implemented as additional functionality. At the moment there is no thread safety
  * implemented or planed due to some reasons.
  *
  * @author sebastian
- * @version 4
+ * @version 6
  * @since 1
  */
 public class LineReader {
@@ -40,6 +47,7 @@ public class LineReader {
     private final Path path;
     private int countReadLines = -1;
     private int countStoredLines = -1;
+    private AtomicLong lineCounter = null;
     private ArrayList<String> lines = null;
 
     /**
@@ -54,11 +62,11 @@ public class LineReader {
     /**
      * Return the number of read lines.
      * <p>
-     * By default the value is set to -1, which shows, that no line has been read.
+     * By default the value is set to -1, which shows, that no line has been read. While reading with
+     * a {@link LineHandler} the value is updated with every read line.
      *
      * @return number of read lines
      */
-    // TODO Implement the usage of the count read lines to the status bar
     public int getCountReadLines() {
         return countReadLines;
     }
@@ -67,6 +75,7 @@ public class LineReader {
      * Return the number of stored lines.
      * <p>
      * By default the value is set to -1, which shows, that no read line has been stored to the {@code ArrayList<String>}.
+     * While reading with a {@link LineHandler} the value holds the number of lines handed over to the handler.
      *
      * @return number of stored lines
      */
@@ -78,7 +87,8 @@ public class LineReader {
     /**
      * Return the read lines as an {@code ArrayList<String>} object.
      * <p>
-     * The {@code ArrayList<String>} contains every read line, first line on top.s
+     * The {@code ArrayList<String>} contains every read line, first line on top. If the file was read
+     * with a {@link LineHandler}, null is returned.
      *
      * @return read lines as {@code ArrayList<String>} object
      */
@@ -86,28 +96,63 @@ public class LineReader {
         return lines;
     }
 
+    /**
+     * Sets a line counter, which is incremented for every read line. The counter can be read
+     * from another thread while the file is read.
+     *
+     * @param lineCounter line counter or null
+     *
+     * @since 25
+     */
+    public void setLineCounter(AtomicLong lineCounter) {
+        this.lineCounter = lineCounter;
+    }
+
     /**
      * Read a path line by line and return the read success.
      *
      * @return success of path reading
      */
     public boolean readFile() {
-        return readFile(null);
+        lines = new ArrayList<>();
+
+        final ArrayList<String> storage = lines;
+
+        return readFile(null, new LineHandler() {
+            @Override
+            public boolean handleLine(String line) {
+                return storage.add(line);
+            }
+        });
     }
 
     /**
-     * Read a path line by line and returns the read success.
+     * Read a path line by line and hands over every line to the given {@link LineHandler}. The lines are
+     * not stored in this reader and the read success is returned.
      * <p>
-     * Additionally with the parameter 'comment', there is the possibility to use
-     * a {@code String} as comment sign. These lines will be ignored and not read.
+     * The handler can stop the reading by returning false. In this case the reading is still successful.
      *
-     * @param comment String for comment signs
+     * @param lineHandler handler which receives every not empty line
      *
      * @return success of path reading
      */
-    private boolean readFile(String comment) {
+    public boolean readFile(LineHandler lineHandler) {
+        lines = null;
+
+        return readFile(null, lineHandler);
+    }
+
+    /**
+     * Read a path line by line, skips lines which start with the comment sign and hands over every
+     * other line to the given {@link LineHandler}. The lines are not stored and the read success is returned.
+     *
+     * @param comment     String for comment signs
+     * @param lineHandler handler which receives every not empty line
+     *
+     * @return success of path reading
+     */
+    public boolean readFile(String comment, LineHandler lineHandler) {
         boolean success = false;
-        lines = new ArrayList<>();
         FileInputStream fileInputStream = null;
         String line;
 
@@ -115,6 +160,9 @@ public class LineReader {
         if (path == null || !Files.exists(path) || !Files.isRegularFile(path) || !Files.isReadable(path)) {
             return false;
         } else {
+            countReadLines = 0;
+            countStoredLines = 0;
+
             try {
                 fileInputStream = new FileInputStream(path.toFile());
 
@@ -122,24 +170,24 @@ public class LineReader {
                     fileInputStream.getChannel().lock(0, Long.MAX_VALUE, true);
                     try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(fileInputStream, StandardCharsets.UTF_8))) {
 
-                        // read the lines into an ArrayList
+                        // hand over the lines one by one
                         while ((line = bufferedReader.readLine()) != null) {
                             countReadLines = countReadLines + 1;
+
+                            if (lineCounter != null) {
+                                lineCounter.incrementAndGet();
+                            }
+
                             if (!line.trim().equals("")) {
-                                if (comment == null) {
-                                    lines.add(line);
+                                if ((comment == null) || (!line.startsWith(comment))) {
                                     countStoredLines = countStoredLines + 1;
-                                } else {
-                                    if (!line.startsWith(comment)) {
-                                        lines.add(line);
-                                        countStoredLines = countStoredLines + 1;
+
+                                    if (!lineHandler.handleLine(line)) {
+                                        break;
                                     }
                                 }
                             }
                         }
-                        // hack to get rid of the -1 initialization
-                        countReadLines = countReadLines + 1;
-                        countStoredLines = countStoredLines + 1;
 
                         success = true;
                     }
@@ -152,9 +200,11 @@ public class LineReader {
                 System.err.println("File: " + path.getFileName() + "could not be read.");
                 e.printStackTrace();
             } finally {
-                // reset variables back to initialization values
-                countReadLines = -1;
-                countStoredLines = -1;
+                // reset variables back to initialization values if something went wrong
+                if (!success) {
+                    countReadLines = -1;
+                    countStoredLines = -1;
+                }
                 try {
                     if (fileInputStream != null) {
                         fileInputStream.close();
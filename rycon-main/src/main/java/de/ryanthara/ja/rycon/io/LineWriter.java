@@ -17,34 +17,153 @@
  */
 package de.ryanthara.ja.rycon.io;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
+import java.io.Closeable;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Instances of this class provides functions to write an {@code ArrayList<String>} line by line to a file.
+ * Instances of this class provides functions to write lines to a file.
  * <p>
- * A couple of things are implemented as additional functionality. At the moment, there is no thread safety
- * implemented or planed.
+ * The lines are encoded with an explicit charset into a large byte buffer, which is reused for all lines,
+ * and written through a {@link FileChannel}. The file is written into a temporary file in the target
+ * directory first, which is renamed atomically to the target file when all lines are written. Therefore
+ * a failed or interrupted writing never leaves a half-written target file. An existing target file
+ * is replaced.
+ * <p>
+ * Lines can be written in one step with {@link #writeFile(List)} or one by one with {@link #open()},
+ * {@link #writeLine(CharSequence)} and {@link #commit()}. A not committed file is discarded by {@link #close()}.
+ * An opened file can be suspended to close the file channel and release the buffer, and resumed later.
+ * <p>
+ * The progress of the writing can be observed by another thread (e.g. to show it on the status bar)
+ * with a line counter, which is incremented for the written lines.
+ * <p>
+ * At the moment, there is no thread safety implemented or planed.
  *
  * @author sebastian
- * @version 2
+ * @version 5
  * @since 1
  */
-public class LineWriter {
+public class LineWriter implements Closeable {
 
-    private final String fileName;
-    private int writtenLines = -1;
+    /**
+     * Size of the byte buffer in bytes.
+     */
+    public static final int BUFFER_SIZE = 256 * 1024;
+
+    private static final int MAX_TEMP_FILE_ATTEMPTS = 16;
+
+    private final Path path;
+    private final Charset charset;
+    private final byte[] lineSeparator;
+    private final boolean isAsciiCompatible;
+    private ByteBuffer byteBuffer = null;
+    private CharsetEncoder encoder = null;
+    private FileChannel channel = null;
+    private Path tempFile = null;
+    private int writtenLines = 0;
+    private int pendingLines = 0;
+    private AtomicLong lineCounter = null;
+    private Deque<ByteBuffer> bufferPool = null;
+
+    /**
+     * Constructs a new instance of this class for a file, which is written with the UTF-8 charset.
+     *
+     * @param path       file to be written
+     * @param lineEnding line ending of the written lines
+     *
+     * @since 25
+     */
+    public LineWriter(Path path, LineEnding lineEnding) {
+        this(path, StandardCharsets.UTF_8, lineEnding);
+    }
 
     /**
-     * Constructs a new instance of this class with the filename as {code String} parameter.
+     * Constructs a new instance of this class for a file, which is written with the given charset.
+     *
+     * @param path       file to be written
+     * @param charset    charset of the written file
+     * @param lineEnding line ending of the written lines
      *
-     * @param fileName filename as {@code String}
+     * @since 25
+     */
+    public LineWriter(Path path, Charset charset, LineEnding lineEnding) {
+        this.path = path.toAbsolutePath();
+        this.charset = charset;
+        this.lineSeparator = lineEnding.getSeparator().getBytes(charset);
+        this.isAsciiCompatible = isAsciiCompatible(charset);
+    }
+
+    /**
+     * Discards the file, if it is opened and not committed. The temporary file is deleted and
+     * an existing target file is left untouched.
      */
-    public LineWriter(String fileName) {
-        this.fileName = fileName;
+    @Override
+    public void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.format("Temporary file %s could not be closed.%n", tempFile);
+            }
+
+            channel = null;
+        }
+
+        releaseBuffer();
+
+        if (tempFile != null) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                System.err.format("Temporary file %s could not be deleted.%n", tempFile);
+            }
+
+            tempFile = null;
+        }
+    }
+
+    /**
+     * Writes the remaining buffered lines and renames the temporary file atomically to the target file.
+     * An existing target file is replaced.
+     *
+     * @throws IOException if the file could not be written or renamed
+     * @since 25
+     */
+    public void commit() throws IOException {
+        if (channel == null) {
+            throw new IllegalStateException("file " + path + " is not opened");
+        }
+
+        flushBuffer();
+        channel.close();
+        channel = null;
+
+        try {
+            Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        tempFile = null;
+
+        releaseBuffer();
     }
 
     /**
@@ -52,41 +171,267 @@ public class LineWriter {
      *
      * @return number of written lines
      */
-    // TODO Implement the usage/displaying of the written lines to the status bar
     public int getCountWrittenLines() {
         return writtenLines;
     }
 
     /**
-     * Writes a given {@code ArrayList<String>} line by line to the file system.
+     * Opens a new temporary file in the directory of the target file for writing.
+     *
+     * @throws IOException if the temporary file could not be created
+     * @since 25
+     */
+    public void open() throws IOException {
+        if (channel != null) {
+            throw new IllegalStateException("file " + path + " is already opened");
+        }
+
+        allocateBuffer();
+
+        writtenLines = 0;
+        pendingLines = 0;
+
+        // the temporary file gets the default permissions of a new file (unlike Files.createTempFile)
+        for (int attempt = 0; channel == null; attempt++) {
+            Path candidate = path.resolveSibling("." + path.getFileName() + "." +
+                    Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE) + ".tmp");
+
+            try {
+                channel = FileChannel.open(candidate, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                tempFile = candidate;
+            } catch (FileAlreadyExistsException e) {
+                if (attempt >= MAX_TEMP_FILE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reopens the temporary file of a suspended file for appending further lines.
+     *
+     * @throws IOException if the temporary file could not be opened
+     * @since 25
+     */
+    public void resume() throws IOException {
+        if (channel != null) {
+            throw new IllegalStateException("file " + path + " is already opened");
+        }
+
+        if (tempFile == null) {
+            throw new IllegalStateException("file " + path + " is not suspended");
+        }
+
+        allocateBuffer();
+
+        pendingLines = 0;
+        channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Sets a pool of byte buffers, which are shared with other writers. A suspended, committed or closed
+     * writer gives its buffer back to the pool.
+     *
+     * @param bufferPool pool of byte buffers or null
+     */
+    void setBufferPool(Deque<ByteBuffer> bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    /**
+     * Sets a line counter, which is incremented for the written lines. The counter can be read
+     * from another thread while the file is written.
+     *
+     * @param lineCounter line counter or null
+     *
+     * @since 25
+     */
+    public void setLineCounter(AtomicLong lineCounter) {
+        this.lineCounter = lineCounter;
+    }
+
+    /**
+     * Writes the buffered lines and closes the temporary file without committing it. The byte buffer
+     * is released, so that many files can be written alternately with a bounded number of open files
+     * and buffers. The file is reopened with {@link #resume()}.
+     *
+     * @throws IOException if the buffer could not be written
+     * @since 25
+     */
+    public void suspend() throws IOException {
+        if (channel == null) {
+            throw new IllegalStateException("file " + path + " is not opened");
+        }
+
+        flushBuffer();
+        channel.close();
+        channel = null;
+
+        releaseBuffer();
+        byteBuffer = null;
+    }
+
+    /**
+     * Writes a list of lines line by line to the file system.
+     * <p>
+     * The target file is only replaced, if all lines could be written.
      *
      * @param lines given list to write to file system
      *
      * @return success
      */
-    public boolean writeFile(ArrayList<String> lines) {
+    public boolean writeFile(List<String> lines) {
         boolean success = false;
-        PrintWriter pw = null;
 
         try {
-            pw = new PrintWriter(new BufferedWriter(new FileWriter(fileName)), true);
+            open();
 
             for (String line : lines) {
-                pw.println(line);
-                writtenLines = writtenLines + 1;
+                writeLine(line);
             }
+
+            commit();
+            success = true;
         } catch (IOException e) {
-            System.err.format("File %s could not be written to the file system.", fileName);
+            System.err.format("File %s could not be written to the file system.%n", path);
             e.printStackTrace();
         } finally {
-            if (pw != null) {
-                pw.close();
-                writtenLines = writtenLines + 1;
-                success = true;
-            }
+            close();
         }
 
         return success;
     }
 
+    /**
+     * Writes one line followed by the line ending into the buffer. The buffer is written to the file,
+     * when it is full.
+     *
+     * @param line line to be written
+     *
+     * @throws IOException if the buffer could not be written
+     * @since 25
+     */
+    public void writeLine(CharSequence line) throws IOException {
+        if (channel == null) {
+            throw new IllegalStateException("file " + path + " is not opened");
+        }
+
+        final int length = line.length();
+        int i = 0;
+
+        // fast path for the plain ascii characters of the instrument formats
+        if (isAsciiCompatible) {
+            for (; i < length; i++) {
+                final char c = line.charAt(i);
+
+                if (c >= 0x80) {
+                    break;
+                }
+
+                if (!byteBuffer.hasRemaining()) {
+                    flushBuffer();
+                }
+
+                byteBuffer.put((byte) c);
+            }
+        }
+
+        if (i < length) {
+            encode(CharBuffer.wrap(line, i, length));
+        }
+
+        if (byteBuffer.remaining() < lineSeparator.length) {
+            flushBuffer();
+        }
+
+        byteBuffer.put(lineSeparator);
+
+        writtenLines = writtenLines + 1;
+        pendingLines = pendingLines + 1;
+    }
+
+    private static boolean isAsciiCompatible(Charset charset) {
+        if (!charset.canEncode()) {
+            return false;
+        }
+
+        char[] ascii = new char[0x80];
+
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (char) i;
+        }
+
+        byte[] bytes = new String(ascii).getBytes(charset);
+
+        if (bytes.length != ascii.length) {
+            return false;
+        }
+
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != i) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void allocateBuffer() {
+        if (byteBuffer == null) {
+            byteBuffer = bufferPool != null && !bufferPool.isEmpty() ? bufferPool.pop() : ByteBuffer.allocate(BUFFER_SIZE);
+        }
+
+        if (encoder == null) {
+            encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        byteBuffer.clear();
+    }
+
+    private void releaseBuffer() {
+        if (bufferPool != null && byteBuffer != null) {
+            bufferPool.push(byteBuffer);
+            byteBuffer = null;
+        }
+    }
+
+    private void encode(CharBuffer chars) throws IOException {
+        encoder.reset();
+
+        CoderResult result;
+
+        do {
+            result = encoder.encode(chars, byteBuffer, true);
+
+            if (result.isOverflow()) {
+                flushBuffer();
+            } else if (result.isError()) {
+                result.throwException();
+            }
+        } while (!result.isUnderflow());
+
+        while (encoder.flush(byteBuffer).isOverflow()) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        byteBuffer.flip();
+
+        while (byteBuffer.hasRemaining()) {
+            channel.write(byteBuffer);
+        }
+
+        byteBuffer.clear();
+
+        // the counter is updated once per buffer to avoid contention between parallel writers
+        if (lineCounter != null && pendingLines > 0) {
+            lineCounter.addAndGet(pendingLines);
+        }
+
+        pendingLines = 0;
+    }
+
 } // end of LineWriter
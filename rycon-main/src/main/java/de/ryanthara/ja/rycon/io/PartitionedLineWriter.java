@@ -0,0 +1,267 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.io
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Instances of this class writes lines into several files, which are chosen line by line by a key (e.g. a code).
+ * <p>
+ * Every key gets its own {@link LineWriter}, which writes into a temporary file. The number of open files is
+ * bounded. If lines are written for a key without an open file, the least recently used file is suspended
+ * and the file of the key is opened or resumed. The byte buffers of the writers are shared.
+ * <p>
+ * To avoid opening and closing files for nearly every line when the lines of many keys are mixed, the lines
+ * are collected per key first. The lines of a key are written, when they exceed {@value #MAX_KEY_CHARS}
+ * characters or when all collected lines exceed {@value #MAX_PENDING_CHARS} characters. Therefore the memory
+ * usage and the number of file handles are bounded and do not depend on the number of lines.
+ * <p>
+ * All files are renamed to their target files with {@link #commit()}. Not committed files are discarded
+ * by {@link #close()}.
+ * <p>
+ * At the moment, there is no thread safety implemented or planed.
+ *
+ * @param <K> type of the key
+ *
+ * @author sebastian
+ * @version 1
+ * @since 25
+ */
+public class PartitionedLineWriter<K> implements Closeable {
+
+    /**
+     * Default number of open files.
+     */
+    public static final int DEFAULT_MAX_OPEN_FILES = 32;
+
+    private static final int MAX_KEY_CHARS = 64 * 1024;
+    private static final int MAX_PENDING_CHARS = 1024 * 1024;
+
+    private final Function<K, Path> pathFunction;
+    private final Charset charset;
+    private final LineEnding lineEnding;
+    private final int maxOpenFiles;
+    private final Map<K, Partition> partitions = new LinkedHashMap<>();
+    private final LinkedHashMap<K, LineWriter> openWriters = new LinkedHashMap<>(16, 0.75f, true);
+    private final Deque<ByteBuffer> bufferPool = new ArrayDeque<>();
+    private AtomicLong lineCounter = null;
+    private int pendingChars = 0;
+
+    /**
+     * Constructs a new instance of this class for files, which are written with the UTF-8 charset and
+     * the default number of open files.
+     *
+     * @param pathFunction function which returns the target file for a key
+     * @param lineEnding   line ending of the written lines
+     */
+    public PartitionedLineWriter(Function<K, Path> pathFunction, LineEnding lineEnding) {
+        this(pathFunction, StandardCharsets.UTF_8, lineEnding, DEFAULT_MAX_OPEN_FILES);
+    }
+
+    /**
+     * Constructs a new instance of this class for files, which are written with the given charset.
+     *
+     * @param pathFunction function which returns the target file for a key
+     * @param charset      charset of the written files
+     * @param lineEnding   line ending of the written lines
+     * @param maxOpenFiles maximum number of open files
+     */
+    public PartitionedLineWriter(Function<K, Path> pathFunction, Charset charset, LineEnding lineEnding,
+                                 int maxOpenFiles) {
+        this.pathFunction = pathFunction;
+        this.charset = charset;
+        this.lineEnding = lineEnding;
+        this.maxOpenFiles = Math.max(1, maxOpenFiles);
+    }
+
+    /**
+     * Discards all not committed files.
+     */
+    @Override
+    public void close() {
+        for (Partition partition : partitions.values()) {
+            if (partition.writer != null) {
+                partition.writer.close();
+            }
+        }
+
+        partitions.clear();
+        openWriters.clear();
+        bufferPool.clear();
+        pendingChars = 0;
+    }
+
+    /**
+     * Writes the collected lines, renames all written files to their target files and returns the number
+     * of committed files.
+     * <p>
+     * A file which could not be committed is discarded, the other files are committed anyway.
+     *
+     * @return number of committed files
+     */
+    public int commit() {
+        int counter = 0;
+
+        for (Partition partition : partitions.values()) {
+            try {
+                flush(partition);
+
+                if (!openWriters.containsKey(partition.key)) {
+                    partition.writer.resume();
+                }
+
+                partition.writer.commit();
+                counter = counter + 1;
+            } catch (IOException e) {
+                System.err.format("File %s could not be written to the file system.%n", pathFunction.apply(partition.key));
+                e.printStackTrace();
+            } finally {
+                if (partition.writer != null) {
+                    partition.writer.close();
+                }
+
+                // a committed or discarded writer is not open anymore
+                openWriters.remove(partition.key);
+            }
+        }
+
+        partitions.clear();
+        pendingChars = 0;
+
+        return counter;
+    }
+
+    /**
+     * Returns the keys of the written lines in the order of their first line.
+     *
+     * @return keys of the written lines
+     */
+    public Set<K> getKeys() {
+        return partitions.keySet();
+    }
+
+    /**
+     * Sets a line counter, which is incremented for the written lines of all files.
+     *
+     * @param lineCounter line counter or null
+     */
+    public void setLineCounter(AtomicLong lineCounter) {
+        this.lineCounter = lineCounter;
+    }
+
+    /**
+     * Writes one line into the file of the key.
+     *
+     * @param key  key of the file
+     * @param line line to be written
+     *
+     * @throws IOException if a file could not be opened, resumed, suspended or written
+     */
+    public void writeLine(K key, CharSequence line) throws IOException {
+        Partition partition = partitions.get(key);
+
+        if (partition == null) {
+            partition = new Partition(key);
+            partitions.put(key, partition);
+        }
+
+        partition.lines.add(line.toString());
+        partition.chars = partition.chars + line.length();
+        pendingChars = pendingChars + line.length();
+
+        if (partition.chars >= MAX_KEY_CHARS) {
+            flush(partition);
+        } else if (pendingChars >= MAX_PENDING_CHARS) {
+            for (Partition p : partitions.values()) {
+                flush(p);
+            }
+        }
+    }
+
+    private void flush(Partition partition) throws IOException {
+        if (partition.lines.isEmpty() && partition.writer != null) {
+            return;
+        }
+
+        // the access order of the open writers is updated by get()
+        LineWriter writer = openWriters.get(partition.key);
+
+        if (writer == null) {
+            if (openWriters.size() >= maxOpenFiles) {
+                Iterator<LineWriter> leastRecentlyUsed = openWriters.values().iterator();
+                LineWriter eldest = leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+                eldest.suspend();
+            }
+
+            writer = partition.writer;
+
+            if (writer == null) {
+                writer = new LineWriter(pathFunction.apply(partition.key), charset, lineEnding);
+                writer.setLineCounter(lineCounter);
+                writer.setBufferPool(bufferPool);
+                partition.writer = writer;
+                writer.open();
+            } else {
+                writer.resume();
+            }
+
+            openWriters.put(partition.key, writer);
+        }
+
+        for (String line : partition.lines) {
+            writer.writeLine(line);
+        }
+
+        pendingChars = pendingChars - partition.chars;
+        partition.lines.clear();
+        partition.chars = 0;
+    }
+
+    /**
+     * Collected lines and writer of one key.
+     */
+    private class Partition {
+
+        private final K key;
+        private final List<String> lines = new ArrayList<>();
+        private LineWriter writer = null;
+        private int chars = 0;
+
+        Partition(K key) {
+            this.key = key;
+        }
+
+    }
+
+} // end of PartitionedLineWriter
@@ -0,0 +1,321 @@
+/*
+ * License: GPL. Copyright 2017- (C) by Sebastian Aust (https://www.ryanthara.de/)
+ *
+ * This file is part of the package de.ryanthara.ja.rycon.tools
+ *
+ * This package is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This package is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this package. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.ryanthara.ja.rycon.tools;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Instances of this class sorts text lines case insensitive and in natural order.
+ * <p>
+ * Runs of digits are compared by their numeric value, so that the point number 'P2' is sorted
+ * before 'P10'. The sort key of every line is calculated only once instead of folding the case on
+ * every comparison.
+ * <p>
+ * Lines of an iterator are collected into runs up to a memory threshold. A run that exceeds the threshold
+ * is sorted and spilled to a temporary file. At the end the runs are merged with a k-way merge. Lines of
+ * a list are already in memory and are sorted in place. Lines with the same sort key keep their input order.
+ *
+ * @author sebastian
+ * @version 2
+ * @since 25
+ */
+public class ExternalLineSorter {
+
+    // estimated memory of a string and its sort key without the characters
+    private static final int LINE_OVERHEAD = 128;
+
+    private final long maxRunBytes;
+
+    /**
+     * Constructs a new instance of this class with a memory threshold of one eighth of the maximum heap size.
+     */
+    public ExternalLineSorter() {
+        this(Runtime.getRuntime().maxMemory() / 8);
+    }
+
+    /**
+     * Constructs a new instance of this class with a given memory threshold for a sorted run.
+     *
+     * @param maxRunBytes estimated memory in bytes of the lines of one run
+     */
+    public ExternalLineSorter(long maxRunBytes) {
+        this.maxRunBytes = Math.max(1, maxRunBytes);
+    }
+
+    /**
+     * Returns the case insensitive natural sort key of a line.
+     * <p>
+     * Every run of digits is replaced by the character '0', the number of significant digits, the significant
+     * digits and the number of leading zeros. Therefore the keys can be compared with {@link String#compareTo(String)}.
+     * Runs of digits are compared by their numeric value and with more leading zeros after an equal value.
+     * All other characters are compared by their char value.
+     *
+     * @param line line to build the key for
+     *
+     * @return sort key
+     */
+    public static String naturalSortKey(String line) {
+        final String folded = line.toLowerCase(Locale.ROOT);
+        final int length = folded.length();
+
+        StringBuilder key = null;
+        int i = 0;
+
+        while (i < length) {
+            char c = folded.charAt(i);
+
+            if (!isDigit(c)) {
+                if (key != null) {
+                    key.append(c);
+                }
+
+                i++;
+                continue;
+            }
+
+            if (key == null) {
+                key = new StringBuilder(length + 8);
+                key.append(folded, 0, i);
+            }
+
+            int start = i;
+
+            while (i < length - 1 && folded.charAt(i) == '0' && isDigit(folded.charAt(i + 1))) {
+                i++;
+            }
+
+            int significant = i;
+
+            while (i < length && isDigit(folded.charAt(i))) {
+                i++;
+            }
+
+            key.append('0')
+                    .append((char) (i - significant))
+                    .append(folded, significant, i)
+                    .append((char) (significant - start));
+        }
+
+        return key == null ? folded : key.toString();
+    }
+
+    /**
+     * Sorts the lines and writes them in sorted order into the consumer.
+     * <p>
+     * The iterator is read only once. Temporary files are deleted before this method returns.
+     *
+     * @param lines    lines to be sorted
+     * @param consumer consumer for the sorted lines
+     *
+     * @throws IOException if a temporary file could not be written or read
+     */
+    public void sort(Iterator<String> lines, Consumer<String> consumer) throws IOException {
+        List<Path> runFiles = new ArrayList<>();
+        List<SortKey> run = new ArrayList<>();
+        long runBytes = 0;
+
+        try {
+            while (lines.hasNext()) {
+                String line = lines.next();
+
+                run.add(new SortKey(line));
+                runBytes = runBytes + LINE_OVERHEAD + 4L * line.length();
+
+                if (runBytes >= maxRunBytes) {
+                    runFiles.add(spill(run));
+                    run = new ArrayList<>();
+                    runBytes = 0;
+                }
+            }
+
+            // Collections.sort is a stable merge sort
+            Collections.sort(run);
+
+            if (runFiles.isEmpty()) {
+                for (SortKey sortKey : run) {
+                    consumer.accept(sortKey.line);
+                }
+            } else {
+                merge(runFiles, run, consumer);
+            }
+        } finally {
+            for (Path runFile : runFiles) {
+                Files.deleteIfExists(runFile);
+            }
+        }
+    }
+
+    /**
+     * Sorts the lines of a list in place.
+     * <p>
+     * The lines are already in memory, therefore they are sorted with their sort keys in memory. Spilled
+     * runs would be read back as a second copy of all lines while the list is still referenced.
+     *
+     * @param lines lines to be sorted
+     */
+    public void sort(List<String> lines) {
+        SortKey[] sortKeys = new SortKey[lines.size()];
+        int i = 0;
+
+        for (String line : lines) {
+            sortKeys[i++] = new SortKey(line);
+        }
+
+        // Arrays.sort is a stable merge sort for objects
+        Arrays.sort(sortKeys);
+
+        ListIterator<String> iterator = lines.listIterator();
+
+        for (SortKey sortKey : sortKeys) {
+            iterator.next();
+            iterator.set(sortKey.line);
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private void merge(List<Path> runFiles, List<SortKey> lastRun, Consumer<String> consumer) throws IOException {
+        List<BufferedReader> readers = new ArrayList<>();
+
+        try {
+            PriorityQueue<RunCursor> queue = new PriorityQueue<>(runFiles.size() + 1);
+
+            for (int i = 0; i < runFiles.size(); i++) {
+                BufferedReader reader = Files.newBufferedReader(runFiles.get(i), StandardCharsets.UTF_8);
+                readers.add(reader);
+
+                RunCursor cursor = new RunCursor(i, reader::readLine);
+
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+
+            // the last run is still in memory and the youngest one
+            final Iterator<SortKey> iterator = lastRun.iterator();
+            RunCursor lastCursor = new RunCursor(runFiles.size(), () -> iterator.hasNext() ? iterator.next().line : null);
+
+            if (lastCursor.advance()) {
+                queue.add(lastCursor);
+            }
+
+            while (!queue.isEmpty()) {
+                RunCursor cursor = queue.poll();
+                consumer.accept(cursor.current.line);
+
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+        } finally {
+            for (BufferedReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private Path spill(List<SortKey> run) throws IOException {
+        Collections.sort(run);
+
+        Path runFile = Files.createTempFile("rycon-sort-", ".tmp");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(runFile, StandardCharsets.UTF_8)) {
+            for (SortKey sortKey : run) {
+                writer.write(sortKey.line);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(runFile);
+            throw e;
+        }
+
+        return runFile;
+    }
+
+    /**
+     * Line with its precalculated sort key.
+     */
+    private static class SortKey implements Comparable<SortKey> {
+
+        private final String line;
+        private final String key;
+
+        SortKey(String line) {
+            this.line = line;
+            this.key = naturalSortKey(line);
+        }
+
+        @Override
+        public int compareTo(SortKey o) {
+            return key.compareTo(o.key);
+        }
+
+    }
+
+    /**
+     * Current line of a sorted run while merging. Equal lines are taken from the older run first.
+     */
+    private static class RunCursor implements Comparable<RunCursor> {
+
+        private final int runIndex;
+        private final LineSupplier supplier;
+        private SortKey current;
+
+        RunCursor(int runIndex, LineSupplier supplier) {
+            this.runIndex = runIndex;
+            this.supplier = supplier;
+        }
+
+        boolean advance() throws IOException {
+            String line = supplier.next();
+            current = line == null ? null : new SortKey(line);
+
+            return current != null;
+        }
+
+        @Override
+        public int compareTo(RunCursor o) {
+            int result = current.compareTo(o.current);
+
+            return result != 0 ? result : Integer.compare(runIndex, o.runIndex);
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface LineSupplier {
+        String next() throws IOException;
+    }
+
+} // end of ExternalLineSorter
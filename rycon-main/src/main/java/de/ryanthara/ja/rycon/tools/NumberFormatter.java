@@ -18,44 +18,339 @@
 
 package de.ryanthara.ja.rycon.tools;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
 
 /**
  * NumberFormatter implements basic number format operations for string stored double values.
+ * <p>
+ * The values are formatted as fixed-point numbers with a defined number of decimal places and rounded
+ * half up. Plain decimal values (e.g. '-1234.56789' or '1.0E-4') are parsed and rounded digit by digit
+ * as scaled {@code long} values and written directly into a {@link StringBuilder}. Uncommon values
+ * (e.g. 'NaN' or values with more than 18 significant digits) are formatted with a {@link DecimalFormat},
+ * which is cached per thread and number of decimal places.
+ * <p>
+ * All methods are thread-safe.
  *
  * @author sebastian
- * @version 3
+ * @version 4
  * @since 8
  */
 public class NumberFormatter {
 
+    private static final int MAX_SIGNIFICANT_DIGITS = 18;
+    private static final int MAX_CACHED_DECIMAL_LENGTH = 17;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+            10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+            1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L};
+
+    private static final ThreadLocal<DecimalFormat[]> decimalFormats = new ThreadLocal<DecimalFormat[]>() {
+        @Override
+        protected DecimalFormat[] initialValue() {
+            return new DecimalFormat[MAX_CACHED_DECIMAL_LENGTH + 1];
+        }
+    };
+
+    /**
+     * Appends a double value as string filled with a number of zeros to a defined last decimal place
+     * to the given {@link StringBuilder}.
+     * <p>
+     * The value is rounded half up on its decimal digits, e.g. '0.125' with two decimal places is '0.13'.
+     *
+     * @param stringBuilder     string builder to append to
+     * @param doubleAsString    double value as string
+     * @param lastDecimalLength length of the last decimal place
+     *
+     * @return the given string builder
+     *
+     * @throws NumberFormatException if the string does not contain a parsable double value
+     */
+    public static StringBuilder appendDecimalPlace(StringBuilder stringBuilder, CharSequence doubleAsString,
+                                                   int lastDecimalLength) {
+        final int decimalLength = Math.max(0, lastDecimalLength);
+
+        int start = 0;
+        int end = doubleAsString.length();
+
+        // trim like Double.parseDouble() does
+        while (start < end && doubleAsString.charAt(start) <= ' ') {
+            start = start + 1;
+        }
+        while (end > start && doubleAsString.charAt(end - 1) <= ' ') {
+            end = end - 1;
+        }
+
+        int position = start;
+        boolean isNegative = false;
+
+        if (position < end && (doubleAsString.charAt(position) == '-' || doubleAsString.charAt(position) == '+')) {
+            isNegative = doubleAsString.charAt(position) == '-';
+            position = position + 1;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        int countDigits = 0;
+        boolean hasDot = false;
+
+        for (; position < end; position++) {
+            char c = doubleAsString.charAt(position);
+
+            if (c >= '0' && c <= '9') {
+                countDigits = countDigits + 1;
+
+                if (hasDot) {
+                    fractionDigits = fractionDigits + 1;
+                }
+
+                if (mantissa > 0 || c != '0') {
+                    significantDigits = significantDigits + 1;
+
+                    if (significantDigits > MAX_SIGNIFICANT_DIGITS) {
+                        return appendFallback(stringBuilder, doubleAsString, decimalLength);
+                    }
+
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+            } else if (c == '.' && !hasDot) {
+                hasDot = true;
+            } else {
+                break;
+            }
+        }
+
+        if (countDigits == 0) {
+            return appendFallback(stringBuilder, doubleAsString, decimalLength);
+        }
+
+        int exponent = 0;
+
+        if (position < end) {
+            if (doubleAsString.charAt(position) != 'e' && doubleAsString.charAt(position) != 'E') {
+                return appendFallback(stringBuilder, doubleAsString, decimalLength);
+            }
+
+            position = position + 1;
+
+            boolean isNegativeExponent = false;
+
+            if (position < end && (doubleAsString.charAt(position) == '-' || doubleAsString.charAt(position) == '+')) {
+                isNegativeExponent = doubleAsString.charAt(position) == '-';
+                position = position + 1;
+            }
+
+            if (position == end) {
+                return appendFallback(stringBuilder, doubleAsString, decimalLength);
+            }
+
+            for (; position < end; position++) {
+                char c = doubleAsString.charAt(position);
+
+                if (c < '0' || c > '9') {
+                    return appendFallback(stringBuilder, doubleAsString, decimalLength);
+                }
+
+                // values outside of this range are always zero or too big for the fast path
+                if (exponent < 10000) {
+                    exponent = exponent * 10 + (c - '0');
+                }
+            }
+
+            if (isNegativeExponent) {
+                exponent = -exponent;
+            }
+        }
+
+        // shift the mantissa to the number of decimal places
+        int shift = exponent - fractionDigits + decimalLength;
+        long scaledValue;
+
+        if (mantissa == 0) {
+            scaledValue = 0;
+        } else if (shift >= 0) {
+            if (significantDigits + shift > MAX_SIGNIFICANT_DIGITS) {
+                return appendFallback(stringBuilder, doubleAsString, decimalLength);
+            }
+
+            scaledValue = mantissa * POWERS_OF_TEN[shift];
+        } else if (-shift > MAX_SIGNIFICANT_DIGITS) {
+            scaledValue = 0;
+        } else {
+            scaledValue = roundHalfUp(mantissa, POWERS_OF_TEN[-shift]);
+        }
+
+        return appendScaledDigits(stringBuilder, isNegative, scaledValue, decimalLength);
+    }
+
+    /**
+     * Appends a double value filled with a number of zeros to a defined last decimal place
+     * to the given {@link StringBuilder}.
+     * <p>
+     * The value is rounded half up on the decimal digits of {@link Double#toString(double)}.
+     *
+     * @param stringBuilder     string builder to append to
+     * @param value             double value
+     * @param lastDecimalLength length of the last decimal place
+     *
+     * @return the given string builder
+     */
+    public static StringBuilder appendDecimalPlace(StringBuilder stringBuilder, double value, int lastDecimalLength) {
+        return appendDecimalPlace(stringBuilder, Double.toString(value), lastDecimalLength);
+    }
+
+    /**
+     * Appends a scaled long value (e.g. 1234567 with scale 4 for 123.4567) filled with a number of zeros
+     * to a defined last decimal place to the given {@link StringBuilder}.
+     * <p>
+     * This is the fastest way to format values which are already stored as digits, like the data of
+     * a {@link de.ryanthara.ja.rycon.elements.GSIBlock}.
+     *
+     * @param stringBuilder     string builder to append to
+     * @param scaledValue       value multiplied with 10 to the power of scale
+     * @param scale             number of decimal places of the scaled value
+     * @param lastDecimalLength length of the last decimal place
+     *
+     * @return the given string builder
+     */
+    public static StringBuilder appendScaledValue(StringBuilder stringBuilder, long scaledValue, int scale,
+                                                  int lastDecimalLength) {
+        final int decimalLength = Math.max(0, lastDecimalLength);
+        final int shift = decimalLength - scale;
+
+        if (scaledValue == Long.MIN_VALUE || Math.abs(shift) > MAX_SIGNIFICANT_DIGITS) {
+            return appendFallback(stringBuilder, BigDecimal.valueOf(scaledValue, scale), decimalLength);
+        }
+
+        final boolean isNegative = scaledValue < 0;
+        final long value = Math.abs(scaledValue);
+
+        if (shift >= 0) {
+            if (value > Long.MAX_VALUE / POWERS_OF_TEN[shift]) {
+                return appendFallback(stringBuilder, BigDecimal.valueOf(scaledValue, scale), decimalLength);
+            }
+
+            return appendScaledDigits(stringBuilder, isNegative, value * POWERS_OF_TEN[shift], decimalLength);
+        } else {
+            return appendScaledDigits(stringBuilder, isNegative, roundHalfUp(value, POWERS_OF_TEN[-shift]),
+                    decimalLength);
+        }
+    }
+
     /**
      * Fills a double value as string with a number of zeros to a defined last decimal place.
      * <p>
-     * This method can be used for 1 till 5 last decimal digits. If a value greater than 5 is used,
-     * the default value 4 is used.
+     * The value is rounded half up on its decimal digits. The decimal separator is always a '.'.
      *
+     * @param doubleAsString    double value as string
      * @param lastDecimalLength length of the last decimal place
      *
      * @return filled up string value
+     *
+     * @throws NumberFormatException if the string does not contain a parsable double value
      */
     public static String fillDecimalPlace(String doubleAsString, int lastDecimalLength) {
-        double d = Double.parseDouble(doubleAsString);
+        return appendDecimalPlace(new StringBuilder(24), doubleAsString, lastDecimalLength).toString();
+    }
+
+    /**
+     * Fills a double value with a number of zeros to a defined last decimal place.
+     * <p>
+     * The value is rounded half up on the decimal digits of {@link Double#toString(double)}.
+     *
+     * @param value             double value
+     * @param lastDecimalLength length of the last decimal place
+     *
+     * @return filled up string value
+     */
+    public static String fillDecimalPlace(double value, int lastDecimalLength) {
+        return appendDecimalPlace(new StringBuilder(24), value, lastDecimalLength).toString();
+    }
+
+    private static StringBuilder appendFallback(StringBuilder stringBuilder, CharSequence doubleAsString,
+                                                int decimalLength) {
+        String value = doubleAsString.toString().trim();
+
+        // values with too many digits are formatted exactly, special values (e.g. 'NaN') as double
+        try {
+            return appendFallback(stringBuilder, new BigDecimal(value), decimalLength);
+        } catch (NumberFormatException e) {
+            return stringBuilder.append(getDecimalFormat(decimalLength).format(Double.parseDouble(value)));
+        }
+    }
+
+    private static StringBuilder appendFallback(StringBuilder stringBuilder, BigDecimal value, int decimalLength) {
+        return stringBuilder.append(getDecimalFormat(decimalLength).format(value));
+    }
+
+    private static StringBuilder appendScaledDigits(StringBuilder stringBuilder, boolean isNegative, long scaledValue,
+                                                    int decimalLength) {
+        int digits = 1;
+
+        while (digits < POWERS_OF_TEN.length && scaledValue >= POWERS_OF_TEN[digits]) {
+            digits = digits + 1;
+        }
+
+        // at least one digit before the decimal separator
+        digits = Math.max(digits, decimalLength + 1);
+
+        // like DecimalFormat, negative values which are rounded to zero keep their sign
+        if (isNegative) {
+            stringBuilder.append('-');
+        }
+
+        for (int i = digits - 1; i >= 0; i--) {
+            if (i < POWERS_OF_TEN.length) {
+                stringBuilder.append((char) ('0' + (scaledValue / POWERS_OF_TEN[i]) % 10));
+            } else {
+                stringBuilder.append('0');
+            }
+
+            if (i == decimalLength) {
+                stringBuilder.append('.');
+            }
+        }
+
+        return stringBuilder;
+    }
+
+    private static DecimalFormat getDecimalFormat(int decimalLength) {
+        DecimalFormat[] cache = decimalFormats.get();
+
+        if (decimalLength <= MAX_CACHED_DECIMAL_LENGTH && cache[decimalLength] != null) {
+            return cache[decimalLength];
+        }
 
         // change the decimal separator sign to '.'
         DecimalFormatSymbols otherSymbols = new DecimalFormatSymbols(Locale.getDefault());
         otherSymbols.setDecimalSeparator('.');
 
         // prepare the format string by length
-        String formatString = "#0.";
+        StringBuilder formatString = new StringBuilder("#0.");
 
-        for (int i = 0; i < lastDecimalLength; i++) {
-            formatString = formatString.concat("0");
+        for (int i = 0; i < decimalLength; i++) {
+            formatString.append('0');
         }
 
-        return new DecimalFormat(formatString, otherSymbols).format(d);
+        DecimalFormat decimalFormat = new DecimalFormat(formatString.toString(), otherSymbols);
+        decimalFormat.setRoundingMode(RoundingMode.HALF_UP);
+
+        if (decimalLength <= MAX_CACHED_DECIMAL_LENGTH) {
+            cache[decimalLength] = decimalFormat;
+        }
+
+        return decimalFormat;
+    }
+
+    private static long roundHalfUp(long value, long divisor) {
+        long quotient = value / divisor;
+        long remainder = value % divisor;
+
+        return remainder >= divisor - remainder ? quotient + 1 : quotient;
     }
 
 } // end of NumberFormatter
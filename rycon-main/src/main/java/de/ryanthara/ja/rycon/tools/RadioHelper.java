@@ -21,13 +21,16 @@ package de.ryanthara.ja.rycon.tools;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Control;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This class implements different functionality for radio buttons in RyCON.
  * <p>
  * The access to the simple functions of this helper class is implemented as static access.
  *
  * @author sebastian
- * @version 2
+ * @version 3
  * @since 2
  */
 public class RadioHelper {
@@ -57,6 +60,45 @@ public class RadioHelper {
         return number;
     }
 
+    /**
+     * Returns the numbers of all selected buttons (e.g. check buttons) from a given control group.
+     * <p>
+     * Pay attention to the fact, that the first button in the field has the number '0'.
+     *
+     * @param control {@code Control[]} object with buttons
+     *
+     * @return numbers of the selected buttons in ascending order
+     *
+     * @since 25
+     */
+    public static List<Integer> getSelectedBtns(Control... control) {
+        List<Integer> numbers = new ArrayList<>();
+
+        for (int i = 0; i < control.length; i++) {
+            if (isSelected(control, i)) {
+                numbers.add(i);
+            }
+        }
+
+        return numbers;
+    }
+
+    /**
+     * Returns true if a certain button in the given control group is selected.
+     *
+     * @param control Control with buttons
+     * @param number  Button to check
+     *
+     * @return true if the button is selected
+     *
+     * @since 25
+     */
+    @SuppressWarnings("MethodCanBeVariableArityMethod")
+    public static boolean isSelected(Control[] control, int number) {
+        return number >= 0 && number < control.length && control[number] instanceof Button &&
+                ((Button) control[number]).getSelection();
+    }
+
     /**
      * Enables a certain radio button in the given control group.
      *